@@ -0,0 +1,104 @@
+/*
+ * Copyright 2018 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+lexer grammar Rfc3164Lexer;
+
+@header {
+//CHECKSTYLE:OFF
+/*
+ * Copyright 2018 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+}
+
+@members {
+  private boolean headerOnly;
+
+  /**
+   * When header only, the lexer ends the input where the MSG begins, so the MSG is never lexed.
+   *
+   * @param headerOnly true to lex only the header
+   */
+  public void setHeaderOnly(boolean headerOnly) {
+    this.headerOnly = headerOnly;
+  }
+
+  @Override
+  public Token nextToken() {
+    if (headerOnly && _mode == MSG) {
+      return emitEOF();
+    }
+    return super.nextToken();
+  }
+}
+
+//////////////////////////////////////////////////////////////////////////
+// The lexer walks the header in modes, so that digit runs, the hostname
+// and the whole MSG are single tokens:
+//
+//   DEFAULT_MODE : PRI and the timestamp up to the first ':' of the time
+//   TIME         : the rest of the time and the offset, up to SP
+//   HOSTNAME     : the hostname, up to SP
+//   MSG          : everything else
+//////////////////////////////////////////////////////////////////////////
+
+LESS_THAN : '<';
+GREATER_THAN : '>';
+SPACE : ' ';
+DASH : '-';
+CAP_T : 'T';
+MONTH : [A-Z] [a-z] [a-z];
+DIGITS : [0-9]+;
+COLON : ':' -> mode(TIME);
+
+mode TIME;
+
+TIME_DIGITS : [0-9]+ -> type(DIGITS);
+TIME_COLON : ':' -> type(COLON);
+TIME_DASH : '-' -> type(DASH);
+PERIOD : '.';
+PLUS : '+';
+CAP_Z : 'Z';
+TIME_SPACE : ' ' -> type(SPACE), mode(HOSTNAME);
+
+mode HOSTNAME;
+
+// PRINTUSASCII
+HOST_NAME : [\u0021-\u007E]+;
+HOSTNAME_SPACE : ' ' -> type(SPACE), mode(MSG);
+
+mode MSG;
+
+// a MSG starting with a byte order mark octet is lexed as BOM and UTF_8_STRING
+BOM : [\u00BB\u00BF\u00EF] -> mode(UTF_8);
+OCTETS : [\u0000-\u00BA\u00BC-\u00BE\u00C0-\u00EE\u00F0-\u00FF] [\u0000-\u00FF]*;
+
+mode UTF_8;
+
+UTF_8_OCTETS : [\u0000-\u00FF]+ -> type(OCTETS);
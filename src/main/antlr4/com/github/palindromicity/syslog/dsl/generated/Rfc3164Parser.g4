@@ -0,0 +1,111 @@
+/*
+ * Copyright 2018 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+parser grammar Rfc3164Parser;
+
+options { tokenVocab=Rfc3164Lexer; }
+
+@header {
+//CHECKSTYLE:OFF
+/*
+ * Copyright 2018 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+}
+
+@members {
+  /**
+   * Validates the number of characters in a token, such as a run of {@code DIGITS}.
+   */
+  private static boolean hasLength(Token token, int min, int max) {
+    int length = token.getStopIndex() - token.getStartIndex() + 1;
+    return length >= min && length <= max;
+  }
+}
+
+ syslog_msg      : header sp (msg)? #syslogMsg;
+
+ header          : pri? sp? timestamp sp hostname #syslogHeader;
+
+ pri             : LESS_THAN prival GREATER_THAN #headerPriority
+ ;
+
+ prival          : d=DIGITS {hasLength($d, 1, 3)}? #headerPriorityValue
+ ;
+
+
+ hostname        : HOST_NAME? #headerHostName
+ ;
+
+ // support both the 5424 and the 3164 formats
+ timestamp       : (full_date CAP_T full_time) #headerTimeStamp
+  | date_month_short date_day_short sp partial_time #headerTimeStamp3164
+ ;
+
+ date_month_short : MONTH ;
+ date_day_short : sp (sp?) d=DIGITS {hasLength($d, 1, 2)}? ;
+
+
+ full_date       : date_fullyear DASH date_month DASH date_mday ;
+
+ date_fullyear   : d=DIGITS {hasLength($d, 4, 4)}? ;
+
+ date_month      : d=DIGITS {hasLength($d, 2, 2)}? ;
+
+ date_mday       : d=DIGITS {hasLength($d, 2, 2)}? ;
+
+ full_time       : partial_time time_offset ;
+
+ partial_time    : time_hour COLON time_minute COLON time_second (time_secfrac)? ;
+
+ time_hour       : d=DIGITS {hasLength($d, 2, 2)}? ;
+
+ time_minute     : d=DIGITS {hasLength($d, 2, 2)}? ;
+
+ time_second     : d=DIGITS {hasLength($d, 2, 2)}? ;
+
+ time_secfrac    : PERIOD d=DIGITS {hasLength($d, 1, 6)}? ;
+
+ time_offset     : CAP_Z | time_numoffset;
+
+ time_numoffset  : (PLUS | DASH) time_hour COLON time_minute;
+
+ msg             : msg_any #msgAny
+ | msg_utf8 #msgUTF8
+ ;
+
+ msg_any         : OCTETS?;
+
+ msg_utf8        : bom utf_8_string;
+
+ bom             : BOM;
+
+ utf_8_string    : OCTETS?;
+
+ sp              : SPACE;
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import java.util.BitSet;
+
+import com.github.palindromicity.syslog.dsl.generated.Rfc3164Lexer;
+import com.github.palindromicity.syslog.dsl.generated.Rfc3164Parser;
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.FailedPredicateException;
+import org.antlr.v4.runtime.NoViableAltException;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.atn.ATNConfigSet;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.dfa.DFA;
+
+/**
+ * Parses lines with an Antlr {@link Rfc3164Lexer} and {@link Rfc3164Parser}.
+ * <p>
+ * The lexer, token stream and parser are created once and reset for each line, so an instance may
+ * be reused for any number of lines.  Instances are not thread safe.
+ * </p>
+ * <p>
+ * With two stage parsing, a line is first parsed with {@link PredictionMode#SLL} prediction.  Only if that
+ * fails is it parsed again with full {@link PredictionMode#LL} prediction, which decides the error.
+ * </p>
+ * <p>
+ * Errors are not recovered from.  The first error is recorded and the lexer or parser is stopped with the
+ * preallocated {@link ParseAbortException}, and the error is returned as a failed {@link ParseResult}.
+ * Error messages are not built, and no exception is created other than those the Antlr runtime creates
+ * itself to report a parser error.
+ * </p>
+ * <p>
+ * The fields are read from the parse tree by their character offsets in the line.  When header only,
+ * the lexer ends the input where the MSG begins, so the cost of a line does not grow with its MSG.
+ * </p>
+ */
+class AntlrLineParser {
+
+  private static final String TOKEN_RECOGNITION_ERROR = "token recognition error";
+  private static final String MISMATCHED_INPUT = "mismatched input";
+  private static final String NO_VIABLE_ALTERNATIVE = "no viable alternative";
+  private static final String FAILED_PREDICATE = "failed predicate";
+
+  private final Rfc3164Lexer lexer;
+  private final CommonTokenStream tokens;
+  private final Rfc3164Parser parser;
+  private final boolean twoStage;
+  private final boolean headerOnly;
+  private final ANTLRErrorListener lexerErrorListener = new LexerErrorListener();
+  private final DefaultErrorStrategy failFastErrorStrategy = new FailFastErrorStrategy();
+
+  /**
+   * The offset of the first error in the line.
+   */
+  private int errorOffset;
+
+  /**
+   * The reason for the first error in the line, or {@code null} if there is none.
+   */
+  private String errorReason;
+
+  /**
+   * Whether the first error was found by the lexer.
+   */
+  private boolean lexerError;
+
+  /**
+   * Create a new {@code AntlrLineParser}.
+   *
+   * @param twoStage if true, parse with SLL prediction first and LL prediction only on failure
+   * @param headerOnly if true, stop lexing after the SP that follows the hostname and skip the MSG
+   */
+  AntlrLineParser(boolean twoStage, boolean headerOnly) {
+    lexer = new Rfc3164Lexer(null);
+    lexer.setHeaderOnly(headerOnly);
+    lexer.removeErrorListeners();
+    lexer.addErrorListener(lexerErrorListener);
+    tokens = new CommonTokenStream(lexer);
+    parser = new Rfc3164Parser(null);
+    parser.removeErrorListeners();
+    parser.setErrorHandler(failFastErrorStrategy);
+    this.twoStage = twoStage;
+    this.headerOnly = headerOnly;
+  }
+
+  /**
+   * Parse a line into a {@link MutableSyslogMessage}.
+   *
+   * @param line the line of Syslog to parse
+   * @param target the {@link MutableSyslogMessage} to fill, which has been reset to the line
+   * @param <T> the type of the value of the failed {@link ParseResult}
+   * @return {@code null} if the line was parsed, otherwise the failed {@link ParseResult}
+   */
+  <T> ParseResult<T> parse(CharSequence line, MutableSyslogMessage target) {
+    lexer.setInputStream(new CharSequenceCharStream(line));
+    tokens.setTokenSource(lexer);
+    parser.setTokenStream(tokens);
+    errorReason = null;
+    lexerError = false;
+
+    Rfc3164Parser.Syslog_msgContext ctx = null;
+    if (twoStage) {
+      parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+      try {
+        ctx = parser.syslog_msg();
+      } catch (ParseAbortException e) {
+        // lexing does not depend on the prediction mode
+        if (lexerError) {
+          return ParseResult.failure(ParseErrorCode.SYNTAX_ERROR, errorOffset, errorReason);
+        }
+        errorReason = null;
+        parser.reset();
+      }
+    }
+    if (ctx == null) {
+      parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+      try {
+        ctx = parser.syslog_msg();
+      } catch (ParseAbortException e) {
+        return ParseResult.failure(ParseErrorCode.SYNTAX_ERROR, errorOffset, errorReason);
+      }
+    }
+
+    ParserRuleContext header = ctx.getRuleContext(Rfc3164Parser.HeaderContext.class, 0);
+    ParserRuleContext pri = header.getRuleContext(Rfc3164Parser.PriContext.class, 0);
+    if (pri != null) {
+      // between LESS_THAN and GREATER_THAN
+      target.setPriority(pri.start.getStopIndex() + 1, pri.stop.getStartIndex());
+    }
+    ParserRuleContext timeStamp = header.getRuleContext(Rfc3164Parser.TimestampContext.class, 0);
+    target.setTimeStamp(timeStamp.start.getStartIndex(), timeStamp.stop.getStopIndex() + 1);
+    // the header ends with the HOST_NAME, or the SPACE before an empty hostname
+    int hostNameStart = timeStamp.stop.getStopIndex() + 2;
+    Token headerStop = header.stop;
+    target.setHostName(hostNameStart,
+        headerStop.getType() == Rfc3164Lexer.HOST_NAME ? headerStop.getStopIndex() + 1 : hostNameStart);
+
+    // MSG is everything after the SPACE that follows the hostname, trimmed
+    int msgStart = Math.min(headerStop.getStopIndex() + 2, line.length());
+    target.setBodyStart(msgStart);
+    if (headerOnly) {
+      target.setMessage(msgStart, msgStart);
+      return null;
+    }
+    int msgEnd = line.length();
+    while (msgStart < msgEnd && line.charAt(msgStart) <= ' ') {
+      msgStart++;
+    }
+    while (msgEnd > msgStart && line.charAt(msgEnd - 1) <= ' ') {
+      msgEnd--;
+    }
+    target.setMessage(msgStart, msgEnd);
+    return null;
+  }
+
+  private void fail(int offset, String reason) {
+    if (errorReason == null) {
+      errorOffset = offset;
+      errorReason = reason;
+    }
+    throw ParseAbortException.INSTANCE;
+  }
+
+  /**
+   * Records the first lexer error and stops the lexer.
+   */
+  private final class LexerErrorListener implements ANTLRErrorListener {
+
+    @Override
+    public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine,
+        String msg, RecognitionException recognitionException) {
+      lexerError = true;
+      fail(lexer.getCharIndex(), TOKEN_RECOGNITION_ERROR);
+    }
+
+    @Override
+    public void reportAmbiguity(Parser recognizer, DFA dfa, int startIndex, int stopIndex, boolean exact,
+        BitSet ambigAlts, ATNConfigSet configs) {
+    }
+
+    @Override
+    public void reportAttemptingFullContext(Parser recognizer, DFA dfa, int startIndex, int stopIndex,
+        BitSet conflictingAlts, ATNConfigSet configs) {
+    }
+
+    @Override
+    public void reportContextSensitivity(Parser recognizer, DFA dfa, int startIndex, int stopIndex,
+        int prediction, ATNConfigSet configs) {
+    }
+  }
+
+  /**
+   * Records the first parser error and stops the parser, without recovering, building a message or
+   * creating an exception.
+   */
+  private final class FailFastErrorStrategy extends DefaultErrorStrategy {
+
+    @Override
+    public void reportError(Parser recognizer, RecognitionException recognitionException) {
+      Token token = recognitionException.getOffendingToken();
+      if (token == null) {
+        token = recognizer.getCurrentToken();
+      }
+      String reason = MISMATCHED_INPUT;
+      if (recognitionException instanceof NoViableAltException) {
+        reason = NO_VIABLE_ALTERNATIVE;
+      } else if (recognitionException instanceof FailedPredicateException) {
+        reason = FAILED_PREDICATE;
+      }
+      fail(token.getStartIndex(), reason);
+    }
+
+    @Override
+    public void recover(Parser recognizer, RecognitionException recognitionException) {
+      throw ParseAbortException.INSTANCE;
+    }
+
+    @Override
+    public Token recoverInline(Parser recognizer) {
+      fail(recognizer.getCurrentToken().getStartIndex(), MISMATCHED_INPUT);
+      return null;
+    }
+
+    @Override
+    public void sync(Parser recognizer) {
+    }
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import java.io.BufferedReader;
+import java.io.Reader;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.github.palindromicity.syslog.util.Validate;
+
+/**
+ * Parses the lines of a {@code Reader} into batches for {@code parseBatches}, with a {@link LineBatcher}.
+ * <p>
+ * Lines are parsed on the calling thread, or in parallel by a {@link ParallelLineParser}, in which case a line
+ * is added to the batch with the length it had before it was parsed.
+ * </p>
+ */
+final class BatchParser {
+
+  private final LineBatcher.Limits limits;
+
+  /**
+   * Parses the lines in parallel, or {@code null} to parse them on the calling thread.
+   */
+  private final ParallelLineParser parallelLineParser;
+
+  /**
+   * Create a new {@code BatchParser}.
+   *
+   * @param limits the {@link LineBatcher.Limits} of a batch
+   * @param parallelLineParser the {@link ParallelLineParser} for the lines, or {@code null}
+   */
+  BatchParser(LineBatcher.Limits limits, ParallelLineParser parallelLineParser) {
+    Validate.notNull(limits, "limits");
+    this.limits = limits;
+    this.parallelLineParser = parallelLineParser;
+  }
+
+  /**
+   * Parse each line into a batch.  The last batch is passed on when the {@code Reader} ends.
+   * <p>
+   * Without an error consumer, the first line that fails stops parsing and its exception is thrown.  With an
+   * error consumer, lines that fail are passed to the error consumer, and exceptions thrown by the batch
+   * consumer are thrown.
+   * </p>
+   *
+   * @param reader the {@code Reader} of lines
+   * @param lineParser parses a line
+   * @param batchConsumer the {@code Consumer} for batches
+   * @param errorConsumer the {@code Consumer} for lines and their errors, or {@code null} to throw them
+   * @param <T> the type of the parsed lines
+   */
+  <T> void parse(Reader reader, Function<String, ParseResult<T>> lineParser, Consumer<List<T>> batchConsumer,
+      BiConsumer<String, Throwable> errorConsumer) {
+    try (LineBatcher<T> batcher = new LineBatcher<>(batchConsumer, limits)) {
+      if (parallelLineParser != null) {
+        BiConsumer<String, Throwable> lineErrorConsumer = null;
+        if (errorConsumer != null) {
+          // the parallel parser passes exceptions of the consumer to the error consumer
+          lineErrorConsumer = (line, throwable) -> {
+            batcher.rethrowIfFailure(throwable);
+            errorConsumer.accept(line, throwable);
+          };
+        }
+        parallelLineParser.parse(reader, (line) -> parseSized(line, lineParser),
+            (sized) -> batcher.add(sized.message, sized.length), lineErrorConsumer);
+        return;
+      }
+      if (errorConsumer == null) {
+        new BufferedReader(reader).lines()
+            .forEach((line) -> batcher.add(lineParser.apply(line).getOrThrow(), line.length()));
+        return;
+      }
+      new BufferedReader(reader).lines().forEach((line) -> batchLine(line, lineParser, batcher, errorConsumer));
+    }
+  }
+
+  private static <T> void batchLine(String line, Function<String, ParseResult<T>> lineParser,
+      LineBatcher<T> batcher, BiConsumer<String, Throwable> errorConsumer) {
+    ParseResult<T> result;
+    try {
+      result = lineParser.apply(line);
+    } catch (Throwable throwable) {
+      errorConsumer.accept(line, throwable);
+      return;
+    }
+    if (result.isSuccess()) {
+      batcher.add(result.getValue(), line.length());
+    } else {
+      errorConsumer.accept(line, result.toException());
+    }
+  }
+
+  private static <T> ParseResult<SizedMessage<T>> parseSized(String line,
+      Function<String, ParseResult<T>> lineParser) {
+    ParseResult<T> result = lineParser.apply(line);
+    if (!result.isSuccess()) {
+      return ParseResult.failure(result.getErrorCode(), result.getErrorOffset(), result.getReason());
+    }
+    return ParseResult.success(new SizedMessage<>(result.getValue(), line.length()));
+  }
+
+  /**
+   * A message of a parallel parse and the length of its line.
+   *
+   * @param <T> the type of the message
+   */
+  private static final class SizedMessage<T> {
+
+    private final T message;
+    private final int length;
+
+    SizedMessage(T message, int length) {
+      this.message = message;
+      this.length = length;
+    }
+  }
+}
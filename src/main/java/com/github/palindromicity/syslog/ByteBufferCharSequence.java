@@ -0,0 +1,77 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link CharSequence} view of a range of a {@code ByteBuffer}, decoding each byte as ISO-8859-1.
+ * <p>
+ * The buffer is read with absolute gets, so its position and limit are not used or changed.  Nothing is
+ * decoded or copied until {@link #toString()}, so slices of a line, such as a line in a memory mapped
+ * file, may be taken with {@link #subSequence(int, int)} and only those slices materialized.
+ * </p>
+ */
+class ByteBufferCharSequence implements CharSequence {
+
+  private final ByteBuffer buffer;
+  private final int offset;
+  private final int length;
+
+  /**
+   * Create a new {@code ByteBufferCharSequence}.
+   *
+   * @param buffer the buffer
+   * @param offset the index of the first byte
+   * @param length the number of bytes
+   */
+  ByteBufferCharSequence(ByteBuffer buffer, int offset, int length) {
+    this.buffer = buffer;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  @Override
+  public int length() {
+    return length;
+  }
+
+  @Override
+  public char charAt(int index) {
+    if (index < 0 || index >= length) {
+      throw new IndexOutOfBoundsException(String.valueOf(index));
+    }
+    return (char) (buffer.get(offset + index) & 0xFF);
+  }
+
+  @Override
+  public CharSequence subSequence(int start, int end) {
+    if (start < 0 || end > length || start > end) {
+      throw new IndexOutOfBoundsException(String.format("%d, %d", start, end));
+    }
+    return new ByteBufferCharSequence(buffer, offset + start, end - start);
+  }
+
+  @Override
+  public String toString() {
+    char[] chars = new char[length];
+    for (int i = 0; i < length; i++) {
+      chars[i] = (char) (buffer.get(offset + i) & 0xFF);
+    }
+    return new String(chars);
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+/**
+ * {@link CharStream} over a {@link CharSequence}, without copying it.
+ * <p>
+ * Like {@link org.antlr.v4.runtime.ANTLRInputStream}, each UTF-16 {@code char} is one symbol.
+ * The stream is itself a {@code CharSequence} of the source, so that listeners may take slices of
+ * the source by character index.
+ * </p>
+ */
+class CharSequenceCharStream implements CharStream, CharSequence {
+
+  private final CharSequence source;
+  private int index;
+
+  /**
+   * Create a new {@code CharSequenceCharStream}.
+   *
+   * @param source the characters to stream
+   */
+  CharSequenceCharStream(CharSequence source) {
+    this.source = source;
+  }
+
+  @Override
+  public String getText(Interval interval) {
+    int start = Math.max(interval.a, 0);
+    int stop = Math.min(interval.b, source.length() - 1);
+    if (start > stop) {
+      return "";
+    }
+    return source.subSequence(start, stop + 1).toString();
+  }
+
+  @Override
+  public void consume() {
+    if (index >= source.length()) {
+      throw new IllegalStateException("cannot consume EOF");
+    }
+    index++;
+  }
+
+  @Override
+  public int LA(int offset) {
+    if (offset == 0) {
+      return 0;
+    }
+    int pos = offset < 0 ? index + offset : index + offset - 1;
+    if (pos < 0 || pos >= source.length()) {
+      return IntStream.EOF;
+    }
+    return source.charAt(pos);
+  }
+
+  @Override
+  public int mark() {
+    return -1;
+  }
+
+  @Override
+  public void release(int marker) {
+  }
+
+  @Override
+  public int index() {
+    return index;
+  }
+
+  @Override
+  public void seek(int index) {
+    this.index = Math.min(index, source.length());
+  }
+
+  @Override
+  public int size() {
+    return source.length();
+  }
+
+  @Override
+  public String getSourceName() {
+    return IntStream.UNKNOWN_SOURCE_NAME;
+  }
+
+  @Override
+  public int length() {
+    return source.length();
+  }
+
+  @Override
+  public char charAt(int index) {
+    return source.charAt(index);
+  }
+
+  @Override
+  public CharSequence subSequence(int start, int end) {
+    return source.subSequence(start, end);
+  }
+
+  @Override
+  public String toString() {
+    return source.toString();
+  }
+}
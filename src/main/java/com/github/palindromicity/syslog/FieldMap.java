@@ -0,0 +1,193 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.github.palindromicity.syslog.dsl.SyslogFieldKeys;
+
+/**
+ * An unmodifiable {@code Map} of the fields of a line, with a fixed slot for each field.
+ * <p>
+ * The keys come from a {@link KeySchema} shared by every result of a parser, and the values are held in
+ * an array indexed by the ordinal of their {@link SyslogFieldKeys}, so there is no hashing and no entry
+ * per field.  A slot without a value is not in the {@code Map}.
+ * </p>
+ * <p>
+ * When lazy, text fields are recorded as their offsets in the line, and the {@code String} of a field is
+ * only created the first time it is read.  The line is then kept by the {@code Map} and must not change
+ * while the {@code Map} is used.  Concurrent first reads may each create the {@code String}, which is
+ * harmless as they are equal.
+ * </p>
+ */
+final class FieldMap extends AbstractMap<String, Object> {
+
+  private final KeySchema schema;
+  private final CharSequence source;
+  private final Object[] values;
+  private final int[] bounds;
+  private int deferred;
+  private int size;
+  private Set<Entry<String, Object>> entrySet;
+
+  /**
+   * Create a new, empty {@code FieldMap}.
+   *
+   * @param schema the {@link KeySchema} of the keys
+   * @param source the line the text fields are taken from
+   * @param lazy if true, the text fields are created when first read, otherwise the line is not kept
+   */
+  FieldMap(KeySchema schema, CharSequence source, boolean lazy) {
+    this.schema = schema;
+    this.source = lazy ? source : null;
+    this.values = new Object[schema.slots()];
+    this.bounds = lazy ? new int[schema.slots() * 2] : null;
+  }
+
+  /**
+   * Sets the value of a field while the {@code Map} is filled.  Fields without a key are ignored.
+   *
+   * @param field the {@link SyslogFieldKeys}
+   * @param value the value, not {@code null}
+   */
+  void set(SyslogFieldKeys field, Object value) {
+    int slot = field.ordinal();
+    if (schema.key(slot) == null) {
+      return;
+    }
+    if (!isPresent(slot)) {
+      size++;
+    }
+    values[slot] = value;
+  }
+
+  /**
+   * Sets the value of a field to text of the line while the {@code Map} is filled.  Fields without a key
+   * are ignored.  Unless lazy, the text is created now, as the line is not kept.
+   *
+   * @param field the {@link SyslogFieldKeys}
+   * @param line the line the {@code Map} was created for
+   * @param start the start offset of the text in the line
+   * @param end the end offset of the text in the line
+   */
+  void setText(SyslogFieldKeys field, CharSequence line, int start, int end) {
+    if (bounds == null) {
+      if (schema.key(field.ordinal()) != null) {
+        set(field, text(line, start, end));
+      }
+      return;
+    }
+    int slot = field.ordinal();
+    if (schema.key(slot) == null) {
+      return;
+    }
+    if (!isPresent(slot)) {
+      size++;
+    }
+    bounds[slot * 2] = start;
+    bounds[slot * 2 + 1] = end;
+    deferred |= 1 << slot;
+  }
+
+  private boolean isPresent(int slot) {
+    return values[slot] != null || (deferred & 1 << slot) != 0;
+  }
+
+  private Object value(int slot) {
+    Object value = values[slot];
+    if (value == null && (deferred & 1 << slot) != 0) {
+      value = text(source, bounds[slot * 2], bounds[slot * 2 + 1]);
+      values[slot] = value;
+    }
+    return value;
+  }
+
+  private static String text(CharSequence line, int start, int end) {
+    return start == end ? "" : line.subSequence(start, end).toString();
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    int slot = schema.slotOf(key);
+    return slot >= 0 && isPresent(slot);
+  }
+
+  @Override
+  public Object get(Object key) {
+    int slot = schema.slotOf(key);
+    return slot >= 0 ? value(slot) : null;
+  }
+
+  @Override
+  public Set<Entry<String, Object>> entrySet() {
+    if (entrySet == null) {
+      entrySet = new AbstractSet<Entry<String, Object>>() {
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+          return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+          return size;
+        }
+      };
+    }
+    return entrySet;
+  }
+
+  private final class EntryIterator implements Iterator<Entry<String, Object>> {
+
+    private int next = advance(0);
+
+    private int advance(int slot) {
+      while (slot < values.length && !isPresent(slot)) {
+        slot++;
+      }
+      return slot;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return next < values.length;
+    }
+
+    @Override
+    public Entry<String, Object> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      Entry<String, Object> entry = new SimpleImmutableEntry<>(schema.key(next), value(next));
+      next = advance(next + 1);
+      return entry;
+    }
+  }
+}
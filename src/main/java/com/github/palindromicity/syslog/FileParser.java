@@ -0,0 +1,68 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.github.palindromicity.syslog.util.Validate;
+
+/**
+ * Parses the lines of a file for {@code parseFile}, with a {@link GzipFileParser} if the file is gzip
+ * compressed and a {@link MappedFileParser} otherwise.
+ */
+final class FileParser {
+
+  private final MappedFileParser mappedFileParser;
+  private final GzipFileParser gzipFileParser;
+
+  /**
+   * Create a new {@code FileParser}.
+   *
+   * @param mappedFileParser the {@link MappedFileParser} for plain files
+   * @param gzipFileParser the {@link GzipFileParser} for gzip compressed files
+   */
+  FileParser(MappedFileParser mappedFileParser, GzipFileParser gzipFileParser) {
+    Validate.notNull(mappedFileParser, "mappedFileParser");
+    Validate.notNull(gzipFileParser, "gzipFileParser");
+    this.mappedFileParser = mappedFileParser;
+    this.gzipFileParser = gzipFileParser;
+  }
+
+  /**
+   * Parse each line of a file.  A line is only valid until the line parser returns.
+   *
+   * @param path the file
+   * @param lineParser parses a line
+   * @param messageConsumer the thread safe {@code Consumer} for messages
+   * @param errorConsumer the thread safe {@code Consumer} for lines and their errors, or {@code null} to throw
+   *     them
+   * @param <T> the type of the parsed lines
+   * @throws IOException if the file cannot be read
+   */
+  <T> void parse(Path path, Function<CharSequence, T> lineParser, Consumer<T> messageConsumer,
+      BiConsumer<String, Throwable> errorConsumer) throws IOException {
+    if (GzipFileParser.isGzip(path)) {
+      gzipFileParser.parse(path, lineParser, messageConsumer, errorConsumer);
+    } else {
+      mappedFileParser.parse(path, lineParser, messageConsumer, errorConsumer);
+    }
+  }
+}
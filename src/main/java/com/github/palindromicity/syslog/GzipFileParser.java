@@ -0,0 +1,688 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Parses the ISO-8859-1 lines of a gzip compressed file in parallel, without inflating the file to disk or
+ * into memory first.
+ * <p>
+ * A file of one gzip member is inflated as a stream on the calling thread, into buffers of the buffer size
+ * that are cut after their last {@code '\n'} and parsed on the parallel tasks.  At most two buffers per unit
+ * of parallelism are in use, so memory use does not grow with the file.
+ * </p>
+ * <p>
+ * A file of many members, as written by concatenating gzip files or by block compressors such as
+ * {@code bgzip}, is inflated one member per task.  Members are found by scanning for gzip headers.  The scan
+ * stops after the first buffer of the file if it holds no other header, and the file is inflated as a stream,
+ * so a file of one member is not read twice.  Headers may also appear by chance inside compressed data, so
+ * the output of a member is held until its CRC-32 and size have been checked and it is chained from the
+ * start of the file, each member ending where the next begins, and only then are its lines parsed.  A member
+ * the scan missed is inflated when the chain reaches it.  At most two members per unit of parallelism are
+ * inflated ahead of the chain.  The pieces of line before the first and after the last {@code '\n'} of each
+ * member are kept until every member is chained, and parsed joined to those of the members around them.
+ * </p>
+ */
+final class GzipFileParser {
+
+  /**
+   * The size, in bytes, of the buffers that compressed and inflated bytes are read into.
+   */
+  static final int BUFFER_SIZE = 1024 * 1024;
+
+  /**
+   * The size, in bytes, that the output buffer of a member starts at.
+   */
+  private static final int MEMBER_OUTPUT_SIZE = 64 * 1024;
+
+  private static final int HEADER_SIZE = 10;
+  private static final int CM_DEFLATE = 8;
+  private static final int TRAILER_SIZE = 8;
+  private static final int FLAG_HEADER_CRC = 0x02;
+  private static final int FLAG_EXTRA = 0x04;
+  private static final int FLAG_NAME = 0x08;
+  private static final int FLAG_COMMENT = 0x10;
+  private static final int FLAGS_RESERVED = 0xe0;
+  private static final int OS_UNKNOWN = 255;
+  private static final int OS_LAST = 13;
+
+  private final Executor executor;
+  private final int parallelism;
+  private final int bufferSize;
+
+  /**
+   * Create a new {@code GzipFileParser}.
+   *
+   * @param executor the {@link Executor} to parse on, or {@code null} to create one with
+   *     {@link ParserThreads#newParallelExecutor(int)} for each call
+   * @param parallelism the number of buffers or members parsed at once
+   * @param bufferSize the size, in bytes, of the buffers that compressed and inflated bytes are read into
+   */
+  GzipFileParser(Executor executor, int parallelism, int bufferSize) {
+    this.executor = executor;
+    this.parallelism = parallelism;
+    this.bufferSize = bufferSize;
+  }
+
+  /**
+   * Returns whether a file starts with the gzip magic number.
+   *
+   * @param path the file
+   * @return true if the file is gzip compressed
+   * @throws IOException if the file cannot be read
+   */
+  static boolean isGzip(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      ByteBuffer magic = ByteBuffer.allocate(2);
+      return readFully(channel, magic, 0) == 2 && magic.get(0) == (byte) 0x1f && magic.get(1) == (byte) 0x8b;
+    }
+  }
+
+  /**
+   * Parses each line of a gzip compressed file and passes the results to the consumers, which are called
+   * concurrently from the parsing threads, as {@link MappedFileParser#parse(Path, Function, Consumer,
+   * BiConsumer)}.
+   *
+   * @param path the file
+   * @param lineParser parses a line, which is only valid until it returns
+   * @param messageConsumer the thread safe {@code Consumer} for messages
+   * @param errorConsumer the thread safe {@code Consumer} for lines and their errors, or {@code null} to throw
+   *     them
+   * @param <T> the type of the parsed lines
+   * @throws IOException if the file cannot be read or is not valid gzip
+   */
+  <T> void parse(Path path, Function<CharSequence, T> lineParser, Consumer<T> messageConsumer,
+      BiConsumer<String, Throwable> errorConsumer) throws IOException {
+    LineSink<T> sink = new LineSink<>(lineParser, messageConsumer, errorConsumer);
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      List<Long> members = parallelism > 1 ? findMembers(channel) : null;
+      ExecutorService pool = executor == null ? ParserThreads.newParallelExecutor(parallelism) : null;
+      try {
+        if (members != null && members.size() > 1) {
+          parseMembers(channel, members, pool == null ? executor : pool, sink);
+        } else {
+          parseStream(channel, pool == null ? executor : pool, sink);
+        }
+      } finally {
+        if (pool != null) {
+          pool.shutdownNow();
+        }
+      }
+    }
+  }
+
+  private <T> void parseStream(FileChannel channel, Executor bufferExecutor, LineSink<T> sink)
+      throws IOException {
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+    final int maxBuffers = parallelism * 2;
+    BlockingQueue<byte[]> free = new ArrayBlockingQueue<>(maxBuffers);
+    int allocated = 1;
+    byte[] buffer = new byte[bufferSize];
+    int length = 0;
+    try (InputStream in = new GZIPInputStream(Channels.newInputStream(channel), bufferSize)) {
+      while (failure.get() == null) {
+        int read = in.read(buffer, length, buffer.length - length);
+        if (read < 0) {
+          break;
+        }
+        length += read;
+        if (length < buffer.length) {
+          continue;
+        }
+        int end = lastIndexOf(buffer, 0, length, (byte) '\n') + 1;
+        if (end == 0) {
+          // a line longer than the buffer
+          buffer = Arrays.copyOf(buffer, buffer.length * 2);
+          continue;
+        }
+        byte[] next;
+        if (allocated < maxBuffers) {
+          next = new byte[buffer.length];
+          allocated++;
+        } else {
+          next = take(free);
+        }
+        if (next.length < length - end) {
+          next = new byte[buffer.length];
+        }
+        System.arraycopy(buffer, end, next, 0, length - end);
+        submit(bufferExecutor, buffer, end, sink, failure, free);
+        buffer = next;
+        length -= end;
+      }
+    } catch (IOException e) {
+      failure.compareAndSet(null, e);
+    }
+    if (length > 0 && failure.get() == null) {
+      submit(bufferExecutor, buffer, length, sink, failure, free);
+    } else {
+      free.add(buffer);
+    }
+    // every buffer is given back once the tasks are done
+    for (int i = 0; i < allocated; i++) {
+      take(free);
+    }
+    MappedFileParser.throwIfFailed(failure.get());
+  }
+
+  private static <T> void submit(Executor bufferExecutor, byte[] buffer, int length, LineSink<T> sink,
+      AtomicReference<Throwable> failure, BlockingQueue<byte[]> free) {
+    bufferExecutor.execute(() -> {
+      try {
+        if (failure.get() == null) {
+          sink.parse(buffer, 0, length);
+        }
+      } catch (Throwable throwable) {
+        failure.compareAndSet(null, throwable);
+      } finally {
+        free.add(buffer);
+      }
+    });
+  }
+
+  private static byte[] take(BlockingQueue<byte[]> free) {
+    try {
+      return free.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while parsing lines", e);
+    }
+  }
+
+  /**
+   * Scans the file for what may be the gzip headers of its members.  If the first buffer of the file holds no
+   * other header, the file is taken to be one member, or members too large to gain from inflating in
+   * parallel, and the rest is not scanned.
+   *
+   * @param channel the file
+   * @return the offsets of the headers, starting with 0
+   * @throws IOException if the file cannot be read
+   */
+  private List<Long> findMembers(FileChannel channel) throws IOException {
+    List<Long> members = new ArrayList<>();
+    members.add(0L);
+    final long size = channel.size();
+    byte[] bytes = new byte[bufferSize + HEADER_SIZE];
+    ByteBuffer window = ByteBuffer.wrap(bytes);
+    for (long position = 0; position < size; position += bufferSize) {
+      window.clear();
+      int read = readFully(channel, window, position);
+      for (int i = position == 0 ? 1 : 0; i < bufferSize && i + HEADER_SIZE <= read; i++) {
+        if (isHeader(bytes, i)) {
+          members.add(position + i);
+        }
+      }
+      if (members.size() == 1) {
+        break;
+      }
+    }
+    return members;
+  }
+
+  /**
+   * Returns whether the bytes are a gzip header of deflate data, with no reserved flags, a known extra flag and
+   * a known operating system.
+   */
+  private static boolean isHeader(byte[] bytes, int offset) {
+    if (bytes[offset] != (byte) 0x1f || bytes[offset + 1] != (byte) 0x8b || bytes[offset + 2] != CM_DEFLATE
+        || (bytes[offset + 3] & FLAGS_RESERVED) != 0) {
+      return false;
+    }
+    int extraFlags = bytes[offset + 8];
+    int os = bytes[offset + 9] & 0xff;
+    return (extraFlags == 0 || extraFlags == 2 || extraFlags == 4) && (os <= OS_LAST || os == OS_UNKNOWN);
+  }
+
+  private <T> void parseMembers(FileChannel channel, List<Long> starts, Executor memberExecutor,
+      LineSink<T> sink) throws IOException {
+    MemberChain<T> chain = new MemberChain<>(channel, starts, sink, parallelism * 2);
+    AtomicInteger next = new AtomicInteger();
+    CompletableFuture<?>[] tasks = new CompletableFuture<?>[Math.min(parallelism, starts.size())];
+    for (int i = 0; i < tasks.length; i++) {
+      tasks[i] = CompletableFuture.runAsync(() -> {
+        MemberInflater inflater = new MemberInflater(channel, bufferSize);
+        try {
+          for (int index = next.getAndIncrement(); index < starts.size() && chain.awaitTurn(index);
+              index = next.getAndIncrement()) {
+            chain.add(inflater.inflate(starts.get(index)), inflater);
+          }
+        } catch (Throwable throwable) {
+          chain.fail(throwable);
+        } finally {
+          inflater.end();
+        }
+      }, memberExecutor);
+    }
+    try {
+      CompletableFuture.allOf(tasks).join();
+    } catch (CompletionException e) {
+      chain.fail(e.getCause());
+    }
+    chain.finish(bufferSize);
+  }
+
+  private static int readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position()) < 0) {
+        break;
+      }
+    }
+    return buffer.position();
+  }
+
+  private static int indexOf(byte[] bytes, int from, int to, byte value) {
+    for (int i = from; i < to; i++) {
+      if (bytes[i] == value) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static int lastIndexOf(byte[] bytes, int from, int to, byte value) {
+    for (int i = to - 1; i >= from; i--) {
+      if (bytes[i] == value) {
+        return i;
+      }
+    }
+    return from - 1;
+  }
+
+  /**
+   * A gzip member, or what looked like the header of one.
+   */
+  private static final class Member {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final long start;
+    private long end;
+
+    /**
+     * Whether the member starts with a gzip header.
+     */
+    private boolean header;
+
+    /**
+     * The reason the member is not valid, or {@code null} if it is.
+     */
+    private Exception error;
+
+    /**
+     * The output up to and including the first {@code '\n'}, or all of it if there is none.
+     */
+    private byte[] head = EMPTY;
+    private boolean headEndsLine;
+
+    /**
+     * The output after the last {@code '\n'}.
+     */
+    private byte[] tail = EMPTY;
+
+    /**
+     * The output of a checked member until it is released, then {@code null}.
+     */
+    private byte[] output;
+    private int length;
+
+    Member(long start) {
+      this.start = start;
+    }
+
+    /**
+     * Parses the lines of the output after the head and before the tail, and drops the output.
+     */
+    void release(LineSink<?> sink) {
+      int newLine = indexOf(output, 0, length, (byte) '\n');
+      if (newLine < 0) {
+        head = Arrays.copyOf(output, length);
+      } else {
+        head = Arrays.copyOf(output, newLine + 1);
+        headEndsLine = true;
+        int from = newLine + 1;
+        int end = lastIndexOf(output, from, length, (byte) '\n') + 1;
+        if (end > from) {
+          sink.parse(output, from, end - from);
+        } else {
+          end = from;
+        }
+        tail = Arrays.copyOfRange(output, end, length);
+      }
+      output = null;
+    }
+  }
+
+  /**
+   * The members chained from the start of the file.
+   * <p>
+   * Members are added as they are inflated, in any order.  A member is released, and its lines parsed, only
+   * when the chain reaches its start, so a header found by chance inside compressed data is never parsed.
+   * </p>
+   */
+  private static final class MemberChain<T> {
+
+    private final FileChannel channel;
+    private final long size;
+    private final List<Long> starts;
+    private final LineSink<T> sink;
+    private final int maxAhead;
+
+    // guarded by this
+    private final Map<Long, Member> inflated = new HashMap<>();
+    private final List<Member> chain = new ArrayList<>();
+    private long position;
+    private int passed;
+    private boolean ended;
+    private Throwable failure;
+
+    MemberChain(FileChannel channel, List<Long> starts, LineSink<T> sink, int maxAhead) throws IOException {
+      this.channel = channel;
+      this.size = channel.size();
+      this.starts = starts;
+      this.sink = sink;
+      this.maxAhead = maxAhead;
+    }
+
+    /**
+     * Waits until the member of a start is at most the largest number of members ahead of the chain.
+     *
+     * @return false if the chain has ended or failed
+     */
+    synchronized boolean awaitTurn(int index) throws InterruptedException {
+      while (failure == null && !ended && index >= passed + maxAhead) {
+        wait();
+      }
+      return failure == null && !ended;
+    }
+
+    /**
+     * Adds an inflated member, and releases the members the chain reaches.
+     */
+    void add(Member member, MemberInflater inflater) throws IOException {
+      synchronized (this) {
+        // a member that starts inside a chained member was found by chance
+        if (member.start >= position) {
+          inflated.put(member.start, member);
+        }
+      }
+      release(inflater);
+    }
+
+    synchronized void fail(Throwable throwable) {
+      if (failure == null) {
+        failure = throwable;
+      }
+      notifyAll();
+    }
+
+    private void release(MemberInflater inflater) throws IOException {
+      List<Member> released = new ArrayList<>();
+      synchronized (this) {
+        try {
+          while (!ended && failure == null) {
+            if (position >= size) {
+              ended = true;
+              break;
+            }
+            Member member = inflated.remove(position);
+            if (member == null) {
+              if (passed < starts.size() && starts.get(passed) == position) {
+                // not inflated yet
+                break;
+              }
+              // a member the scan missed
+              member = inflater.inflate(position);
+              if (!member.header && position > 0) {
+                // data after the last member is ignored, as by GZIPInputStream
+                ended = true;
+                break;
+              }
+            }
+            if (member.error != null) {
+              throw new IOException(String.format("Corrupt gzip member at offset %d", position), member.error);
+            }
+            chain.add(member);
+            released.add(member);
+            position = member.end;
+            while (passed < starts.size() && starts.get(passed) < position) {
+              inflated.remove(starts.get(passed++));
+            }
+          }
+        } finally {
+          notifyAll();
+        }
+      }
+      for (Member member : released) {
+        member.release(sink);
+      }
+    }
+
+    /**
+     * Releases the rest of the chain once every task is done, and parses the lines that span members.
+     */
+    void finish(int bufferSize) throws IOException {
+      MappedFileParser.throwIfFailed(failure);
+      MemberInflater inflater = new MemberInflater(channel, bufferSize);
+      try {
+        release(inflater);
+      } finally {
+        inflater.end();
+      }
+      ByteArrayOutputStream pending = new ByteArrayOutputStream();
+      for (Member member : chain) {
+        pending.write(member.head, 0, member.head.length);
+        if (member.headEndsLine) {
+          sink.parse(pending.toByteArray(), 0, pending.size());
+          pending.reset();
+          pending.write(member.tail, 0, member.tail.length);
+        }
+      }
+      if (pending.size() > 0) {
+        sink.parse(pending.toByteArray(), 0, pending.size());
+      }
+    }
+  }
+
+  /**
+   * Inflates members into output of their own, reusing its input buffer and {@code Inflater} for each member.
+   */
+  private static final class MemberInflater {
+
+    private final FileChannel channel;
+    private final int outputSize;
+    private final byte[] in;
+    private final ByteBuffer input;
+    private final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private final ByteBuffer trailer = ByteBuffer.allocate(TRAILER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private final Inflater inflater = new Inflater(true);
+    private final CRC32 crc = new CRC32();
+
+    MemberInflater(FileChannel channel, int bufferSize) {
+      this.channel = channel;
+      this.outputSize = Math.min(bufferSize, MEMBER_OUTPUT_SIZE);
+      this.in = new byte[bufferSize];
+      this.input = ByteBuffer.wrap(in);
+    }
+
+    Member inflate(long start) throws IOException {
+      Member member = new Member(start);
+      long position = readHeader(start);
+      if (position < 0) {
+        member.error = new ZipException("Not in GZIP format");
+        return member;
+      }
+      member.header = true;
+      inflater.reset();
+      crc.reset();
+      byte[] out = new byte[outputSize];
+      int length = 0;
+      try {
+        while (!inflater.finished()) {
+          if (inflater.needsInput()) {
+            input.clear();
+            int read = channel.read(input, position);
+            if (read <= 0) {
+              member.error = new EOFException("Unexpected end of ZLIB input stream");
+              return member;
+            }
+            position += read;
+            inflater.setInput(in, 0, read);
+          }
+          if (length == out.length) {
+            out = Arrays.copyOf(out, out.length * 2);
+          }
+          int inflated = inflater.inflate(out, length, out.length - length);
+          if (inflated == 0 && inflater.needsDictionary()) {
+            member.error = new ZipException("Member needs a preset dictionary");
+            return member;
+          }
+          crc.update(out, length, inflated);
+          length += inflated;
+        }
+      } catch (DataFormatException e) {
+        member.error = e;
+        return member;
+      }
+      long trailerStart = position - inflater.getRemaining();
+      trailer.clear();
+      if (readFully(channel, trailer, trailerStart) < TRAILER_SIZE) {
+        member.error = new EOFException("Unexpected end of ZLIB input stream");
+        return member;
+      }
+      if ((trailer.getInt(0) & 0xffffffffL) != crc.getValue()
+          || (trailer.getInt(4) & 0xffffffffL) != (inflater.getBytesWritten() & 0xffffffffL)) {
+        member.error = new ZipException("Corrupt GZIP trailer");
+        return member;
+      }
+      member.end = trailerStart + TRAILER_SIZE;
+      member.output = out;
+      member.length = length;
+      return member;
+    }
+
+    /**
+     * Reads the header of a member.
+     *
+     * @return the offset of the deflate data, or -1 if there is no gzip header
+     */
+    private long readHeader(long start) throws IOException {
+      header.clear();
+      if (readFully(channel, header, start) < HEADER_SIZE || header.get(0) != (byte) 0x1f
+          || header.get(1) != (byte) 0x8b || header.get(2) != CM_DEFLATE
+          || (header.get(3) & FLAGS_RESERVED) != 0) {
+        return -1;
+      }
+      int flags = header.get(3);
+      long position = start + HEADER_SIZE;
+      if ((flags & FLAG_EXTRA) != 0) {
+        header.clear().limit(2);
+        if (readFully(channel, header, position) < 2) {
+          return -1;
+        }
+        position += 2 + (header.getShort(0) & 0xffff);
+      }
+      if ((flags & FLAG_NAME) != 0) {
+        position = skipString(position);
+      }
+      if ((flags & FLAG_COMMENT) != 0) {
+        position = skipString(position);
+      }
+      if ((flags & FLAG_HEADER_CRC) != 0) {
+        position += 2;
+      }
+      return position;
+    }
+
+    /**
+     * Skips a zero terminated string of the header.
+     *
+     * @return the offset after the string, or the size of the file if there is no end
+     */
+    private long skipString(long start) throws IOException {
+      long position = start;
+      while (true) {
+        input.clear();
+        int read = channel.read(input, position);
+        if (read <= 0) {
+          return channel.size();
+        }
+        int zero = indexOf(in, 0, read, (byte) 0);
+        if (zero >= 0) {
+          return position + zero + 1;
+        }
+        position += read;
+      }
+    }
+
+    void end() {
+      inflater.end();
+    }
+  }
+
+  /**
+   * Parses lines of bytes and passes the results to the consumers.
+   */
+  private static final class LineSink<T> {
+
+    private final Function<CharSequence, T> lineParser;
+    private final Consumer<T> messageConsumer;
+    private final BiConsumer<String, Throwable> errorConsumer;
+
+    LineSink(Function<CharSequence, T> lineParser, Consumer<T> messageConsumer,
+        BiConsumer<String, Throwable> errorConsumer) {
+      this.lineParser = lineParser;
+      this.messageConsumer = messageConsumer;
+      this.errorConsumer = errorConsumer;
+    }
+
+    void parse(byte[] bytes, int offset, int length) {
+      MappedFileParser.parseSegment(ByteBuffer.wrap(bytes, offset, length).slice(), lineParser, messageConsumer,
+          errorConsumer);
+    }
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import java.util.EnumSet;
+
+import com.github.palindromicity.syslog.dsl.SyslogFieldKeys;
+import com.github.palindromicity.syslog.util.Validate;
+
+/**
+ * The keys of the {@code Map} results, resolved once from a {@link KeyProvider} when the parser is built.
+ * <p>
+ * Each {@link SyslogFieldKeys} has a slot, indexed by its ordinal, that holds its interned key, or
+ * {@code null} if the field is not extracted.  If the {@link KeyProvider} gives two fields the same key,
+ * the field that was last put into the original {@code HashMap} results keeps it.
+ * </p>
+ */
+final class KeySchema {
+
+  /**
+   * The order fields were put into the {@code Map}, which decides which field keeps a shared key.
+   */
+  private static final SyslogFieldKeys[] PUT_ORDER = {SyslogFieldKeys.HEADER_PRI,
+      SyslogFieldKeys.HEADER_PRI_SEVERITY, SyslogFieldKeys.HEADER_PRI_FACILITY, SyslogFieldKeys.HEADER_TIMESTAMP,
+      SyslogFieldKeys.HEADER_HOSTNAME, SyslogFieldKeys.MESSAGE};
+
+  private final String[] keys = new String[SyslogFieldKeys.values().length];
+
+  /**
+   * Create a new {@code KeySchema}.
+   *
+   * @param keyProvider the {@link KeyProvider} to provide the keys
+   * @param fields the {@link SyslogFieldKeys} that are extracted into results
+   */
+  KeySchema(KeyProvider keyProvider, EnumSet<SyslogFieldKeys> fields) {
+    Validate.notNull(keyProvider, "keyProvider");
+    Validate.notNull(fields, "fields");
+    for (SyslogFieldKeys field : PUT_ORDER) {
+      if (!fields.contains(field)) {
+        continue;
+      }
+      String key = keyOf(keyProvider, field);
+      Validate.notNull(key, field.name());
+      key = key.intern();
+      for (int i = 0; i < keys.length; i++) {
+        if (key.equals(keys[i])) {
+          keys[i] = null;
+        }
+      }
+      keys[field.ordinal()] = key;
+    }
+  }
+
+  private static String keyOf(KeyProvider keyProvider, SyslogFieldKeys field) {
+    switch (field) {
+      case HEADER_PRI:
+        return keyProvider.getHeaderPriority();
+      case HEADER_PRI_SEVERITY:
+        return keyProvider.getHeaderSeverity();
+      case HEADER_PRI_FACILITY:
+        return keyProvider.getHeaderFacility();
+      case HEADER_TIMESTAMP:
+        return keyProvider.getHeaderTimeStamp();
+      case HEADER_HOSTNAME:
+        return keyProvider.getHeaderHostName();
+      default:
+        return keyProvider.getMessage();
+    }
+  }
+
+  /**
+   * Returns the number of slots.
+   *
+   * @return the number of slots
+   */
+  int slots() {
+    return keys.length;
+  }
+
+  /**
+   * Returns the key of a slot.
+   *
+   * @param slot the slot
+   * @return the key, or {@code null} if the field of the slot is not extracted
+   */
+  String key(int slot) {
+    return keys[slot];
+  }
+
+  /**
+   * Returns whether a field is put into the {@code Map} results.
+   *
+   * @param field the {@link SyslogFieldKeys}
+   * @return true if the field has a key
+   */
+  boolean contains(SyslogFieldKeys field) {
+    return keys[field.ordinal()] != null;
+  }
+
+  /**
+   * Returns the slot of a key.
+   *
+   * @param key the key
+   * @return the slot, or -1 if no field has the key
+   */
+  int slotOf(Object key) {
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] == key) {
+        return i;
+      }
+    }
+    if (key == null) {
+      return -1;
+    }
+    for (int i = 0; i < keys.length; i++) {
+      if (key.equals(keys[i])) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
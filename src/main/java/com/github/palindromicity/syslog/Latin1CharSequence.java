@@ -0,0 +1,83 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link CharSequence} view of a range of a {@code byte[]}, decoding each byte as ISO-8859-1.
+ * <p>
+ * Nothing is decoded or copied until {@link #toString()}, so slices of a line may be taken with
+ * {@link #subSequence(int, int)} and only those slices materialized.
+ * </p>
+ */
+class Latin1CharSequence implements CharSequence {
+
+  private byte[] bytes;
+  private int offset;
+  private int length;
+
+  /**
+   * Create a new {@code Latin1CharSequence}.
+   *
+   * @param bytes the bytes
+   * @param offset the offset of the first byte
+   * @param length the number of bytes
+   */
+  Latin1CharSequence(byte[] bytes, int offset, int length) {
+    wrap(bytes, offset, length);
+  }
+
+  /**
+   * Changes the bytes that this sequence views, so that one instance may be reused for many lines.
+   *
+   * @param bytes the bytes
+   * @param offset the offset of the first byte
+   * @param length the number of bytes
+   */
+  void wrap(byte[] bytes, int offset, int length) {
+    this.bytes = bytes;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  @Override
+  public int length() {
+    return length;
+  }
+
+  @Override
+  public char charAt(int index) {
+    if (index < 0 || index >= length) {
+      throw new IndexOutOfBoundsException(String.valueOf(index));
+    }
+    return (char) (bytes[offset + index] & 0xFF);
+  }
+
+  @Override
+  public CharSequence subSequence(int start, int end) {
+    if (start < 0 || end > length || start > end) {
+      throw new IndexOutOfBoundsException(String.format("%d, %d", start, end));
+    }
+    return new Latin1CharSequence(bytes, offset + start, end - start);
+  }
+
+  @Override
+  public String toString() {
+    return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+  }
+}
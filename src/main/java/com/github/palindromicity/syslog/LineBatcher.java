@@ -0,0 +1,201 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Collects parsed lines into batches for a batch {@code Consumer}.
+ * <p>
+ * A batch is passed on when it has the largest number of lines, or the lines add up to the largest size, or,
+ * with a delay, when that long has passed since its first line.  The batch is an unmodifiable view of a
+ * {@code List} that is cleared and reused for the next batch once the consumer returns.
+ * </p>
+ * <p>
+ * With a delay, a timer thread may pass on a batch, so the consumer is called from either thread, though
+ * never for two batches at once.  An exception thrown by the consumer on the timer thread is thrown by the
+ * next call to {@link #add(Object, int)} or {@link #close()}.
+ * </p>
+ *
+ * @param <T> the type of the parsed lines
+ */
+final class LineBatcher<T> implements AutoCloseable {
+
+  private final Consumer<List<T>> batchConsumer;
+  private final int maxSize;
+  private final long maxChars;
+  private final long maxDelayNanos;
+  private final List<T> batch;
+  private final List<T> view;
+  private final ScheduledExecutorService timer;
+  private long chars;
+
+  /**
+   * Counts the batches passed on, so that the timer only passes on the batch it was started for.
+   */
+  private long generation;
+
+  /**
+   * The exception thrown by the consumer, or {@code null} if there is none.
+   */
+  private Throwable failure;
+
+  /**
+   * Whether the exception was thrown on the timer thread and is still to be thrown on the calling thread.
+   */
+  private boolean failurePending;
+
+  /**
+   * Create a new {@code LineBatcher}.
+   *
+   * @param batchConsumer the {@code Consumer} for batches
+   * @param limits the {@link Limits} of a batch
+   */
+  LineBatcher(Consumer<List<T>> batchConsumer, Limits limits) {
+    this.batchConsumer = batchConsumer;
+    this.maxSize = limits.maxSize;
+    this.maxChars = limits.maxChars;
+    this.maxDelayNanos = limits.maxDelayNanos;
+    this.batch = new ArrayList<>(Math.min(maxSize, 1024));
+    this.view = Collections.unmodifiableList(batch);
+    this.timer = maxDelayNanos > 0 ? Executors.newSingleThreadScheduledExecutor((runnable) -> {
+      Thread thread = new Thread(runnable, "syslog-batch-timer");
+      thread.setDaemon(true);
+      return thread;
+    }) : null;
+  }
+
+  /**
+   * Adds a line to the batch, and passes the batch on if it is full.
+   *
+   * @param line the parsed line
+   * @param length the length in characters of the line
+   */
+  synchronized void add(T line, int length) {
+    throwIfFailed();
+    batch.add(line);
+    chars += length;
+    if (batch.size() >= maxSize || chars >= maxChars) {
+      flush();
+    } else if (batch.size() == 1 && timer != null) {
+      final long started = generation;
+      timer.schedule(() -> flushExpired(started), maxDelayNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * Throws an exception again if it was thrown by the consumer, so that it is not taken for the error of a
+   * line.
+   *
+   * @param throwable the exception
+   */
+  synchronized void rethrowIfFailure(Throwable throwable) {
+    if (throwable != null && throwable == failure) {
+      throw unchecked(failure);
+    }
+  }
+
+  /**
+   * Passes on the rest of the lines, unless the consumer has failed, and stops the timer.
+   */
+  @Override
+  public synchronized void close() {
+    try {
+      if (failure == null) {
+        flush();
+      }
+    } finally {
+      if (timer != null) {
+        timer.shutdownNow();
+      }
+    }
+    throwIfFailed();
+  }
+
+  private synchronized void flushExpired(long started) {
+    if (started == generation && failure == null) {
+      try {
+        flush();
+      } catch (Throwable throwable) {
+        // thrown on the calling thread by the next add or close
+        failurePending = true;
+      }
+    }
+  }
+
+  private void flush() {
+    if (batch.isEmpty()) {
+      return;
+    }
+    try {
+      batchConsumer.accept(view);
+    } catch (Throwable throwable) {
+      failure = throwable;
+      throw throwable;
+    } finally {
+      batch.clear();
+      chars = 0;
+      generation++;
+    }
+  }
+
+  private void throwIfFailed() {
+    if (!failurePending) {
+      return;
+    }
+    failurePending = false;
+    throw unchecked(failure);
+  }
+
+  private static RuntimeException unchecked(Throwable throwable) {
+    if (throwable instanceof Error) {
+      throw (Error) throwable;
+    }
+    return throwable instanceof RuntimeException ? (RuntimeException) throwable : new CompletionException(throwable);
+  }
+
+  /**
+   * The limits that pass a batch on.
+   */
+  static final class Limits {
+
+    private final int maxSize;
+    private final long maxChars;
+    private final long maxDelayNanos;
+
+    /**
+     * Create new {@code Limits}.
+     *
+     * @param maxSize the largest number of lines in a batch
+     * @param maxChars the largest number of characters of the lines in a batch
+     * @param maxDelayNanos the longest time from the first line of a batch until it is passed on, or 0 for
+     *     no limit
+     */
+    Limits(int maxSize, long maxChars, long maxDelayNanos) {
+      this.maxSize = maxSize;
+      this.maxChars = maxChars;
+      this.maxDelayNanos = maxDelayNanos;
+    }
+  }
+}
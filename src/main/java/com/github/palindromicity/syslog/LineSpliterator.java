@@ -0,0 +1,197 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * {@link Spliterator} of the ISO-8859-1 lines of a range of a file.
+ * <p>
+ * Lines end with {@code '\n'}, {@code '\r'} or {@code "\r\n"}, as for {@link java.io.BufferedReader#readLine()}.
+ * The file is read with positional reads, so a {@code FileChannel} may be shared by the spliterators split
+ * from one another, each of which reads its range through its own buffer.  Splitting halves the range and
+ * moves the split point to just after the next {@code '\n'}, so each range holds whole lines and parallel
+ * streams of the lines scale with the size of the file.
+ * </p>
+ */
+final class LineSpliterator implements Spliterator<String> {
+
+  /**
+   * The default size of the read buffer.
+   */
+  static final int BUFFER_SIZE = 64 * 1024;
+
+  /**
+   * The default smallest range, in bytes, that is split.
+   */
+  static final long MIN_SPLIT_SIZE = 256 * 1024;
+
+  private final FileChannel channel;
+  private final long minSplitSize;
+  private long position;
+  private final long end;
+  private byte[] buffer;
+  private long bufferStart;
+  private int bufferLength;
+
+  /**
+   * Create a new {@code LineSpliterator}.
+   *
+   * @param channel the {@code FileChannel} to read
+   * @param start the offset of the first line, which is the start of the file or follows a {@code '\n'}
+   * @param end the offset after the last line, which is the end of the file or follows a {@code '\n'}
+   */
+  LineSpliterator(FileChannel channel, long start, long end) {
+    this(channel, start, end, BUFFER_SIZE, MIN_SPLIT_SIZE);
+  }
+
+  /**
+   * Create a new {@code LineSpliterator}.
+   *
+   * @param channel the {@code FileChannel} to read
+   * @param start the offset of the first line, which is the start of the file or follows a {@code '\n'}
+   * @param end the offset after the last line, which is the end of the file or follows a {@code '\n'}
+   * @param bufferSize the initial size of the read buffer, which grows to hold the longest line
+   * @param minSplitSize the smallest range, in bytes, that is split
+   */
+  LineSpliterator(FileChannel channel, long start, long end, int bufferSize, long minSplitSize) {
+    this.channel = channel;
+    this.position = start;
+    this.end = end;
+    this.buffer = new byte[bufferSize];
+    this.minSplitSize = minSplitSize;
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super String> action) {
+    if (position >= end) {
+      return false;
+    }
+    int lineStart = fill(position);
+    int pos = lineStart;
+    while (true) {
+      for (; pos < bufferLength; pos++) {
+        byte ch = buffer[pos];
+        if (ch == '\n' || ch == '\r') {
+          String line = new String(buffer, lineStart, pos - lineStart, StandardCharsets.ISO_8859_1);
+          position = bufferStart + pos + 1;
+          if (ch == '\r' && position < end && byteAt(position) == '\n') {
+            position++;
+          }
+          action.accept(line);
+          return true;
+        }
+      }
+      if (bufferStart + bufferLength >= end) {
+        String line = new String(buffer, lineStart, bufferLength - lineStart, StandardCharsets.ISO_8859_1);
+        position = end;
+        action.accept(line);
+        return true;
+      }
+      // the line continues past the buffer, so refill from its start, growing the buffer if it is full
+      int scanned = pos - lineStart;
+      if (lineStart == 0) {
+        byte[] grown = new byte[buffer.length * 2];
+        System.arraycopy(buffer, 0, grown, 0, bufferLength);
+        buffer = grown;
+      }
+      lineStart = read(bufferStart + lineStart);
+      pos = scanned;
+    }
+  }
+
+  @Override
+  public Spliterator<String> trySplit() {
+    long remaining = end - position;
+    if (remaining < minSplitSize) {
+      return null;
+    }
+    long split = indexOfNewLine(position + remaining / 2);
+    if (split < 0 || split + 1 >= end) {
+      return null;
+    }
+    LineSpliterator prefix = new LineSpliterator(channel, position, split + 1, buffer.length, minSplitSize);
+    position = split + 1;
+    return prefix;
+  }
+
+  @Override
+  public long estimateSize() {
+    // the number of bytes, an upper bound of the number of lines
+    return end - position;
+  }
+
+  @Override
+  public int characteristics() {
+    return ORDERED | NONNULL;
+  }
+
+  private long indexOfNewLine(long from) {
+    for (long pos = from; pos < end; pos++) {
+      if (byteAt(pos) == '\n') {
+        return pos;
+      }
+    }
+    return -1;
+  }
+
+  private byte byteAt(long pos) {
+    return buffer[fill(pos)];
+  }
+
+  /**
+   * Makes sure the buffer holds the byte at an offset, reading from the offset if it does not.
+   *
+   * @param pos the offset in the file, before {@code end}
+   * @return the index of the byte in the buffer
+   */
+  private int fill(long pos) {
+    if (pos >= bufferStart && pos < bufferStart + bufferLength) {
+      return (int) (pos - bufferStart);
+    }
+    return read(pos);
+  }
+
+  /**
+   * Reads the buffer from an offset, up to {@code end}.
+   *
+   * @param pos the offset in the file, before {@code end}
+   * @return the index of the byte at the offset in the buffer, which is 0
+   * @throws UncheckedIOException if the file cannot be read or has become shorter than {@code end}
+   */
+  private int read(long pos) {
+    ByteBuffer target = ByteBuffer.wrap(buffer, 0, (int) Math.min(buffer.length, end - pos));
+    try {
+      while (target.hasRemaining()) {
+        if (channel.read(target, pos + target.position()) < 0) {
+          throw new IOException("The file ended before offset " + end);
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    bufferStart = pos;
+    bufferLength = target.position();
+    return 0;
+  }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Parses the ISO-8859-1 lines of a file in parallel, straight from memory mapped bytes.
+ * <p>
+ * The file is cut into segments of at most {@link #SEGMENT_SIZE} bytes that end just after a {@code '\n'},
+ * and each segment is mapped on its own, so files larger than 2 GB are mapped in pieces.  One task per unit
+ * of parallelism takes segments in turn and parses each line of a segment through a
+ * {@link ByteBufferCharSequence}, without a {@code Reader} or decoding the line to a {@code String}.
+ * Lines end with {@code '\n'}, {@code '\r'} or {@code "\r\n"}, as for {@link java.io.BufferedReader#readLine()}.
+ * </p>
+ */
+final class MappedFileParser {
+
+  /**
+   * The largest segment of the file, in bytes, that is mapped at once.
+   */
+  static final long SEGMENT_SIZE = 256L * 1024 * 1024;
+
+  /**
+   * The smallest segment of the file, in bytes, when the file is cut to spread it over the parallelism.
+   */
+  static final long MIN_SEGMENT_SIZE = 64 * 1024;
+
+  private final Executor executor;
+  private final int parallelism;
+  private final long segmentSize;
+
+  /**
+   * Create a new {@code MappedFileParser}.
+   *
+   * @param executor the {@link Executor} to parse on, or {@code null} to create one with
+   *     {@link ParserThreads#newParallelExecutor(int)} for each call
+   * @param parallelism the number of segments parsed at once
+   * @param segmentSize the largest segment of the file, in bytes, that is mapped at once
+   */
+  MappedFileParser(Executor executor, int parallelism, long segmentSize) {
+    this.executor = executor;
+    this.parallelism = parallelism;
+    this.segmentSize = segmentSize;
+  }
+
+  /**
+   * Parses each line of a file and passes the results to the consumers, which are called concurrently from
+   * the parsing threads.
+   * <p>
+   * Without an error consumer, the first line that fails stops parsing and its exception is thrown.  With an
+   * error consumer, lines that fail and exceptions thrown by the message consumer are passed to the error
+   * consumer.
+   * </p>
+   *
+   * @param path the file
+   * @param lineParser parses a line
+   * @param messageConsumer the thread safe {@code Consumer} for messages
+   * @param errorConsumer the thread safe {@code Consumer} for lines and their errors, or {@code null} to throw
+   *     them
+   * @param <T> the type of the parsed lines
+   * @throws IOException if the file cannot be read
+   */
+  <T> void parse(Path path, Function<CharSequence, T> lineParser, Consumer<T> messageConsumer,
+      BiConsumer<String, Throwable> errorConsumer) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      List<long[]> segments = segments(channel);
+      ExecutorService pool = executor == null ? ParserThreads.newParallelExecutor(parallelism) : null;
+      try {
+        parse(channel, segments, pool == null ? executor : pool, lineParser, messageConsumer, errorConsumer);
+      } finally {
+        if (pool != null) {
+          pool.shutdownNow();
+        }
+      }
+    }
+  }
+
+  private <T> void parse(FileChannel channel, List<long[]> segments, Executor segmentExecutor,
+      Function<CharSequence, T> lineParser, Consumer<T> messageConsumer, BiConsumer<String, Throwable> errorConsumer)
+      throws IOException {
+    AtomicInteger next = new AtomicInteger();
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+    CompletableFuture<?>[] tasks = new CompletableFuture<?>[Math.min(parallelism, segments.size())];
+    for (int i = 0; i < tasks.length; i++) {
+      tasks[i] = CompletableFuture.runAsync(() -> {
+        try {
+          for (int segment = next.getAndIncrement(); segment < segments.size() && failure.get() == null;
+              segment = next.getAndIncrement()) {
+            long[] range = segments.get(segment);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, range[0], range[1] - range[0]);
+            parseSegment(buffer, lineParser, messageConsumer, errorConsumer);
+          }
+        } catch (Throwable throwable) {
+          failure.compareAndSet(null, throwable);
+        }
+      }, segmentExecutor);
+    }
+    try {
+      CompletableFuture.allOf(tasks).join();
+    } catch (CompletionException e) {
+      failure.compareAndSet(null, e.getCause());
+    }
+    throwIfFailed(failure.get());
+  }
+
+  /**
+   * Throws the first failure of the parsing tasks, if there is one.
+   *
+   * @param throwable the failure, or {@code null} if there is none
+   * @throws IOException if the failure is an {@code IOException}
+   */
+  static void throwIfFailed(Throwable throwable) throws IOException {
+    if (throwable instanceof IOException) {
+      throw (IOException) throwable;
+    } else if (throwable instanceof RuntimeException) {
+      throw (RuntimeException) throwable;
+    } else if (throwable instanceof Error) {
+      throw (Error) throwable;
+    } else if (throwable != null) {
+      throw new CompletionException(throwable);
+    }
+  }
+
+  /**
+   * Parses each line of a buffer, from index 0 to its limit, and passes the results to the consumers.
+   *
+   * @param buffer the lines
+   * @param lineParser parses a line
+   * @param messageConsumer the {@code Consumer} for messages
+   * @param errorConsumer the {@code Consumer} for lines and their errors, or {@code null} to throw them
+   * @param <T> the type of the parsed lines
+   */
+  static <T> void parseSegment(ByteBuffer buffer, Function<CharSequence, T> lineParser,
+      Consumer<T> messageConsumer, BiConsumer<String, Throwable> errorConsumer) {
+    final int limit = buffer.limit();
+    int lineStart = 0;
+    while (lineStart < limit) {
+      int lineEnd = lineStart;
+      byte ch = 0;
+      while (lineEnd < limit && (ch = buffer.get(lineEnd)) != '\n' && ch != '\r') {
+        lineEnd++;
+      }
+      CharSequence line = new ByteBufferCharSequence(buffer, lineStart, lineEnd - lineStart);
+      lineStart = lineEnd + 1;
+      if (ch == '\r' && lineStart < limit && buffer.get(lineStart) == '\n') {
+        lineStart++;
+      }
+      if (errorConsumer == null) {
+        messageConsumer.accept(lineParser.apply(line));
+        continue;
+      }
+      try {
+        messageConsumer.accept(lineParser.apply(line));
+      } catch (Throwable throwable) {
+        errorConsumer.accept(line.toString(), throwable);
+      }
+    }
+  }
+
+  /**
+   * Cuts the file into segments that end just after a {@code '\n'}, or with the file.  There are at least as
+   * many segments as the parallelism, unless they would be smaller than {@link #MIN_SEGMENT_SIZE}, and each is
+   * at most the segment size, unless it is one line that is longer.
+   *
+   * @param channel the file
+   * @return the start and end offsets of each segment
+   * @throws IOException if the file cannot be read
+   */
+  private List<long[]> segments(FileChannel channel) throws IOException {
+    final long size = channel.size();
+    final long length = Math.min(segmentSize, Math.max(size / parallelism + 1, MIN_SEGMENT_SIZE));
+    List<long[]> segments = new ArrayList<>();
+    ByteBuffer probe = ByteBuffer.allocate(8192);
+    long start = 0;
+    while (start < size) {
+      long end = start + length;
+      if (end >= size) {
+        end = size;
+      } else {
+        end = indexAfterNewLine(channel, probe, end - 1, size);
+      }
+      if (end - start > Integer.MAX_VALUE) {
+        throw new IOException(String.format("The line at offset %d is too long to map", start));
+      }
+      segments.add(new long[] {start, end});
+      start = end;
+    }
+    return segments;
+  }
+
+  private static long indexAfterNewLine(FileChannel channel, ByteBuffer probe, long from, long size)
+      throws IOException {
+    long pos = from;
+    while (pos < size) {
+      probe.clear();
+      int read = channel.read(probe, pos);
+      if (read < 0) {
+        break;
+      }
+      for (int i = 0; i < read; i++) {
+        if (probe.get(i) == '\n') {
+          return pos + i + 1;
+        }
+      }
+      pos += read;
+    }
+    return size;
+  }
+}
@@ -0,0 +1,372 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import java.util.EnumSet;
+import java.util.Map;
+
+import com.github.palindromicity.syslog.dsl.ParseException;
+import com.github.palindromicity.syslog.dsl.SyslogFieldKeys;
+
+/**
+ * A reusable holder for a parsed line, filled by {@link SyslogParser#parseInto(CharSequence, MutableSyslogMessage)}.
+ * <p>
+ * The holder keeps a reference to the line and records the priority and the offsets of each field in
+ * the line.  Nothing is copied out of the line, so parsing into a holder that is reused for every line
+ * does not allocate.  The offsets are only meaningful while the line, or the buffer it was parsed
+ * from, is unchanged, and until the holder is parsed into again.
+ * </p>
+ * <p>
+ * The {@code Map} and {@link SyslogMessage} results of the parser are created from a
+ * {@code MutableSyslogMessage}.  Instances are not thread safe.
+ * </p>
+ */
+public final class MutableSyslogMessage {
+
+  private final Latin1CharSequence bytes = new Latin1CharSequence(null, 0, 0);
+  private TimeStampConverter timeStampConverter = TimeStampConverter.DEFAULT;
+  private CharSequence source;
+  private int priority;
+  private int priorityStart;
+  private int priorityEnd;
+  private int timeStampStart;
+  private int timeStampEnd;
+  private int hostNameStart;
+  private int hostNameEnd;
+  private int messageStart;
+  private int messageEnd;
+  private int bodyStart;
+
+  /**
+   * Create a new, empty {@code MutableSyslogMessage}.
+   */
+  public MutableSyslogMessage() {
+    reset(null);
+  }
+
+  /**
+   * Clears all fields and sets the line that the offsets refer to.
+   *
+   * @param source the line
+   */
+  void reset(CharSequence source) {
+    this.source = source;
+    priority = SyslogMessage.NO_PRIORITY;
+    priorityStart = 0;
+    priorityEnd = 0;
+    timeStampStart = 0;
+    timeStampEnd = 0;
+    hostNameStart = 0;
+    hostNameEnd = 0;
+    messageStart = 0;
+    messageEnd = 0;
+    bodyStart = 0;
+  }
+
+  /**
+   * Clears all fields and sets the ISO-8859-1 bytes that the offsets refer to, without allocating.
+   *
+   * @param buf the buffer holding the line
+   * @param off the offset of the line in the buffer
+   * @param len the length of the line
+   * @return the line as a {@code CharSequence}
+   */
+  CharSequence reset(byte[] buf, int off, int len) {
+    bytes.wrap(buf, off, len);
+    reset(bytes);
+    return bytes;
+  }
+
+  /**
+   * Sets the priority from the digits between {@code start} and {@code end}.
+   *
+   * @param start the offset of the first digit
+   * @param end the offset after the last digit
+   */
+  void setPriority(int start, int end) {
+    int value = 0;
+    for (int i = start; i < end; i++) {
+      value = value * 10 + source.charAt(i) - '0';
+    }
+    priority = value;
+    priorityStart = start;
+    priorityEnd = end;
+  }
+
+  /**
+   * Sets the {@link TimeStampConverter} of the parser, used by {@link #getTimeStamp()}.
+   *
+   * @param timeStampConverter the {@link TimeStampConverter}
+   */
+  void setTimeStampConverter(TimeStampConverter timeStampConverter) {
+    this.timeStampConverter = timeStampConverter;
+  }
+
+  void setTimeStamp(int start, int end) {
+    timeStampStart = start;
+    timeStampEnd = end;
+  }
+
+  void setHostName(int start, int end) {
+    hostNameStart = start;
+    hostNameEnd = end;
+  }
+
+  void setMessage(int start, int end) {
+    messageStart = start;
+    messageEnd = end;
+  }
+
+  void setBodyStart(int start) {
+    bodyStart = start;
+  }
+
+  /**
+   * Returns the line that was parsed, which the offsets refer to.
+   *
+   * @return the line, or {@code null} if nothing has been parsed
+   */
+  public CharSequence getSource() {
+    return source;
+  }
+
+  /**
+   * Returns whether the message has a priority.  Only possible with {@link AllowableDeviations#PRIORITY}.
+   *
+   * @return true if the message has a priority
+   */
+  public boolean hasPriority() {
+    return priority != SyslogMessage.NO_PRIORITY;
+  }
+
+  /**
+   * Returns the priority.
+   *
+   * @return the priority, or {@link SyslogMessage#NO_PRIORITY}
+   */
+  public int getPriority() {
+    return priority;
+  }
+
+  /**
+   * Returns the facility of the priority.
+   *
+   * @return the facility, or {@link SyslogMessage#NO_PRIORITY}
+   */
+  public int getFacility() {
+    return hasPriority() ? priority / 8 : SyslogMessage.NO_PRIORITY;
+  }
+
+  /**
+   * Returns the severity of the priority.
+   *
+   * @return the severity, or {@link SyslogMessage#NO_PRIORITY}
+   */
+  public int getSeverity() {
+    return hasPriority() ? priority % 8 : SyslogMessage.NO_PRIORITY;
+  }
+
+  /**
+   * Returns the offset of the priority digits in the line.
+   *
+   * @return the offset of the first digit
+   */
+  public int getPriorityStart() {
+    return priorityStart;
+  }
+
+  /**
+   * Returns the end of the priority digits in the line.
+   *
+   * @return the offset after the last digit
+   */
+  public int getPriorityEnd() {
+    return priorityEnd;
+  }
+
+  /**
+   * Returns the timestamp in epoch milliseconds, as {@link SyslogMessage#getTimeStamp()}.  RFC 3164
+   * timestamps are read in the zone and with the {@link YearInference} of the parser.
+   *
+   * @return the timestamp, or {@link SyslogMessage#NO_TIMESTAMP}
+   */
+  public long getTimeStamp() {
+    return timeStampConverter.toEpochMillis(source, timeStampStart, timeStampEnd);
+  }
+
+  /**
+   * Returns the offset of the timestamp in the line.
+   *
+   * @return the offset of the first character
+   */
+  public int getTimeStampStart() {
+    return timeStampStart;
+  }
+
+  /**
+   * Returns the end of the timestamp in the line.
+   *
+   * @return the offset after the last character
+   */
+  public int getTimeStampEnd() {
+    return timeStampEnd;
+  }
+
+  /**
+   * Returns the offset of the hostname in the line.
+   *
+   * @return the offset of the first character
+   */
+  public int getHostNameStart() {
+    return hostNameStart;
+  }
+
+  /**
+   * Returns the end of the hostname in the line.  Equal to the start if the hostname is empty.
+   *
+   * @return the offset after the last character
+   */
+  public int getHostNameEnd() {
+    return hostNameEnd;
+  }
+
+  /**
+   * Returns the offset of the trimmed message in the line.
+   *
+   * @return the offset of the first character
+   */
+  public int getMessageStart() {
+    return messageStart;
+  }
+
+  /**
+   * Returns the end of the trimmed message in the line.  Equal to the start if the message is empty.
+   *
+   * @return the offset after the last character
+   */
+  public int getMessageEnd() {
+    return messageEnd;
+  }
+
+  /**
+   * Returns the offset where the body, everything after the SP that follows the hostname, begins.
+   * For lines parsed from bytes this is also the offset of the body in bytes from the start of the line.
+   *
+   * @return the offset of the body
+   */
+  public int getBodyStart() {
+    return bodyStart;
+  }
+
+  /**
+   * Returns the timestamp as it appears in the line.  The result is a view of the line.
+   *
+   * @return the timestamp text
+   */
+  public CharSequence getTimeStampText() {
+    return source.subSequence(timeStampStart, timeStampEnd);
+  }
+
+  /**
+   * Returns the hostname.  The result is a view of the line.
+   *
+   * @return the hostname
+   */
+  public CharSequence getHostName() {
+    return source.subSequence(hostNameStart, hostNameEnd);
+  }
+
+  /**
+   * Returns the message.  The result is a view of the line.
+   *
+   * @return the message
+   */
+  public CharSequence getMessage() {
+    return source.subSequence(messageStart, messageEnd);
+  }
+
+  /**
+   * Creates an immutable {@link SyslogMessage}, copying the fields out of the line.
+   *
+   * @return {@link SyslogMessage}
+   */
+  public SyslogMessage toSyslogMessage() {
+    return toSyslogMessage(EnumSet.allOf(SyslogFieldKeys.class));
+  }
+
+  /**
+   * Creates an immutable {@link SyslogMessage} with only the requested fields.
+   *
+   * @param fields the {@link SyslogFieldKeys} to copy out of the line
+   * @return {@link SyslogMessage}
+   */
+  SyslogMessage toSyslogMessage(EnumSet<SyslogFieldKeys> fields) {
+    boolean withPriority = fields.contains(SyslogFieldKeys.HEADER_PRI)
+        || fields.contains(SyslogFieldKeys.HEADER_PRI_FACILITY)
+        || fields.contains(SyslogFieldKeys.HEADER_PRI_SEVERITY);
+    boolean withTimeStamp = fields.contains(SyslogFieldKeys.HEADER_TIMESTAMP);
+    return new SyslogMessage(withPriority ? priority : SyslogMessage.NO_PRIORITY,
+        withTimeStamp ? getTimeStamp() : SyslogMessage.NO_TIMESTAMP,
+        withTimeStamp ? text(timeStampStart, timeStampEnd) : null,
+        fields.contains(SyslogFieldKeys.HEADER_HOSTNAME) ? text(hostNameStart, hostNameEnd) : null,
+        fields.contains(SyslogFieldKeys.MESSAGE) ? text(messageStart, messageEnd) : null, bodyStart);
+  }
+
+  /**
+   * Creates the {@code Map} result with the fields and keys of a {@link KeySchema}.
+   *
+   * @param schema the {@link KeySchema}
+   * @param epochTimeStamps if true, the timestamp is a {@code Long} of epoch milliseconds
+   * @param lazy if true, the text fields are created when first read, and the {@code Map} keeps the line
+   * @return unmodifiable {@code Map}
+   * @throws ParseException if the timestamp is not a valid date with epoch timestamps
+   */
+  Map<String, Object> toMap(KeySchema schema, boolean epochTimeStamps, boolean lazy) {
+    FieldMap msgMap = new FieldMap(schema, source, lazy);
+    if (hasPriority()) {
+      SyslogPriority pri = SyslogPriority.of(priority);
+      if (priorityEnd - priorityStart == pri.getPriorityText().length()) {
+        msgMap.set(SyslogFieldKeys.HEADER_PRI, pri.getPriorityText());
+      } else {
+        // the priority is kept as written, so leading zeros are kept
+        msgMap.setText(SyslogFieldKeys.HEADER_PRI, source, priorityStart, priorityEnd);
+      }
+      msgMap.set(SyslogFieldKeys.HEADER_PRI_SEVERITY, pri.getSeverityText());
+      msgMap.set(SyslogFieldKeys.HEADER_PRI_FACILITY, pri.getFacilityText());
+    }
+    if (epochTimeStamps && schema.contains(SyslogFieldKeys.HEADER_TIMESTAMP)) {
+      msgMap.set(SyslogFieldKeys.HEADER_TIMESTAMP, epochTimeStamp());
+    } else {
+      msgMap.setText(SyslogFieldKeys.HEADER_TIMESTAMP, source, timeStampStart, timeStampEnd);
+    }
+    msgMap.setText(SyslogFieldKeys.HEADER_HOSTNAME, source, hostNameStart, hostNameEnd);
+    msgMap.setText(SyslogFieldKeys.MESSAGE, source, messageStart, messageEnd);
+    return msgMap;
+  }
+
+  private Long epochTimeStamp() {
+    long timeStamp = getTimeStamp();
+    if (timeStamp == SyslogMessage.NO_TIMESTAMP) {
+      throw new ParseException("Invalid timestamp @ " + timeStampStart, null, false);
+    }
+    return timeStamp;
+  }
+
+  private String text(int start, int end) {
+    return start == end ? "" : source.subSequence(start, end).toString();
+  }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import java.io.BufferedReader;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Parses the lines of a {@code Reader} in parallel.
+ * <p>
+ * The calling thread reads the lines in chunks and submits each chunk to the {@link Executor}, keeping at
+ * most two chunks per unit of parallelism in flight, so memory use does not grow with the number of lines.
+ * The results of each chunk are passed to the consumers on the calling thread, one at a time, either in
+ * the order of the lines or in the order the chunks complete.
+ * </p>
+ */
+final class ParallelLineParser {
+
+  /**
+   * The number of lines parsed by each task.
+   */
+  static final int CHUNK_SIZE = 1024;
+
+  private final Executor executor;
+  private final int parallelism;
+  private final boolean ordered;
+
+  /**
+   * Create a new {@code ParallelLineParser}.
+   *
+   * @param executor the {@link Executor} to parse on, or {@code null} to create one with
+   *     {@link ParserThreads#newParallelExecutor(int)} for each call
+   * @param parallelism the number of chunks parsed at once
+   * @param ordered if true, results are consumed in the order of the lines
+   */
+  ParallelLineParser(Executor executor, int parallelism, boolean ordered) {
+    this.executor = executor;
+    this.parallelism = parallelism;
+    this.ordered = ordered;
+  }
+
+  /**
+   * Parses each line of the {@code Reader} and passes the results to the consumers.
+   * <p>
+   * A line fails when its {@link ParseResult} is a failure, which is passed on as
+   * {@link ParseResult#toException()}, or when the line parser throws.  Without an error consumer, the first
+   * line that fails stops parsing and its exception is thrown, after the results before it have been consumed.
+   * With an error consumer, lines that fail and exceptions thrown by the message consumer are passed to the
+   * error consumer.
+   * </p>
+   *
+   * @param reader the {@code Reader}, which is not closed
+   * @param lineParser parses a line to a {@link ParseResult}
+   * @param messageConsumer the {@code Consumer} for messages
+   * @param errorConsumer the {@code Consumer} for lines and their errors, or {@code null} to throw them
+   * @param <T> the type of the parsed lines
+   */
+  <T> void parse(Reader reader, Function<String, ParseResult<T>> lineParser, Consumer<T> messageConsumer,
+      BiConsumer<String, Throwable> errorConsumer) {
+    ExecutorService pool = executor == null ? ParserThreads.newParallelExecutor(parallelism) : null;
+    try {
+      parse(reader, pool == null ? executor : pool, lineParser, messageConsumer, errorConsumer);
+    } finally {
+      if (pool != null) {
+        pool.shutdownNow();
+      }
+    }
+  }
+
+  private <T> void parse(Reader reader, Executor chunkExecutor, Function<String, ParseResult<T>> lineParser,
+      Consumer<T> messageConsumer, BiConsumer<String, Throwable> errorConsumer) {
+    Iterator<String> lines = new BufferedReader(reader).lines().iterator();
+    Queue<CompletableFuture<Chunk<T>>> submitted = new ArrayDeque<>();
+    BlockingQueue<CompletableFuture<Chunk<T>>> completed = new LinkedBlockingQueue<>();
+    int maxInFlight = parallelism * 2;
+    int inFlight = 0;
+    while (lines.hasNext()) {
+      String[] chunkLines = new String[CHUNK_SIZE];
+      int count = 0;
+      while (count < CHUNK_SIZE && lines.hasNext()) {
+        chunkLines[count++] = lines.next();
+      }
+      final int lineCount = count;
+      CompletableFuture<Chunk<T>> future = CompletableFuture.supplyAsync(
+          () -> new Chunk<>(chunkLines, lineCount, lineParser), chunkExecutor);
+      if (ordered) {
+        submitted.add(future);
+      } else {
+        future.whenComplete((chunk, throwable) -> completed.add(future));
+      }
+      if (++inFlight == maxInFlight) {
+        consume(next(submitted, completed), messageConsumer, errorConsumer);
+        inFlight--;
+      }
+    }
+    for (; inFlight > 0; inFlight--) {
+      consume(next(submitted, completed), messageConsumer, errorConsumer);
+    }
+  }
+
+  private <T> Chunk<T> next(Queue<CompletableFuture<Chunk<T>>> submitted,
+      BlockingQueue<CompletableFuture<Chunk<T>>> completed) {
+    try {
+      return (ordered ? submitted.remove() : completed.take()).join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while parsing lines", e);
+    } catch (CompletionException e) {
+      throw rethrow(e.getCause());
+    }
+  }
+
+  private static <T> void consume(Chunk<T> chunk, Consumer<T> messageConsumer,
+      BiConsumer<String, Throwable> errorConsumer) {
+    for (int i = 0; i < chunk.count; i++) {
+      ParseResult<T> result = chunk.results.get(i);
+      Throwable error = chunk.errors[i];
+      if (error == null && !result.isSuccess()) {
+        error = result.toException();
+      }
+      if (errorConsumer == null) {
+        if (error != null) {
+          throw rethrow(error);
+        }
+        messageConsumer.accept(result.getValue());
+      } else if (error != null) {
+        errorConsumer.accept(chunk.lines[i], error);
+      } else {
+        try {
+          messageConsumer.accept(result.getValue());
+        } catch (Throwable throwable) {
+          errorConsumer.accept(chunk.lines[i], throwable);
+        }
+      }
+    }
+  }
+
+  private static RuntimeException rethrow(Throwable throwable) {
+    if (throwable instanceof Error) {
+      throw (Error) throwable;
+    }
+    if (throwable instanceof RuntimeException) {
+      return (RuntimeException) throwable;
+    }
+    return new CompletionException(throwable);
+  }
+
+  /**
+   * The lines of a chunk and, for each line, its {@link ParseResult} or the exception the line parser threw.
+   */
+  private static final class Chunk<T> {
+
+    private final String[] lines;
+    private final int count;
+    private final List<ParseResult<T>> results;
+    private final Throwable[] errors;
+
+    Chunk(String[] lines, int count, Function<String, ParseResult<T>> lineParser) {
+      this.lines = lines;
+      this.count = count;
+      this.results = new ArrayList<>(count);
+      this.errors = new Throwable[count];
+      for (int i = 0; i < count; i++) {
+        ParseResult<T> result = null;
+        try {
+          result = lineParser.apply(lines[i]);
+        } catch (Throwable throwable) {
+          errors[i] = throwable;
+        }
+        results.add(result);
+      }
+    }
+  }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+/**
+ * Thrown to stop the Antlr lexer or parser at the first error, after the error has been recorded.
+ * <p>
+ * There is a single, preallocated instance without a stack trace or message, so stopping costs no
+ * allocation.  It never leaves the engine.
+ * </p>
+ */
+final class ParseAbortException extends RuntimeException {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * The instance.
+   */
+  static final ParseAbortException INSTANCE = new ParseAbortException();
+
+  private ParseAbortException() {
+    super(null, null, false, false);
+  }
+}
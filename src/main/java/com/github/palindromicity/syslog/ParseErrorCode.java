@@ -0,0 +1,43 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+/**
+ * Why a line could not be parsed, reported by a failed {@link ParseResult}.
+ */
+public enum ParseErrorCode {
+  /**
+   * The line does not match the RFC 3164 grammar.
+   */
+  SYNTAX_ERROR,
+  /**
+   * The line has no PRI and {@link AllowableDeviations#PRIORITY} is not allowed.
+   */
+  PRIORITY_MISSING,
+  /**
+   * The PRI is greater than {@link SyslogPriority#MAX_PRIORITY}.
+   */
+  PRIORITY_OUT_OF_RANGE,
+  /**
+   * The timestamp is not a valid date and {@code Map} timestamps are epoch milliseconds.
+   */
+  INVALID_TIMESTAMP,
+  /**
+   * The line is empty or only whitespace.
+   */
+  BLANK_LINE
+}
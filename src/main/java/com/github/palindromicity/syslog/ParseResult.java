@@ -0,0 +1,159 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import com.github.palindromicity.syslog.dsl.ParseException;
+import com.github.palindromicity.syslog.util.Validate;
+
+/**
+ * The outcome of parsing a line, either the parsed value or why the line could not be parsed.
+ * <p>
+ * A failure is a value, not an exception.  It has a {@link ParseErrorCode}, the offset in the line
+ * where the error was found and a short, constant reason, so lines that fail cost little more than
+ * lines that parse.
+ * </p>
+ *
+ * @param <T> the type of the parsed value
+ */
+public final class ParseResult<T> {
+
+  private final T value;
+  private final ParseErrorCode errorCode;
+  private final int errorOffset;
+  private final String reason;
+
+  private ParseResult(T value, ParseErrorCode errorCode, int errorOffset, String reason) {
+    this.value = value;
+    this.errorCode = errorCode;
+    this.errorOffset = errorOffset;
+    this.reason = reason;
+  }
+
+  /**
+   * Returns a successful {@code ParseResult}.
+   *
+   * @param value the parsed value
+   * @param <T> the type of the parsed value
+   * @return {@code ParseResult}
+   * @throws IllegalArgumentException if value is null
+   */
+  public static <T> ParseResult<T> success(T value) {
+    Validate.notNull(value, "value");
+    return new ParseResult<>(value, null, -1, null);
+  }
+
+  /**
+   * Returns a failed {@code ParseResult}.
+   *
+   * @param errorCode the {@link ParseErrorCode}
+   * @param errorOffset the offset in the line where the error was found
+   * @param reason a short reason
+   * @param <T> the type of the parsed value
+   * @return {@code ParseResult}
+   * @throws IllegalArgumentException if errorCode or reason is null
+   */
+  public static <T> ParseResult<T> failure(ParseErrorCode errorCode, int errorOffset, String reason) {
+    Validate.notNull(errorCode, "errorCode");
+    Validate.notNull(reason, "reason");
+    return new ParseResult<>(null, errorCode, errorOffset, reason);
+  }
+
+  /**
+   * Returns whether the line was parsed.
+   *
+   * @return true if the line was parsed
+   */
+  public boolean isSuccess() {
+    return errorCode == null;
+  }
+
+  /**
+   * Returns the parsed value.
+   *
+   * @return the parsed value, or {@code null} if the line could not be parsed
+   */
+  public T getValue() {
+    return value;
+  }
+
+  /**
+   * Returns the parsed value, or throws the failure as a {@link ParseException}.
+   *
+   * @return the parsed value
+   * @throws ParseException if the line could not be parsed
+   */
+  public T getOrThrow() {
+    if (errorCode != null) {
+      throw toException();
+    }
+    return value;
+  }
+
+  /**
+   * Returns why the line could not be parsed.
+   *
+   * @return the {@link ParseErrorCode}, or {@code null} if the line was parsed
+   */
+  public ParseErrorCode getErrorCode() {
+    return errorCode;
+  }
+
+  /**
+   * Returns the offset in the line where the error was found.
+   *
+   * @return the offset, or -1 if the line was parsed
+   */
+  public int getErrorOffset() {
+    return errorOffset;
+  }
+
+  /**
+   * Returns a short reason the line could not be parsed.
+   *
+   * @return the reason, or {@code null} if the line was parsed
+   */
+  public String getReason() {
+    return reason;
+  }
+
+  /**
+   * Returns the failure as a {@link ParseException} without a stack trace.
+   * <p>
+   * A syntax error has a message in the form of the Antlr errors, {@code Syntax error @ line:column reason},
+   * where the line is always 1 as each line is parsed on its own.  Other errors have a message of
+   * {@code reason @ offset}.
+   * </p>
+   *
+   * @return {@link ParseException}
+   * @throws IllegalStateException if the line was parsed
+   */
+  public ParseException toException() {
+    if (errorCode == null) {
+      throw new IllegalStateException("The line was parsed");
+    }
+    if (errorCode == ParseErrorCode.SYNTAX_ERROR) {
+      return new ParseException("Syntax error @ 1:" + errorOffset + " " + reason, null, false);
+    }
+    return new ParseException(reason + " @ " + errorOffset, null, false);
+  }
+
+  @Override
+  public String toString() {
+    return errorCode == null ? "ParseResult{value=" + value + '}'
+        : "ParseResult{errorCode=" + errorCode + ", errorOffset=" + errorOffset + ", reason='" + reason + "'}";
+  }
+}
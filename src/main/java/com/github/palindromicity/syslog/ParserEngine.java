@@ -0,0 +1,32 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+/**
+ * The engine a {@link SyslogParser} uses to parse each line.
+ */
+public enum ParserEngine {
+  /**
+   * The Antlr generated lexer and parser.
+   */
+  ANTLR,
+  /**
+   * A hand-written, single pass scanner.  Lines the scanner does not accept are
+   * parsed with the {@link #ANTLR} engine, so results and errors are the same.
+   */
+  SCANNER
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the threads that the parallel and per source APIs parse on.
+ * <p>
+ * This is the version for Java 8 to 20, which uses platform threads.  The jar has a version of this class
+ * for Java 21 and later, in {@code META-INF/versions/21}, which uses virtual threads for tasks that block
+ * instead.  Both versions parse in parallel on a pool of the parallelism.
+ * </p>
+ */
+final class ParserThreads {
+
+  private ParserThreads() {
+  }
+
+  /**
+   * Returns whether {@link #newThreadPerTaskExecutor(String)}, which {@code parseSources} reads sources on,
+   * runs tasks on virtual threads.  The other executors of this class always run on platform threads.
+   *
+   * @return false
+   */
+  static boolean sourcesOnVirtualThreads() {
+    return false;
+  }
+
+  /**
+   * Creates an {@code ExecutorService} for parsing that runs tasks in parallel.
+   *
+   * @param parallelism the number of tasks run at once
+   * @return a {@link ForkJoinPool} of the parallelism
+   */
+  static ExecutorService newParallelExecutor(int parallelism) {
+    return new ForkJoinPool(parallelism);
+  }
+
+  /**
+   * Creates an {@code ExecutorService} that runs each task on its own thread, for tasks that block, such as
+   * reading a source.
+   *
+   * @param name the prefix of the thread names
+   * @return an {@code ExecutorService} of platform threads
+   */
+  static ExecutorService newThreadPerTaskExecutor(String name) {
+    return newPlatformThreadPerTaskExecutor(name);
+  }
+
+  /**
+   * Creates an {@code ExecutorService} that runs each task on its own daemon platform thread.  Idle threads
+   * are kept for a short time and reused.
+   *
+   * @param name the prefix of the thread names
+   * @return an {@code ExecutorService} of platform threads
+   */
+  static ExecutorService newPlatformThreadPerTaskExecutor(String name) {
+    AtomicInteger count = new AtomicInteger();
+    return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 10, TimeUnit.SECONDS, new SynchronousQueue<>(),
+        (runnable) -> {
+          Thread thread = new Thread(runnable, name + "-" + count.getAndIncrement());
+          thread.setDaemon(true);
+          return thread;
+        });
+  }
+}
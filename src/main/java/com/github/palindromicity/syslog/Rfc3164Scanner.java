@@ -0,0 +1,238 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+/**
+ * Hand-written, single pass scanner for RFC 3164 syslog.
+ * <p>
+ * The scanner accepts the same language as the {@code Rfc3164} grammar and finds the same fields as
+ * the Antlr parser.  It does not report syntax errors, instead it rejects the line so that the Antlr
+ * parser can produce the error.
+ * </p>
+ */
+class Rfc3164Scanner {
+
+  /**
+   * Returned by the scanning methods when the line is not accepted.
+   */
+  private static final int REJECT = -1;
+
+  /**
+   * Whether scanning stops after the header.
+   */
+  private final boolean headerOnly;
+
+  /**
+   * Create a new {@code Rfc3164Scanner}.
+   *
+   * @param headerOnly if true, stop after the SP that follows the hostname and do not scan the MSG
+   */
+  Rfc3164Scanner(boolean headerOnly) {
+    this.headerOnly = headerOnly;
+  }
+
+  /**
+   * Scan a line of syslog into a {@link MutableSyslogMessage}.
+   *
+   * @param line the line of Syslog to scan
+   * @param target the {@link MutableSyslogMessage} to fill, which has been reset to the line
+   * @return true if the line is accepted, false if it is not and {@code target} is incomplete
+   */
+  boolean scan(CharSequence line, MutableSyslogMessage target) {
+    final int length = line.length();
+    int pos = 0;
+
+    // PRI : '<' 1*3DIGIT '>'
+    if (pos < length && line.charAt(pos) == '<') {
+      final int priStart = ++pos;
+      while (pos < length && pos - priStart < 3 && isDigit(line.charAt(pos))) {
+        pos++;
+      }
+      if (pos == priStart || pos >= length || line.charAt(pos) != '>') {
+        return false;
+      }
+      target.setPriority(priStart, pos++);
+    }
+    if (pos < length && line.charAt(pos) == ' ') {
+      pos++;
+    }
+
+    // TIMESTAMP
+    final int timeStampStart = pos;
+    if (pos < length && isDigit(line.charAt(pos))) {
+      pos = scanTimeStamp(line, pos);
+    } else {
+      pos = scanTimeStamp3164(line, pos);
+    }
+    if (pos == REJECT || pos >= length || line.charAt(pos) != ' ') {
+      return false;
+    }
+    target.setTimeStamp(timeStampStart, pos++);
+
+    // HOSTNAME : *PRINTUSASCII
+    final int hostNameStart = pos;
+    while (pos < length && isPrintUsAscii(line.charAt(pos))) {
+      pos++;
+    }
+    if (pos >= length || line.charAt(pos) != ' ') {
+      return false;
+    }
+    target.setHostName(hostNameStart, pos++);
+    target.setBodyStart(pos);
+    if (headerOnly) {
+      target.setMessage(pos, pos);
+      return true;
+    }
+
+    // MSG : *OCTET, trimmed
+    int msgStart = pos;
+    int msgEnd = pos;
+    for (; pos < length; pos++) {
+      char ch = line.charAt(pos);
+      if (ch > 0xFF) {
+        return false;
+      }
+      if (ch > ' ') {
+        if (msgEnd == msgStart) {
+          msgStart = pos;
+        }
+        msgEnd = pos + 1;
+      }
+    }
+    target.setMessage(msgStart, msgEnd);
+    return true;
+  }
+
+  /**
+   * Scans {@code full-date "T" full-time}.
+   *
+   * @param line the line
+   * @param pos the start of the timestamp
+   * @return the position after the timestamp, or {@link #REJECT}
+   */
+  private static int scanTimeStamp(CharSequence line, int pos) {
+    // full-date : 4DIGIT '-' 2DIGIT '-' 2DIGIT
+    pos = scanDigits(line, pos, 4);
+    pos = scanChar(line, pos, '-');
+    pos = scanDigits(line, pos, 2);
+    pos = scanChar(line, pos, '-');
+    pos = scanDigits(line, pos, 2);
+    pos = scanChar(line, pos, 'T');
+    // full-time : partial-time time-offset
+    pos = scanPartialTime(line, pos);
+    if (pos == REJECT || pos >= line.length()) {
+      return REJECT;
+    }
+    char ch = line.charAt(pos);
+    if (ch == 'Z') {
+      return pos + 1;
+    }
+    if (ch != '+' && ch != '-') {
+      return REJECT;
+    }
+    pos = scanDigits(line, pos + 1, 2);
+    pos = scanChar(line, pos, ':');
+    return scanDigits(line, pos, 2);
+  }
+
+  /**
+   * Scans {@code date-month-short date-day-short SP partial-time}.
+   *
+   * @param line the line
+   * @param pos the start of the timestamp
+   * @return the position after the timestamp, or {@link #REJECT}
+   */
+  private static int scanTimeStamp3164(CharSequence line, int pos) {
+    final int length = line.length();
+    // date-month-short : CAPITAL LOWER LOWER
+    if (pos + 3 > length || !isCapital(line.charAt(pos)) || !isLower(line.charAt(pos + 1))
+        || !isLower(line.charAt(pos + 2))) {
+      return REJECT;
+    }
+    pos += 3;
+    // date-day-short : SP [SP] DIGIT [DIGIT]
+    pos = scanChar(line, pos, ' ');
+    if (pos != REJECT && pos < length && line.charAt(pos) == ' ') {
+      pos++;
+    }
+    pos = scanDigits(line, pos, 1);
+    if (pos != REJECT && pos < length && isDigit(line.charAt(pos))) {
+      pos++;
+    }
+    pos = scanChar(line, pos, ' ');
+    return scanPartialTime(line, pos);
+  }
+
+  /**
+   * Scans {@code 2DIGIT ':' 2DIGIT ':' 2DIGIT ['.' 1*6DIGIT]}.
+   *
+   * @param line the line
+   * @param pos the start of the time, or {@link #REJECT}
+   * @return the position after the time, or {@link #REJECT}
+   */
+  private static int scanPartialTime(CharSequence line, int pos) {
+    pos = scanDigits(line, pos, 2);
+    pos = scanChar(line, pos, ':');
+    pos = scanDigits(line, pos, 2);
+    pos = scanChar(line, pos, ':');
+    pos = scanDigits(line, pos, 2);
+    if (pos == REJECT || pos >= line.length() || line.charAt(pos) != '.') {
+      return pos;
+    }
+    final int fracStart = ++pos;
+    while (pos < line.length() && isDigit(line.charAt(pos))) {
+      pos++;
+    }
+    int fracLength = pos - fracStart;
+    return fracLength < 1 || fracLength > 6 ? REJECT : pos;
+  }
+
+  private static int scanDigits(CharSequence line, int pos, int count) {
+    if (pos == REJECT || pos + count > line.length()) {
+      return REJECT;
+    }
+    for (int i = 0; i < count; i++) {
+      if (!isDigit(line.charAt(pos + i))) {
+        return REJECT;
+      }
+    }
+    return pos + count;
+  }
+
+  private static int scanChar(CharSequence line, int pos, char expected) {
+    if (pos == REJECT || pos >= line.length() || line.charAt(pos) != expected) {
+      return REJECT;
+    }
+    return pos + 1;
+  }
+
+  private static boolean isDigit(char ch) {
+    return ch >= '0' && ch <= '9';
+  }
+
+  private static boolean isCapital(char ch) {
+    return ch >= 'A' && ch <= 'Z';
+  }
+
+  private static boolean isLower(char ch) {
+    return ch >= 'a' && ch <= 'z';
+  }
+
+  private static boolean isPrintUsAscii(char ch) {
+    return ch >= '!' && ch <= '~';
+  }
+}
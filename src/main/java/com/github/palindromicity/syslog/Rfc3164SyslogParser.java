@@ -17,60 +17,272 @@
 package com.github.palindromicity.syslog;
 
 import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import com.github.palindromicity.syslog.dsl.DefaultErrorListener;
-import com.github.palindromicity.syslog.dsl.Syslog3164Listener;
-import com.github.palindromicity.syslog.dsl.generated.Rfc3164Lexer;
-import com.github.palindromicity.syslog.dsl.generated.Rfc3164Parser;
+import com.github.palindromicity.syslog.dsl.ParseException;
+import com.github.palindromicity.syslog.dsl.SyslogFieldKeys;
 import com.github.palindromicity.syslog.util.Validate;
-import org.antlr.v4.runtime.ANTLRInputStream;
-import org.antlr.v4.runtime.CommonTokenStream;
 
 /**
  * {@link SyslogParser} for valid RFC 3164 syslog.
  */
 class Rfc3164SyslogParser implements SyslogParser {
 
+  private static final String PRIORITY_MISSING = "Priority missing with strict parsing";
+  private static final String PRIORITY_OUT_OF_RANGE = "Priority is out of range";
+  private static final String INVALID_TIMESTAMP = "Invalid timestamp";
+
   /**
-   * {@link com.github.palindromicity.syslog.KeyProvider} to provide keys for the
-   * {@link Syslog3164Listener}.
+   * The keys of the {@code Map} results, resolved from the {@link com.github.palindromicity.syslog.KeyProvider}.
    */
-  private KeyProvider keyProvider;
+  private final KeySchema keySchema;
   private EnumSet<AllowableDeviations> deviations;
 
+  /**
+   * The {@link Rfc3164Scanner} used when the {@link ParserEngine#SCANNER} engine is selected,
+   * otherwise {@code null}.
+   */
+  private final Rfc3164Scanner scanner;
+
+  /**
+   * Per thread {@link AntlrLineParser} instances when pooling, otherwise {@code null}.
+   */
+  private final ThreadLocal<AntlrLineParser> pooledParsers;
+
+  /**
+   * Whether the Antlr parser tries SLL prediction before LL prediction.
+   */
+  private final boolean twoStage;
+
+  /**
+   * The {@link SyslogFieldKeys} that are extracted into results.
+   */
+  private final EnumSet<SyslogFieldKeys> fields;
+
+  /**
+   * Whether only the header is parsed.
+   */
+  private final boolean headerOnly;
+
+  /**
+   * Converts timestamps to epoch milliseconds.
+   */
+  private final TimeStampConverter timeStampConverter;
+
+  /**
+   * Whether {@code Map} timestamps are epoch milliseconds.
+   */
+  private final boolean epochTimeStamps;
+
+  /**
+   * Whether the text fields of {@code Map} results are created when first read.
+   */
+  private final boolean lazyMaps;
+
+  /**
+   * Parses the lines of {@code parseLines} in parallel, or {@code null} to parse them on the calling thread.
+   */
+  private final ParallelLineParser parallelLineParser;
+
+  /**
+   * Parses files for {@code parseFile}.
+   */
+  private final FileParser fileParser;
+
+  /**
+   * Parses batches for {@code parseBatches}.
+   */
+  private final BatchParser batchParser;
+
   /**
    * Create a new {@code Rfc3164SyslogParser}.
    *
    * @param keyProvider {@link com.github.palindromicity.syslog.KeyProvider} to provide keys for the
-   * {@link Syslog3164Listener}.
+   * {@code Map} results.
    * @param deviations {@link AllowableDeviations} for parsing
+   * @param engine the {@link ParserEngine} to parse with
+   * @param pooled if true, each thread reuses one Antlr lexer and parser for every line
+   * @param twoStage if true, the Antlr parser tries SLL prediction before LL prediction
+   * @param fields the {@link SyslogFieldKeys} to extract into results
+   * @param headerOnly if true, stop after the SP that follows the hostname and do not extract the MSG
+   * @param timeStampConverter the {@link TimeStampConverter} for epoch timestamps
+   * @param epochTimeStamps if true, {@code Map} timestamps are epoch milliseconds
+   * @param lazyMaps if true, the text fields of {@code Map} results are created when first read
+   * @param parallelLineParser the {@link ParallelLineParser} for {@code parseLines}, or {@code null}
+   * @param fileParser the {@link FileParser} for {@code parseFile}
+   * @param batchParser the {@link BatchParser} for {@code parseBatches}
    */
-  Rfc3164SyslogParser(KeyProvider keyProvider, EnumSet<AllowableDeviations> deviations) {
+  Rfc3164SyslogParser(KeyProvider keyProvider, EnumSet<AllowableDeviations> deviations, ParserEngine engine,
+      boolean pooled, boolean twoStage, EnumSet<SyslogFieldKeys> fields, boolean headerOnly,
+      TimeStampConverter timeStampConverter, boolean epochTimeStamps, boolean lazyMaps,
+      ParallelLineParser parallelLineParser, FileParser fileParser, BatchParser batchParser) {
     Validate.notNull(keyProvider, "keyProvider");
-    this.keyProvider = keyProvider;
+    Validate.notNull(engine, "engine");
+    Validate.notNull(fields, "fields");
+    Validate.notNull(timeStampConverter, "timeStampConverter");
+    Validate.notNull(fileParser, "fileParser");
+    Validate.notNull(batchParser, "batchParser");
+    this.fields = EnumSet.copyOf(fields);
+    if (headerOnly) {
+      this.fields.remove(SyslogFieldKeys.MESSAGE);
+    }
+    this.keySchema = new KeySchema(keyProvider, this.fields);
     this.deviations = deviations;
+    this.scanner = engine == ParserEngine.SCANNER ? new Rfc3164Scanner(headerOnly) : null;
+    this.twoStage = twoStage;
+    this.headerOnly = headerOnly;
+    this.timeStampConverter = timeStampConverter;
+    this.epochTimeStamps = epochTimeStamps;
+    this.lazyMaps = lazyMaps;
+    this.parallelLineParser = parallelLineParser;
+    this.fileParser = fileParser;
+    this.batchParser = batchParser;
+    this.pooledParsers = pooled
+        ? ThreadLocal.withInitial(() -> new AntlrLineParser(twoStage, headerOnly)) : null;
   }
 
   @Override
   public Map<String, Object> parseLine(String syslogLine) {
     Validate.notBlank(syslogLine, "syslogLine");
-    Rfc3164Lexer lexer = new Rfc3164Lexer(new ANTLRInputStream(syslogLine));
-    lexer.removeErrorListeners();
-    lexer.addErrorListener(new DefaultErrorListener());
-    Rfc3164Parser parser = new Rfc3164Parser(new CommonTokenStream(lexer));
-    Syslog3164Listener listener = new Syslog3164Listener(keyProvider, deviations);
-    parser.addParseListener(listener);
-    parser.removeErrorListeners();
-    parser.addErrorListener(new DefaultErrorListener());
-    parser.syslog_msg();
-    return listener.getMsgMap();
+    return toMap(syslogLine).getOrThrow();
+  }
+
+  /**
+   * Parses the bytes as ISO-8859-1 without decoding the line to a {@code String}.  Only the extracted
+   * fields are decoded.
+   */
+  @Override
+  public Map<String, Object> parseLine(byte[] buf, int off, int len) {
+    return toMap(toCharSequence(buf, off, len)).getOrThrow();
+  }
+
+  @Override
+  public SyslogMessage parse(CharSequence syslogLine) {
+    Validate.notBlank(syslogLine, "syslogLine");
+    return toSyslogMessage(syslogLine).getOrThrow();
+  }
+
+  @Override
+  public SyslogMessage parse(byte[] buf, int off, int len) {
+    return toSyslogMessage(toCharSequence(buf, off, len)).getOrThrow();
+  }
+
+  @Override
+  public void parseInto(CharSequence syslogLine, MutableSyslogMessage target) {
+    Validate.notBlank(syslogLine, "syslogLine");
+    Validate.notNull(target, "target");
+    throwIfFailed(parse(syslogLine, target));
+  }
+
+  @Override
+  public void parseInto(byte[] buf, int off, int len, MutableSyslogMessage target) {
+    Validate.notNull(buf, "buf");
+    Validate.validRange(buf.length, off, len, "buf");
+    Validate.notNull(target, "target");
+    CharSequence syslogLine = target.reset(buf, off, len);
+    Validate.notBlank(syslogLine, "syslogLine");
+    throwIfFailed(parse(syslogLine, target));
+  }
+
+  @Override
+  public ParseResult<Map<String, Object>> tryParseLine(String syslogLine) {
+    Validate.notBlank(syslogLine, "syslogLine");
+    return toMap(syslogLine);
+  }
+
+  @Override
+  public ParseResult<Map<String, Object>> tryParseLine(byte[] buf, int off, int len) {
+    return toMap(toCharSequence(buf, off, len));
+  }
+
+  @Override
+  public ParseResult<SyslogMessage> tryParse(CharSequence syslogLine) {
+    Validate.notBlank(syslogLine, "syslogLine");
+    return toSyslogMessage(syslogLine);
+  }
+
+  @Override
+  public ParseResult<SyslogMessage> tryParse(byte[] buf, int off, int len) {
+    return toSyslogMessage(toCharSequence(buf, off, len));
+  }
+
+  private static CharSequence toCharSequence(byte[] buf, int off, int len) {
+    Validate.notNull(buf, "buf");
+    Validate.validRange(buf.length, off, len, "buf");
+    CharSequence syslogLine = new Latin1CharSequence(buf, off, len);
+    Validate.notBlank(syslogLine, "syslogLine");
+    return syslogLine;
+  }
+
+  private static void throwIfFailed(ParseResult<?> failure) {
+    if (failure != null) {
+      throw failure.toException();
+    }
+  }
+
+  private ParseResult<Map<String, Object>> toMap(CharSequence syslogLine) {
+    MutableSyslogMessage target = new MutableSyslogMessage();
+    ParseResult<Map<String, Object>> failure = parse(syslogLine, target);
+    if (failure != null) {
+      return failure;
+    }
+    if (epochTimeStamps && fields.contains(SyslogFieldKeys.HEADER_TIMESTAMP)
+        && target.getTimeStamp() == SyslogMessage.NO_TIMESTAMP) {
+      return ParseResult.failure(ParseErrorCode.INVALID_TIMESTAMP, target.getTimeStampStart(), INVALID_TIMESTAMP);
+    }
+    return ParseResult.success(target.toMap(keySchema, epochTimeStamps, lazyMaps));
+  }
+
+  private ParseResult<SyslogMessage> toSyslogMessage(CharSequence syslogLine) {
+    MutableSyslogMessage target = new MutableSyslogMessage();
+    ParseResult<SyslogMessage> failure = parse(syslogLine, target);
+    return failure != null ? failure : ParseResult.success(target.toSyslogMessage(fields));
+  }
+
+  /**
+   * Parse a line into a {@link MutableSyslogMessage}.
+   *
+   * @param syslogLine the line of Syslog to parse
+   * @param target the {@link MutableSyslogMessage} to fill
+   * @param <T> the type of the value of the failed {@link ParseResult}
+   * @return {@code null} if the line was parsed, otherwise the failed {@link ParseResult}
+   */
+  private <T> ParseResult<T> parse(CharSequence syslogLine, MutableSyslogMessage target) {
+    target.reset(syslogLine);
+    target.setTimeStampConverter(timeStampConverter);
+    if (scanner == null || !scanner.scan(syslogLine, target)) {
+      target.reset(syslogLine);
+      AntlrLineParser antlrParser = pooledParsers != null
+          ? pooledParsers.get() : new AntlrLineParser(twoStage, headerOnly);
+      ParseResult<T> failure = antlrParser.parse(syslogLine, target);
+      if (failure != null) {
+        return failure;
+      }
+    }
+    if (!target.hasPriority()) {
+      if (!deviations.contains(AllowableDeviations.PRIORITY)) {
+        return ParseResult.failure(ParseErrorCode.PRIORITY_MISSING, 0, PRIORITY_MISSING);
+      }
+    } else if (target.getPriority() > SyslogPriority.MAX_PRIORITY) {
+      return ParseResult.failure(ParseErrorCode.PRIORITY_OUT_OF_RANGE, target.getPriorityStart(),
+          PRIORITY_OUT_OF_RANGE);
+    }
+    return null;
   }
 
   @Override
@@ -82,6 +294,11 @@ class Rfc3164SyslogParser implements SyslogParser {
   @Override
   public List<Map<String, Object>> parseLines(Reader reader) {
     Validate.notNull(reader, "reader");
+    if (parallelLineParser != null) {
+      List<Map<String, Object>> messages = new ArrayList<>();
+      parallelLineParser.parse(reader, this::tryParseLine, messages::add, null);
+      return messages;
+    }
     return new BufferedReader(reader).lines()
         .map(this::parseLine)
         .collect(Collectors.toList());
@@ -91,6 +308,10 @@ class Rfc3164SyslogParser implements SyslogParser {
   public void parseLines(Reader reader, Consumer<Map<String, Object>> consumer) {
     Validate.notNull(reader, "reader");
     Validate.notNull(consumer, "consumer");
+    if (parallelLineParser != null) {
+      parallelLineParser.parse(reader, this::tryParseLine, consumer, null);
+      return;
+    }
     new BufferedReader(reader).lines()
         .map(this::parseLine)
         .forEach(consumer);
@@ -100,16 +321,146 @@ class Rfc3164SyslogParser implements SyslogParser {
   public void parseLines(Reader reader, Consumer<Map<String, Object>> messageConsumer,
       BiConsumer<String, Throwable> errorConsumer) {
     Validate.notNull(reader, "reader");
-    Validate.notNull(reader, "messageConsumer");
-    Validate.notNull(reader, "errorConsumer");
-
-    List<String> lines = new BufferedReader(reader).lines().collect(Collectors.toList());
-    lines.forEach((line) -> {
-      try {
-        messageConsumer.accept(parseLine(line));
-      } catch (Throwable throwable) {
-        errorConsumer.accept(line, throwable);
+    Validate.notNull(messageConsumer, "messageConsumer");
+    Validate.notNull(errorConsumer, "errorConsumer");
+    if (parallelLineParser != null) {
+      parallelLineParser.parse(reader, this::tryParseLine, messageConsumer, errorConsumer);
+      return;
+    }
+    parseEachLine(reader, messageConsumer, errorConsumer);
+  }
+
+  private void parseEachLine(Reader reader, Consumer<Map<String, Object>> messageConsumer,
+      BiConsumer<String, Throwable> errorConsumer) {
+    new BufferedReader(reader).lines().forEach((line) -> consumeLine(line, messageConsumer, errorConsumer));
+  }
+
+  private void consumeLine(String line, Consumer<Map<String, Object>> messageConsumer,
+      BiConsumer<String, Throwable> errorConsumer) {
+    try {
+      ParseResult<Map<String, Object>> result = tryParseLine(line);
+      if (result.isSuccess()) {
+        messageConsumer.accept(result.getValue());
+      } else {
+        errorConsumer.accept(line, result.toException());
+      }
+    } catch (Throwable throwable) {
+      errorConsumer.accept(line, throwable);
+    }
+  }
+
+  @Override
+  public void parseBatches(Reader reader, Consumer<List<Map<String, Object>>> batchConsumer) {
+    Validate.notNull(reader, "reader");
+    Validate.notNull(batchConsumer, "batchConsumer");
+    batchParser.parse(reader, this::tryParseLine, batchConsumer, null);
+  }
+
+  @Override
+  public void parseBatches(Reader reader, Consumer<List<Map<String, Object>>> batchConsumer,
+      BiConsumer<String, Throwable> errorConsumer) {
+    Validate.notNull(reader, "reader");
+    Validate.notNull(batchConsumer, "batchConsumer");
+    Validate.notNull(errorConsumer, "errorConsumer");
+    batchParser.parse(reader, this::tryParseLine, batchConsumer, errorConsumer);
+  }
+
+  @Override
+  public void parseSources(Collection<? extends Reader> readers, Consumer<Map<String, Object>> messageConsumer,
+      BiConsumer<String, Throwable> errorConsumer) {
+    parseSources(readers, messageConsumer, errorConsumer, ParserThreads.newThreadPerTaskExecutor("syslog-source"));
+  }
+
+  /**
+   * Reads and parses each source on a task of the {@code ExecutorService}, which is shut down when every
+   * source has ended.
+   *
+   * @param readers the sources
+   * @param messageConsumer the thread safe {@code Consumer} for messages
+   * @param errorConsumer the thread safe {@code Consumer} for syslog lines and their errors
+   * @param sourceExecutor the {@code ExecutorService} that runs each task on its own thread
+   */
+  void parseSources(Collection<? extends Reader> readers, Consumer<Map<String, Object>> messageConsumer,
+      BiConsumer<String, Throwable> errorConsumer, ExecutorService sourceExecutor) {
+    try {
+      Validate.notNull(readers, "readers");
+      Validate.notNull(messageConsumer, "messageConsumer");
+      Validate.notNull(errorConsumer, "errorConsumer");
+      for (Reader reader : readers) {
+        Validate.notNull(reader, "reader");
+      }
+      CompletableFuture<?>[] sources = new CompletableFuture<?>[readers.size()];
+      int index = 0;
+      for (Reader reader : readers) {
+        Runnable source = () -> {
+          try {
+            new BufferedReader(reader).lines().forEach((line) -> consumeLine(line, messageConsumer, errorConsumer));
+          } catch (UncheckedIOException e) {
+            errorConsumer.accept(null, e.getCause());
+          }
+        };
+        sources[index++] = CompletableFuture.runAsync(source, sourceExecutor);
+      }
+      CompletableFuture.allOf(sources).join();
+    } catch (CompletionException e) {
+      // thrown by the errorConsumer
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+    } finally {
+      sourceExecutor.shutdown();
+    }
+  }
+
+  @Override
+  public void parseFile(Path path, Consumer<Map<String, Object>> consumer) throws IOException {
+    Validate.notNull(path, "path");
+    Validate.notNull(consumer, "consumer");
+    parseFileLines(path, consumer, null);
+  }
+
+  @Override
+  public void parseFile(Path path, Consumer<Map<String, Object>> messageConsumer,
+      BiConsumer<String, Throwable> errorConsumer) throws IOException {
+    Validate.notNull(path, "path");
+    Validate.notNull(messageConsumer, "messageConsumer");
+    Validate.notNull(errorConsumer, "errorConsumer");
+    parseFileLines(path, messageConsumer, errorConsumer);
+  }
+
+  private void parseFileLines(Path path, Consumer<Map<String, Object>> messageConsumer,
+      BiConsumer<String, Throwable> errorConsumer) throws IOException {
+    // lazy maps need lines of their own, as inflated lines are in buffers that are reused, and mapped lines
+    // would keep the segment of the file they are in mapped
+    Function<CharSequence, Map<String, Object>> lineParser = lazyMaps
+        ? (line) -> parseMappedLine(line.toString()) : this::parseMappedLine;
+    fileParser.parse(path, lineParser, messageConsumer, errorConsumer);
+  }
+
+  @Override
+  public SyslogBatch parseBatch(List<? extends CharSequence> lines) {
+    Validate.notNull(lines, "lines");
+    SyslogBatch batch = new SyslogBatch(lines.size());
+    MutableSyslogMessage target = new MutableSyslogMessage();
+    for (CharSequence line : lines) {
+      Validate.notNull(line, "line");
+      if (Validate.isBlank(line)) {
+        batch.addFailure(ParseErrorCode.BLANK_LINE);
+        continue;
       }
-    });
+      ParseResult<Void> failure = parse(line, target);
+      if (failure != null) {
+        batch.addFailure(failure.getErrorCode());
+      } else {
+        batch.add(target, fields);
+      }
+    }
+    return batch;
+  }
+
+  private Map<String, Object> parseMappedLine(CharSequence syslogLine) {
+    Validate.notBlank(syslogLine, "syslogLine");
+    return toMap(syslogLine).getOrThrow();
   }
 }
@@ -0,0 +1,364 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+
+import com.github.palindromicity.syslog.dsl.SyslogFieldKeys;
+
+/**
+ * A batch of parsed lines in columns, returned by {@link SyslogParser#parseBatch(java.util.List)}.
+ * <p>
+ * Each column is an array with one entry per row, in the order of the lines, so the batch can be loaded
+ * into a columnar store without creating a {@code Map} or {@link SyslogMessage} per row.
+ * </p>
+ * <ul>
+ *   <li>The priority, facility and severity are {@code int}s, or {@link SyslogMessage#NO_PRIORITY}.</li>
+ *   <li>The timestamp is in epoch milliseconds, or {@link SyslogMessage#NO_TIMESTAMP}.</li>
+ *   <li>The hostname is dictionary encoded.  Each row has a code into the dictionary of distinct hostnames,
+ *   or -1.</li>
+ *   <li>The messages share one {@code char[]}, and each row has the offset and length of its message.</li>
+ * </ul>
+ * <p>
+ * A row that could not be parsed has a {@link ParseErrorCode}, and no values.  The arrays returned by the
+ * getters are the columns themselves and are not copied, so they must not be modified.
+ * </p>
+ */
+public final class SyslogBatch {
+
+  private final int[] priorities;
+  private final int[] facilities;
+  private final int[] severities;
+  private final long[] timeStamps;
+  private final int[] hostNameCodes;
+  private final int[] messageOffsets;
+  private final int[] messageLengths;
+  private final ParseErrorCode[] errorCodes;
+  private final HostNameDictionary hostNames = new HostNameDictionary();
+  private char[] messageChars = new char[1024];
+  private int messageCharsLength;
+  private int size;
+  private int errorCount;
+
+  /**
+   * Create a new, empty {@code SyslogBatch}.
+   *
+   * @param capacity the number of rows
+   */
+  SyslogBatch(int capacity) {
+    priorities = new int[capacity];
+    facilities = new int[capacity];
+    severities = new int[capacity];
+    timeStamps = new long[capacity];
+    hostNameCodes = new int[capacity];
+    messageOffsets = new int[capacity];
+    messageLengths = new int[capacity];
+    errorCodes = new ParseErrorCode[capacity];
+  }
+
+  /**
+   * Adds a row for a parsed line, with only the requested fields.
+   *
+   * @param message the parsed line
+   * @param fields the {@link SyslogFieldKeys} to copy out of the line
+   */
+  void add(MutableSyslogMessage message, EnumSet<SyslogFieldKeys> fields) {
+    final int row = size++;
+    boolean withPriority = fields.contains(SyslogFieldKeys.HEADER_PRI)
+        || fields.contains(SyslogFieldKeys.HEADER_PRI_FACILITY)
+        || fields.contains(SyslogFieldKeys.HEADER_PRI_SEVERITY);
+    priorities[row] = withPriority ? message.getPriority() : SyslogMessage.NO_PRIORITY;
+    facilities[row] = withPriority ? message.getFacility() : SyslogMessage.NO_PRIORITY;
+    severities[row] = withPriority ? message.getSeverity() : SyslogMessage.NO_PRIORITY;
+    timeStamps[row] = fields.contains(SyslogFieldKeys.HEADER_TIMESTAMP)
+        ? message.getTimeStamp() : SyslogMessage.NO_TIMESTAMP;
+    hostNameCodes[row] = fields.contains(SyslogFieldKeys.HEADER_HOSTNAME)
+        ? hostNames.code(message.getSource(), message.getHostNameStart(), message.getHostNameEnd()) : -1;
+    messageOffsets[row] = messageCharsLength;
+    if (fields.contains(SyslogFieldKeys.MESSAGE)) {
+      appendMessage(message.getSource(), message.getMessageStart(), message.getMessageEnd());
+    }
+    messageLengths[row] = messageCharsLength - messageOffsets[row];
+  }
+
+  /**
+   * Adds a row for a line that could not be parsed.
+   *
+   * @param errorCode the {@link ParseErrorCode}
+   */
+  void addFailure(ParseErrorCode errorCode) {
+    final int row = size++;
+    priorities[row] = SyslogMessage.NO_PRIORITY;
+    facilities[row] = SyslogMessage.NO_PRIORITY;
+    severities[row] = SyslogMessage.NO_PRIORITY;
+    timeStamps[row] = SyslogMessage.NO_TIMESTAMP;
+    hostNameCodes[row] = -1;
+    messageOffsets[row] = messageCharsLength;
+    messageLengths[row] = 0;
+    errorCodes[row] = errorCode;
+    errorCount++;
+  }
+
+  private void appendMessage(CharSequence source, int start, int end) {
+    int length = end - start;
+    if (messageCharsLength + length > messageChars.length) {
+      messageChars = Arrays.copyOf(messageChars, Math.max(messageChars.length * 2, messageCharsLength + length));
+    }
+    for (int i = start; i < end; i++) {
+      messageChars[messageCharsLength++] = source.charAt(i);
+    }
+  }
+
+  /**
+   * Returns the number of rows.
+   *
+   * @return the number of rows
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns the number of rows that could not be parsed.
+   *
+   * @return the number of rows with a {@link ParseErrorCode}
+   */
+  public int getErrorCount() {
+    return errorCount;
+  }
+
+  /**
+   * Returns whether a row could not be parsed.
+   *
+   * @param row the row
+   * @return true if the row has a {@link ParseErrorCode}
+   */
+  public boolean isError(int row) {
+    return errorCodes[checkRow(row)] != null;
+  }
+
+  /**
+   * Returns why a row could not be parsed.
+   *
+   * @param row the row
+   * @return the {@link ParseErrorCode}, or {@code null} if the row was parsed
+   */
+  public ParseErrorCode getErrorCode(int row) {
+    return errorCodes[checkRow(row)];
+  }
+
+  /**
+   * Returns the priority column.
+   *
+   * @return the priorities
+   */
+  public int[] getPriorities() {
+    return priorities;
+  }
+
+  /**
+   * Returns the facility column.
+   *
+   * @return the facilities
+   */
+  public int[] getFacilities() {
+    return facilities;
+  }
+
+  /**
+   * Returns the severity column.
+   *
+   * @return the severities
+   */
+  public int[] getSeverities() {
+    return severities;
+  }
+
+  /**
+   * Returns the timestamp column, in epoch milliseconds.
+   *
+   * @return the timestamps
+   */
+  public long[] getTimeStamps() {
+    return timeStamps;
+  }
+
+  /**
+   * Returns the hostname column, as codes into {@link #getHostNameDictionary()}.
+   *
+   * @return the hostname codes, -1 for a row without a hostname
+   */
+  public int[] getHostNameCodes() {
+    return hostNameCodes;
+  }
+
+  /**
+   * Returns the distinct hostnames, in the order they first appear.
+   *
+   * @return the hostname dictionary
+   */
+  public String[] getHostNameDictionary() {
+    return hostNames.values();
+  }
+
+  /**
+   * Returns the hostname of a row.
+   *
+   * @param row the row
+   * @return the hostname, or {@code null} if the row has no hostname
+   */
+  public String getHostName(int row) {
+    int code = hostNameCodes[checkRow(row)];
+    return code < 0 ? null : hostNames.value(code);
+  }
+
+  /**
+   * Returns the characters of every message.  Only the first {@link #getMessageCharsLength()} are used.
+   *
+   * @return the message characters
+   */
+  public char[] getMessageChars() {
+    return messageChars;
+  }
+
+  /**
+   * Returns the number of characters of every message.
+   *
+   * @return the number of used message characters
+   */
+  public int getMessageCharsLength() {
+    return messageCharsLength;
+  }
+
+  /**
+   * Returns the message offset column, into {@link #getMessageChars()}.
+   *
+   * @return the message offsets
+   */
+  public int[] getMessageOffsets() {
+    return messageOffsets;
+  }
+
+  /**
+   * Returns the message length column.
+   *
+   * @return the message lengths
+   */
+  public int[] getMessageLengths() {
+    return messageLengths;
+  }
+
+  /**
+   * Returns the message of a row.
+   *
+   * @param row the row
+   * @return the message
+   */
+  public String getMessage(int row) {
+    checkRow(row);
+    return new String(messageChars, messageOffsets[row], messageLengths[row]);
+  }
+
+  private int checkRow(int row) {
+    if (row < 0 || row >= size) {
+      throw new IndexOutOfBoundsException(String.valueOf(row));
+    }
+    return row;
+  }
+
+  /**
+   * Distinct hostnames, looked up by the characters of a line so that a hostname already in the dictionary
+   * is not copied out of the line again.
+   */
+  private static final class HostNameDictionary {
+
+    private String[] values = new String[16];
+    private int[] hashes = new int[16];
+    private int size;
+    // open addressing table of code + 1, 0 for an empty slot
+    private int[] table = new int[32];
+
+    int code(CharSequence source, int start, int end) {
+      int hash = 0;
+      for (int i = start; i < end; i++) {
+        hash = 31 * hash + source.charAt(i);
+      }
+      int mask = table.length - 1;
+      for (int slot = mix(hash) & mask; ; slot = (slot + 1) & mask) {
+        int entry = table[slot];
+        if (entry == 0) {
+          int code = insert(source.subSequence(start, end).toString(), hash);
+          table[slot] = code + 1;
+          if (size * 2 > table.length) {
+            rehash();
+          }
+          return code;
+        }
+        if (hashes[entry - 1] == hash && contentEquals(values[entry - 1], source, start, end)) {
+          return entry - 1;
+        }
+      }
+    }
+
+    String value(int code) {
+      return values[code];
+    }
+
+    String[] values() {
+      return Arrays.copyOf(values, size);
+    }
+
+    private int insert(String value, int hash) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+        hashes = Arrays.copyOf(hashes, size * 2);
+      }
+      values[size] = value;
+      hashes[size] = hash;
+      return size++;
+    }
+
+    private void rehash() {
+      table = new int[table.length * 2];
+      int mask = table.length - 1;
+      for (int code = 0; code < size; code++) {
+        int slot = mix(hashes[code]) & mask;
+        while (table[slot] != 0) {
+          slot = (slot + 1) & mask;
+        }
+        table[slot] = code + 1;
+      }
+    }
+
+    private static int mix(int hash) {
+      return hash ^ (hash >>> 16);
+    }
+
+    private static boolean contentEquals(String value, CharSequence source, int start, int end) {
+      if (value.length() != end - start) {
+        return false;
+      }
+      for (int i = 0; i < value.length(); i++) {
+        if (value.charAt(i) != source.charAt(start + i)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import java.util.Objects;
+
+/**
+ * An immutable, typed RFC 3164 syslog message.
+ * <p>
+ * {@code SyslogMessage} is the typed alternative to the {@code Map} returned by
+ * {@link SyslogParser#parseLine(String)}.  The priority, facility and severity are {@code int}s and
+ * the timestamp is in epoch milliseconds, so no values are boxed or hashed.
+ * </p>
+ */
+public final class SyslogMessage {
+
+  /**
+   * Returned by {@link #getPriority()}, {@link #getFacility()} and {@link #getSeverity()} when
+   * the message has no priority.
+   */
+  public static final int NO_PRIORITY = -1;
+
+  /**
+   * Returned by {@link #getTimeStamp()} when the timestamp is not a valid date.
+   */
+  public static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+  private final int priority;
+  private final long timeStamp;
+  private final String timeStampText;
+  private final String hostName;
+  private final String message;
+  private final int bodyStart;
+
+  /**
+   * Create a new {@code SyslogMessage}.
+   *
+   * @param priority the priority, or {@link #NO_PRIORITY}
+   * @param timeStamp the timestamp in epoch milliseconds, or {@link #NO_TIMESTAMP}
+   * @param timeStampText the timestamp as it appears in the line
+   * @param hostName the hostname
+   * @param message the message
+   * @param bodyStart the offset of the body in the line
+   */
+  SyslogMessage(int priority, long timeStamp, String timeStampText, String hostName, String message,
+      int bodyStart) {
+    this.priority = priority;
+    this.timeStamp = timeStamp;
+    this.timeStampText = timeStampText;
+    this.hostName = hostName;
+    this.message = message;
+    this.bodyStart = bodyStart;
+  }
+
+  /**
+   * Returns whether the message has a priority.  Only possible with {@link AllowableDeviations#PRIORITY}.
+   *
+   * @return true if the message has a priority
+   */
+  public boolean hasPriority() {
+    return priority != NO_PRIORITY;
+  }
+
+  /**
+   * Returns the priority.
+   *
+   * @return the priority, or {@link #NO_PRIORITY}
+   */
+  public int getPriority() {
+    return priority;
+  }
+
+  /**
+   * Returns the facility of the priority.
+   *
+   * @return the facility, or {@link #NO_PRIORITY}
+   */
+  public int getFacility() {
+    return hasPriority() ? priority / 8 : NO_PRIORITY;
+  }
+
+  /**
+   * Returns the severity of the priority.
+   *
+   * @return the severity, or {@link #NO_PRIORITY}
+   */
+  public int getSeverity() {
+    return hasPriority() ? priority % 8 : NO_PRIORITY;
+  }
+
+  /**
+   * Returns the timestamp in epoch milliseconds.
+   * RFC 3164 timestamps, which have no year or zone, are read in the zone and with the
+   * {@link YearInference} of the parser, by default UTC in the current year.
+   *
+   * @return the timestamp, or {@link #NO_TIMESTAMP} if the timestamp is not a valid date
+   */
+  public long getTimeStamp() {
+    return timeStamp;
+  }
+
+  /**
+   * Returns the timestamp as it appears in the line.
+   *
+   * @return the timestamp text
+   */
+  public String getTimeStampText() {
+    return timeStampText;
+  }
+
+  /**
+   * Returns the hostname, which may be empty.
+   *
+   * @return the hostname
+   */
+  public String getHostName() {
+    return hostName;
+  }
+
+  /**
+   * Returns the message, with leading and trailing whitespace removed.
+   *
+   * @return the message
+   */
+  public CharSequence getMessage() {
+    return message;
+  }
+
+  /**
+   * Returns the offset in the line where the body, everything after the SP that follows the hostname,
+   * begins.  For lines parsed from bytes this is the offset in bytes from the start of the line.
+   *
+   * @return the offset of the body
+   */
+  public int getBodyStart() {
+    return bodyStart;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof SyslogMessage)) {
+      return false;
+    }
+    SyslogMessage that = (SyslogMessage) other;
+    return priority == that.priority
+        && timeStamp == that.timeStamp
+        && bodyStart == that.bodyStart
+        && Objects.equals(timeStampText, that.timeStampText)
+        && Objects.equals(hostName, that.hostName)
+        && Objects.equals(message, that.message);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(priority, timeStamp, timeStampText, hostName, message, bodyStart);
+  }
+
+  @Override
+  public String toString() {
+    return "SyslogMessage{priority=" + priority + ", timeStamp=" + timeStampText + ", hostName=" + hostName
+        + ", message=" + message + "}";
+  }
+}
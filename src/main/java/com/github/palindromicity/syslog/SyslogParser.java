@@ -16,11 +16,31 @@
 
 package com.github.palindromicity.syslog;
 
+import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.github.palindromicity.syslog.dsl.ParseException;
+import com.github.palindromicity.syslog.dsl.SyslogFieldKeys;
+import com.github.palindromicity.syslog.util.Validate;
 
 /**
  * {@code SyslogParser} defines an interface for classes that parse Syslog into {@code Map}.
@@ -36,6 +56,196 @@ public interface SyslogParser {
    */
   Map<String, Object> parseLine(String line);
 
+  /**
+   * Parse a line of ISO-8859-1 encoded bytes to a {@code Map}.
+   * <p>
+   * This default implementation decodes the bytes to a {@code String}.  Implementations may parse the
+   * bytes directly.
+   * </p>
+   *
+   * @param buf the buffer holding the line of Syslog to parse
+   * @param off the offset of the line in the buffer
+   * @param len the length of the line
+   * @return a {@code Map}
+   * @throws com.github.palindromicity.syslog.dsl.ParseException if there is an error parsing
+   * @throws IllegalArgumentException if buf is null or off and len are out of bounds
+   */
+  default Map<String, Object> parseLine(byte[] buf, int off, int len) {
+    Validate.notNull(buf, "buf");
+    Validate.validRange(buf.length, off, len, "buf");
+    return parseLine(new String(buf, off, len, StandardCharsets.ISO_8859_1));
+  }
+
+  /**
+   * Parse the remaining ISO-8859-1 encoded bytes of a {@code ByteBuffer} to a {@code Map}.
+   * The position of the buffer is not changed.
+   *
+   * @param buffer the buffer holding the line of Syslog to parse
+   * @return a {@code Map}
+   * @throws com.github.palindromicity.syslog.dsl.ParseException if there is an error parsing
+   * @throws IllegalArgumentException if buffer is null
+   */
+  default Map<String, Object> parseLine(ByteBuffer buffer) {
+    Validate.notNull(buffer, "buffer");
+    if (buffer.hasArray()) {
+      return parseLine(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+    }
+    byte[] bytes = new byte[buffer.remaining()];
+    buffer.duplicate().get(bytes);
+    return parseLine(bytes, 0, bytes.length);
+  }
+
+  /**
+   * Parse a line to a typed {@link SyslogMessage}.
+   * <p>
+   * This method has no default, so implementations written before it was added must implement it.
+   * </p>
+   *
+   * @param line the line of Syslog to parse
+   * @return a {@link SyslogMessage}
+   * @throws com.github.palindromicity.syslog.dsl.ParseException if there is an error parsing
+   */
+  SyslogMessage parse(CharSequence line);
+
+  /**
+   * Parse a line of ISO-8859-1 encoded bytes to a typed {@link SyslogMessage}.
+   * <p>
+   * This default implementation decodes the bytes to a {@code String} for {@link #parse(CharSequence)}.
+   * </p>
+   *
+   * @param buf the buffer holding the line of Syslog to parse
+   * @param off the offset of the line in the buffer
+   * @param len the length of the line
+   * @return a {@link SyslogMessage}
+   * @throws com.github.palindromicity.syslog.dsl.ParseException if there is an error parsing
+   * @throws IllegalArgumentException if buf is null or off and len are out of bounds
+   */
+  default SyslogMessage parse(byte[] buf, int off, int len) {
+    Validate.notNull(buf, "buf");
+    Validate.validRange(buf.length, off, len, "buf");
+    return parse(new String(buf, off, len, StandardCharsets.ISO_8859_1));
+  }
+
+  /**
+   * Parse a line into a caller supplied, reusable {@link MutableSyslogMessage}.
+   * <p>
+   * Only the priority and the offsets of the fields are recorded, so reusing one
+   * {@code MutableSyslogMessage} for every line parses without allocating for lines the
+   * {@link ParserEngine#SCANNER} engine accepts.
+   * </p>
+   * <p>
+   * This method has no default, so implementations written before it was added must implement it.
+   * </p>
+   *
+   * @param line the line of Syslog to parse
+   * @param target the {@link MutableSyslogMessage} to fill
+   * @throws com.github.palindromicity.syslog.dsl.ParseException if there is an error parsing
+   * @throws IllegalArgumentException if line is blank or target is null
+   */
+  void parseInto(CharSequence line, MutableSyslogMessage target);
+
+  /**
+   * Parse a line of ISO-8859-1 encoded bytes into a caller supplied, reusable {@link MutableSyslogMessage}.
+   * The bytes are not copied, so they must not change while the {@code MutableSyslogMessage} is in use.
+   * <p>
+   * This default implementation decodes the bytes to a {@code String} for
+   * {@link #parseInto(CharSequence, MutableSyslogMessage)}.
+   * </p>
+   *
+   * @param buf the buffer holding the line of Syslog to parse
+   * @param off the offset of the line in the buffer
+   * @param len the length of the line
+   * @param target the {@link MutableSyslogMessage} to fill
+   * @throws com.github.palindromicity.syslog.dsl.ParseException if there is an error parsing
+   * @throws IllegalArgumentException if buf is null, off and len are out of bounds, the line is blank or
+   *     target is null
+   */
+  default void parseInto(byte[] buf, int off, int len, MutableSyslogMessage target) {
+    Validate.notNull(buf, "buf");
+    Validate.validRange(buf.length, off, len, "buf");
+    parseInto(new String(buf, off, len, StandardCharsets.ISO_8859_1), target);
+  }
+
+  /**
+   * Parse a line to a {@code Map}, reporting a line that cannot be parsed as a failed {@link ParseResult}
+   * instead of throwing a {@code ParseException}.
+   * <p>
+   * This default implementation catches the {@code ParseException} of {@link #parseLine(String)}, and reports
+   * it as a {@link ParseErrorCode#SYNTAX_ERROR} at offset 0.
+   * </p>
+   *
+   * @param line the line of Syslog to parse
+   * @return a {@link ParseResult} of the {@code Map}
+   * @throws IllegalArgumentException if line is blank
+   */
+  default ParseResult<Map<String, Object>> tryParseLine(String line) {
+    Validate.notBlank(line, "line");
+    try {
+      return ParseResult.success(parseLine(line));
+    } catch (ParseException e) {
+      return ParseResult.failure(ParseErrorCode.SYNTAX_ERROR, 0, String.valueOf(e.getMessage()));
+    }
+  }
+
+  /**
+   * Parse a line of ISO-8859-1 encoded bytes to a {@code Map}, reporting a line that cannot be parsed as a
+   * failed {@link ParseResult} instead of throwing a {@code ParseException}.
+   * <p>
+   * This default implementation decodes the bytes to a {@code String} for {@link #tryParseLine(String)}.
+   * </p>
+   *
+   * @param buf the buffer holding the line of Syslog to parse
+   * @param off the offset of the line in the buffer
+   * @param len the length of the line
+   * @return a {@link ParseResult} of the {@code Map}
+   * @throws IllegalArgumentException if buf is null, off and len are out of bounds or the line is blank
+   */
+  default ParseResult<Map<String, Object>> tryParseLine(byte[] buf, int off, int len) {
+    Validate.notNull(buf, "buf");
+    Validate.validRange(buf.length, off, len, "buf");
+    return tryParseLine(new String(buf, off, len, StandardCharsets.ISO_8859_1));
+  }
+
+  /**
+   * Parse a line to a typed {@link SyslogMessage}, reporting a line that cannot be parsed as a failed
+   * {@link ParseResult} instead of throwing a {@code ParseException}.
+   * <p>
+   * This default implementation catches the {@code ParseException} of {@link #parse(CharSequence)}, and
+   * reports it as a {@link ParseErrorCode#SYNTAX_ERROR} at offset 0.
+   * </p>
+   *
+   * @param line the line of Syslog to parse
+   * @return a {@link ParseResult} of the {@link SyslogMessage}
+   * @throws IllegalArgumentException if line is blank
+   */
+  default ParseResult<SyslogMessage> tryParse(CharSequence line) {
+    Validate.notBlank(line, "line");
+    try {
+      return ParseResult.success(parse(line));
+    } catch (ParseException e) {
+      return ParseResult.failure(ParseErrorCode.SYNTAX_ERROR, 0, String.valueOf(e.getMessage()));
+    }
+  }
+
+  /**
+   * Parse a line of ISO-8859-1 encoded bytes to a typed {@link SyslogMessage}, reporting a line that cannot
+   * be parsed as a failed {@link ParseResult} instead of throwing a {@code ParseException}.
+   * <p>
+   * This default implementation decodes the bytes to a {@code String} for {@link #tryParse(CharSequence)}.
+   * </p>
+   *
+   * @param buf the buffer holding the line of Syslog to parse
+   * @param off the offset of the line in the buffer
+   * @param len the length of the line
+   * @return a {@link ParseResult} of the {@link SyslogMessage}
+   * @throws IllegalArgumentException if buf is null, off and len are out of bounds or the line is blank
+   */
+  default ParseResult<SyslogMessage> tryParse(byte[] buf, int off, int len) {
+    Validate.notNull(buf, "buf");
+    Validate.validRange(buf.length, off, len, "buf");
+    return tryParse(new String(buf, off, len, StandardCharsets.ISO_8859_1));
+  }
+
   /**
    * Parse a {@code String} to a {@code Map} and provides that {@code Map} to the provided {@code Consumer}.
    *
@@ -69,7 +279,8 @@ public interface SyslogParser {
   /**
    * Reads each line from the {@code Reader} and parses it to {@code Map}, which is passed to the
    * provided {@code Consumer}. For any line where a {@code ParseException} would be thrown, it will
-   * will be passed to the errorConsumer.
+   * will be passed to the errorConsumer.  Each line is parsed and consumed as it is read, so memory
+   * use does not grow with the number of lines and results arrive while the reader is still open.
    *
    * @param reader {@code Reader} used.  It is not closed in this method.
    * @param messageConsumer the {@code Consumer} for messages
@@ -78,4 +289,238 @@ public interface SyslogParser {
    */
   void parseLines(Reader reader, Consumer<Map<String, Object>> messageConsumer,
       BiConsumer<String, Throwable> errorConsumer);
+
+  /**
+   * Reads each line from the {@code Reader} and parses it to {@code Map}, which are passed to the provided
+   * {@code Consumer} in batches, as {@link #parseLines(Reader, Consumer)}.
+   * <p>
+   * A batch is passed on when it reaches the largest size, characters or delay of the
+   * {@link SyslogParserBuilder}, and the last batch when the reader ends.  The {@code List} of a batch is
+   * cleared and reused for the next batch once the consumer returns, so the consumer must copy it to keep
+   * it.  With a delay, a batch may be passed on from a timer thread, though never at the same time as
+   * another batch.  Exceptions thrown by the consumer are thrown by this method.
+   * </p>
+   * <p>
+   * This method has no default, as the limits of a batch are set on the {@link SyslogParserBuilder}, so
+   * implementations written before it was added must implement it.
+   * </p>
+   *
+   * @param reader {@code Reader} used.  It is not closed in this method.
+   * @param batchConsumer the {@code Consumer} for batches
+   * @throws com.github.palindromicity.syslog.dsl.ParseException if there is an error parsing any line, after
+   *     the lines before it have been passed on
+   * @throws IllegalArgumentException if reader or batchConsumer are null
+   */
+  void parseBatches(Reader reader, Consumer<List<Map<String, Object>>> batchConsumer);
+
+  /**
+   * Reads each line from the {@code Reader} and parses it to {@code Map}, which are passed to the provided
+   * {@code Consumer} in batches, as {@link #parseBatches(Reader, Consumer)}.  For any line where a
+   * {@code ParseException} would be thrown, it will be passed to the errorConsumer.  Exceptions thrown by
+   * the batchConsumer are thrown by this method, not passed to the errorConsumer.
+   *
+   * @param reader {@code Reader} used.  It is not closed in this method.
+   * @param batchConsumer the {@code Consumer} for batches
+   * @param errorConsumer the {@code Consumer} for syslog lines and their errors.
+   * @throws IllegalArgumentException if reader, batchConsumer, or errorConsumer are null
+   */
+  void parseBatches(Reader reader, Consumer<List<Map<String, Object>>> batchConsumer,
+      BiConsumer<String, Throwable> errorConsumer);
+
+  /**
+   * Reads the lines of many sources at once, such as the connections of a server, and parses each line to
+   * {@code Map}, as {@link #parseLines(Reader, Consumer, BiConsumer)}.  Returns when every source has ended.
+   * <p>
+   * Each source is read on its own thread, so a source that is waiting for lines does not hold up the
+   * others.  On Java 21 and later the threads are virtual threads, so a large number of mostly idle sources
+   * costs little.  On earlier versions they are platform threads.  The consumers are called concurrently from
+   * the reading threads, so they must be thread safe.  A source that fails to read is passed to the
+   * errorConsumer with a {@code null} line, and the other sources are still read.
+   * </p>
+   * <p>
+   * This default implementation reads each source with {@link #parseLines(Reader, Consumer, BiConsumer)} on a
+   * platform thread of its own.
+   * </p>
+   *
+   * @param readers the sources.  They are not closed in this method.
+   * @param messageConsumer the thread safe {@code Consumer} for messages
+   * @param errorConsumer the thread safe {@code Consumer} for syslog lines and their errors
+   * @throws IllegalArgumentException if readers, any reader, messageConsumer, or errorConsumer are null
+   */
+  default void parseSources(Collection<? extends Reader> readers, Consumer<Map<String, Object>> messageConsumer,
+      BiConsumer<String, Throwable> errorConsumer) {
+    Validate.notNull(readers, "readers");
+    Validate.notNull(messageConsumer, "messageConsumer");
+    Validate.notNull(errorConsumer, "errorConsumer");
+    ExecutorService sourceExecutor = ParserThreads.newPlatformThreadPerTaskExecutor("syslog-source");
+    try {
+      CompletableFuture<?>[] sources = new CompletableFuture<?>[readers.size()];
+      int index = 0;
+      for (Reader reader : readers) {
+        Validate.notNull(reader, "reader");
+        Runnable source = () -> {
+          try {
+            parseLines(reader, messageConsumer, errorConsumer);
+          } catch (UncheckedIOException e) {
+            errorConsumer.accept(null, e.getCause());
+          }
+        };
+        sources[index++] = CompletableFuture.runAsync(source, sourceExecutor);
+      }
+      CompletableFuture.allOf(sources).join();
+    } catch (CompletionException e) {
+      // thrown by the errorConsumer
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+    } finally {
+      sourceExecutor.shutdown();
+    }
+  }
+
+  /**
+   * Parses each ISO-8859-1 encoded line of a file to a {@code Map} in parallel, which is passed to the
+   * provided {@code Consumer}.
+   * <p>
+   * The file is memory mapped and cut into ranges of whole lines, which are parsed straight from the mapped
+   * bytes on the {@code Executor} and with the parallelism of the parser, or on every available processor.
+   * The {@code Consumer} is called concurrently from the parsing threads, in no particular order, so it must
+   * be thread safe.  The first line with an error parsing stops parsing, and its
+   * {@link com.github.palindromicity.syslog.dsl.ParseException} is thrown.
+   * </p>
+   * <p>
+   * A gzip compressed file is inflated as it is parsed.  A file of one member is inflated on the calling thread
+   * into buffers that are parsed in parallel, and the members of a file of many are inflated in parallel.  An
+   * {@code IOException} is thrown if the file is not valid gzip.
+   * </p>
+   * <p>
+   * This default implementation reads the file with {@link #parseLines(Reader, Consumer)} on the calling
+   * thread, and does not read gzip.
+   * </p>
+   *
+   * @param path the file
+   * @param consumer the thread safe {@code Consumer}
+   * @throws IOException if the file cannot be read
+   * @throws IllegalArgumentException if path or consumer are null, or a line is blank
+   */
+  default void parseFile(Path path, Consumer<Map<String, Object>> consumer) throws IOException {
+    Validate.notNull(path, "path");
+    Validate.notNull(consumer, "consumer");
+    try (Reader reader = Files.newBufferedReader(path, StandardCharsets.ISO_8859_1)) {
+      parseLines(reader, consumer);
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  /**
+   * Parses each ISO-8859-1 encoded line of a file to a {@code Map} in parallel, as
+   * {@link #parseFile(Path, Consumer)}.  For any line where an exception would be thrown, it will be passed
+   * to the errorConsumer, which is also called concurrently from the parsing threads.  This default
+   * implementation reads the file with {@link #parseLines(Reader, Consumer, BiConsumer)} on the calling thread.
+   *
+   * @param path the file
+   * @param messageConsumer the thread safe {@code Consumer} for messages
+   * @param errorConsumer the thread safe {@code Consumer} for syslog lines and their errors
+   * @throws IOException if the file cannot be read
+   * @throws IllegalArgumentException if path, messageConsumer, or errorConsumer are null
+   */
+  default void parseFile(Path path, Consumer<Map<String, Object>> messageConsumer,
+      BiConsumer<String, Throwable> errorConsumer) throws IOException {
+    Validate.notNull(path, "path");
+    Validate.notNull(messageConsumer, "messageConsumer");
+    Validate.notNull(errorConsumer, "errorConsumer");
+    try (Reader reader = Files.newBufferedReader(path, StandardCharsets.ISO_8859_1)) {
+      parseLines(reader, messageConsumer, errorConsumer);
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  /**
+   * Parses lines into a columnar {@link SyslogBatch}, with one row for each line in the order of the list.
+   * <p>
+   * No {@code Map} or {@link SyslogMessage} is created for a line.  A line that cannot be parsed does not
+   * stop the batch, instead its row has a {@link ParseErrorCode}.  As with {@link #parse(CharSequence)}, a
+   * timestamp that is not a valid date is {@link SyslogMessage#NO_TIMESTAMP}.
+   * </p>
+   * <p>
+   * This default implementation parses each line with {@link #parseInto(CharSequence, MutableSyslogMessage)}
+   * and copies every field into the batch.  A line with a {@code ParseException} is a
+   * {@link ParseErrorCode#SYNTAX_ERROR}.
+   * </p>
+   *
+   * @param lines the lines of Syslog to parse
+   * @return {@link SyslogBatch}
+   * @throws IllegalArgumentException if lines or any line is null
+   */
+  default SyslogBatch parseBatch(List<? extends CharSequence> lines) {
+    Validate.notNull(lines, "lines");
+    SyslogBatch batch = new SyslogBatch(lines.size());
+    MutableSyslogMessage target = new MutableSyslogMessage();
+    EnumSet<SyslogFieldKeys> fields = EnumSet.allOf(SyslogFieldKeys.class);
+    for (CharSequence line : lines) {
+      Validate.notNull(line, "line");
+      if (Validate.isBlank(line)) {
+        batch.addFailure(ParseErrorCode.BLANK_LINE);
+        continue;
+      }
+      try {
+        parseInto(line, target);
+        batch.add(target, fields);
+      } catch (ParseException e) {
+        batch.addFailure(ParseErrorCode.SYNTAX_ERROR);
+      }
+    }
+    return batch;
+  }
+
+  /**
+   * Returns a lazy {@code Stream} of the lines of the {@code Reader} parsed to {@code Map}.  Each line is
+   * read and parsed as the {@code Stream} is consumed.
+   *
+   * @param reader {@code Reader} used.  It is not closed in this method, nor when the {@code Stream} is closed.
+   * @return {@code Stream} of {@code Map}, which throws a
+   *     {@link com.github.palindromicity.syslog.dsl.ParseException} for a line with an error parsing
+   * @throws IllegalArgumentException if reader is null
+   */
+  default Stream<Map<String, Object>> stream(Reader reader) {
+    Validate.notNull(reader, "reader");
+    return new BufferedReader(reader).lines().map(this::parseLine);
+  }
+
+  /**
+   * Returns a lazy {@code Stream} of the ISO-8859-1 encoded lines of a file parsed to {@code Map}.  Each line
+   * is read and parsed as the {@code Stream} is consumed.
+   * <p>
+   * The {@code Stream} splits the file on line boundaries, so a {@link Stream#parallel()} stream parses
+   * ranges of the file in parallel.  It holds the file open and should be closed, as with
+   * {@link java.nio.file.Files#lines(Path)}.
+   * </p>
+   *
+   * @param path the file
+   * @return {@code Stream} of {@code Map}, which throws a
+   *     {@link com.github.palindromicity.syslog.dsl.ParseException} for a line with an error parsing
+   * @throws IOException if the file cannot be opened
+   * @throws IllegalArgumentException if path is null
+   */
+  default Stream<Map<String, Object>> stream(Path path) throws IOException {
+    Validate.notNull(path, "path");
+    FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+    try {
+      return StreamSupport.stream(new LineSpliterator(channel, 0, channel.size()), false)
+          .onClose(() -> {
+            try {
+              channel.close();
+            } catch (IOException e) {
+              throw new UncheckedIOException(e);
+            }
+          })
+          .map(this::parseLine);
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
 }
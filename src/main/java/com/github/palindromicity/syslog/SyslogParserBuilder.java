@@ -16,7 +16,15 @@
 
 package com.github.palindromicity.syslog;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.EnumSet;
+import java.util.concurrent.Executor;
+
+import com.github.palindromicity.syslog.dsl.SyslogFieldKeys;
+import com.github.palindromicity.syslog.util.Validate;
 
 /**
  * Builder for SyslogParser instances.
@@ -35,6 +43,95 @@ public class SyslogParserBuilder {
    */
   private EnumSet<AllowableDeviations> deviations = EnumSet.of(AllowableDeviations.NONE);
 
+  /**
+   * The {@link ParserEngine}.
+   * Defaults to {@link ParserEngine#ANTLR}
+   */
+  private ParserEngine engine = ParserEngine.ANTLR;
+
+  /**
+   * Whether Antlr lexers and parsers are pooled per thread.
+   * Defaults to {@code false}
+   */
+  private boolean pooled = false;
+
+  /**
+   * Whether the Antlr parser tries SLL prediction before LL prediction.
+   * Defaults to {@code true}
+   */
+  private boolean twoStage = true;
+
+  /**
+   * The {@link SyslogFieldKeys} to extract.
+   * Defaults to all fields
+   */
+  private EnumSet<SyslogFieldKeys> fields = EnumSet.allOf(SyslogFieldKeys.class);
+
+  /**
+   * Whether only the header is parsed.
+   * Defaults to {@code false}
+   */
+  private boolean headerOnly = false;
+
+  /**
+   * The zone of RFC 3164 timestamps.
+   * Defaults to {@link ZoneOffset#UTC}
+   */
+  private ZoneId timeStampZone = ZoneOffset.UTC;
+
+  /**
+   * The {@link YearInference} of RFC 3164 timestamps.
+   * Defaults to {@link YearInference#CURRENT_YEAR}
+   */
+  private YearInference yearInference = YearInference.CURRENT_YEAR;
+
+  /**
+   * Whether {@code Map} timestamps are epoch milliseconds.
+   * Defaults to {@code false}
+   */
+  private boolean epochTimeStamps = false;
+
+  /**
+   * Whether the text fields of {@code Map} results are created when first read.
+   * Defaults to {@code false}
+   */
+  private boolean lazyMaps = false;
+
+  /**
+   * The number of chunks {@code parseLines} and {@code parseFile} parse at once.
+   * Defaults to {@code null}, for the calling thread for {@code parseLines} without an {@link Executor}, and
+   * otherwise the number of available processors
+   */
+  private Integer parallelism;
+
+  /**
+   * The {@link Executor} {@code parseLines} parses on.
+   * Defaults to {@code null}
+   */
+  private Executor executor;
+
+  /**
+   * Whether parallel {@code parseLines} results are consumed in the order of the lines.
+   * Defaults to {@code true}
+   */
+  private boolean orderedResults = true;
+
+  /**
+   * The largest number of lines in a batch of {@code parseBatches}.
+   */
+  private int maxBatchSize = 1000;
+
+  /**
+   * The largest number of characters of the lines in a batch of {@code parseBatches}.
+   */
+  private long maxBatchChars = 1L << 20;
+
+  /**
+   * The longest time from the first line of a batch of {@code parseBatches} until it is passed on, zero for
+   * no limit.
+   */
+  private Duration maxBatchDelay = Duration.ZERO;
+
   /**
    * Add a {@link KeyProvider} to the builder.
    *
@@ -57,6 +154,236 @@ public class SyslogParserBuilder {
     return this;
   }
 
+  /**
+   * Add a {@link ParserEngine} to the builder.
+   *
+   * @param engine the engine
+   * @return {@code SyslogParserBuilder}
+   */
+  public SyslogParserBuilder withEngine(final ParserEngine engine) {
+    this.engine = engine;
+    return this;
+  }
+
+  /**
+   * Pool the Antlr lexer and parser.
+   * <p>
+   * When pooled, each thread that uses the {@link SyslogParser} keeps one lexer and parser, which
+   * are reset for every line instead of being created for every line.
+   * </p>
+   *
+   * @param pooled true to pool
+   * @return {@code SyslogParserBuilder}
+   */
+  public SyslogParserBuilder withPooledParsers(final boolean pooled) {
+    this.pooled = pooled;
+    return this;
+  }
+
+  /**
+   * Use two stage Antlr parsing.
+   * <p>
+   * With two stage parsing, each line is parsed first with the faster SLL prediction, bailing out on the
+   * first error.  Only lines that fail are parsed again with full LL prediction, which reports the error.
+   * </p>
+   *
+   * @param twoStage true to use two stage parsing
+   * @return {@code SyslogParserBuilder}
+   */
+  public SyslogParserBuilder withTwoStageParsing(final boolean twoStage) {
+    this.twoStage = twoStage;
+    return this;
+  }
+
+  /**
+   * Only extract the given fields.
+   * <p>
+   * Fields that are not requested are left out of {@code Map} results and are {@code null}, or
+   * {@link SyslogMessage#NO_PRIORITY} and {@link SyslogMessage#NO_TIMESTAMP}, in {@link SyslogMessage}
+   * results.  The priority of a {@code SyslogMessage} is kept if any of the priority, facility or
+   * severity is requested.  Lines are validated the same whatever the fields.
+   * </p>
+   *
+   * @param fields the fields to extract
+   * @return {@code SyslogParserBuilder}
+   */
+  public SyslogParserBuilder withFields(final EnumSet<SyslogFieldKeys> fields) {
+    this.fields = fields;
+    return this;
+  }
+
+  /**
+   * Parse only the header.
+   * <p>
+   * When header only, parsing stops after the SP that follows the hostname.  The MSG is neither lexed
+   * nor validated, and is not extracted.  The offset where the body begins is available from
+   * {@link SyslogMessage#getBodyStart()} and {@link MutableSyslogMessage#getBodyStart()}, so the raw
+   * body may be forwarded.
+   * </p>
+   *
+   * @param headerOnly true to parse only the header
+   * @return {@code SyslogParserBuilder}
+   */
+  public SyslogParserBuilder withHeaderOnly(final boolean headerOnly) {
+    this.headerOnly = headerOnly;
+    return this;
+  }
+
+  /**
+   * Set the zone of RFC 3164 timestamps, which have no offset, for conversion to epoch milliseconds.
+   *
+   * @param zone the zone
+   * @return {@code SyslogParserBuilder}
+   */
+  public SyslogParserBuilder withTimeStampZone(final ZoneId zone) {
+    this.timeStampZone = zone;
+    return this;
+  }
+
+  /**
+   * Set the {@link YearInference} of RFC 3164 timestamps, which have no year, for conversion to
+   * epoch milliseconds.
+   *
+   * @param yearInference the {@link YearInference}
+   * @return {@code SyslogParserBuilder}
+   */
+  public SyslogParserBuilder withYearInference(final YearInference yearInference) {
+    this.yearInference = yearInference;
+    return this;
+  }
+
+  /**
+   * Put timestamps into {@code Map} results as a {@code Long} of epoch milliseconds, instead of the
+   * timestamp text.  A timestamp that is not a valid date is then a
+   * {@link com.github.palindromicity.syslog.dsl.ParseException}.
+   *
+   * @param epochTimeStamps true for epoch milliseconds
+   * @return {@code SyslogParserBuilder}
+   */
+  public SyslogParserBuilder withEpochTimeStamps(final boolean epochTimeStamps) {
+    this.epochTimeStamps = epochTimeStamps;
+    return this;
+  }
+
+  /**
+   * Create the text fields of {@code Map} results when they are first read.
+   * <p>
+   * When lazy, parsing only records where the timestamp, hostname and MSG are in the line, and the
+   * {@code Map} creates the {@code String} of a field the first time it is read, so lines that are dropped
+   * after looking at a few fields do not pay for the rest.  The {@code Map} keeps the line.  Results of
+   * {@link SyslogParser#parseLine(byte[], int, int)} and {@link SyslogParser#parseLine(java.nio.ByteBuffer)}
+   * read the bytes when a field is first read, so the bytes must not change while the {@code Map} is used.
+   * </p>
+   *
+   * @param lazyMaps true to create text fields when first read
+   * @return {@code SyslogParserBuilder}
+   */
+  public SyslogParserBuilder withLazyMaps(final boolean lazyMaps) {
+    this.lazyMaps = lazyMaps;
+    return this;
+  }
+
+  /**
+   * Parse the lines of {@code parseLines} in parallel.
+   * <p>
+   * The lines are read on the calling thread and parsed in chunks, with up to two chunks per unit of
+   * parallelism in flight, on the {@link Executor} given to {@link #withExecutor(Executor)}.  Without an
+   * {@code Executor}, a {@link java.util.concurrent.ForkJoinPool} of the parallelism is created for each
+   * call.  The consumers are still called on the calling thread, one result at a time.
+   * </p>
+   * <p>
+   * The parallelism also applies to {@code parseFile}, which otherwise parses on every available processor.
+   * A parallelism of 1 parses {@code parseLines} and {@code parseFile} on the calling thread, even with an
+   * {@code Executor}.
+   * </p>
+   *
+   * @param parallelism the number of chunks parsed at once, 1 to parse on the calling thread
+   * @return {@code SyslogParserBuilder}
+   * @throws IllegalArgumentException if parallelism is less than 1
+   */
+  public SyslogParserBuilder withParallelism(final int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException(String.format("parallelism %d must be at least 1", parallelism));
+    }
+    this.parallelism = parallelism;
+    return this;
+  }
+
+  /**
+   * Parse the lines of {@code parseLines} in parallel on an {@link Executor}.  The {@code Executor} is not
+   * shut down by the parser.  Unless {@link #withParallelism(int)} is given, the parallelism is the number
+   * of available processors.
+   *
+   * @param executor the {@code Executor}
+   * @return {@code SyslogParserBuilder}
+   */
+  public SyslogParserBuilder withExecutor(final Executor executor) {
+    this.executor = executor;
+    return this;
+  }
+
+  /**
+   * Consume the results of parallel {@code parseLines} in the order of the lines.  When false, the results
+   * of each chunk of lines are consumed as soon as the chunk is parsed, for the most throughput.
+   *
+   * @param orderedResults true to consume results in the order of the lines
+   * @return {@code SyslogParserBuilder}
+   */
+  public SyslogParserBuilder withOrderedResults(final boolean orderedResults) {
+    this.orderedResults = orderedResults;
+    return this;
+  }
+
+  /**
+   * Pass a batch of {@code parseBatches} on once it has this many lines.  The default is 1000.
+   *
+   * @param maxBatchSize the largest number of lines in a batch
+   * @return {@code SyslogParserBuilder}
+   * @throws IllegalArgumentException if maxBatchSize is less than 1
+   */
+  public SyslogParserBuilder withMaxBatchSize(final int maxBatchSize) {
+    if (maxBatchSize < 1) {
+      throw new IllegalArgumentException(String.format("maxBatchSize %d must be at least 1", maxBatchSize));
+    }
+    this.maxBatchSize = maxBatchSize;
+    return this;
+  }
+
+  /**
+   * Pass a batch of {@code parseBatches} on once its lines add up to this many characters.  A line is counted
+   * by its {@code String} length, without its line terminator, which is not its encoded size in bytes for
+   * characters outside ASCII.  The default is 1048576.
+   *
+   * @param maxBatchChars the largest number of characters of the lines in a batch
+   * @return {@code SyslogParserBuilder}
+   * @throws IllegalArgumentException if maxBatchChars is less than 1
+   */
+  public SyslogParserBuilder withMaxBatchChars(final long maxBatchChars) {
+    if (maxBatchChars < 1) {
+      throw new IllegalArgumentException(String.format("maxBatchChars %d must be at least 1", maxBatchChars));
+    }
+    this.maxBatchChars = maxBatchChars;
+    return this;
+  }
+
+  /**
+   * Pass a batch of {@code parseBatches} on once this long has passed since its first line, even if the
+   * {@code Reader} is waiting for more lines.  The batch is then passed on from a timer thread.  The default
+   * is zero, for no limit.
+   *
+   * @param maxBatchDelay the longest time from the first line of a batch until it is passed on
+   * @return {@code SyslogParserBuilder}
+   * @throws IllegalArgumentException if maxBatchDelay is null or negative
+   */
+  public SyslogParserBuilder withMaxBatchDelay(final Duration maxBatchDelay) {
+    Validate.notNull(maxBatchDelay, "maxBatchDelay");
+    if (maxBatchDelay.isNegative()) {
+      throw new IllegalArgumentException(String.format("maxBatchDelay %s must not be negative", maxBatchDelay));
+    }
+    this.maxBatchDelay = maxBatchDelay;
+    return this;
+  }
+
   /**
    * Builds a new {@link SyslogParser} instance using options if provided.
    *
@@ -64,6 +391,21 @@ public class SyslogParserBuilder {
    * @throws IllegalStateException if deviations is unknown
    */
   public SyslogParser build() {
-    return new Rfc3164SyslogParser(keyProvider, deviations);
+    // an explicit parallelism of 1 parses on the calling thread, even with an executor
+    boolean callingThread = parallelism != null && parallelism == 1;
+    int effectiveParallelism = parallelism != null ? parallelism : Runtime.getRuntime().availableProcessors();
+    ParallelLineParser parallelLineParser = null;
+    if (!callingThread && (executor != null || parallelism != null)) {
+      parallelLineParser = new ParallelLineParser(executor, effectiveParallelism, orderedResults);
+    }
+    Executor fileExecutor = callingThread ? Runnable::run : executor;
+    FileParser fileParser = new FileParser(
+        new MappedFileParser(fileExecutor, effectiveParallelism, MappedFileParser.SEGMENT_SIZE),
+        new GzipFileParser(fileExecutor, effectiveParallelism, GzipFileParser.BUFFER_SIZE));
+    BatchParser batchParser = new BatchParser(
+        new LineBatcher.Limits(maxBatchSize, maxBatchChars, maxBatchDelay.toNanos()), parallelLineParser);
+    return new Rfc3164SyslogParser(keyProvider, deviations, engine, pooled, twoStage, fields, headerOnly,
+        new TimeStampConverter(timeStampZone, yearInference, Clock.systemUTC()), epochTimeStamps, lazyMaps,
+        parallelLineParser, fileParser, batchParser);
   }
 }
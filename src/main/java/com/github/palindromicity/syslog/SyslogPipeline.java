@@ -0,0 +1,405 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import com.github.palindromicity.syslog.util.Validate;
+
+/**
+ * A reader, parser and consumer pipeline around a {@link SyslogParser}, built with a
+ * {@link SyslogPipelineBuilder}.
+ * <p>
+ * The stages share a ring buffer of slots that is allocated once, and hand slots to each other through
+ * sequence counters rather than a queue, so no stage takes a lock or allocates to pass a line on.
+ * </p>
+ * <ul>
+ *   <li>The reader stage, on the calling thread, reads lines into free slots and publishes them in batches.
+ *   A batch is published early when no more input is ready, so a quiet source does not hold lines back.</li>
+ *   <li>Each parse worker claims a batch of published slots and parses their lines.</li>
+ *   <li>The sink stage passes the results to the consumers on one thread, either in the order of the lines
+ *   or as soon as each line is parsed, and frees the slots for the reader.</li>
+ * </ul>
+ * <p>
+ * Stages that have nothing to do wait with the {@link WaitStrategy}.  A pipeline runs one {@code Reader}
+ * at a time.
+ * </p>
+ */
+public final class SyslogPipeline {
+
+  private final SyslogParser parser;
+  private final int workers;
+  private final int batchSize;
+  private final boolean ordered;
+  private final WaitStrategy waitStrategy;
+  private final Slot[] slots;
+  private final int mask;
+
+  /**
+   * Create a new {@code SyslogPipeline}.
+   *
+   * @param parser the {@link SyslogParser}
+   * @param bufferSize the number of slots, a power of two
+   * @param workers the number of parse workers
+   * @param batchSize the largest number of slots published or claimed at once
+   * @param ordered if true, results are consumed in the order of the lines
+   * @param waitStrategy the {@link WaitStrategy}
+   */
+  SyslogPipeline(SyslogParser parser, int bufferSize, int workers, int batchSize, boolean ordered,
+      WaitStrategy waitStrategy) {
+    this.parser = parser;
+    this.workers = workers;
+    this.batchSize = batchSize;
+    this.ordered = ordered;
+    this.waitStrategy = waitStrategy;
+    this.slots = new Slot[bufferSize];
+    for (int i = 0; i < bufferSize; i++) {
+      slots[i] = new Slot();
+    }
+    this.mask = bufferSize - 1;
+  }
+
+  /**
+   * Reads each line from the {@code Reader}, parses it to {@code Map} and passes it to the {@code Consumer},
+   * on the sink thread.  Returns when every line has been consumed.  The first line with an error parsing
+   * stops the pipeline, and its {@link com.github.palindromicity.syslog.dsl.ParseException} is thrown.
+   *
+   * @param reader {@code Reader} used.  It is not closed in this method.
+   * @param consumer the {@code Consumer}
+   * @throws IOException if the {@code Reader} fails
+   * @throws IllegalArgumentException if reader or consumer are null
+   */
+  public void run(Reader reader, Consumer<Map<String, Object>> consumer) throws IOException {
+    Validate.notNull(reader, "reader");
+    Validate.notNull(consumer, "consumer");
+    pipe(reader, consumer, null);
+  }
+
+  /**
+   * Reads each line from the {@code Reader}, parses it to {@code Map} and passes it to the messageConsumer,
+   * on the sink thread.  Returns when every line has been consumed.  Lines that cannot be parsed, and
+   * exceptions thrown by the messageConsumer, are passed to the errorConsumer, also on the sink thread.
+   *
+   * @param reader {@code Reader} used.  It is not closed in this method.
+   * @param messageConsumer the {@code Consumer} for messages
+   * @param errorConsumer the {@code Consumer} for syslog lines and their errors
+   * @throws IOException if the {@code Reader} fails
+   * @throws IllegalArgumentException if reader, messageConsumer, or errorConsumer are null
+   */
+  public void run(Reader reader, Consumer<Map<String, Object>> messageConsumer,
+      BiConsumer<String, Throwable> errorConsumer) throws IOException {
+    Validate.notNull(reader, "reader");
+    Validate.notNull(messageConsumer, "messageConsumer");
+    Validate.notNull(errorConsumer, "errorConsumer");
+    pipe(reader, messageConsumer, errorConsumer);
+  }
+
+  private synchronized void pipe(Reader reader, Consumer<Map<String, Object>> messageConsumer,
+      BiConsumer<String, Throwable> errorConsumer) throws IOException {
+    Run run = new Run();
+    // the stages spin or sleep, so they are not run on virtual threads
+    ExecutorService stages = ParserThreads.newPlatformThreadPerTaskExecutor("syslog-pipeline");
+    try {
+      CompletableFuture<?>[] tasks = new CompletableFuture<?>[workers + 1];
+      for (int i = 0; i < workers; i++) {
+        tasks[i] = CompletableFuture.runAsync(run.stage(run::parse), stages);
+      }
+      Runnable sink = () -> run.sink(messageConsumer, errorConsumer);
+      tasks[workers] = CompletableFuture.runAsync(run.stage(sink), stages);
+      try {
+        run.read(new BufferedReader(reader));
+      } catch (Throwable throwable) {
+        run.fail(throwable);
+      }
+      try {
+        CompletableFuture.allOf(tasks).join();
+      } catch (CompletionException e) {
+        run.fail(e.getCause());
+      }
+    } finally {
+      stages.shutdown();
+      for (Slot slot : slots) {
+        slot.reset();
+      }
+    }
+    Throwable throwable = run.failure.get();
+    if (throwable instanceof IOException) {
+      throw (IOException) throwable;
+    } else if (throwable instanceof RuntimeException) {
+      throw (RuntimeException) throwable;
+    } else if (throwable instanceof Error) {
+      throw (Error) throwable;
+    } else if (throwable != null) {
+      throw new CompletionException(throwable);
+    }
+  }
+
+  /**
+   * The state of the stages for one {@code Reader}.
+   */
+  private final class Run {
+
+    /**
+     * The last sequence published by the reader.
+     */
+    private final Sequence published = new Sequence(-1);
+
+    /**
+     * The next sequence to be claimed by a worker.
+     */
+    private final Sequence claimed = new Sequence(0);
+
+    /**
+     * The next sequence to be freed by the sink.  The slots of earlier sequences may be reused.
+     */
+    private final Sequence consumed = new Sequence(0);
+
+    /**
+     * The number of lines read, once the reader has ended.
+     */
+    private volatile long end = Long.MAX_VALUE;
+
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    Runnable stage(Runnable stage) {
+      return () -> {
+        try {
+          stage.run();
+        } catch (Throwable throwable) {
+          fail(throwable);
+        }
+      };
+    }
+
+    void fail(Throwable throwable) {
+      failure.compareAndSet(null, throwable);
+    }
+
+    void read(BufferedReader reader) throws IOException {
+      long next = 0;
+      long lastPublished = -1;
+      String line;
+      while (failure.get() == null && (line = reader.readLine()) != null) {
+        if (next - consumed.get() > mask) {
+          // the buffer is full, publish what has been read before waiting for the sink
+          lastPublished = next - 1;
+          published.set(lastPublished);
+          for (int tries = 0; next - consumed.get() > mask; tries = waitStrategy.idle(tries)) {
+            if (failure.get() != null) {
+              return;
+            }
+          }
+        }
+        slots[(int) next & mask].line = line;
+        next++;
+        if (next - lastPublished > batchSize || !reader.ready()) {
+          lastPublished = next - 1;
+          published.set(lastPublished);
+        }
+      }
+      published.set(next - 1);
+      end = next;
+    }
+
+    void parse() {
+      for (int tries = 0; failure.get() == null; ) {
+        long start = claimed.get();
+        if (start >= end) {
+          return;
+        }
+        long available = published.get();
+        if (start > available) {
+          tries = waitStrategy.idle(tries);
+          continue;
+        }
+        long stop = Math.min(available + 1, start + batchSize);
+        if (!claimed.compareAndSet(start, stop)) {
+          continue;
+        }
+        tries = 0;
+        for (long sequence = start; sequence < stop; sequence++) {
+          slots[(int) sequence & mask].parse(parser, sequence);
+        }
+      }
+    }
+
+    void sink(Consumer<Map<String, Object>> messageConsumer, BiConsumer<String, Throwable> errorConsumer) {
+      if (ordered) {
+        sinkOrdered(messageConsumer, errorConsumer);
+      } else {
+        sinkUnordered(messageConsumer, errorConsumer);
+      }
+    }
+
+    private void sinkOrdered(Consumer<Map<String, Object>> messageConsumer,
+        BiConsumer<String, Throwable> errorConsumer) {
+      long next = 0;
+      for (int tries = 0; failure.get() == null && next < end; ) {
+        Slot slot = slots[(int) next & mask];
+        if (slot.parsed != next) {
+          tries = waitStrategy.idle(tries);
+          continue;
+        }
+        tries = 0;
+        slot.consume(messageConsumer, errorConsumer);
+        slot.clear();
+        consumed.lazySet(++next);
+      }
+    }
+
+    private void sinkUnordered(Consumer<Map<String, Object>> messageConsumer,
+        BiConsumer<String, Throwable> errorConsumer) {
+      boolean[] delivered = new boolean[slots.length];
+      long next = 0;
+      for (int tries = 0; failure.get() == null && next < end; ) {
+        long available = published.get();
+        boolean progress = false;
+        for (long sequence = next; sequence <= available; sequence++) {
+          int index = (int) sequence & mask;
+          if (!delivered[index] && slots[index].parsed == sequence) {
+            slots[index].consume(messageConsumer, errorConsumer);
+            delivered[index] = true;
+            progress = true;
+          }
+        }
+        while (next <= available && delivered[(int) next & mask]) {
+          delivered[(int) next & mask] = false;
+          slots[(int) next & mask].clear();
+          next++;
+        }
+        consumed.lazySet(next);
+        tries = progress ? 0 : waitStrategy.idle(tries);
+      }
+    }
+  }
+
+  /**
+   * A slot of the ring buffer, holding a line and its result.
+   */
+  private static final class Slot {
+
+    private String line;
+    private Map<String, Object> message;
+    private Throwable error;
+
+    /**
+     * The sequence of the line whose result the slot holds.  Written after the result, so that the sink
+     * sees the result once it sees the sequence.
+     */
+    private volatile long parsed = -1;
+
+    void parse(SyslogParser parser, long sequence) {
+      try {
+        ParseResult<Map<String, Object>> result = parser.tryParseLine(line);
+        if (result.isSuccess()) {
+          message = result.getValue();
+        } else {
+          error = result.toException();
+        }
+      } catch (Throwable throwable) {
+        error = throwable;
+      }
+      parsed = sequence;
+    }
+
+    void consume(Consumer<Map<String, Object>> messageConsumer, BiConsumer<String, Throwable> errorConsumer) {
+      if (errorConsumer == null) {
+        if (error instanceof RuntimeException) {
+          throw (RuntimeException) error;
+        } else if (error != null) {
+          throw new CompletionException(error);
+        }
+        messageConsumer.accept(message);
+      } else if (error != null) {
+        errorConsumer.accept(line, error);
+      } else {
+        try {
+          messageConsumer.accept(message);
+        } catch (Throwable throwable) {
+          errorConsumer.accept(line, throwable);
+        }
+      }
+    }
+
+    void clear() {
+      line = null;
+      message = null;
+      error = null;
+    }
+
+    void reset() {
+      clear();
+      parsed = -1;
+    }
+  }
+
+  /**
+   * A sequence counter, padded so that counters written by different stages are not on the same cache line.
+   */
+  @SuppressWarnings("unused")
+  private static final class Sequence {
+
+    private static final AtomicLongFieldUpdater<Sequence> VALUE =
+        AtomicLongFieldUpdater.newUpdater(Sequence.class, "value");
+
+    private long p1;
+    private long p2;
+    private long p3;
+    private long p4;
+    private long p5;
+    private long p6;
+    private long p7;
+    private volatile long value;
+    private long p9;
+    private long p10;
+    private long p11;
+    private long p12;
+    private long p13;
+    private long p14;
+    private long p15;
+
+    Sequence(long value) {
+      this.value = value;
+    }
+
+    long get() {
+      return value;
+    }
+
+    void set(long value) {
+      this.value = value;
+    }
+
+    void lazySet(long value) {
+      VALUE.lazySet(this, value);
+    }
+
+    boolean compareAndSet(long expected, long value) {
+      return VALUE.compareAndSet(this, expected, value);
+    }
+  }
+}
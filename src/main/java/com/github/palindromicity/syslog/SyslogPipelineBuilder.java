@@ -0,0 +1,154 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import com.github.palindromicity.syslog.util.Validate;
+
+/**
+ * Builder for {@link SyslogPipeline} instances.
+ */
+public class SyslogPipelineBuilder {
+
+  /**
+   * The {@link SyslogParser} of the parse workers.
+   */
+  private final SyslogParser parser;
+
+  /**
+   * The number of slots in the ring buffer.
+   * Defaults to {@code 4096}
+   */
+  private int bufferSize = 4096;
+
+  /**
+   * The number of parse workers.
+   * Defaults to the number of available processors
+   */
+  private int workers = Runtime.getRuntime().availableProcessors();
+
+  /**
+   * The largest number of lines published or claimed at once.
+   * Defaults to {@code 64}
+   */
+  private int batchSize = 64;
+
+  /**
+   * Whether results are consumed in the order of the lines.
+   * Defaults to {@code true}
+   */
+  private boolean orderedResults = true;
+
+  /**
+   * The {@link WaitStrategy}.
+   * Defaults to {@link WaitStrategy#SLEEPING}
+   */
+  private WaitStrategy waitStrategy = WaitStrategy.SLEEPING;
+
+  /**
+   * Create a new {@code SyslogPipelineBuilder}.
+   *
+   * @param parser the {@link SyslogParser} that parses each line, which must be safe to use from many threads,
+   *     as the parsers of {@link SyslogParserBuilder} are
+   * @throws IllegalArgumentException if parser is null
+   */
+  public SyslogPipelineBuilder(final SyslogParser parser) {
+    Validate.notNull(parser, "parser");
+    this.parser = parser;
+  }
+
+  /**
+   * Set the number of slots in the ring buffer, which is the most lines that are in the pipeline at once.
+   *
+   * @param bufferSize the number of slots, a power of two
+   * @return {@code SyslogPipelineBuilder}
+   * @throws IllegalArgumentException if bufferSize is not a positive power of two
+   */
+  public SyslogPipelineBuilder withBufferSize(final int bufferSize) {
+    if (bufferSize < 1 || Integer.bitCount(bufferSize) != 1) {
+      throw new IllegalArgumentException(String.format("bufferSize %d must be a power of two", bufferSize));
+    }
+    this.bufferSize = bufferSize;
+    return this;
+  }
+
+  /**
+   * Set the number of parse workers, each on its own thread.
+   *
+   * @param workers the number of parse workers
+   * @return {@code SyslogPipelineBuilder}
+   * @throws IllegalArgumentException if workers is less than 1
+   */
+  public SyslogPipelineBuilder withWorkers(final int workers) {
+    if (workers < 1) {
+      throw new IllegalArgumentException(String.format("workers %d must be at least 1", workers));
+    }
+    this.workers = workers;
+    return this;
+  }
+
+  /**
+   * Set the largest number of lines the reader publishes, and a worker claims, at once.  Larger batches
+   * touch the shared sequences less often, smaller batches spread lines over the workers sooner.  Batches
+   * are never larger than the buffer.
+   *
+   * @param batchSize the batch size
+   * @return {@code SyslogPipelineBuilder}
+   * @throws IllegalArgumentException if batchSize is less than 1
+   */
+  public SyslogPipelineBuilder withBatchSize(final int batchSize) {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException(String.format("batchSize %d must be at least 1", batchSize));
+    }
+    this.batchSize = batchSize;
+    return this;
+  }
+
+  /**
+   * Consume results in the order of the lines.  When false, each result is consumed as soon as its line is
+   * parsed, so a slow line does not hold back the lines after it.
+   *
+   * @param orderedResults true to consume results in the order of the lines
+   * @return {@code SyslogPipelineBuilder}
+   */
+  public SyslogPipelineBuilder withOrderedResults(final boolean orderedResults) {
+    this.orderedResults = orderedResults;
+    return this;
+  }
+
+  /**
+   * Set how stages wait for each other.
+   *
+   * @param waitStrategy the {@link WaitStrategy}
+   * @return {@code SyslogPipelineBuilder}
+   * @throws IllegalArgumentException if waitStrategy is null
+   */
+  public SyslogPipelineBuilder withWaitStrategy(final WaitStrategy waitStrategy) {
+    Validate.notNull(waitStrategy, "waitStrategy");
+    this.waitStrategy = waitStrategy;
+    return this;
+  }
+
+  /**
+   * Builds a new {@link SyslogPipeline} instance using options if provided.
+   *
+   * @return {@link SyslogPipeline}
+   */
+  public SyslogPipeline build() {
+    return new SyslogPipeline(parser, bufferSize, workers, Math.min(batchSize, bufferSize), orderedResults,
+        waitStrategy);
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import com.github.palindromicity.syslog.dsl.ParseException;
+
+/**
+ * A syslog PRI value with its facility and severity.
+ * <p>
+ * The 192 valid values are precomputed, so looking up a priority neither parses nor allocates.
+ * Each value holds the canonical strings used in {@code Map} results and the facility and severity names.
+ * </p>
+ */
+public final class SyslogPriority {
+
+  /**
+   * The largest valid priority, facility 23 (local7) with severity 7 (debug).
+   */
+  public static final int MAX_PRIORITY = 191;
+
+  private static final String[] FACILITY_NAMES = {"kern", "user", "mail", "daemon", "auth", "syslog", "lpr",
+      "news", "uucp", "cron", "authpriv", "ftp", "ntp", "security", "console", "solaris-cron", "local0", "local1",
+      "local2", "local3", "local4", "local5", "local6", "local7"};
+
+  private static final String[] SEVERITY_NAMES = {"emerg", "alert", "crit", "err", "warning", "notice", "info",
+      "debug"};
+
+  private static final SyslogPriority[] PRIORITIES = new SyslogPriority[MAX_PRIORITY + 1];
+
+  static {
+    for (int i = 0; i < PRIORITIES.length; i++) {
+      PRIORITIES[i] = new SyslogPriority(i);
+    }
+  }
+
+  private final int priority;
+  private final String priorityText;
+  private final String facilityText;
+  private final String severityText;
+
+  private SyslogPriority(int priority) {
+    this.priority = priority;
+    this.priorityText = String.valueOf(priority);
+    this.facilityText = String.valueOf(priority / 8);
+    this.severityText = String.valueOf(priority % 8);
+  }
+
+  /**
+   * Returns the {@code SyslogPriority} of a priority.
+   *
+   * @param priority the priority
+   * @return the {@code SyslogPriority}
+   * @throws ParseException if the priority is not between 0 and {@link #MAX_PRIORITY}
+   */
+  public static SyslogPriority of(int priority) {
+    if (priority < 0 || priority > MAX_PRIORITY) {
+      throw new ParseException(String.format("Priority %d is out of range", priority));
+    }
+    return PRIORITIES[priority];
+  }
+
+  /**
+   * Returns the priority.
+   *
+   * @return the priority
+   */
+  public int getPriority() {
+    return priority;
+  }
+
+  /**
+   * Returns the facility.
+   *
+   * @return the facility
+   */
+  public int getFacility() {
+    return priority / 8;
+  }
+
+  /**
+   * Returns the severity.
+   *
+   * @return the severity
+   */
+  public int getSeverity() {
+    return priority % 8;
+  }
+
+  /**
+   * Returns the priority as a {@code String}, without leading zeros.
+   *
+   * @return the priority text
+   */
+  public String getPriorityText() {
+    return priorityText;
+  }
+
+  /**
+   * Returns the facility as a {@code String}.
+   *
+   * @return the facility text
+   */
+  public String getFacilityText() {
+    return facilityText;
+  }
+
+  /**
+   * Returns the severity as a {@code String}.
+   *
+   * @return the severity text
+   */
+  public String getSeverityText() {
+    return severityText;
+  }
+
+  /**
+   * Returns the name of the facility, such as {@code local6}.
+   *
+   * @return the facility name
+   */
+  public String getFacilityName() {
+    return FACILITY_NAMES[priority / 8];
+  }
+
+  /**
+   * Returns the name of the severity, such as {@code notice}.
+   *
+   * @return the severity name
+   */
+  public String getSeverityName() {
+    return SEVERITY_NAMES[priority % 8];
+  }
+
+  @Override
+  public String toString() {
+    return getFacilityName() + "." + getSeverityName();
+  }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneRules;
+
+import com.github.palindromicity.syslog.util.Validate;
+
+/**
+ * Converts the timestamps accepted by the grammar to epoch milliseconds.
+ * <p>
+ * RFC 3339 timestamps carry their own offset.  RFC 3164 timestamps have neither year nor zone, they are
+ * read in the configured zone, in the year chosen by the {@link YearInference}.
+ * </p>
+ * <p>
+ * Consecutive lines of a stream almost always share the same second, so each thread caches the last
+ * timestamp it converted, without its fraction of a second.  A hit costs a comparison of the text and
+ * does not allocate.  Instances are thread safe.
+ * </p>
+ */
+final class TimeStampConverter {
+
+  /**
+   * UTC, {@link YearInference#CURRENT_YEAR}.
+   */
+  static final TimeStampConverter DEFAULT = new TimeStampConverter(ZoneOffset.UTC, YearInference.CURRENT_YEAR,
+      Clock.systemUTC());
+
+  /**
+   * How long a cached conversion may be used, so that the inferred year follows the clock.
+   */
+  private static final long CACHE_MILLIS = 1000L;
+
+  /**
+   * The longest text cached: an RFC 3339 timestamp without its fraction.
+   */
+  private static final int MAX_KEY_LENGTH = 32;
+
+  private final ZoneRules rules;
+  private final boolean fixedOffset;
+  private final long fixedOffsetMillis;
+  private final YearInference yearInference;
+  private final Clock clock;
+  private final ThreadLocal<Cache> cache = ThreadLocal.withInitial(Cache::new);
+
+  /**
+   * Create a new {@code TimeStampConverter}.
+   *
+   * @param zone the zone of RFC 3164 timestamps
+   * @param yearInference the {@link YearInference} for RFC 3164 timestamps
+   * @param clock the clock for the current time
+   */
+  TimeStampConverter(ZoneId zone, YearInference yearInference, Clock clock) {
+    Validate.notNull(zone, "zone");
+    Validate.notNull(yearInference, "yearInference");
+    Validate.notNull(clock, "clock");
+    this.rules = zone.getRules();
+    this.fixedOffset = rules.isFixedOffset();
+    this.fixedOffsetMillis = fixedOffset ? rules.getOffset(Instant.EPOCH).getTotalSeconds() * 1000L : 0;
+    this.yearInference = yearInference;
+    this.clock = clock;
+  }
+
+  /**
+   * Convert a timestamp to epoch milliseconds.
+   *
+   * @param source the characters holding the timestamp
+   * @param start the start of the timestamp
+   * @param end the end of the timestamp
+   * @return the epoch milliseconds, or {@link SyslogMessage#NO_TIMESTAMP} if the timestamp is not a valid date
+   */
+  long toEpochMillis(CharSequence source, int start, int end) {
+    if (start >= end) {
+      return SyslogMessage.NO_TIMESTAMP;
+    }
+    // split off the fraction, which is the only part that is not cached
+    final boolean rfc3339 = TimeStamps.isDigit(source.charAt(start));
+    int secondsEnd = end;
+    if (rfc3339) {
+      secondsEnd = start + 19;
+    } else {
+      for (int i = start; i < end; i++) {
+        if (source.charAt(i) == '.') {
+          secondsEnd = i;
+          break;
+        }
+      }
+    }
+    int fracEnd = secondsEnd;
+    int millis = 0;
+    if (secondsEnd < end && source.charAt(secondsEnd) == '.') {
+      fracEnd++;
+      int count = 0;
+      while (fracEnd < end && TimeStamps.isDigit(source.charAt(fracEnd))) {
+        if (count++ < 3) {
+          millis = millis * 10 + source.charAt(fracEnd) - '0';
+        }
+        fracEnd++;
+      }
+      for (; count < 3; count++) {
+        millis *= 10;
+      }
+    }
+
+    final long now = clock.millis();
+    final Cache last = cache.get();
+    long seconds;
+    if (last.matches(source, start, secondsEnd, fracEnd, end, now)) {
+      seconds = last.epochMillis;
+    } else {
+      seconds = rfc3339
+          ? rfc3339ToEpochMillis(source, start, fracEnd, end)
+          : rfc3164ToEpochMillis(source, start, secondsEnd, now);
+      last.store(source, start, secondsEnd, fracEnd, end, now, seconds);
+    }
+    return seconds == SyslogMessage.NO_TIMESTAMP ? seconds : seconds + millis;
+  }
+
+  // full-date "T" 2DIGIT ":" 2DIGIT ":" 2DIGIT ("Z" | ("+" | "-") 2DIGIT ":" 2DIGIT)
+  private static long rfc3339ToEpochMillis(CharSequence source, int start, int offsetStart, int end) {
+    long date = TimeStamps.dateToEpochMillis(TimeStamps.digits(source, start, 4),
+        TimeStamps.digits(source, start + 5, 2), TimeStamps.digits(source, start + 8, 2));
+    long time = TimeStamps.timeToMillis(source, start + 11);
+    if (date == SyslogMessage.NO_TIMESTAMP || time < 0) {
+      return SyslogMessage.NO_TIMESTAMP;
+    }
+    long offsetMillis = 0;
+    if (source.charAt(offsetStart) != 'Z') {
+      offsetMillis = TimeStamps.offsetToMillis(source, offsetStart);
+      if (offsetMillis == Long.MIN_VALUE) {
+        return SyslogMessage.NO_TIMESTAMP;
+      }
+    }
+    return date + time - offsetMillis;
+  }
+
+  // date-month-short SP [SP] 1*2DIGIT SP 2DIGIT ":" 2DIGIT ":" 2DIGIT
+  private long rfc3164ToEpochMillis(CharSequence source, int start, int end, long now) {
+    int month = TimeStamps.monthOf(source, start);
+    int pos = start + 3;
+    while (pos < end && source.charAt(pos) == ' ') {
+      pos++;
+    }
+    int dayStart = pos;
+    while (pos < end && TimeStamps.isDigit(source.charAt(pos))) {
+      pos++;
+    }
+    int day = TimeStamps.digits(source, dayStart, pos - dayStart);
+    long time = TimeStamps.timeToMillis(source, pos + 1);
+    if (time < 0) {
+      return SyslogMessage.NO_TIMESTAMP;
+    }
+
+    int year = TimeStamps.yearOf(now + offsetMillisAt(now));
+    if (yearInference == YearInference.CURRENT_YEAR) {
+      return localToEpochMillis(year, month, day, time);
+    }
+    long nearest = SyslogMessage.NO_TIMESTAMP;
+    for (int candidate = year - 1; candidate <= year + 1; candidate++) {
+      long epochMillis = localToEpochMillis(candidate, month, day, time);
+      if (epochMillis != SyslogMessage.NO_TIMESTAMP
+          && (nearest == SyslogMessage.NO_TIMESTAMP || Math.abs(epochMillis - now) < Math.abs(nearest - now))) {
+        nearest = epochMillis;
+      }
+    }
+    return nearest;
+  }
+
+  private long localToEpochMillis(int year, int month, int day, long time) {
+    long date = TimeStamps.dateToEpochMillis(year, month, day);
+    if (date == SyslogMessage.NO_TIMESTAMP) {
+      return date;
+    }
+    long local = date + time;
+    if (fixedOffset) {
+      return local - fixedOffsetMillis;
+    }
+    LocalDateTime dateTime = LocalDateTime.ofEpochSecond(Math.floorDiv(local, 1000L), 0, ZoneOffset.UTC);
+    return local - rules.getOffset(dateTime).getTotalSeconds() * 1000L;
+  }
+
+  private long offsetMillisAt(long epochMillis) {
+    if (fixedOffset) {
+      return fixedOffsetMillis;
+    }
+    return rules.getOffset(Instant.ofEpochMilli(epochMillis)).getTotalSeconds() * 1000L;
+  }
+
+  /**
+   * The last timestamp converted on a thread, keyed by its text without the fraction.
+   */
+  private static final class Cache {
+
+    private final char[] key = new char[MAX_KEY_LENGTH];
+    private int keyLength = -1;
+    private long storedAt;
+    private long epochMillis;
+
+    boolean matches(CharSequence source, int start, int secondsEnd, int fracEnd, int end, long now) {
+      if (keyLength != (secondsEnd - start) + (end - fracEnd) || now < storedAt || now - storedAt >= CACHE_MILLIS) {
+        return false;
+      }
+      int index = 0;
+      for (int i = start; i < secondsEnd; i++) {
+        if (key[index++] != source.charAt(i)) {
+          return false;
+        }
+      }
+      for (int i = fracEnd; i < end; i++) {
+        if (key[index++] != source.charAt(i)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    void store(CharSequence source, int start, int secondsEnd, int fracEnd, int end, long now, long value) {
+      int length = (secondsEnd - start) + (end - fracEnd);
+      if (length > MAX_KEY_LENGTH) {
+        keyLength = -1;
+        return;
+      }
+      int index = 0;
+      for (int i = start; i < secondsEnd; i++) {
+        key[index++] = source.charAt(i);
+      }
+      for (int i = fracEnd; i < end; i++) {
+        key[index++] = source.charAt(i);
+      }
+      keyLength = length;
+      storedAt = now;
+      epochMillis = value;
+    }
+  }
+}
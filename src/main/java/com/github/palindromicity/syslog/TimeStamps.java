@@ -0,0 +1,146 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+/**
+ * Calendar arithmetic for timestamps, without allocating.
+ */
+final class TimeStamps {
+
+  static final long MILLIS_PER_DAY = 86_400_000L;
+  private static final String MONTHS = "JanFebMarAprMayJunJulAugSepOctNovDec";
+
+  private TimeStamps() {
+  }
+
+  /**
+   * Returns the UTC year of an epoch millisecond.
+   *
+   * @param epochMillis the epoch milliseconds
+   * @return the year
+   */
+  static int yearOf(long epochMillis) {
+    long days = Math.floorDiv(epochMillis, MILLIS_PER_DAY) + 719_468;
+    long era = Math.floorDiv(days, 146_097);
+    long dayOfEra = days - era * 146_097;
+    long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+    long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+    long year = yearOfEra + era * 400;
+    // the year of the computation starts in March
+    return (int) ((5 * dayOfYear + 2) / 153 >= 10 ? year + 1 : year);
+  }
+
+  /**
+   * Returns the epoch milliseconds of midnight UTC on a date, or {@link SyslogMessage#NO_TIMESTAMP} if
+   * the date does not exist.
+   *
+   * @param year the year
+   * @param month the month, 1 to 12
+   * @param day the day of the month
+   * @return the epoch milliseconds
+   */
+  static long dateToEpochMillis(int year, int month, int day) {
+    if (month < 1 || month > 12 || day < 1 || day > monthLength(year, month)) {
+      return SyslogMessage.NO_TIMESTAMP;
+    }
+    long yr = month <= 2 ? year - 1 : year;
+    long era = Math.floorDiv(yr, 400);
+    long yearOfEra = yr - era * 400;
+    long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+    long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+    return (era * 146_097 + dayOfEra - 719_468) * MILLIS_PER_DAY;
+  }
+
+  /**
+   * Returns the milliseconds of {@code 2DIGIT ":" 2DIGIT ":" 2DIGIT}.  A leap second, {@code 60}, is out of
+   * range, as for {@link java.time.LocalTime}.
+   *
+   * @param source the characters holding the time
+   * @param start the start of the time
+   * @return the milliseconds since midnight, or -1 if the time is out of range
+   */
+  static long timeToMillis(CharSequence source, int start) {
+    int hour = digits(source, start, 2);
+    int minute = digits(source, start + 3, 2);
+    int second = digits(source, start + 6, 2);
+    if (hour > 23 || minute > 59 || second > 59) {
+      return -1;
+    }
+    return ((hour * 60L + minute) * 60L + second) * 1000L;
+  }
+
+  /**
+   * Returns the milliseconds of an offset {@code ("+" | "-") 2DIGIT ":" 2DIGIT}.  An offset beyond
+   * {@code 18:00}, or with more than 59 minutes, is out of range, as for {@link java.time.ZoneOffset}.
+   *
+   * @param source the characters holding the offset
+   * @param start the start of the offset, at its sign
+   * @return the milliseconds to add to UTC, or {@link Long#MIN_VALUE} if the offset is out of range
+   */
+  static long offsetToMillis(CharSequence source, int start) {
+    int hours = digits(source, start + 1, 2);
+    int minutes = digits(source, start + 4, 2);
+    if (hours > 18 || minutes > 59 || hours == 18 && minutes > 0) {
+      return Long.MIN_VALUE;
+    }
+    long millis = (hours * 60L + minutes) * 60_000L;
+    return source.charAt(start) == '-' ? -millis : millis;
+  }
+
+  /**
+   * Returns the month of a {@code date-month-short}.
+   *
+   * @param source the characters holding the month
+   * @param start the start of the month
+   * @return the month, 1 to 12, or 0 if it is not a month
+   */
+  static int monthOf(CharSequence source, int start) {
+    for (int i = 0; i < MONTHS.length(); i += 3) {
+      if (MONTHS.charAt(i) == source.charAt(start) && MONTHS.charAt(i + 1) == source.charAt(start + 1)
+          && MONTHS.charAt(i + 2) == source.charAt(start + 2)) {
+        return i / 3 + 1;
+      }
+    }
+    return 0;
+  }
+
+  static int digits(CharSequence source, int start, int count) {
+    int value = 0;
+    for (int i = start; i < start + count; i++) {
+      value = value * 10 + source.charAt(i) - '0';
+    }
+    return value;
+  }
+
+  static boolean isDigit(char ch) {
+    return ch >= '0' && ch <= '9';
+  }
+
+  private static int monthLength(int year, int month) {
+    switch (month) {
+      case 2:
+        return year % 4 == 0 && (year % 100 != 0 || year % 400 == 0) ? 29 : 28;
+      case 4:
+      case 6:
+      case 9:
+      case 11:
+        return 30;
+      default:
+        return 31;
+    }
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * How the stages of a {@link SyslogPipeline} wait for each other, trading latency for CPU use.
+ */
+public enum WaitStrategy {
+  /**
+   * Spin without giving up the CPU.  The lowest latency, but each stage uses a whole CPU while it waits, so
+   * there must be a CPU for every stage.
+   */
+  BUSY_SPIN,
+  /**
+   * Spin for a short time, then yield the CPU to other threads between checks.
+   */
+  YIELDING,
+  /**
+   * Spin, then yield, then sleep briefly between checks.  Uses little CPU while waiting, at the cost of
+   * latency when a stage has been idle.
+   */
+  SLEEPING;
+
+  private static final int SPIN_TRIES = 100;
+  private static final int YIELD_TRIES = 200;
+  private static final long SLEEP_NANOS = 50_000;
+
+  /**
+   * Waits once, after {@code tries} previous waits for the same thing.
+   *
+   * @param tries the number of times this has already waited
+   * @return the number of times this has waited, to pass to the next call
+   */
+  int idle(int tries) {
+    if (tries < SPIN_TRIES) {
+      return tries + 1;
+    }
+    if (this == BUSY_SPIN) {
+      return tries;
+    }
+    if (this == YIELDING || tries < YIELD_TRIES) {
+      Thread.yield();
+      return Math.min(tries + 1, YIELD_TRIES);
+    }
+    LockSupport.parkNanos(SLEEP_NANOS);
+    return tries;
+  }
+}
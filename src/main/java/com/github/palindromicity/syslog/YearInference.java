@@ -0,0 +1,32 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+/**
+ * How the year of an RFC 3164 timestamp, which has no year, is chosen.
+ */
+public enum YearInference {
+  /**
+   * The current year in the timestamp zone.
+   */
+  CURRENT_YEAR,
+  /**
+   * The previous, current or next year, whichever places the timestamp nearest the current time.
+   * Timestamps from the end of December read early in January fall in the previous year.
+   */
+  NEAREST
+}
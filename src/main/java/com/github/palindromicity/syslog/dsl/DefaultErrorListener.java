@@ -9,12 +9,20 @@ import org.antlr.v4.runtime.Recognizer;
 import org.antlr.v4.runtime.atn.ATNConfigSet;
 import org.antlr.v4.runtime.dfa.DFA;
 
+/**
+ * An error listener that throws a {@link ParseException} for the first error.
+ *
+ * @deprecated the parsers no longer install it; they stop at the first error without creating an exception,
+ *     and report it as a failed {@link com.github.palindromicity.syslog.ParseResult}
+ */
+@Deprecated
 public class DefaultErrorListener implements ANTLRErrorListener {
 
   @Override
   public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine,
       String msg, RecognitionException recognitionException) {
-    throw new ParseException("Syntax error @ " + line + ":" + charPositionInLine + " " + msg, recognitionException);
+    throw new ParseException("Syntax error @ " + line + ":" + charPositionInLine + " " + msg, recognitionException,
+        false);
   }
 
 
@@ -3,10 +3,17 @@ package com.github.palindromicity.syslog.dsl;
 import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.RecognitionException;
 
+/**
+ * An error strategy that throws a {@link ParseException} for the first error.
+ *
+ * @deprecated the parsers no longer install it; they stop at the first error without creating an exception,
+ *     and report it as a failed {@link com.github.palindromicity.syslog.ParseResult}
+ */
+@Deprecated
 public class DefaultErrorStrategy extends org.antlr.v4.runtime.DefaultErrorStrategy {
 
   @Override
   public void reportError(Parser parser, RecognitionException recognitionException) {
-    throw new ParseException("Parse Error " + recognitionException.getMessage(), recognitionException);
+    throw new ParseException("Parse Error " + recognitionException.getMessage(), recognitionException, false);
   }
 }
@@ -9,4 +9,15 @@ public class ParseException extends RuntimeException {
   public ParseException(String reason, Throwable throwable) {
     super(reason, throwable);
   }
+
+  /**
+   * Create a {@code ParseException}, which may be without a stack trace.
+   *
+   * @param reason the reason
+   * @param throwable the cause, may be null
+   * @param writableStackTrace false for an exception without a stack trace, which is much cheaper to create
+   */
+  public ParseException(String reason, Throwable throwable, boolean writableStackTrace) {
+    super(reason, throwable, true, writableStackTrace);
+  }
 }
@@ -7,17 +7,25 @@ import java.util.Map;
 
 import com.github.palindromicity.syslog.AllowableDeviations;
 import com.github.palindromicity.syslog.KeyProvider;
-import com.github.palindromicity.syslog.dsl.generated.Rfc3164BaseListener;
+import com.github.palindromicity.syslog.SyslogPriority;
 import com.github.palindromicity.syslog.dsl.generated.Rfc3164Parser;
+import com.github.palindromicity.syslog.dsl.generated.Rfc3164ParserBaseListener;
 import com.github.palindromicity.syslog.util.Validate;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.misc.Interval;
 
 /**
- * Simple implementation of {@link Rfc3164BaseListener}.
+ * Simple implementation of {@link Rfc3164ParserBaseListener}.
  * <p>
  * The {@code Syslog5424Listener} uses the provided {@link KeyProvider} when inserting items into the map.
  * </p>
+ *
+ * @deprecated the parsers no longer walk the parse tree with a listener, and read the fields by their
+ *     offsets in the line instead; use {@link com.github.palindromicity.syslog.SyslogParser}
  */
-public class Syslog3164Listener extends Rfc3164BaseListener {
+@Deprecated
+public class Syslog3164Listener extends Rfc3164ParserBaseListener {
 
   /**
    * {@link KeyProvider} that provides our key names.
@@ -32,7 +40,7 @@ public class Syslog3164Listener extends Rfc3164BaseListener {
   /**
    * The {@code Map} used to store our syslog values.
    */
-  private final Map<String, Object> msgMap = new HashMap<>();
+  private Map<String, Object> msgMap = new HashMap<>();
 
   /**
    * Create a new {@code Syslog5424Listener}.
@@ -59,16 +67,32 @@ public class Syslog3164Listener extends Rfc3164BaseListener {
     return Collections.unmodifiableMap(msgMap);
   }
 
+  /**
+   * Resets the listener so that it may be used for another parse.
+   * Maps returned by {@link #getMsgMap()} before the reset are not changed.
+   */
+  public void reset() {
+    msgMap = new HashMap<>();
+  }
+
 
+  /**
+   * Puts the priority, severity and facility.  Unlike the parsers, which reject a priority above
+   * {@link SyslogPriority#MAX_PRIORITY}, this listener maps any priority the grammar accepts, as it always has.
+   */
   @Override
   public void exitHeaderPriorityValue(Rfc3164Parser.HeaderPriorityValueContext ctx) {
     String priority = ctx.getText();
     msgMap.put(keyProvider.getHeaderPriority(), priority);
-    int pri = Integer.parseInt(priority);
-    int sev = pri % 8;
-    int facility = pri / 8;
-    msgMap.put(keyProvider.getHeaderSeverity(), String.valueOf(sev));
-    msgMap.put(keyProvider.getHeaderFacility(), String.valueOf(facility));
+    int value = Integer.parseInt(priority);
+    if (value <= SyslogPriority.MAX_PRIORITY) {
+      SyslogPriority pri = SyslogPriority.of(value);
+      msgMap.put(keyProvider.getHeaderSeverity(), pri.getSeverityText());
+      msgMap.put(keyProvider.getHeaderFacility(), pri.getFacilityText());
+    } else {
+      msgMap.put(keyProvider.getHeaderSeverity(), String.valueOf(value % 8));
+      msgMap.put(keyProvider.getHeaderFacility(), String.valueOf(value / 8));
+    }
   }
 
   @Override
@@ -91,12 +115,40 @@ public class Syslog3164Listener extends Rfc3164BaseListener {
 
   @Override
   public void exitMsg_any(Rfc3164Parser.Msg_anyContext ctx) {
-    msgMap.put(keyProvider.getMessage(), ctx.getText().trim());
+    msgMap.put(keyProvider.getMessage(), trimmedSourceText(ctx));
   }
 
   @Override
   public void exitMsg_utf8(Rfc3164Parser.Msg_utf8Context ctx) {
-    msgMap.put(keyProvider.getMessage(), ctx.getText().trim());
+    msgMap.put(keyProvider.getMessage(), trimmedSourceText(ctx));
+  }
+
+  /**
+   * Returns the source text of a context with leading and trailing whitespace removed, as
+   * {@link String#trim()} would.
+   * <p>
+   * When the input is a {@code CharSequence} the trim bounds are found on the source and the text
+   * is copied once, otherwise the text is taken from the input by interval and trimmed.
+   * </p>
+   *
+   * @param ctx the context
+   * @return the trimmed text
+   */
+  private static String trimmedSourceText(ParserRuleContext ctx) {
+    CharStream input = ctx.start.getInputStream();
+    int start = ctx.start.getStartIndex();
+    int end = ctx.stop == null ? start : ctx.stop.getStopIndex() + 1;
+    if (!(input instanceof CharSequence)) {
+      return start >= end ? "" : input.getText(Interval.of(start, end - 1)).trim();
+    }
+    CharSequence source = (CharSequence) input;
+    while (start < end && source.charAt(start) <= ' ') {
+      start++;
+    }
+    while (end > start && source.charAt(end - 1) <= ' ') {
+      end--;
+    }
+    return start >= end ? "" : source.subSequence(start, end).toString();
   }
 }
 
@@ -1,4 +1,4 @@
-// Generated from com/github/palindromicity/syslog/dsl/generated/Rfc3164.g4 by ANTLR 4.13.2
+// Generated from com/github/palindromicity/syslog/dsl/generated/Rfc3164Lexer.g4 by ANTLR 4.13.2
 package com.github.palindromicity.syslog.dsl.generated;
 
 //CHECKSTYLE:OFF
@@ -36,172 +36,39 @@ public class Rfc3164Lexer extends Lexer {
 	protected static final PredictionContextCache _sharedContextCache =
 		new PredictionContextCache();
 	public static final int
-		TAB=1, LF=2, CR=3, SPACE=4, EXCLAMATION=5, QUOTE=6, POUND=7, DOLLAR=8, 
-		PERCENT=9, AMPERSAND=10, APOSTROPHE=11, LEFT_PAREN=12, RIGHT_PAREN=13, 
-		ASTERISK=14, PLUS=15, COMMA=16, DASH=17, PERIOD=18, SLASH=19, ZERO=20, 
-		ONE=21, TWO=22, THREE=23, FOUR=24, FIVE=25, SIX=26, SEVEN=27, EIGHT=28, 
-		NINE=29, COLON=30, SEMICOLON=31, LESS_THAN=32, EQUALS=33, GREATER_THAN=34, 
-		QUESTION=35, AT=36, CAP_A=37, CAP_B=38, CAP_C=39, CAP_D=40, CAP_E=41, 
-		CAP_F=42, CAP_G=43, CAP_H=44, CAP_I=45, CAP_J=46, CAP_K=47, CAP_L=48, 
-		CAP_M=49, CAP_N=50, CAP_O=51, CAP_P=52, CAP_Q=53, CAP_R=54, CAP_S=55, 
-		CAP_T=56, CAP_U=57, CAP_V=58, CAP_W=59, CAP_X=60, CAP_Y=61, CAP_Z=62, 
-		LEFT_BRACE=63, BACKSLASH=64, RIGHT_BRACE=65, CARAT=66, UNDERSCORE=67, 
-		ACCENT=68, A=69, B=70, C=71, D=72, E=73, F=74, G=75, H=76, I=77, J=78, 
-		K=79, L=80, M=81, N=82, O=83, P=84, Q=85, R=86, S=87, T=88, U=89, V=90, 
-		W=91, X=92, Y=93, Z=94, LEFT_CURLY_BRACE=95, PIPE=96, RIGHT_CURLY_BRACE=97, 
-		TILDE=98, U_0000=99, U_0001=100, U_0002=101, U_0003=102, U_0004=103, U_0005=104, 
-		U_0006=105, U_0007=106, U_0008=107, U_000B=108, U_000C=109, U_000E=110, 
-		U_000F=111, U_0010=112, U_0011=113, U_0012=114, U_0013=115, U_0014=116, 
-		U_0015=117, U_0016=118, U_0017=119, U_0018=120, U_0019=121, U_001A=122, 
-		U_001B=123, U_001C=124, U_001D=125, U_001E=126, U_001F=127, U_007F=128, 
-		U_0080=129, U_0081=130, U_0082=131, U_0083=132, U_0084=133, U_0085=134, 
-		U_0086=135, U_0087=136, U_0088=137, U_0089=138, U_008A=139, U_008B=140, 
-		U_008C=141, U_008D=142, U_008E=143, U_008F=144, U_0090=145, U_0091=146, 
-		U_0092=147, U_0093=148, U_0094=149, U_0095=150, U_0096=151, U_0097=152, 
-		U_0098=153, U_0099=154, U_009A=155, U_009B=156, U_009C=157, U_009D=158, 
-		U_009E=159, U_009F=160, U_00A0=161, U_00A1=162, U_00A2=163, U_00A3=164, 
-		U_00A4=165, U_00A5=166, U_00A6=167, U_00A7=168, U_00A8=169, U_00A9=170, 
-		U_00AA=171, U_00AB=172, U_00AC=173, U_00AD=174, U_00AE=175, U_00AF=176, 
-		U_00B0=177, U_00B1=178, U_00B2=179, U_00B3=180, U_00B4=181, U_00B5=182, 
-		U_00B6=183, U_00B7=184, U_00B8=185, U_00B9=186, U_00BA=187, U_00BB=188, 
-		U_00BC=189, U_00BD=190, U_00BE=191, U_00BF=192, U_00C0=193, U_00C1=194, 
-		U_00C2=195, U_00C3=196, U_00C4=197, U_00C5=198, U_00C6=199, U_00C7=200, 
-		U_00C8=201, U_00C9=202, U_00CA=203, U_00CB=204, U_00CC=205, U_00CD=206, 
-		U_00CE=207, U_00CF=208, U_00D0=209, U_00D1=210, U_00D2=211, U_00D3=212, 
-		U_00D4=213, U_00D5=214, U_00D6=215, U_00D7=216, U_00D8=217, U_00D9=218, 
-		U_00DA=219, U_00DB=220, U_00DC=221, U_00DD=222, U_00DE=223, U_00DF=224, 
-		U_00E0=225, U_00E1=226, U_00E2=227, U_00E3=228, U_00E4=229, U_00E5=230, 
-		U_00E6=231, U_00E7=232, U_00E8=233, U_00E9=234, U_00EA=235, U_00EB=236, 
-		U_00EC=237, U_00ED=238, U_00EE=239, U_00EF=240, U_00F0=241, U_00F1=242, 
-		U_00F2=243, U_00F3=244, U_00F4=245, U_00F5=246, U_00F6=247, U_00F7=248, 
-		U_00F8=249, U_00F9=250, U_00FA=251, U_00FB=252, U_00FC=253, U_00FD=254, 
-		U_00FE=255, U_00FF=256;
+		LESS_THAN=1, GREATER_THAN=2, SPACE=3, DASH=4, CAP_T=5, MONTH=6, DIGITS=7, 
+		COLON=8, PERIOD=9, PLUS=10, CAP_Z=11, HOST_NAME=12, BOM=13, OCTETS=14;
+	public static final int
+		TIME=1, HOSTNAME=2, MSG=3, UTF_8=4;
 	public static String[] channelNames = {
 		"DEFAULT_TOKEN_CHANNEL", "HIDDEN"
 	};
 
 	public static String[] modeNames = {
-		"DEFAULT_MODE"
+		"DEFAULT_MODE", "TIME", "HOSTNAME", "MSG", "UTF_8"
 	};
 
 	private static String[] makeRuleNames() {
 		return new String[] {
-			"TAB", "LF", "CR", "SPACE", "EXCLAMATION", "QUOTE", "POUND", "DOLLAR", 
-			"PERCENT", "AMPERSAND", "APOSTROPHE", "LEFT_PAREN", "RIGHT_PAREN", "ASTERISK", 
-			"PLUS", "COMMA", "DASH", "PERIOD", "SLASH", "ZERO", "ONE", "TWO", "THREE", 
-			"FOUR", "FIVE", "SIX", "SEVEN", "EIGHT", "NINE", "COLON", "SEMICOLON", 
-			"LESS_THAN", "EQUALS", "GREATER_THAN", "QUESTION", "AT", "CAP_A", "CAP_B", 
-			"CAP_C", "CAP_D", "CAP_E", "CAP_F", "CAP_G", "CAP_H", "CAP_I", "CAP_J", 
-			"CAP_K", "CAP_L", "CAP_M", "CAP_N", "CAP_O", "CAP_P", "CAP_Q", "CAP_R", 
-			"CAP_S", "CAP_T", "CAP_U", "CAP_V", "CAP_W", "CAP_X", "CAP_Y", "CAP_Z", 
-			"LEFT_BRACE", "BACKSLASH", "RIGHT_BRACE", "CARAT", "UNDERSCORE", "ACCENT", 
-			"A", "B", "C", "D", "E", "F", "G", "H", "I", "J", "K", "L", "M", "N", 
-			"O", "P", "Q", "R", "S", "T", "U", "V", "W", "X", "Y", "Z", "LEFT_CURLY_BRACE", 
-			"PIPE", "RIGHT_CURLY_BRACE", "TILDE", "U_0000", "U_0001", "U_0002", "U_0003", 
-			"U_0004", "U_0005", "U_0006", "U_0007", "U_0008", "U_000B", "U_000C", 
-			"U_000E", "U_000F", "U_0010", "U_0011", "U_0012", "U_0013", "U_0014", 
-			"U_0015", "U_0016", "U_0017", "U_0018", "U_0019", "U_001A", "U_001B", 
-			"U_001C", "U_001D", "U_001E", "U_001F", "U_007F", "U_0080", "U_0081", 
-			"U_0082", "U_0083", "U_0084", "U_0085", "U_0086", "U_0087", "U_0088", 
-			"U_0089", "U_008A", "U_008B", "U_008C", "U_008D", "U_008E", "U_008F", 
-			"U_0090", "U_0091", "U_0092", "U_0093", "U_0094", "U_0095", "U_0096", 
-			"U_0097", "U_0098", "U_0099", "U_009A", "U_009B", "U_009C", "U_009D", 
-			"U_009E", "U_009F", "U_00A0", "U_00A1", "U_00A2", "U_00A3", "U_00A4", 
-			"U_00A5", "U_00A6", "U_00A7", "U_00A8", "U_00A9", "U_00AA", "U_00AB", 
-			"U_00AC", "U_00AD", "U_00AE", "U_00AF", "U_00B0", "U_00B1", "U_00B2", 
-			"U_00B3", "U_00B4", "U_00B5", "U_00B6", "U_00B7", "U_00B8", "U_00B9", 
-			"U_00BA", "U_00BB", "U_00BC", "U_00BD", "U_00BE", "U_00BF", "U_00C0", 
-			"U_00C1", "U_00C2", "U_00C3", "U_00C4", "U_00C5", "U_00C6", "U_00C7", 
-			"U_00C8", "U_00C9", "U_00CA", "U_00CB", "U_00CC", "U_00CD", "U_00CE", 
-			"U_00CF", "U_00D0", "U_00D1", "U_00D2", "U_00D3", "U_00D4", "U_00D5", 
-			"U_00D6", "U_00D7", "U_00D8", "U_00D9", "U_00DA", "U_00DB", "U_00DC", 
-			"U_00DD", "U_00DE", "U_00DF", "U_00E0", "U_00E1", "U_00E2", "U_00E3", 
-			"U_00E4", "U_00E5", "U_00E6", "U_00E7", "U_00E8", "U_00E9", "U_00EA", 
-			"U_00EB", "U_00EC", "U_00ED", "U_00EE", "U_00EF", "U_00F0", "U_00F1", 
-			"U_00F2", "U_00F3", "U_00F4", "U_00F5", "U_00F6", "U_00F7", "U_00F8", 
-			"U_00F9", "U_00FA", "U_00FB", "U_00FC", "U_00FD", "U_00FE", "U_00FF"
+			"LESS_THAN", "GREATER_THAN", "SPACE", "DASH", "CAP_T", "MONTH", "DIGITS", 
+			"COLON", "TIME_DIGITS", "TIME_COLON", "TIME_DASH", "PERIOD", "PLUS", 
+			"CAP_Z", "TIME_SPACE", "HOST_NAME", "HOSTNAME_SPACE", "BOM", "OCTETS", 
+			"UTF_8_OCTETS"
 		};
 	}
 	public static final String[] ruleNames = makeRuleNames();
 
 	private static String[] makeLiteralNames() {
 		return new String[] {
-			null, "'\\u0009'", "'\\u000A'", "'\\u000D'", "' '", "'!'", "'\"'", "'#'", 
-			"'$'", "'%'", "'&'", "'''", "'('", "')'", "'*'", "'+'", "','", "'-'", 
-			"'.'", "'/'", "'0'", "'1'", "'2'", "'3'", "'4'", "'5'", "'6'", "'7'", 
-			"'8'", "'9'", "':'", "';'", "'<'", "'='", "'>'", "'?'", "'@'", "'A'", 
-			"'B'", "'C'", "'D'", "'E'", "'F'", "'G'", "'H'", "'I'", "'J'", "'K'", 
-			"'L'", "'M'", "'N'", "'O'", "'P'", "'Q'", "'R'", "'S'", "'T'", "'U'", 
-			"'V'", "'W'", "'X'", "'Y'", "'Z'", "'['", "'\\'", "']'", "'^'", "'_'", 
-			"'`'", "'a'", "'b'", "'c'", "'d'", "'e'", "'f'", "'g'", "'h'", "'i'", 
-			"'j'", "'k'", "'l'", "'m'", "'n'", "'o'", "'p'", "'q'", "'r'", "'s'", 
-			"'t'", "'u'", "'v'", "'w'", "'x'", "'y'", "'z'", "'{'", "'|'", "'}'", 
-			"'~'", "'\\u0000'", "'\\u0001'", "'\\u0002'", "'\\u0003'", "'\\u0004'", 
-			"'\\u0005'", "'\\u0006'", "'\\u0007'", "'\\u0008'", "'\\u000B'", "'\\u000C'", 
-			"'\\u000E'", "'\\u000F'", "'\\u0010'", "'\\u0011'", "'\\u0012'", "'\\u0013'", 
-			"'\\u0014'", "'\\u0015'", "'\\u0016'", "'\\u0017'", "'\\u0018'", "'\\u0019'", 
-			"'\\u001A'", "'\\u001B'", "'\\u001C'", "'\\u001D'", "'\\u001E'", "'\\u001F'", 
-			"'\\u007F'", "'\\u0080'", "'\\u0081'", "'\\u0082'", "'\\u0083'", "'\\u0084'", 
-			"'\\u0085'", "'\\u0086'", "'\\u0087'", "'\\u0088'", "'\\u0089'", "'\\u008A'", 
-			"'\\u008B'", "'\\u008C'", "'\\u008D'", "'\\u008E'", "'\\u008F'", "'\\u0090'", 
-			"'\\u0091'", "'\\u0092'", "'\\u0093'", "'\\u0094'", "'\\u0095'", "'\\u0096'", 
-			"'\\u0097'", "'\\u0098'", "'\\u0099'", "'\\u009A'", "'\\u009B'", "'\\u009C'", 
-			"'\\u009D'", "'\\u009E'", "'\\u009F'", "'\\u00A0'", "'\\u00A1'", "'\\u00A2'", 
-			"'\\u00A3'", "'\\u00A4'", "'\\u00A5'", "'\\u00A6'", "'\\u00A7'", "'\\u00A8'", 
-			"'\\u00A9'", "'\\u00AA'", "'\\u00AB'", "'\\u00AC'", "'\\u00AD'", "'\\u00AE'", 
-			"'\\u00AF'", "'\\u00B0'", "'\\u00B1'", "'\\u00B2'", "'\\u00B3'", "'\\u00B4'", 
-			"'\\u00B5'", "'\\u00B6'", "'\\u00B7'", "'\\u00B8'", "'\\u00B9'", "'\\u00BA'", 
-			"'\\u00BB'", "'\\u00BC'", "'\\u00BD'", "'\\u00BE'", "'\\u00BF'", "'\\u00C0'", 
-			"'\\u00C1'", "'\\u00C2'", "'\\u00C3'", "'\\u00C4'", "'\\u00C5'", "'\\u00C6'", 
-			"'\\u00C7'", "'\\u00C8'", "'\\u00C9'", "'\\u00CA'", "'\\u00CB'", "'\\u00CC'", 
-			"'\\u00CD'", "'\\u00CE'", "'\\u00CF'", "'\\u00D0'", "'\\u00D1'", "'\\u00D2'", 
-			"'\\u00D3'", "'\\u00D4'", "'\\u00D5'", "'\\u00D6'", "'\\u00D7'", "'\\u00D8'", 
-			"'\\u00D9'", "'\\u00DA'", "'\\u00DB'", "'\\u00DC'", "'\\u00DD'", "'\\u00DE'", 
-			"'\\u00DF'", "'\\u00E0'", "'\\u00E1'", "'\\u00E2'", "'\\u00E3'", "'\\u00E4'", 
-			"'\\u00E5'", "'\\u00E6'", "'\\u00E7'", "'\\u00E8'", "'\\u00E9'", "'\\u00EA'", 
-			"'\\u00EB'", "'\\u00EC'", "'\\u00ED'", "'\\u00EE'", "'\\u00EF'", "'\\u00F0'", 
-			"'\\u00F1'", "'\\u00F2'", "'\\u00F3'", "'\\u00F4'", "'\\u00F5'", "'\\u00F6'", 
-			"'\\u00F7'", "'\\u00F8'", "'\\u00F9'", "'\\u00FA'", "'\\u00FB'", "'\\u00FC'", 
-			"'\\u00FD'", "'\\u00FE'", "'\\u00FF'"
+			null, "'<'", "'>'", "' '", null, "'T'", null, null, null, "'.'", "'+'", 
+			"'Z'"
 		};
 	}
 	private static final String[] _LITERAL_NAMES = makeLiteralNames();
 	private static String[] makeSymbolicNames() {
 		return new String[] {
-			null, "TAB", "LF", "CR", "SPACE", "EXCLAMATION", "QUOTE", "POUND", "DOLLAR", 
-			"PERCENT", "AMPERSAND", "APOSTROPHE", "LEFT_PAREN", "RIGHT_PAREN", "ASTERISK", 
-			"PLUS", "COMMA", "DASH", "PERIOD", "SLASH", "ZERO", "ONE", "TWO", "THREE", 
-			"FOUR", "FIVE", "SIX", "SEVEN", "EIGHT", "NINE", "COLON", "SEMICOLON", 
-			"LESS_THAN", "EQUALS", "GREATER_THAN", "QUESTION", "AT", "CAP_A", "CAP_B", 
-			"CAP_C", "CAP_D", "CAP_E", "CAP_F", "CAP_G", "CAP_H", "CAP_I", "CAP_J", 
-			"CAP_K", "CAP_L", "CAP_M", "CAP_N", "CAP_O", "CAP_P", "CAP_Q", "CAP_R", 
-			"CAP_S", "CAP_T", "CAP_U", "CAP_V", "CAP_W", "CAP_X", "CAP_Y", "CAP_Z", 
-			"LEFT_BRACE", "BACKSLASH", "RIGHT_BRACE", "CARAT", "UNDERSCORE", "ACCENT", 
-			"A", "B", "C", "D", "E", "F", "G", "H", "I", "J", "K", "L", "M", "N", 
-			"O", "P", "Q", "R", "S", "T", "U", "V", "W", "X", "Y", "Z", "LEFT_CURLY_BRACE", 
-			"PIPE", "RIGHT_CURLY_BRACE", "TILDE", "U_0000", "U_0001", "U_0002", "U_0003", 
-			"U_0004", "U_0005", "U_0006", "U_0007", "U_0008", "U_000B", "U_000C", 
-			"U_000E", "U_000F", "U_0010", "U_0011", "U_0012", "U_0013", "U_0014", 
-			"U_0015", "U_0016", "U_0017", "U_0018", "U_0019", "U_001A", "U_001B", 
-			"U_001C", "U_001D", "U_001E", "U_001F", "U_007F", "U_0080", "U_0081", 
-			"U_0082", "U_0083", "U_0084", "U_0085", "U_0086", "U_0087", "U_0088", 
-			"U_0089", "U_008A", "U_008B", "U_008C", "U_008D", "U_008E", "U_008F", 
-			"U_0090", "U_0091", "U_0092", "U_0093", "U_0094", "U_0095", "U_0096", 
-			"U_0097", "U_0098", "U_0099", "U_009A", "U_009B", "U_009C", "U_009D", 
-			"U_009E", "U_009F", "U_00A0", "U_00A1", "U_00A2", "U_00A3", "U_00A4", 
-			"U_00A5", "U_00A6", "U_00A7", "U_00A8", "U_00A9", "U_00AA", "U_00AB", 
-			"U_00AC", "U_00AD", "U_00AE", "U_00AF", "U_00B0", "U_00B1", "U_00B2", 
-			"U_00B3", "U_00B4", "U_00B5", "U_00B6", "U_00B7", "U_00B8", "U_00B9", 
-			"U_00BA", "U_00BB", "U_00BC", "U_00BD", "U_00BE", "U_00BF", "U_00C0", 
-			"U_00C1", "U_00C2", "U_00C3", "U_00C4", "U_00C5", "U_00C6", "U_00C7", 
-			"U_00C8", "U_00C9", "U_00CA", "U_00CB", "U_00CC", "U_00CD", "U_00CE", 
-			"U_00CF", "U_00D0", "U_00D1", "U_00D2", "U_00D3", "U_00D4", "U_00D5", 
-			"U_00D6", "U_00D7", "U_00D8", "U_00D9", "U_00DA", "U_00DB", "U_00DC", 
-			"U_00DD", "U_00DE", "U_00DF", "U_00E0", "U_00E1", "U_00E2", "U_00E3", 
-			"U_00E4", "U_00E5", "U_00E6", "U_00E7", "U_00E8", "U_00E9", "U_00EA", 
-			"U_00EB", "U_00EC", "U_00ED", "U_00EE", "U_00EF", "U_00F0", "U_00F1", 
-			"U_00F2", "U_00F3", "U_00F4", "U_00F5", "U_00F6", "U_00F7", "U_00F8", 
-			"U_00F9", "U_00FA", "U_00FB", "U_00FC", "U_00FD", "U_00FE", "U_00FF"
+			null, "LESS_THAN", "GREATER_THAN", "SPACE", "DASH", "CAP_T", "MONTH", 
+			"DIGITS", "COLON", "PERIOD", "PLUS", "CAP_Z", "HOST_NAME", "BOM", "OCTETS"
 		};
 	}
 	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
@@ -239,13 +106,33 @@ public class Rfc3164Lexer extends Lexer {
 	}
 
 
+	  private boolean headerOnly;
+
+	  /**
+	   * When header only, the lexer ends the input where the MSG begins, so the MSG is never lexed.
+	   *
+	   * @param headerOnly true to lex only the header
+	   */
+	  public void setHeaderOnly(boolean headerOnly) {
+	    this.headerOnly = headerOnly;
+	  }
+
+	  @Override
+	  public Token nextToken() {
+	    if (headerOnly && _mode == MSG) {
+	      return emitEOF();
+	    }
+	    return super.nextToken();
+	  }
+
+
 	public Rfc3164Lexer(CharStream input) {
 		super(input);
 		_interp = new LexerATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
 	}
 
 	@Override
-	public String getGrammarFileName() { return "Rfc3164.g4"; }
+	public String getGrammarFileName() { return "Rfc3164Lexer.g4"; }
 
 	@Override
 	public String[] getRuleNames() { return ruleNames; }
@@ -263,679 +150,81 @@ public class Rfc3164Lexer extends Lexer {
 	public ATN getATN() { return _ATN; }
 
 	public static final String _serializedATN =
-		"\u0004\u0000\u0100\u0401\u0006\uffff\uffff\u0002\u0000\u0007\u0000\u0002"+
-		"\u0001\u0007\u0001\u0002\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002"+
-		"\u0004\u0007\u0004\u0002\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002"+
-		"\u0007\u0007\u0007\u0002\b\u0007\b\u0002\t\u0007\t\u0002\n\u0007\n\u0002"+
-		"\u000b\u0007\u000b\u0002\f\u0007\f\u0002\r\u0007\r\u0002\u000e\u0007\u000e"+
-		"\u0002\u000f\u0007\u000f\u0002\u0010\u0007\u0010\u0002\u0011\u0007\u0011"+
-		"\u0002\u0012\u0007\u0012\u0002\u0013\u0007\u0013\u0002\u0014\u0007\u0014"+
-		"\u0002\u0015\u0007\u0015\u0002\u0016\u0007\u0016\u0002\u0017\u0007\u0017"+
-		"\u0002\u0018\u0007\u0018\u0002\u0019\u0007\u0019\u0002\u001a\u0007\u001a"+
-		"\u0002\u001b\u0007\u001b\u0002\u001c\u0007\u001c\u0002\u001d\u0007\u001d"+
-		"\u0002\u001e\u0007\u001e\u0002\u001f\u0007\u001f\u0002 \u0007 \u0002!"+
-		"\u0007!\u0002\"\u0007\"\u0002#\u0007#\u0002$\u0007$\u0002%\u0007%\u0002"+
-		"&\u0007&\u0002\'\u0007\'\u0002(\u0007(\u0002)\u0007)\u0002*\u0007*\u0002"+
-		"+\u0007+\u0002,\u0007,\u0002-\u0007-\u0002.\u0007.\u0002/\u0007/\u0002"+
-		"0\u00070\u00021\u00071\u00022\u00072\u00023\u00073\u00024\u00074\u0002"+
-		"5\u00075\u00026\u00076\u00027\u00077\u00028\u00078\u00029\u00079\u0002"+
-		":\u0007:\u0002;\u0007;\u0002<\u0007<\u0002=\u0007=\u0002>\u0007>\u0002"+
-		"?\u0007?\u0002@\u0007@\u0002A\u0007A\u0002B\u0007B\u0002C\u0007C\u0002"+
-		"D\u0007D\u0002E\u0007E\u0002F\u0007F\u0002G\u0007G\u0002H\u0007H\u0002"+
-		"I\u0007I\u0002J\u0007J\u0002K\u0007K\u0002L\u0007L\u0002M\u0007M\u0002"+
-		"N\u0007N\u0002O\u0007O\u0002P\u0007P\u0002Q\u0007Q\u0002R\u0007R\u0002"+
-		"S\u0007S\u0002T\u0007T\u0002U\u0007U\u0002V\u0007V\u0002W\u0007W\u0002"+
-		"X\u0007X\u0002Y\u0007Y\u0002Z\u0007Z\u0002[\u0007[\u0002\\\u0007\\\u0002"+
-		"]\u0007]\u0002^\u0007^\u0002_\u0007_\u0002`\u0007`\u0002a\u0007a\u0002"+
-		"b\u0007b\u0002c\u0007c\u0002d\u0007d\u0002e\u0007e\u0002f\u0007f\u0002"+
-		"g\u0007g\u0002h\u0007h\u0002i\u0007i\u0002j\u0007j\u0002k\u0007k\u0002"+
-		"l\u0007l\u0002m\u0007m\u0002n\u0007n\u0002o\u0007o\u0002p\u0007p\u0002"+
-		"q\u0007q\u0002r\u0007r\u0002s\u0007s\u0002t\u0007t\u0002u\u0007u\u0002"+
-		"v\u0007v\u0002w\u0007w\u0002x\u0007x\u0002y\u0007y\u0002z\u0007z\u0002"+
-		"{\u0007{\u0002|\u0007|\u0002}\u0007}\u0002~\u0007~\u0002\u007f\u0007\u007f"+
-		"\u0002\u0080\u0007\u0080\u0002\u0081\u0007\u0081\u0002\u0082\u0007\u0082"+
-		"\u0002\u0083\u0007\u0083\u0002\u0084\u0007\u0084\u0002\u0085\u0007\u0085"+
-		"\u0002\u0086\u0007\u0086\u0002\u0087\u0007\u0087\u0002\u0088\u0007\u0088"+
-		"\u0002\u0089\u0007\u0089\u0002\u008a\u0007\u008a\u0002\u008b\u0007\u008b"+
-		"\u0002\u008c\u0007\u008c\u0002\u008d\u0007\u008d\u0002\u008e\u0007\u008e"+
-		"\u0002\u008f\u0007\u008f\u0002\u0090\u0007\u0090\u0002\u0091\u0007\u0091"+
-		"\u0002\u0092\u0007\u0092\u0002\u0093\u0007\u0093\u0002\u0094\u0007\u0094"+
-		"\u0002\u0095\u0007\u0095\u0002\u0096\u0007\u0096\u0002\u0097\u0007\u0097"+
-		"\u0002\u0098\u0007\u0098\u0002\u0099\u0007\u0099\u0002\u009a\u0007\u009a"+
-		"\u0002\u009b\u0007\u009b\u0002\u009c\u0007\u009c\u0002\u009d\u0007\u009d"+
-		"\u0002\u009e\u0007\u009e\u0002\u009f\u0007\u009f\u0002\u00a0\u0007\u00a0"+
-		"\u0002\u00a1\u0007\u00a1\u0002\u00a2\u0007\u00a2\u0002\u00a3\u0007\u00a3"+
-		"\u0002\u00a4\u0007\u00a4\u0002\u00a5\u0007\u00a5\u0002\u00a6\u0007\u00a6"+
-		"\u0002\u00a7\u0007\u00a7\u0002\u00a8\u0007\u00a8\u0002\u00a9\u0007\u00a9"+
-		"\u0002\u00aa\u0007\u00aa\u0002\u00ab\u0007\u00ab\u0002\u00ac\u0007\u00ac"+
-		"\u0002\u00ad\u0007\u00ad\u0002\u00ae\u0007\u00ae\u0002\u00af\u0007\u00af"+
-		"\u0002\u00b0\u0007\u00b0\u0002\u00b1\u0007\u00b1\u0002\u00b2\u0007\u00b2"+
-		"\u0002\u00b3\u0007\u00b3\u0002\u00b4\u0007\u00b4\u0002\u00b5\u0007\u00b5"+
-		"\u0002\u00b6\u0007\u00b6\u0002\u00b7\u0007\u00b7\u0002\u00b8\u0007\u00b8"+
-		"\u0002\u00b9\u0007\u00b9\u0002\u00ba\u0007\u00ba\u0002\u00bb\u0007\u00bb"+
-		"\u0002\u00bc\u0007\u00bc\u0002\u00bd\u0007\u00bd\u0002\u00be\u0007\u00be"+
-		"\u0002\u00bf\u0007\u00bf\u0002\u00c0\u0007\u00c0\u0002\u00c1\u0007\u00c1"+
-		"\u0002\u00c2\u0007\u00c2\u0002\u00c3\u0007\u00c3\u0002\u00c4\u0007\u00c4"+
-		"\u0002\u00c5\u0007\u00c5\u0002\u00c6\u0007\u00c6\u0002\u00c7\u0007\u00c7"+
-		"\u0002\u00c8\u0007\u00c8\u0002\u00c9\u0007\u00c9\u0002\u00ca\u0007\u00ca"+
-		"\u0002\u00cb\u0007\u00cb\u0002\u00cc\u0007\u00cc\u0002\u00cd\u0007\u00cd"+
-		"\u0002\u00ce\u0007\u00ce\u0002\u00cf\u0007\u00cf\u0002\u00d0\u0007\u00d0"+
-		"\u0002\u00d1\u0007\u00d1\u0002\u00d2\u0007\u00d2\u0002\u00d3\u0007\u00d3"+
-		"\u0002\u00d4\u0007\u00d4\u0002\u00d5\u0007\u00d5\u0002\u00d6\u0007\u00d6"+
-		"\u0002\u00d7\u0007\u00d7\u0002\u00d8\u0007\u00d8\u0002\u00d9\u0007\u00d9"+
-		"\u0002\u00da\u0007\u00da\u0002\u00db\u0007\u00db\u0002\u00dc\u0007\u00dc"+
-		"\u0002\u00dd\u0007\u00dd\u0002\u00de\u0007\u00de\u0002\u00df\u0007\u00df"+
-		"\u0002\u00e0\u0007\u00e0\u0002\u00e1\u0007\u00e1\u0002\u00e2\u0007\u00e2"+
-		"\u0002\u00e3\u0007\u00e3\u0002\u00e4\u0007\u00e4\u0002\u00e5\u0007\u00e5"+
-		"\u0002\u00e6\u0007\u00e6\u0002\u00e7\u0007\u00e7\u0002\u00e8\u0007\u00e8"+
-		"\u0002\u00e9\u0007\u00e9\u0002\u00ea\u0007\u00ea\u0002\u00eb\u0007\u00eb"+
-		"\u0002\u00ec\u0007\u00ec\u0002\u00ed\u0007\u00ed\u0002\u00ee\u0007\u00ee"+
-		"\u0002\u00ef\u0007\u00ef\u0002\u00f0\u0007\u00f0\u0002\u00f1\u0007\u00f1"+
-		"\u0002\u00f2\u0007\u00f2\u0002\u00f3\u0007\u00f3\u0002\u00f4\u0007\u00f4"+
-		"\u0002\u00f5\u0007\u00f5\u0002\u00f6\u0007\u00f6\u0002\u00f7\u0007\u00f7"+
-		"\u0002\u00f8\u0007\u00f8\u0002\u00f9\u0007\u00f9\u0002\u00fa\u0007\u00fa"+
-		"\u0002\u00fb\u0007\u00fb\u0002\u00fc\u0007\u00fc\u0002\u00fd\u0007\u00fd"+
-		"\u0002\u00fe\u0007\u00fe\u0002\u00ff\u0007\u00ff\u0001\u0000\u0001\u0000"+
-		"\u0001\u0001\u0001\u0001\u0001\u0002\u0001\u0002\u0001\u0003\u0001\u0003"+
-		"\u0001\u0004\u0001\u0004\u0001\u0005\u0001\u0005\u0001\u0006\u0001\u0006"+
-		"\u0001\u0007\u0001\u0007\u0001\b\u0001\b\u0001\t\u0001\t\u0001\n\u0001"+
-		"\n\u0001\u000b\u0001\u000b\u0001\f\u0001\f\u0001\r\u0001\r\u0001\u000e"+
-		"\u0001\u000e\u0001\u000f\u0001\u000f\u0001\u0010\u0001\u0010\u0001\u0011"+
-		"\u0001\u0011\u0001\u0012\u0001\u0012\u0001\u0013\u0001\u0013\u0001\u0014"+
-		"\u0001\u0014\u0001\u0015\u0001\u0015\u0001\u0016\u0001\u0016\u0001\u0017"+
-		"\u0001\u0017\u0001\u0018\u0001\u0018\u0001\u0019\u0001\u0019\u0001\u001a"+
-		"\u0001\u001a\u0001\u001b\u0001\u001b\u0001\u001c\u0001\u001c\u0001\u001d"+
-		"\u0001\u001d\u0001\u001e\u0001\u001e\u0001\u001f\u0001\u001f\u0001 \u0001"+
-		" \u0001!\u0001!\u0001\"\u0001\"\u0001#\u0001#\u0001$\u0001$\u0001%\u0001"+
-		"%\u0001&\u0001&\u0001\'\u0001\'\u0001(\u0001(\u0001)\u0001)\u0001*\u0001"+
-		"*\u0001+\u0001+\u0001,\u0001,\u0001-\u0001-\u0001.\u0001.\u0001/\u0001"+
-		"/\u00010\u00010\u00011\u00011\u00012\u00012\u00013\u00013\u00014\u0001"+
-		"4\u00015\u00015\u00016\u00016\u00017\u00017\u00018\u00018\u00019\u0001"+
-		"9\u0001:\u0001:\u0001;\u0001;\u0001<\u0001<\u0001=\u0001=\u0001>\u0001"+
-		">\u0001?\u0001?\u0001@\u0001@\u0001A\u0001A\u0001B\u0001B\u0001C\u0001"+
-		"C\u0001D\u0001D\u0001E\u0001E\u0001F\u0001F\u0001G\u0001G\u0001H\u0001"+
-		"H\u0001I\u0001I\u0001J\u0001J\u0001K\u0001K\u0001L\u0001L\u0001M\u0001"+
-		"M\u0001N\u0001N\u0001O\u0001O\u0001P\u0001P\u0001Q\u0001Q\u0001R\u0001"+
-		"R\u0001S\u0001S\u0001T\u0001T\u0001U\u0001U\u0001V\u0001V\u0001W\u0001"+
-		"W\u0001X\u0001X\u0001Y\u0001Y\u0001Z\u0001Z\u0001[\u0001[\u0001\\\u0001"+
-		"\\\u0001]\u0001]\u0001^\u0001^\u0001_\u0001_\u0001`\u0001`\u0001a\u0001"+
-		"a\u0001b\u0001b\u0001c\u0001c\u0001d\u0001d\u0001e\u0001e\u0001f\u0001"+
-		"f\u0001g\u0001g\u0001h\u0001h\u0001i\u0001i\u0001j\u0001j\u0001k\u0001"+
-		"k\u0001l\u0001l\u0001m\u0001m\u0001n\u0001n\u0001o\u0001o\u0001p\u0001"+
-		"p\u0001q\u0001q\u0001r\u0001r\u0001s\u0001s\u0001t\u0001t\u0001u\u0001"+
-		"u\u0001v\u0001v\u0001w\u0001w\u0001x\u0001x\u0001y\u0001y\u0001z\u0001"+
-		"z\u0001{\u0001{\u0001|\u0001|\u0001}\u0001}\u0001~\u0001~\u0001\u007f"+
-		"\u0001\u007f\u0001\u0080\u0001\u0080\u0001\u0081\u0001\u0081\u0001\u0082"+
-		"\u0001\u0082\u0001\u0083\u0001\u0083\u0001\u0084\u0001\u0084\u0001\u0085"+
-		"\u0001\u0085\u0001\u0086\u0001\u0086\u0001\u0087\u0001\u0087\u0001\u0088"+
-		"\u0001\u0088\u0001\u0089\u0001\u0089\u0001\u008a\u0001\u008a\u0001\u008b"+
-		"\u0001\u008b\u0001\u008c\u0001\u008c\u0001\u008d\u0001\u008d\u0001\u008e"+
-		"\u0001\u008e\u0001\u008f\u0001\u008f\u0001\u0090\u0001\u0090\u0001\u0091"+
-		"\u0001\u0091\u0001\u0092\u0001\u0092\u0001\u0093\u0001\u0093\u0001\u0094"+
-		"\u0001\u0094\u0001\u0095\u0001\u0095\u0001\u0096\u0001\u0096\u0001\u0097"+
-		"\u0001\u0097\u0001\u0098\u0001\u0098\u0001\u0099\u0001\u0099\u0001\u009a"+
-		"\u0001\u009a\u0001\u009b\u0001\u009b\u0001\u009c\u0001\u009c\u0001\u009d"+
-		"\u0001\u009d\u0001\u009e\u0001\u009e\u0001\u009f\u0001\u009f\u0001\u00a0"+
-		"\u0001\u00a0\u0001\u00a1\u0001\u00a1\u0001\u00a2\u0001\u00a2\u0001\u00a3"+
-		"\u0001\u00a3\u0001\u00a4\u0001\u00a4\u0001\u00a5\u0001\u00a5\u0001\u00a6"+
-		"\u0001\u00a6\u0001\u00a7\u0001\u00a7\u0001\u00a8\u0001\u00a8\u0001\u00a9"+
-		"\u0001\u00a9\u0001\u00aa\u0001\u00aa\u0001\u00ab\u0001\u00ab\u0001\u00ac"+
-		"\u0001\u00ac\u0001\u00ad\u0001\u00ad\u0001\u00ae\u0001\u00ae\u0001\u00af"+
-		"\u0001\u00af\u0001\u00b0\u0001\u00b0\u0001\u00b1\u0001\u00b1\u0001\u00b2"+
-		"\u0001\u00b2\u0001\u00b3\u0001\u00b3\u0001\u00b4\u0001\u00b4\u0001\u00b5"+
-		"\u0001\u00b5\u0001\u00b6\u0001\u00b6\u0001\u00b7\u0001\u00b7\u0001\u00b8"+
-		"\u0001\u00b8\u0001\u00b9\u0001\u00b9\u0001\u00ba\u0001\u00ba\u0001\u00bb"+
-		"\u0001\u00bb\u0001\u00bc\u0001\u00bc\u0001\u00bd\u0001\u00bd\u0001\u00be"+
-		"\u0001\u00be\u0001\u00bf\u0001\u00bf\u0001\u00c0\u0001\u00c0\u0001\u00c1"+
-		"\u0001\u00c1\u0001\u00c2\u0001\u00c2\u0001\u00c3\u0001\u00c3\u0001\u00c4"+
-		"\u0001\u00c4\u0001\u00c5\u0001\u00c5\u0001\u00c6\u0001\u00c6\u0001\u00c7"+
-		"\u0001\u00c7\u0001\u00c8\u0001\u00c8\u0001\u00c9\u0001\u00c9\u0001\u00ca"+
-		"\u0001\u00ca\u0001\u00cb\u0001\u00cb\u0001\u00cc\u0001\u00cc\u0001\u00cd"+
-		"\u0001\u00cd\u0001\u00ce\u0001\u00ce\u0001\u00cf\u0001\u00cf\u0001\u00d0"+
-		"\u0001\u00d0\u0001\u00d1\u0001\u00d1\u0001\u00d2\u0001\u00d2\u0001\u00d3"+
-		"\u0001\u00d3\u0001\u00d4\u0001\u00d4\u0001\u00d5\u0001\u00d5\u0001\u00d6"+
-		"\u0001\u00d6\u0001\u00d7\u0001\u00d7\u0001\u00d8\u0001\u00d8\u0001\u00d9"+
-		"\u0001\u00d9\u0001\u00da\u0001\u00da\u0001\u00db\u0001\u00db\u0001\u00dc"+
-		"\u0001\u00dc\u0001\u00dd\u0001\u00dd\u0001\u00de\u0001\u00de\u0001\u00df"+
-		"\u0001\u00df\u0001\u00e0\u0001\u00e0\u0001\u00e1\u0001\u00e1\u0001\u00e2"+
-		"\u0001\u00e2\u0001\u00e3\u0001\u00e3\u0001\u00e4\u0001\u00e4\u0001\u00e5"+
-		"\u0001\u00e5\u0001\u00e6\u0001\u00e6\u0001\u00e7\u0001\u00e7\u0001\u00e8"+
-		"\u0001\u00e8\u0001\u00e9\u0001\u00e9\u0001\u00ea\u0001\u00ea\u0001\u00eb"+
-		"\u0001\u00eb\u0001\u00ec\u0001\u00ec\u0001\u00ed\u0001\u00ed\u0001\u00ee"+
-		"\u0001\u00ee\u0001\u00ef\u0001\u00ef\u0001\u00f0\u0001\u00f0\u0001\u00f1"+
-		"\u0001\u00f1\u0001\u00f2\u0001\u00f2\u0001\u00f3\u0001\u00f3\u0001\u00f4"+
-		"\u0001\u00f4\u0001\u00f5\u0001\u00f5\u0001\u00f6\u0001\u00f6\u0001\u00f7"+
-		"\u0001\u00f7\u0001\u00f8\u0001\u00f8\u0001\u00f9\u0001\u00f9\u0001\u00fa"+
-		"\u0001\u00fa\u0001\u00fb\u0001\u00fb\u0001\u00fc\u0001\u00fc\u0001\u00fd"+
-		"\u0001\u00fd\u0001\u00fe\u0001\u00fe\u0001\u00ff\u0001\u00ff\u0000\u0000"+
-		"\u0100\u0001\u0001\u0003\u0002\u0005\u0003\u0007\u0004\t\u0005\u000b\u0006"+
-		"\r\u0007\u000f\b\u0011\t\u0013\n\u0015\u000b\u0017\f\u0019\r\u001b\u000e"+
-		"\u001d\u000f\u001f\u0010!\u0011#\u0012%\u0013\'\u0014)\u0015+\u0016-\u0017"+
-		"/\u00181\u00193\u001a5\u001b7\u001c9\u001d;\u001e=\u001f? A!C\"E#G$I%"+
-		"K&M\'O(Q)S*U+W,Y-[.]/_0a1c2e3g4i5k6m7o8q9s:u;w<y={>}?\u007f@\u0081A\u0083"+
-		"B\u0085C\u0087D\u0089E\u008bF\u008dG\u008fH\u0091I\u0093J\u0095K\u0097"+
-		"L\u0099M\u009bN\u009dO\u009fP\u00a1Q\u00a3R\u00a5S\u00a7T\u00a9U\u00ab"+
-		"V\u00adW\u00afX\u00b1Y\u00b3Z\u00b5[\u00b7\\\u00b9]\u00bb^\u00bd_\u00bf"+
-		"`\u00c1a\u00c3b\u00c5c\u00c7d\u00c9e\u00cbf\u00cdg\u00cfh\u00d1i\u00d3"+
-		"j\u00d5k\u00d7l\u00d9m\u00dbn\u00ddo\u00dfp\u00e1q\u00e3r\u00e5s\u00e7"+
-		"t\u00e9u\u00ebv\u00edw\u00efx\u00f1y\u00f3z\u00f5{\u00f7|\u00f9}\u00fb"+
-		"~\u00fd\u007f\u00ff\u0080\u0101\u0081\u0103\u0082\u0105\u0083\u0107\u0084"+
-		"\u0109\u0085\u010b\u0086\u010d\u0087\u010f\u0088\u0111\u0089\u0113\u008a"+
-		"\u0115\u008b\u0117\u008c\u0119\u008d\u011b\u008e\u011d\u008f\u011f\u0090"+
-		"\u0121\u0091\u0123\u0092\u0125\u0093\u0127\u0094\u0129\u0095\u012b\u0096"+
-		"\u012d\u0097\u012f\u0098\u0131\u0099\u0133\u009a\u0135\u009b\u0137\u009c"+
-		"\u0139\u009d\u013b\u009e\u013d\u009f\u013f\u00a0\u0141\u00a1\u0143\u00a2"+
-		"\u0145\u00a3\u0147\u00a4\u0149\u00a5\u014b\u00a6\u014d\u00a7\u014f\u00a8"+
-		"\u0151\u00a9\u0153\u00aa\u0155\u00ab\u0157\u00ac\u0159\u00ad\u015b\u00ae"+
-		"\u015d\u00af\u015f\u00b0\u0161\u00b1\u0163\u00b2\u0165\u00b3\u0167\u00b4"+
-		"\u0169\u00b5\u016b\u00b6\u016d\u00b7\u016f\u00b8\u0171\u00b9\u0173\u00ba"+
-		"\u0175\u00bb\u0177\u00bc\u0179\u00bd\u017b\u00be\u017d\u00bf\u017f\u00c0"+
-		"\u0181\u00c1\u0183\u00c2\u0185\u00c3\u0187\u00c4\u0189\u00c5\u018b\u00c6"+
-		"\u018d\u00c7\u018f\u00c8\u0191\u00c9\u0193\u00ca\u0195\u00cb\u0197\u00cc"+
-		"\u0199\u00cd\u019b\u00ce\u019d\u00cf\u019f\u00d0\u01a1\u00d1\u01a3\u00d2"+
-		"\u01a5\u00d3\u01a7\u00d4\u01a9\u00d5\u01ab\u00d6\u01ad\u00d7\u01af\u00d8"+
-		"\u01b1\u00d9\u01b3\u00da\u01b5\u00db\u01b7\u00dc\u01b9\u00dd\u01bb\u00de"+
-		"\u01bd\u00df\u01bf\u00e0\u01c1\u00e1\u01c3\u00e2\u01c5\u00e3\u01c7\u00e4"+
-		"\u01c9\u00e5\u01cb\u00e6\u01cd\u00e7\u01cf\u00e8\u01d1\u00e9\u01d3\u00ea"+
-		"\u01d5\u00eb\u01d7\u00ec\u01d9\u00ed\u01db\u00ee\u01dd\u00ef\u01df\u00f0"+
-		"\u01e1\u00f1\u01e3\u00f2\u01e5\u00f3\u01e7\u00f4\u01e9\u00f5\u01eb\u00f6"+
-		"\u01ed\u00f7\u01ef\u00f8\u01f1\u00f9\u01f3\u00fa\u01f5\u00fb\u01f7\u00fc"+
-		"\u01f9\u00fd\u01fb\u00fe\u01fd\u00ff\u01ff\u0100\u0001\u0000\u0000\u0400"+
-		"\u0000\u0001\u0001\u0000\u0000\u0000\u0000\u0003\u0001\u0000\u0000\u0000"+
-		"\u0000\u0005\u0001\u0000\u0000\u0000\u0000\u0007\u0001\u0000\u0000\u0000"+
-		"\u0000\t\u0001\u0000\u0000\u0000\u0000\u000b\u0001\u0000\u0000\u0000\u0000"+
-		"\r\u0001\u0000\u0000\u0000\u0000\u000f\u0001\u0000\u0000\u0000\u0000\u0011"+
-		"\u0001\u0000\u0000\u0000\u0000\u0013\u0001\u0000\u0000\u0000\u0000\u0015"+
-		"\u0001\u0000\u0000\u0000\u0000\u0017\u0001\u0000\u0000\u0000\u0000\u0019"+
-		"\u0001\u0000\u0000\u0000\u0000\u001b\u0001\u0000\u0000\u0000\u0000\u001d"+
-		"\u0001\u0000\u0000\u0000\u0000\u001f\u0001\u0000\u0000\u0000\u0000!\u0001"+
-		"\u0000\u0000\u0000\u0000#\u0001\u0000\u0000\u0000\u0000%\u0001\u0000\u0000"+
-		"\u0000\u0000\'\u0001\u0000\u0000\u0000\u0000)\u0001\u0000\u0000\u0000"+
-		"\u0000+\u0001\u0000\u0000\u0000\u0000-\u0001\u0000\u0000\u0000\u0000/"+
-		"\u0001\u0000\u0000\u0000\u00001\u0001\u0000\u0000\u0000\u00003\u0001\u0000"+
-		"\u0000\u0000\u00005\u0001\u0000\u0000\u0000\u00007\u0001\u0000\u0000\u0000"+
-		"\u00009\u0001\u0000\u0000\u0000\u0000;\u0001\u0000\u0000\u0000\u0000="+
-		"\u0001\u0000\u0000\u0000\u0000?\u0001\u0000\u0000\u0000\u0000A\u0001\u0000"+
-		"\u0000\u0000\u0000C\u0001\u0000\u0000\u0000\u0000E\u0001\u0000\u0000\u0000"+
-		"\u0000G\u0001\u0000\u0000\u0000\u0000I\u0001\u0000\u0000\u0000\u0000K"+
-		"\u0001\u0000\u0000\u0000\u0000M\u0001\u0000\u0000\u0000\u0000O\u0001\u0000"+
-		"\u0000\u0000\u0000Q\u0001\u0000\u0000\u0000\u0000S\u0001\u0000\u0000\u0000"+
-		"\u0000U\u0001\u0000\u0000\u0000\u0000W\u0001\u0000\u0000\u0000\u0000Y"+
-		"\u0001\u0000\u0000\u0000\u0000[\u0001\u0000\u0000\u0000\u0000]\u0001\u0000"+
-		"\u0000\u0000\u0000_\u0001\u0000\u0000\u0000\u0000a\u0001\u0000\u0000\u0000"+
-		"\u0000c\u0001\u0000\u0000\u0000\u0000e\u0001\u0000\u0000\u0000\u0000g"+
-		"\u0001\u0000\u0000\u0000\u0000i\u0001\u0000\u0000\u0000\u0000k\u0001\u0000"+
-		"\u0000\u0000\u0000m\u0001\u0000\u0000\u0000\u0000o\u0001\u0000\u0000\u0000"+
-		"\u0000q\u0001\u0000\u0000\u0000\u0000s\u0001\u0000\u0000\u0000\u0000u"+
-		"\u0001\u0000\u0000\u0000\u0000w\u0001\u0000\u0000\u0000\u0000y\u0001\u0000"+
-		"\u0000\u0000\u0000{\u0001\u0000\u0000\u0000\u0000}\u0001\u0000\u0000\u0000"+
-		"\u0000\u007f\u0001\u0000\u0000\u0000\u0000\u0081\u0001\u0000\u0000\u0000"+
-		"\u0000\u0083\u0001\u0000\u0000\u0000\u0000\u0085\u0001\u0000\u0000\u0000"+
-		"\u0000\u0087\u0001\u0000\u0000\u0000\u0000\u0089\u0001\u0000\u0000\u0000"+
-		"\u0000\u008b\u0001\u0000\u0000\u0000\u0000\u008d\u0001\u0000\u0000\u0000"+
-		"\u0000\u008f\u0001\u0000\u0000\u0000\u0000\u0091\u0001\u0000\u0000\u0000"+
-		"\u0000\u0093\u0001\u0000\u0000\u0000\u0000\u0095\u0001\u0000\u0000\u0000"+
-		"\u0000\u0097\u0001\u0000\u0000\u0000\u0000\u0099\u0001\u0000\u0000\u0000"+
-		"\u0000\u009b\u0001\u0000\u0000\u0000\u0000\u009d\u0001\u0000\u0000\u0000"+
-		"\u0000\u009f\u0001\u0000\u0000\u0000\u0000\u00a1\u0001\u0000\u0000\u0000"+
-		"\u0000\u00a3\u0001\u0000\u0000\u0000\u0000\u00a5\u0001\u0000\u0000\u0000"+
-		"\u0000\u00a7\u0001\u0000\u0000\u0000\u0000\u00a9\u0001\u0000\u0000\u0000"+
-		"\u0000\u00ab\u0001\u0000\u0000\u0000\u0000\u00ad\u0001\u0000\u0000\u0000"+
-		"\u0000\u00af\u0001\u0000\u0000\u0000\u0000\u00b1\u0001\u0000\u0000\u0000"+
-		"\u0000\u00b3\u0001\u0000\u0000\u0000\u0000\u00b5\u0001\u0000\u0000\u0000"+
-		"\u0000\u00b7\u0001\u0000\u0000\u0000\u0000\u00b9\u0001\u0000\u0000\u0000"+
-		"\u0000\u00bb\u0001\u0000\u0000\u0000\u0000\u00bd\u0001\u0000\u0000\u0000"+
-		"\u0000\u00bf\u0001\u0000\u0000\u0000\u0000\u00c1\u0001\u0000\u0000\u0000"+
-		"\u0000\u00c3\u0001\u0000\u0000\u0000\u0000\u00c5\u0001\u0000\u0000\u0000"+
-		"\u0000\u00c7\u0001\u0000\u0000\u0000\u0000\u00c9\u0001\u0000\u0000\u0000"+
-		"\u0000\u00cb\u0001\u0000\u0000\u0000\u0000\u00cd\u0001\u0000\u0000\u0000"+
-		"\u0000\u00cf\u0001\u0000\u0000\u0000\u0000\u00d1\u0001\u0000\u0000\u0000"+
-		"\u0000\u00d3\u0001\u0000\u0000\u0000\u0000\u00d5\u0001\u0000\u0000\u0000"+
-		"\u0000\u00d7\u0001\u0000\u0000\u0000\u0000\u00d9\u0001\u0000\u0000\u0000"+
-		"\u0000\u00db\u0001\u0000\u0000\u0000\u0000\u00dd\u0001\u0000\u0000\u0000"+
-		"\u0000\u00df\u0001\u0000\u0000\u0000\u0000\u00e1\u0001\u0000\u0000\u0000"+
-		"\u0000\u00e3\u0001\u0000\u0000\u0000\u0000\u00e5\u0001\u0000\u0000\u0000"+
-		"\u0000\u00e7\u0001\u0000\u0000\u0000\u0000\u00e9\u0001\u0000\u0000\u0000"+
-		"\u0000\u00eb\u0001\u0000\u0000\u0000\u0000\u00ed\u0001\u0000\u0000\u0000"+
-		"\u0000\u00ef\u0001\u0000\u0000\u0000\u0000\u00f1\u0001\u0000\u0000\u0000"+
-		"\u0000\u00f3\u0001\u0000\u0000\u0000\u0000\u00f5\u0001\u0000\u0000\u0000"+
-		"\u0000\u00f7\u0001\u0000\u0000\u0000\u0000\u00f9\u0001\u0000\u0000\u0000"+
-		"\u0000\u00fb\u0001\u0000\u0000\u0000\u0000\u00fd\u0001\u0000\u0000\u0000"+
-		"\u0000\u00ff\u0001\u0000\u0000\u0000\u0000\u0101\u0001\u0000\u0000\u0000"+
-		"\u0000\u0103\u0001\u0000\u0000\u0000\u0000\u0105\u0001\u0000\u0000\u0000"+
-		"\u0000\u0107\u0001\u0000\u0000\u0000\u0000\u0109\u0001\u0000\u0000\u0000"+
-		"\u0000\u010b\u0001\u0000\u0000\u0000\u0000\u010d\u0001\u0000\u0000\u0000"+
-		"\u0000\u010f\u0001\u0000\u0000\u0000\u0000\u0111\u0001\u0000\u0000\u0000"+
-		"\u0000\u0113\u0001\u0000\u0000\u0000\u0000\u0115\u0001\u0000\u0000\u0000"+
-		"\u0000\u0117\u0001\u0000\u0000\u0000\u0000\u0119\u0001\u0000\u0000\u0000"+
-		"\u0000\u011b\u0001\u0000\u0000\u0000\u0000\u011d\u0001\u0000\u0000\u0000"+
-		"\u0000\u011f\u0001\u0000\u0000\u0000\u0000\u0121\u0001\u0000\u0000\u0000"+
-		"\u0000\u0123\u0001\u0000\u0000\u0000\u0000\u0125\u0001\u0000\u0000\u0000"+
-		"\u0000\u0127\u0001\u0000\u0000\u0000\u0000\u0129\u0001\u0000\u0000\u0000"+
-		"\u0000\u012b\u0001\u0000\u0000\u0000\u0000\u012d\u0001\u0000\u0000\u0000"+
-		"\u0000\u012f\u0001\u0000\u0000\u0000\u0000\u0131\u0001\u0000\u0000\u0000"+
-		"\u0000\u0133\u0001\u0000\u0000\u0000\u0000\u0135\u0001\u0000\u0000\u0000"+
-		"\u0000\u0137\u0001\u0000\u0000\u0000\u0000\u0139\u0001\u0000\u0000\u0000"+
-		"\u0000\u013b\u0001\u0000\u0000\u0000\u0000\u013d\u0001\u0000\u0000\u0000"+
-		"\u0000\u013f\u0001\u0000\u0000\u0000\u0000\u0141\u0001\u0000\u0000\u0000"+
-		"\u0000\u0143\u0001\u0000\u0000\u0000\u0000\u0145\u0001\u0000\u0000\u0000"+
-		"\u0000\u0147\u0001\u0000\u0000\u0000\u0000\u0149\u0001\u0000\u0000\u0000"+
-		"\u0000\u014b\u0001\u0000\u0000\u0000\u0000\u014d\u0001\u0000\u0000\u0000"+
-		"\u0000\u014f\u0001\u0000\u0000\u0000\u0000\u0151\u0001\u0000\u0000\u0000"+
-		"\u0000\u0153\u0001\u0000\u0000\u0000\u0000\u0155\u0001\u0000\u0000\u0000"+
-		"\u0000\u0157\u0001\u0000\u0000\u0000\u0000\u0159\u0001\u0000\u0000\u0000"+
-		"\u0000\u015b\u0001\u0000\u0000\u0000\u0000\u015d\u0001\u0000\u0000\u0000"+
-		"\u0000\u015f\u0001\u0000\u0000\u0000\u0000\u0161\u0001\u0000\u0000\u0000"+
-		"\u0000\u0163\u0001\u0000\u0000\u0000\u0000\u0165\u0001\u0000\u0000\u0000"+
-		"\u0000\u0167\u0001\u0000\u0000\u0000\u0000\u0169\u0001\u0000\u0000\u0000"+
-		"\u0000\u016b\u0001\u0000\u0000\u0000\u0000\u016d\u0001\u0000\u0000\u0000"+
-		"\u0000\u016f\u0001\u0000\u0000\u0000\u0000\u0171\u0001\u0000\u0000\u0000"+
-		"\u0000\u0173\u0001\u0000\u0000\u0000\u0000\u0175\u0001\u0000\u0000\u0000"+
-		"\u0000\u0177\u0001\u0000\u0000\u0000\u0000\u0179\u0001\u0000\u0000\u0000"+
-		"\u0000\u017b\u0001\u0000\u0000\u0000\u0000\u017d\u0001\u0000\u0000\u0000"+
-		"\u0000\u017f\u0001\u0000\u0000\u0000\u0000\u0181\u0001\u0000\u0000\u0000"+
-		"\u0000\u0183\u0001\u0000\u0000\u0000\u0000\u0185\u0001\u0000\u0000\u0000"+
-		"\u0000\u0187\u0001\u0000\u0000\u0000\u0000\u0189\u0001\u0000\u0000\u0000"+
-		"\u0000\u018b\u0001\u0000\u0000\u0000\u0000\u018d\u0001\u0000\u0000\u0000"+
-		"\u0000\u018f\u0001\u0000\u0000\u0000\u0000\u0191\u0001\u0000\u0000\u0000"+
-		"\u0000\u0193\u0001\u0000\u0000\u0000\u0000\u0195\u0001\u0000\u0000\u0000"+
-		"\u0000\u0197\u0001\u0000\u0000\u0000\u0000\u0199\u0001\u0000\u0000\u0000"+
-		"\u0000\u019b\u0001\u0000\u0000\u0000\u0000\u019d\u0001\u0000\u0000\u0000"+
-		"\u0000\u019f\u0001\u0000\u0000\u0000\u0000\u01a1\u0001\u0000\u0000\u0000"+
-		"\u0000\u01a3\u0001\u0000\u0000\u0000\u0000\u01a5\u0001\u0000\u0000\u0000"+
-		"\u0000\u01a7\u0001\u0000\u0000\u0000\u0000\u01a9\u0001\u0000\u0000\u0000"+
-		"\u0000\u01ab\u0001\u0000\u0000\u0000\u0000\u01ad\u0001\u0000\u0000\u0000"+
-		"\u0000\u01af\u0001\u0000\u0000\u0000\u0000\u01b1\u0001\u0000\u0000\u0000"+
-		"\u0000\u01b3\u0001\u0000\u0000\u0000\u0000\u01b5\u0001\u0000\u0000\u0000"+
-		"\u0000\u01b7\u0001\u0000\u0000\u0000\u0000\u01b9\u0001\u0000\u0000\u0000"+
-		"\u0000\u01bb\u0001\u0000\u0000\u0000\u0000\u01bd\u0001\u0000\u0000\u0000"+
-		"\u0000\u01bf\u0001\u0000\u0000\u0000\u0000\u01c1\u0001\u0000\u0000\u0000"+
-		"\u0000\u01c3\u0001\u0000\u0000\u0000\u0000\u01c5\u0001\u0000\u0000\u0000"+
-		"\u0000\u01c7\u0001\u0000\u0000\u0000\u0000\u01c9\u0001\u0000\u0000\u0000"+
-		"\u0000\u01cb\u0001\u0000\u0000\u0000\u0000\u01cd\u0001\u0000\u0000\u0000"+
-		"\u0000\u01cf\u0001\u0000\u0000\u0000\u0000\u01d1\u0001\u0000\u0000\u0000"+
-		"\u0000\u01d3\u0001\u0000\u0000\u0000\u0000\u01d5\u0001\u0000\u0000\u0000"+
-		"\u0000\u01d7\u0001\u0000\u0000\u0000\u0000\u01d9\u0001\u0000\u0000\u0000"+
-		"\u0000\u01db\u0001\u0000\u0000\u0000\u0000\u01dd\u0001\u0000\u0000\u0000"+
-		"\u0000\u01df\u0001\u0000\u0000\u0000\u0000\u01e1\u0001\u0000\u0000\u0000"+
-		"\u0000\u01e3\u0001\u0000\u0000\u0000\u0000\u01e5\u0001\u0000\u0000\u0000"+
-		"\u0000\u01e7\u0001\u0000\u0000\u0000\u0000\u01e9\u0001\u0000\u0000\u0000"+
-		"\u0000\u01eb\u0001\u0000\u0000\u0000\u0000\u01ed\u0001\u0000\u0000\u0000"+
-		"\u0000\u01ef\u0001\u0000\u0000\u0000\u0000\u01f1\u0001\u0000\u0000\u0000"+
-		"\u0000\u01f3\u0001\u0000\u0000\u0000\u0000\u01f5\u0001\u0000\u0000\u0000"+
-		"\u0000\u01f7\u0001\u0000\u0000\u0000\u0000\u01f9\u0001\u0000\u0000\u0000"+
-		"\u0000\u01fb\u0001\u0000\u0000\u0000\u0000\u01fd\u0001\u0000\u0000\u0000"+
-		"\u0000\u01ff\u0001\u0000\u0000\u0000\u0001\u0201\u0001\u0000\u0000\u0000"+
-		"\u0003\u0203\u0001\u0000\u0000\u0000\u0005\u0205\u0001\u0000\u0000\u0000"+
-		"\u0007\u0207\u0001\u0000\u0000\u0000\t\u0209\u0001\u0000\u0000\u0000\u000b"+
-		"\u020b\u0001\u0000\u0000\u0000\r\u020d\u0001\u0000\u0000\u0000\u000f\u020f"+
-		"\u0001\u0000\u0000\u0000\u0011\u0211\u0001\u0000\u0000\u0000\u0013\u0213"+
-		"\u0001\u0000\u0000\u0000\u0015\u0215\u0001\u0000\u0000\u0000\u0017\u0217"+
-		"\u0001\u0000\u0000\u0000\u0019\u0219\u0001\u0000\u0000\u0000\u001b\u021b"+
-		"\u0001\u0000\u0000\u0000\u001d\u021d\u0001\u0000\u0000\u0000\u001f\u021f"+
-		"\u0001\u0000\u0000\u0000!\u0221\u0001\u0000\u0000\u0000#\u0223\u0001\u0000"+
-		"\u0000\u0000%\u0225\u0001\u0000\u0000\u0000\'\u0227\u0001\u0000\u0000"+
-		"\u0000)\u0229\u0001\u0000\u0000\u0000+\u022b\u0001\u0000\u0000\u0000-"+
-		"\u022d\u0001\u0000\u0000\u0000/\u022f\u0001\u0000\u0000\u00001\u0231\u0001"+
-		"\u0000\u0000\u00003\u0233\u0001\u0000\u0000\u00005\u0235\u0001\u0000\u0000"+
-		"\u00007\u0237\u0001\u0000\u0000\u00009\u0239\u0001\u0000\u0000\u0000;"+
-		"\u023b\u0001\u0000\u0000\u0000=\u023d\u0001\u0000\u0000\u0000?\u023f\u0001"+
-		"\u0000\u0000\u0000A\u0241\u0001\u0000\u0000\u0000C\u0243\u0001\u0000\u0000"+
-		"\u0000E\u0245\u0001\u0000\u0000\u0000G\u0247\u0001\u0000\u0000\u0000I"+
-		"\u0249\u0001\u0000\u0000\u0000K\u024b\u0001\u0000\u0000\u0000M\u024d\u0001"+
-		"\u0000\u0000\u0000O\u024f\u0001\u0000\u0000\u0000Q\u0251\u0001\u0000\u0000"+
-		"\u0000S\u0253\u0001\u0000\u0000\u0000U\u0255\u0001\u0000\u0000\u0000W"+
-		"\u0257\u0001\u0000\u0000\u0000Y\u0259\u0001\u0000\u0000\u0000[\u025b\u0001"+
-		"\u0000\u0000\u0000]\u025d\u0001\u0000\u0000\u0000_\u025f\u0001\u0000\u0000"+
-		"\u0000a\u0261\u0001\u0000\u0000\u0000c\u0263\u0001\u0000\u0000\u0000e"+
-		"\u0265\u0001\u0000\u0000\u0000g\u0267\u0001\u0000\u0000\u0000i\u0269\u0001"+
-		"\u0000\u0000\u0000k\u026b\u0001\u0000\u0000\u0000m\u026d\u0001\u0000\u0000"+
-		"\u0000o\u026f\u0001\u0000\u0000\u0000q\u0271\u0001\u0000\u0000\u0000s"+
-		"\u0273\u0001\u0000\u0000\u0000u\u0275\u0001\u0000\u0000\u0000w\u0277\u0001"+
-		"\u0000\u0000\u0000y\u0279\u0001\u0000\u0000\u0000{\u027b\u0001\u0000\u0000"+
-		"\u0000}\u027d\u0001\u0000\u0000\u0000\u007f\u027f\u0001\u0000\u0000\u0000"+
-		"\u0081\u0281\u0001\u0000\u0000\u0000\u0083\u0283\u0001\u0000\u0000\u0000"+
-		"\u0085\u0285\u0001\u0000\u0000\u0000\u0087\u0287\u0001\u0000\u0000\u0000"+
-		"\u0089\u0289\u0001\u0000\u0000\u0000\u008b\u028b\u0001\u0000\u0000\u0000"+
-		"\u008d\u028d\u0001\u0000\u0000\u0000\u008f\u028f\u0001\u0000\u0000\u0000"+
-		"\u0091\u0291\u0001\u0000\u0000\u0000\u0093\u0293\u0001\u0000\u0000\u0000"+
-		"\u0095\u0295\u0001\u0000\u0000\u0000\u0097\u0297\u0001\u0000\u0000\u0000"+
-		"\u0099\u0299\u0001\u0000\u0000\u0000\u009b\u029b\u0001\u0000\u0000\u0000"+
-		"\u009d\u029d\u0001\u0000\u0000\u0000\u009f\u029f\u0001\u0000\u0000\u0000"+
-		"\u00a1\u02a1\u0001\u0000\u0000\u0000\u00a3\u02a3\u0001\u0000\u0000\u0000"+
-		"\u00a5\u02a5\u0001\u0000\u0000\u0000\u00a7\u02a7\u0001\u0000\u0000\u0000"+
-		"\u00a9\u02a9\u0001\u0000\u0000\u0000\u00ab\u02ab\u0001\u0000\u0000\u0000"+
-		"\u00ad\u02ad\u0001\u0000\u0000\u0000\u00af\u02af\u0001\u0000\u0000\u0000"+
-		"\u00b1\u02b1\u0001\u0000\u0000\u0000\u00b3\u02b3\u0001\u0000\u0000\u0000"+
-		"\u00b5\u02b5\u0001\u0000\u0000\u0000\u00b7\u02b7\u0001\u0000\u0000\u0000"+
-		"\u00b9\u02b9\u0001\u0000\u0000\u0000\u00bb\u02bb\u0001\u0000\u0000\u0000"+
-		"\u00bd\u02bd\u0001\u0000\u0000\u0000\u00bf\u02bf\u0001\u0000\u0000\u0000"+
-		"\u00c1\u02c1\u0001\u0000\u0000\u0000\u00c3\u02c3\u0001\u0000\u0000\u0000"+
-		"\u00c5\u02c5\u0001\u0000\u0000\u0000\u00c7\u02c7\u0001\u0000\u0000\u0000"+
-		"\u00c9\u02c9\u0001\u0000\u0000\u0000\u00cb\u02cb\u0001\u0000\u0000\u0000"+
-		"\u00cd\u02cd\u0001\u0000\u0000\u0000\u00cf\u02cf\u0001\u0000\u0000\u0000"+
-		"\u00d1\u02d1\u0001\u0000\u0000\u0000\u00d3\u02d3\u0001\u0000\u0000\u0000"+
-		"\u00d5\u02d5\u0001\u0000\u0000\u0000\u00d7\u02d7\u0001\u0000\u0000\u0000"+
-		"\u00d9\u02d9\u0001\u0000\u0000\u0000\u00db\u02db\u0001\u0000\u0000\u0000"+
-		"\u00dd\u02dd\u0001\u0000\u0000\u0000\u00df\u02df\u0001\u0000\u0000\u0000"+
-		"\u00e1\u02e1\u0001\u0000\u0000\u0000\u00e3\u02e3\u0001\u0000\u0000\u0000"+
-		"\u00e5\u02e5\u0001\u0000\u0000\u0000\u00e7\u02e7\u0001\u0000\u0000\u0000"+
-		"\u00e9\u02e9\u0001\u0000\u0000\u0000\u00eb\u02eb\u0001\u0000\u0000\u0000"+
-		"\u00ed\u02ed\u0001\u0000\u0000\u0000\u00ef\u02ef\u0001\u0000\u0000\u0000"+
-		"\u00f1\u02f1\u0001\u0000\u0000\u0000\u00f3\u02f3\u0001\u0000\u0000\u0000"+
-		"\u00f5\u02f5\u0001\u0000\u0000\u0000\u00f7\u02f7\u0001\u0000\u0000\u0000"+
-		"\u00f9\u02f9\u0001\u0000\u0000\u0000\u00fb\u02fb\u0001\u0000\u0000\u0000"+
-		"\u00fd\u02fd\u0001\u0000\u0000\u0000\u00ff\u02ff\u0001\u0000\u0000\u0000"+
-		"\u0101\u0301\u0001\u0000\u0000\u0000\u0103\u0303\u0001\u0000\u0000\u0000"+
-		"\u0105\u0305\u0001\u0000\u0000\u0000\u0107\u0307\u0001\u0000\u0000\u0000"+
-		"\u0109\u0309\u0001\u0000\u0000\u0000\u010b\u030b\u0001\u0000\u0000\u0000"+
-		"\u010d\u030d\u0001\u0000\u0000\u0000\u010f\u030f\u0001\u0000\u0000\u0000"+
-		"\u0111\u0311\u0001\u0000\u0000\u0000\u0113\u0313\u0001\u0000\u0000\u0000"+
-		"\u0115\u0315\u0001\u0000\u0000\u0000\u0117\u0317\u0001\u0000\u0000\u0000"+
-		"\u0119\u0319\u0001\u0000\u0000\u0000\u011b\u031b\u0001\u0000\u0000\u0000"+
-		"\u011d\u031d\u0001\u0000\u0000\u0000\u011f\u031f\u0001\u0000\u0000\u0000"+
-		"\u0121\u0321\u0001\u0000\u0000\u0000\u0123\u0323\u0001\u0000\u0000\u0000"+
-		"\u0125\u0325\u0001\u0000\u0000\u0000\u0127\u0327\u0001\u0000\u0000\u0000"+
-		"\u0129\u0329\u0001\u0000\u0000\u0000\u012b\u032b\u0001\u0000\u0000\u0000"+
-		"\u012d\u032d\u0001\u0000\u0000\u0000\u012f\u032f\u0001\u0000\u0000\u0000"+
-		"\u0131\u0331\u0001\u0000\u0000\u0000\u0133\u0333\u0001\u0000\u0000\u0000"+
-		"\u0135\u0335\u0001\u0000\u0000\u0000\u0137\u0337\u0001\u0000\u0000\u0000"+
-		"\u0139\u0339\u0001\u0000\u0000\u0000\u013b\u033b\u0001\u0000\u0000\u0000"+
-		"\u013d\u033d\u0001\u0000\u0000\u0000\u013f\u033f\u0001\u0000\u0000\u0000"+
-		"\u0141\u0341\u0001\u0000\u0000\u0000\u0143\u0343\u0001\u0000\u0000\u0000"+
-		"\u0145\u0345\u0001\u0000\u0000\u0000\u0147\u0347\u0001\u0000\u0000\u0000"+
-		"\u0149\u0349\u0001\u0000\u0000\u0000\u014b\u034b\u0001\u0000\u0000\u0000"+
-		"\u014d\u034d\u0001\u0000\u0000\u0000\u014f\u034f\u0001\u0000\u0000\u0000"+
-		"\u0151\u0351\u0001\u0000\u0000\u0000\u0153\u0353\u0001\u0000\u0000\u0000"+
-		"\u0155\u0355\u0001\u0000\u0000\u0000\u0157\u0357\u0001\u0000\u0000\u0000"+
-		"\u0159\u0359\u0001\u0000\u0000\u0000\u015b\u035b\u0001\u0000\u0000\u0000"+
-		"\u015d\u035d\u0001\u0000\u0000\u0000\u015f\u035f\u0001\u0000\u0000\u0000"+
-		"\u0161\u0361\u0001\u0000\u0000\u0000\u0163\u0363\u0001\u0000\u0000\u0000"+
-		"\u0165\u0365\u0001\u0000\u0000\u0000\u0167\u0367\u0001\u0000\u0000\u0000"+
-		"\u0169\u0369\u0001\u0000\u0000\u0000\u016b\u036b\u0001\u0000\u0000\u0000"+
-		"\u016d\u036d\u0001\u0000\u0000\u0000\u016f\u036f\u0001\u0000\u0000\u0000"+
-		"\u0171\u0371\u0001\u0000\u0000\u0000\u0173\u0373\u0001\u0000\u0000\u0000"+
-		"\u0175\u0375\u0001\u0000\u0000\u0000\u0177\u0377\u0001\u0000\u0000\u0000"+
-		"\u0179\u0379\u0001\u0000\u0000\u0000\u017b\u037b\u0001\u0000\u0000\u0000"+
-		"\u017d\u037d\u0001\u0000\u0000\u0000\u017f\u037f\u0001\u0000\u0000\u0000"+
-		"\u0181\u0381\u0001\u0000\u0000\u0000\u0183\u0383\u0001\u0000\u0000\u0000"+
-		"\u0185\u0385\u0001\u0000\u0000\u0000\u0187\u0387\u0001\u0000\u0000\u0000"+
-		"\u0189\u0389\u0001\u0000\u0000\u0000\u018b\u038b\u0001\u0000\u0000\u0000"+
-		"\u018d\u038d\u0001\u0000\u0000\u0000\u018f\u038f\u0001\u0000\u0000\u0000"+
-		"\u0191\u0391\u0001\u0000\u0000\u0000\u0193\u0393\u0001\u0000\u0000\u0000"+
-		"\u0195\u0395\u0001\u0000\u0000\u0000\u0197\u0397\u0001\u0000\u0000\u0000"+
-		"\u0199\u0399\u0001\u0000\u0000\u0000\u019b\u039b\u0001\u0000\u0000\u0000"+
-		"\u019d\u039d\u0001\u0000\u0000\u0000\u019f\u039f\u0001\u0000\u0000\u0000"+
-		"\u01a1\u03a1\u0001\u0000\u0000\u0000\u01a3\u03a3\u0001\u0000\u0000\u0000"+
-		"\u01a5\u03a5\u0001\u0000\u0000\u0000\u01a7\u03a7\u0001\u0000\u0000\u0000"+
-		"\u01a9\u03a9\u0001\u0000\u0000\u0000\u01ab\u03ab\u0001\u0000\u0000\u0000"+
-		"\u01ad\u03ad\u0001\u0000\u0000\u0000\u01af\u03af\u0001\u0000\u0000\u0000"+
-		"\u01b1\u03b1\u0001\u0000\u0000\u0000\u01b3\u03b3\u0001\u0000\u0000\u0000"+
-		"\u01b5\u03b5\u0001\u0000\u0000\u0000\u01b7\u03b7\u0001\u0000\u0000\u0000"+
-		"\u01b9\u03b9\u0001\u0000\u0000\u0000\u01bb\u03bb\u0001\u0000\u0000\u0000"+
-		"\u01bd\u03bd\u0001\u0000\u0000\u0000\u01bf\u03bf\u0001\u0000\u0000\u0000"+
-		"\u01c1\u03c1\u0001\u0000\u0000\u0000\u01c3\u03c3\u0001\u0000\u0000\u0000"+
-		"\u01c5\u03c5\u0001\u0000\u0000\u0000\u01c7\u03c7\u0001\u0000\u0000\u0000"+
-		"\u01c9\u03c9\u0001\u0000\u0000\u0000\u01cb\u03cb\u0001\u0000\u0000\u0000"+
-		"\u01cd\u03cd\u0001\u0000\u0000\u0000\u01cf\u03cf\u0001\u0000\u0000\u0000"+
-		"\u01d1\u03d1\u0001\u0000\u0000\u0000\u01d3\u03d3\u0001\u0000\u0000\u0000"+
-		"\u01d5\u03d5\u0001\u0000\u0000\u0000\u01d7\u03d7\u0001\u0000\u0000\u0000"+
-		"\u01d9\u03d9\u0001\u0000\u0000\u0000\u01db\u03db\u0001\u0000\u0000\u0000"+
-		"\u01dd\u03dd\u0001\u0000\u0000\u0000\u01df\u03df\u0001\u0000\u0000\u0000"+
-		"\u01e1\u03e1\u0001\u0000\u0000\u0000\u01e3\u03e3\u0001\u0000\u0000\u0000"+
-		"\u01e5\u03e5\u0001\u0000\u0000\u0000\u01e7\u03e7\u0001\u0000\u0000\u0000"+
-		"\u01e9\u03e9\u0001\u0000\u0000\u0000\u01eb\u03eb\u0001\u0000\u0000\u0000"+
-		"\u01ed\u03ed\u0001\u0000\u0000\u0000\u01ef\u03ef\u0001\u0000\u0000\u0000"+
-		"\u01f1\u03f1\u0001\u0000\u0000\u0000\u01f3\u03f3\u0001\u0000\u0000\u0000"+
-		"\u01f5\u03f5\u0001\u0000\u0000\u0000\u01f7\u03f7\u0001\u0000\u0000\u0000"+
-		"\u01f9\u03f9\u0001\u0000\u0000\u0000\u01fb\u03fb\u0001\u0000\u0000\u0000"+
-		"\u01fd\u03fd\u0001\u0000\u0000\u0000\u01ff\u03ff\u0001\u0000\u0000\u0000"+
-		"\u0201\u0202\u0005\t\u0000\u0000\u0202\u0002\u0001\u0000\u0000\u0000\u0203"+
-		"\u0204\u0005\n\u0000\u0000\u0204\u0004\u0001\u0000\u0000\u0000\u0205\u0206"+
-		"\u0005\r\u0000\u0000\u0206\u0006\u0001\u0000\u0000\u0000\u0207\u0208\u0005"+
-		" \u0000\u0000\u0208\b\u0001\u0000\u0000\u0000\u0209\u020a\u0005!\u0000"+
-		"\u0000\u020a\n\u0001\u0000\u0000\u0000\u020b\u020c\u0005\"\u0000\u0000"+
-		"\u020c\f\u0001\u0000\u0000\u0000\u020d\u020e\u0005#\u0000\u0000\u020e"+
-		"\u000e\u0001\u0000\u0000\u0000\u020f\u0210\u0005$\u0000\u0000\u0210\u0010"+
-		"\u0001\u0000\u0000\u0000\u0211\u0212\u0005%\u0000\u0000\u0212\u0012\u0001"+
-		"\u0000\u0000\u0000\u0213\u0214\u0005&\u0000\u0000\u0214\u0014\u0001\u0000"+
-		"\u0000\u0000\u0215\u0216\u0005\'\u0000\u0000\u0216\u0016\u0001\u0000\u0000"+
-		"\u0000\u0217\u0218\u0005(\u0000\u0000\u0218\u0018\u0001\u0000\u0000\u0000"+
-		"\u0219\u021a\u0005)\u0000\u0000\u021a\u001a\u0001\u0000\u0000\u0000\u021b"+
-		"\u021c\u0005*\u0000\u0000\u021c\u001c\u0001\u0000\u0000\u0000\u021d\u021e"+
-		"\u0005+\u0000\u0000\u021e\u001e\u0001\u0000\u0000\u0000\u021f\u0220\u0005"+
-		",\u0000\u0000\u0220 \u0001\u0000\u0000\u0000\u0221\u0222\u0005-\u0000"+
-		"\u0000\u0222\"\u0001\u0000\u0000\u0000\u0223\u0224\u0005.\u0000\u0000"+
-		"\u0224$\u0001\u0000\u0000\u0000\u0225\u0226\u0005/\u0000\u0000\u0226&"+
-		"\u0001\u0000\u0000\u0000\u0227\u0228\u00050\u0000\u0000\u0228(\u0001\u0000"+
-		"\u0000\u0000\u0229\u022a\u00051\u0000\u0000\u022a*\u0001\u0000\u0000\u0000"+
-		"\u022b\u022c\u00052\u0000\u0000\u022c,\u0001\u0000\u0000\u0000\u022d\u022e"+
-		"\u00053\u0000\u0000\u022e.\u0001\u0000\u0000\u0000\u022f\u0230\u00054"+
-		"\u0000\u0000\u02300\u0001\u0000\u0000\u0000\u0231\u0232\u00055\u0000\u0000"+
-		"\u02322\u0001\u0000\u0000\u0000\u0233\u0234\u00056\u0000\u0000\u02344"+
-		"\u0001\u0000\u0000\u0000\u0235\u0236\u00057\u0000\u0000\u02366\u0001\u0000"+
-		"\u0000\u0000\u0237\u0238\u00058\u0000\u0000\u02388\u0001\u0000\u0000\u0000"+
-		"\u0239\u023a\u00059\u0000\u0000\u023a:\u0001\u0000\u0000\u0000\u023b\u023c"+
-		"\u0005:\u0000\u0000\u023c<\u0001\u0000\u0000\u0000\u023d\u023e\u0005;"+
-		"\u0000\u0000\u023e>\u0001\u0000\u0000\u0000\u023f\u0240\u0005<\u0000\u0000"+
-		"\u0240@\u0001\u0000\u0000\u0000\u0241\u0242\u0005=\u0000\u0000\u0242B"+
-		"\u0001\u0000\u0000\u0000\u0243\u0244\u0005>\u0000\u0000\u0244D\u0001\u0000"+
-		"\u0000\u0000\u0245\u0246\u0005?\u0000\u0000\u0246F\u0001\u0000\u0000\u0000"+
-		"\u0247\u0248\u0005@\u0000\u0000\u0248H\u0001\u0000\u0000\u0000\u0249\u024a"+
-		"\u0005A\u0000\u0000\u024aJ\u0001\u0000\u0000\u0000\u024b\u024c\u0005B"+
-		"\u0000\u0000\u024cL\u0001\u0000\u0000\u0000\u024d\u024e\u0005C\u0000\u0000"+
-		"\u024eN\u0001\u0000\u0000\u0000\u024f\u0250\u0005D\u0000\u0000\u0250P"+
-		"\u0001\u0000\u0000\u0000\u0251\u0252\u0005E\u0000\u0000\u0252R\u0001\u0000"+
-		"\u0000\u0000\u0253\u0254\u0005F\u0000\u0000\u0254T\u0001\u0000\u0000\u0000"+
-		"\u0255\u0256\u0005G\u0000\u0000\u0256V\u0001\u0000\u0000\u0000\u0257\u0258"+
-		"\u0005H\u0000\u0000\u0258X\u0001\u0000\u0000\u0000\u0259\u025a\u0005I"+
-		"\u0000\u0000\u025aZ\u0001\u0000\u0000\u0000\u025b\u025c\u0005J\u0000\u0000"+
-		"\u025c\\\u0001\u0000\u0000\u0000\u025d\u025e\u0005K\u0000\u0000\u025e"+
-		"^\u0001\u0000\u0000\u0000\u025f\u0260\u0005L\u0000\u0000\u0260`\u0001"+
-		"\u0000\u0000\u0000\u0261\u0262\u0005M\u0000\u0000\u0262b\u0001\u0000\u0000"+
-		"\u0000\u0263\u0264\u0005N\u0000\u0000\u0264d\u0001\u0000\u0000\u0000\u0265"+
-		"\u0266\u0005O\u0000\u0000\u0266f\u0001\u0000\u0000\u0000\u0267\u0268\u0005"+
-		"P\u0000\u0000\u0268h\u0001\u0000\u0000\u0000\u0269\u026a\u0005Q\u0000"+
-		"\u0000\u026aj\u0001\u0000\u0000\u0000\u026b\u026c\u0005R\u0000\u0000\u026c"+
-		"l\u0001\u0000\u0000\u0000\u026d\u026e\u0005S\u0000\u0000\u026en\u0001"+
-		"\u0000\u0000\u0000\u026f\u0270\u0005T\u0000\u0000\u0270p\u0001\u0000\u0000"+
-		"\u0000\u0271\u0272\u0005U\u0000\u0000\u0272r\u0001\u0000\u0000\u0000\u0273"+
-		"\u0274\u0005V\u0000\u0000\u0274t\u0001\u0000\u0000\u0000\u0275\u0276\u0005"+
-		"W\u0000\u0000\u0276v\u0001\u0000\u0000\u0000\u0277\u0278\u0005X\u0000"+
-		"\u0000\u0278x\u0001\u0000\u0000\u0000\u0279\u027a\u0005Y\u0000\u0000\u027a"+
-		"z\u0001\u0000\u0000\u0000\u027b\u027c\u0005Z\u0000\u0000\u027c|\u0001"+
-		"\u0000\u0000\u0000\u027d\u027e\u0005[\u0000\u0000\u027e~\u0001\u0000\u0000"+
-		"\u0000\u027f\u0280\u0005\\\u0000\u0000\u0280\u0080\u0001\u0000\u0000\u0000"+
-		"\u0281\u0282\u0005]\u0000\u0000\u0282\u0082\u0001\u0000\u0000\u0000\u0283"+
-		"\u0284\u0005^\u0000\u0000\u0284\u0084\u0001\u0000\u0000\u0000\u0285\u0286"+
-		"\u0005_\u0000\u0000\u0286\u0086\u0001\u0000\u0000\u0000\u0287\u0288\u0005"+
-		"`\u0000\u0000\u0288\u0088\u0001\u0000\u0000\u0000\u0289\u028a\u0005a\u0000"+
-		"\u0000\u028a\u008a\u0001\u0000\u0000\u0000\u028b\u028c\u0005b\u0000\u0000"+
-		"\u028c\u008c\u0001\u0000\u0000\u0000\u028d\u028e\u0005c\u0000\u0000\u028e"+
-		"\u008e\u0001\u0000\u0000\u0000\u028f\u0290\u0005d\u0000\u0000\u0290\u0090"+
-		"\u0001\u0000\u0000\u0000\u0291\u0292\u0005e\u0000\u0000\u0292\u0092\u0001"+
-		"\u0000\u0000\u0000\u0293\u0294\u0005f\u0000\u0000\u0294\u0094\u0001\u0000"+
-		"\u0000\u0000\u0295\u0296\u0005g\u0000\u0000\u0296\u0096\u0001\u0000\u0000"+
-		"\u0000\u0297\u0298\u0005h\u0000\u0000\u0298\u0098\u0001\u0000\u0000\u0000"+
-		"\u0299\u029a\u0005i\u0000\u0000\u029a\u009a\u0001\u0000\u0000\u0000\u029b"+
-		"\u029c\u0005j\u0000\u0000\u029c\u009c\u0001\u0000\u0000\u0000\u029d\u029e"+
-		"\u0005k\u0000\u0000\u029e\u009e\u0001\u0000\u0000\u0000\u029f\u02a0\u0005"+
-		"l\u0000\u0000\u02a0\u00a0\u0001\u0000\u0000\u0000\u02a1\u02a2\u0005m\u0000"+
-		"\u0000\u02a2\u00a2\u0001\u0000\u0000\u0000\u02a3\u02a4\u0005n\u0000\u0000"+
-		"\u02a4\u00a4\u0001\u0000\u0000\u0000\u02a5\u02a6\u0005o\u0000\u0000\u02a6"+
-		"\u00a6\u0001\u0000\u0000\u0000\u02a7\u02a8\u0005p\u0000\u0000\u02a8\u00a8"+
-		"\u0001\u0000\u0000\u0000\u02a9\u02aa\u0005q\u0000\u0000\u02aa\u00aa\u0001"+
-		"\u0000\u0000\u0000\u02ab\u02ac\u0005r\u0000\u0000\u02ac\u00ac\u0001\u0000"+
-		"\u0000\u0000\u02ad\u02ae\u0005s\u0000\u0000\u02ae\u00ae\u0001\u0000\u0000"+
-		"\u0000\u02af\u02b0\u0005t\u0000\u0000\u02b0\u00b0\u0001\u0000\u0000\u0000"+
-		"\u02b1\u02b2\u0005u\u0000\u0000\u02b2\u00b2\u0001\u0000\u0000\u0000\u02b3"+
-		"\u02b4\u0005v\u0000\u0000\u02b4\u00b4\u0001\u0000\u0000\u0000\u02b5\u02b6"+
-		"\u0005w\u0000\u0000\u02b6\u00b6\u0001\u0000\u0000\u0000\u02b7\u02b8\u0005"+
-		"x\u0000\u0000\u02b8\u00b8\u0001\u0000\u0000\u0000\u02b9\u02ba\u0005y\u0000"+
-		"\u0000\u02ba\u00ba\u0001\u0000\u0000\u0000\u02bb\u02bc\u0005z\u0000\u0000"+
-		"\u02bc\u00bc\u0001\u0000\u0000\u0000\u02bd\u02be\u0005{\u0000\u0000\u02be"+
-		"\u00be\u0001\u0000\u0000\u0000\u02bf\u02c0\u0005|\u0000\u0000\u02c0\u00c0"+
-		"\u0001\u0000\u0000\u0000\u02c1\u02c2\u0005}\u0000\u0000\u02c2\u00c2\u0001"+
-		"\u0000\u0000\u0000\u02c3\u02c4\u0005~\u0000\u0000\u02c4\u00c4\u0001\u0000"+
-		"\u0000\u0000\u02c5\u02c6\u0005\u0000\u0000\u0000\u02c6\u00c6\u0001\u0000"+
-		"\u0000\u0000\u02c7\u02c8\u0005\u0001\u0000\u0000\u02c8\u00c8\u0001\u0000"+
-		"\u0000\u0000\u02c9\u02ca\u0005\u0002\u0000\u0000\u02ca\u00ca\u0001\u0000"+
-		"\u0000\u0000\u02cb\u02cc\u0005\u0003\u0000\u0000\u02cc\u00cc\u0001\u0000"+
-		"\u0000\u0000\u02cd\u02ce\u0005\u0004\u0000\u0000\u02ce\u00ce\u0001\u0000"+
-		"\u0000\u0000\u02cf\u02d0\u0005\u0005\u0000\u0000\u02d0\u00d0\u0001\u0000"+
-		"\u0000\u0000\u02d1\u02d2\u0005\u0006\u0000\u0000\u02d2\u00d2\u0001\u0000"+
-		"\u0000\u0000\u02d3\u02d4\u0005\u0007\u0000\u0000\u02d4\u00d4\u0001\u0000"+
-		"\u0000\u0000\u02d5\u02d6\u0005\b\u0000\u0000\u02d6\u00d6\u0001\u0000\u0000"+
-		"\u0000\u02d7\u02d8\u0005\u000b\u0000\u0000\u02d8\u00d8\u0001\u0000\u0000"+
-		"\u0000\u02d9\u02da\u0005\f\u0000\u0000\u02da\u00da\u0001\u0000\u0000\u0000"+
-		"\u02db\u02dc\u0005\u000e\u0000\u0000\u02dc\u00dc\u0001\u0000\u0000\u0000"+
-		"\u02dd\u02de\u0005\u000f\u0000\u0000\u02de\u00de\u0001\u0000\u0000\u0000"+
-		"\u02df\u02e0\u0005\u0010\u0000\u0000\u02e0\u00e0\u0001\u0000\u0000\u0000"+
-		"\u02e1\u02e2\u0005\u0011\u0000\u0000\u02e2\u00e2\u0001\u0000\u0000\u0000"+
-		"\u02e3\u02e4\u0005\u0012\u0000\u0000\u02e4\u00e4\u0001\u0000\u0000\u0000"+
-		"\u02e5\u02e6\u0005\u0013\u0000\u0000\u02e6\u00e6\u0001\u0000\u0000\u0000"+
-		"\u02e7\u02e8\u0005\u0014\u0000\u0000\u02e8\u00e8\u0001\u0000\u0000\u0000"+
-		"\u02e9\u02ea\u0005\u0015\u0000\u0000\u02ea\u00ea\u0001\u0000\u0000\u0000"+
-		"\u02eb\u02ec\u0005\u0016\u0000\u0000\u02ec\u00ec\u0001\u0000\u0000\u0000"+
-		"\u02ed\u02ee\u0005\u0017\u0000\u0000\u02ee\u00ee\u0001\u0000\u0000\u0000"+
-		"\u02ef\u02f0\u0005\u0018\u0000\u0000\u02f0\u00f0\u0001\u0000\u0000\u0000"+
-		"\u02f1\u02f2\u0005\u0019\u0000\u0000\u02f2\u00f2\u0001\u0000\u0000\u0000"+
-		"\u02f3\u02f4\u0005\u001a\u0000\u0000\u02f4\u00f4\u0001\u0000\u0000\u0000"+
-		"\u02f5\u02f6\u0005\u001b\u0000\u0000\u02f6\u00f6\u0001\u0000\u0000\u0000"+
-		"\u02f7\u02f8\u0005\u001c\u0000\u0000\u02f8\u00f8\u0001\u0000\u0000\u0000"+
-		"\u02f9\u02fa\u0005\u001d\u0000\u0000\u02fa\u00fa\u0001\u0000\u0000\u0000"+
-		"\u02fb\u02fc\u0005\u001e\u0000\u0000\u02fc\u00fc\u0001\u0000\u0000\u0000"+
-		"\u02fd\u02fe\u0005\u001f\u0000\u0000\u02fe\u00fe\u0001\u0000\u0000\u0000"+
-		"\u02ff\u0300\u0005\u007f\u0000\u0000\u0300\u0100\u0001\u0000\u0000\u0000"+
-		"\u0301\u0302\u0005\u0080\u0000\u0000\u0302\u0102\u0001\u0000\u0000\u0000"+
-		"\u0303\u0304\u0005\u0081\u0000\u0000\u0304\u0104\u0001\u0000\u0000\u0000"+
-		"\u0305\u0306\u0005\u0082\u0000\u0000\u0306\u0106\u0001\u0000\u0000\u0000"+
-		"\u0307\u0308\u0005\u0083\u0000\u0000\u0308\u0108\u0001\u0000\u0000\u0000"+
-		"\u0309\u030a\u0005\u0084\u0000\u0000\u030a\u010a\u0001\u0000\u0000\u0000"+
-		"\u030b\u030c\u0005\u0085\u0000\u0000\u030c\u010c\u0001\u0000\u0000\u0000"+
-		"\u030d\u030e\u0005\u0086\u0000\u0000\u030e\u010e\u0001\u0000\u0000\u0000"+
-		"\u030f\u0310\u0005\u0087\u0000\u0000\u0310\u0110\u0001\u0000\u0000\u0000"+
-		"\u0311\u0312\u0005\u0088\u0000\u0000\u0312\u0112\u0001\u0000\u0000\u0000"+
-		"\u0313\u0314\u0005\u0089\u0000\u0000\u0314\u0114\u0001\u0000\u0000\u0000"+
-		"\u0315\u0316\u0005\u008a\u0000\u0000\u0316\u0116\u0001\u0000\u0000\u0000"+
-		"\u0317\u0318\u0005\u008b\u0000\u0000\u0318\u0118\u0001\u0000\u0000\u0000"+
-		"\u0319\u031a\u0005\u008c\u0000\u0000\u031a\u011a\u0001\u0000\u0000\u0000"+
-		"\u031b\u031c\u0005\u008d\u0000\u0000\u031c\u011c\u0001\u0000\u0000\u0000"+
-		"\u031d\u031e\u0005\u008e\u0000\u0000\u031e\u011e\u0001\u0000\u0000\u0000"+
-		"\u031f\u0320\u0005\u008f\u0000\u0000\u0320\u0120\u0001\u0000\u0000\u0000"+
-		"\u0321\u0322\u0005\u0090\u0000\u0000\u0322\u0122\u0001\u0000\u0000\u0000"+
-		"\u0323\u0324\u0005\u0091\u0000\u0000\u0324\u0124\u0001\u0000\u0000\u0000"+
-		"\u0325\u0326\u0005\u0092\u0000\u0000\u0326\u0126\u0001\u0000\u0000\u0000"+
-		"\u0327\u0328\u0005\u0093\u0000\u0000\u0328\u0128\u0001\u0000\u0000\u0000"+
-		"\u0329\u032a\u0005\u0094\u0000\u0000\u032a\u012a\u0001\u0000\u0000\u0000"+
-		"\u032b\u032c\u0005\u0095\u0000\u0000\u032c\u012c\u0001\u0000\u0000\u0000"+
-		"\u032d\u032e\u0005\u0096\u0000\u0000\u032e\u012e\u0001\u0000\u0000\u0000"+
-		"\u032f\u0330\u0005\u0097\u0000\u0000\u0330\u0130\u0001\u0000\u0000\u0000"+
-		"\u0331\u0332\u0005\u0098\u0000\u0000\u0332\u0132\u0001\u0000\u0000\u0000"+
-		"\u0333\u0334\u0005\u0099\u0000\u0000\u0334\u0134\u0001\u0000\u0000\u0000"+
-		"\u0335\u0336\u0005\u009a\u0000\u0000\u0336\u0136\u0001\u0000\u0000\u0000"+
-		"\u0337\u0338\u0005\u009b\u0000\u0000\u0338\u0138\u0001\u0000\u0000\u0000"+
-		"\u0339\u033a\u0005\u009c\u0000\u0000\u033a\u013a\u0001\u0000\u0000\u0000"+
-		"\u033b\u033c\u0005\u009d\u0000\u0000\u033c\u013c\u0001\u0000\u0000\u0000"+
-		"\u033d\u033e\u0005\u009e\u0000\u0000\u033e\u013e\u0001\u0000\u0000\u0000"+
-		"\u033f\u0340\u0005\u009f\u0000\u0000\u0340\u0140\u0001\u0000\u0000\u0000"+
-		"\u0341\u0342\u0005\u00a0\u0000\u0000\u0342\u0142\u0001\u0000\u0000\u0000"+
-		"\u0343\u0344\u0005\u00a1\u0000\u0000\u0344\u0144\u0001\u0000\u0000\u0000"+
-		"\u0345\u0346\u0005\u00a2\u0000\u0000\u0346\u0146\u0001\u0000\u0000\u0000"+
-		"\u0347\u0348\u0005\u00a3\u0000\u0000\u0348\u0148\u0001\u0000\u0000\u0000"+
-		"\u0349\u034a\u0005\u00a4\u0000\u0000\u034a\u014a\u0001\u0000\u0000\u0000"+
-		"\u034b\u034c\u0005\u00a5\u0000\u0000\u034c\u014c\u0001\u0000\u0000\u0000"+
-		"\u034d\u034e\u0005\u00a6\u0000\u0000\u034e\u014e\u0001\u0000\u0000\u0000"+
-		"\u034f\u0350\u0005\u00a7\u0000\u0000\u0350\u0150\u0001\u0000\u0000\u0000"+
-		"\u0351\u0352\u0005\u00a8\u0000\u0000\u0352\u0152\u0001\u0000\u0000\u0000"+
-		"\u0353\u0354\u0005\u00a9\u0000\u0000\u0354\u0154\u0001\u0000\u0000\u0000"+
-		"\u0355\u0356\u0005\u00aa\u0000\u0000\u0356\u0156\u0001\u0000\u0000\u0000"+
-		"\u0357\u0358\u0005\u00ab\u0000\u0000\u0358\u0158\u0001\u0000\u0000\u0000"+
-		"\u0359\u035a\u0005\u00ac\u0000\u0000\u035a\u015a\u0001\u0000\u0000\u0000"+
-		"\u035b\u035c\u0005\u00ad\u0000\u0000\u035c\u015c\u0001\u0000\u0000\u0000"+
-		"\u035d\u035e\u0005\u00ae\u0000\u0000\u035e\u015e\u0001\u0000\u0000\u0000"+
-		"\u035f\u0360\u0005\u00af\u0000\u0000\u0360\u0160\u0001\u0000\u0000\u0000"+
-		"\u0361\u0362\u0005\u00b0\u0000\u0000\u0362\u0162\u0001\u0000\u0000\u0000"+
-		"\u0363\u0364\u0005\u00b1\u0000\u0000\u0364\u0164\u0001\u0000\u0000\u0000"+
-		"\u0365\u0366\u0005\u00b2\u0000\u0000\u0366\u0166\u0001\u0000\u0000\u0000"+
-		"\u0367\u0368\u0005\u00b3\u0000\u0000\u0368\u0168\u0001\u0000\u0000\u0000"+
-		"\u0369\u036a\u0005\u00b4\u0000\u0000\u036a\u016a\u0001\u0000\u0000\u0000"+
-		"\u036b\u036c\u0005\u00b5\u0000\u0000\u036c\u016c\u0001\u0000\u0000\u0000"+
-		"\u036d\u036e\u0005\u00b6\u0000\u0000\u036e\u016e\u0001\u0000\u0000\u0000"+
-		"\u036f\u0370\u0005\u00b7\u0000\u0000\u0370\u0170\u0001\u0000\u0000\u0000"+
-		"\u0371\u0372\u0005\u00b8\u0000\u0000\u0372\u0172\u0001\u0000\u0000\u0000"+
-		"\u0373\u0374\u0005\u00b9\u0000\u0000\u0374\u0174\u0001\u0000\u0000\u0000"+
-		"\u0375\u0376\u0005\u00ba\u0000\u0000\u0376\u0176\u0001\u0000\u0000\u0000"+
-		"\u0377\u0378\u0005\u00bb\u0000\u0000\u0378\u0178\u0001\u0000\u0000\u0000"+
-		"\u0379\u037a\u0005\u00bc\u0000\u0000\u037a\u017a\u0001\u0000\u0000\u0000"+
-		"\u037b\u037c\u0005\u00bd\u0000\u0000\u037c\u017c\u0001\u0000\u0000\u0000"+
-		"\u037d\u037e\u0005\u00be\u0000\u0000\u037e\u017e\u0001\u0000\u0000\u0000"+
-		"\u037f\u0380\u0005\u00bf\u0000\u0000\u0380\u0180\u0001\u0000\u0000\u0000"+
-		"\u0381\u0382\u0005\u00c0\u0000\u0000\u0382\u0182\u0001\u0000\u0000\u0000"+
-		"\u0383\u0384\u0005\u00c1\u0000\u0000\u0384\u0184\u0001\u0000\u0000\u0000"+
-		"\u0385\u0386\u0005\u00c2\u0000\u0000\u0386\u0186\u0001\u0000\u0000\u0000"+
-		"\u0387\u0388\u0005\u00c3\u0000\u0000\u0388\u0188\u0001\u0000\u0000\u0000"+
-		"\u0389\u038a\u0005\u00c4\u0000\u0000\u038a\u018a\u0001\u0000\u0000\u0000"+
-		"\u038b\u038c\u0005\u00c5\u0000\u0000\u038c\u018c\u0001\u0000\u0000\u0000"+
-		"\u038d\u038e\u0005\u00c6\u0000\u0000\u038e\u018e\u0001\u0000\u0000\u0000"+
-		"\u038f\u0390\u0005\u00c7\u0000\u0000\u0390\u0190\u0001\u0000\u0000\u0000"+
-		"\u0391\u0392\u0005\u00c8\u0000\u0000\u0392\u0192\u0001\u0000\u0000\u0000"+
-		"\u0393\u0394\u0005\u00c9\u0000\u0000\u0394\u0194\u0001\u0000\u0000\u0000"+
-		"\u0395\u0396\u0005\u00ca\u0000\u0000\u0396\u0196\u0001\u0000\u0000\u0000"+
-		"\u0397\u0398\u0005\u00cb\u0000\u0000\u0398\u0198\u0001\u0000\u0000\u0000"+
-		"\u0399\u039a\u0005\u00cc\u0000\u0000\u039a\u019a\u0001\u0000\u0000\u0000"+
-		"\u039b\u039c\u0005\u00cd\u0000\u0000\u039c\u019c\u0001\u0000\u0000\u0000"+
-		"\u039d\u039e\u0005\u00ce\u0000\u0000\u039e\u019e\u0001\u0000\u0000\u0000"+
-		"\u039f\u03a0\u0005\u00cf\u0000\u0000\u03a0\u01a0\u0001\u0000\u0000\u0000"+
-		"\u03a1\u03a2\u0005\u00d0\u0000\u0000\u03a2\u01a2\u0001\u0000\u0000\u0000"+
-		"\u03a3\u03a4\u0005\u00d1\u0000\u0000\u03a4\u01a4\u0001\u0000\u0000\u0000"+
-		"\u03a5\u03a6\u0005\u00d2\u0000\u0000\u03a6\u01a6\u0001\u0000\u0000\u0000"+
-		"\u03a7\u03a8\u0005\u00d3\u0000\u0000\u03a8\u01a8\u0001\u0000\u0000\u0000"+
-		"\u03a9\u03aa\u0005\u00d4\u0000\u0000\u03aa\u01aa\u0001\u0000\u0000\u0000"+
-		"\u03ab\u03ac\u0005\u00d5\u0000\u0000\u03ac\u01ac\u0001\u0000\u0000\u0000"+
-		"\u03ad\u03ae\u0005\u00d6\u0000\u0000\u03ae\u01ae\u0001\u0000\u0000\u0000"+
-		"\u03af\u03b0\u0005\u00d7\u0000\u0000\u03b0\u01b0\u0001\u0000\u0000\u0000"+
-		"\u03b1\u03b2\u0005\u00d8\u0000\u0000\u03b2\u01b2\u0001\u0000\u0000\u0000"+
-		"\u03b3\u03b4\u0005\u00d9\u0000\u0000\u03b4\u01b4\u0001\u0000\u0000\u0000"+
-		"\u03b5\u03b6\u0005\u00da\u0000\u0000\u03b6\u01b6\u0001\u0000\u0000\u0000"+
-		"\u03b7\u03b8\u0005\u00db\u0000\u0000\u03b8\u01b8\u0001\u0000\u0000\u0000"+
-		"\u03b9\u03ba\u0005\u00dc\u0000\u0000\u03ba\u01ba\u0001\u0000\u0000\u0000"+
-		"\u03bb\u03bc\u0005\u00dd\u0000\u0000\u03bc\u01bc\u0001\u0000\u0000\u0000"+
-		"\u03bd\u03be\u0005\u00de\u0000\u0000\u03be\u01be\u0001\u0000\u0000\u0000"+
-		"\u03bf\u03c0\u0005\u00df\u0000\u0000\u03c0\u01c0\u0001\u0000\u0000\u0000"+
-		"\u03c1\u03c2\u0005\u00e0\u0000\u0000\u03c2\u01c2\u0001\u0000\u0000\u0000"+
-		"\u03c3\u03c4\u0005\u00e1\u0000\u0000\u03c4\u01c4\u0001\u0000\u0000\u0000"+
-		"\u03c5\u03c6\u0005\u00e2\u0000\u0000\u03c6\u01c6\u0001\u0000\u0000\u0000"+
-		"\u03c7\u03c8\u0005\u00e3\u0000\u0000\u03c8\u01c8\u0001\u0000\u0000\u0000"+
-		"\u03c9\u03ca\u0005\u00e4\u0000\u0000\u03ca\u01ca\u0001\u0000\u0000\u0000"+
-		"\u03cb\u03cc\u0005\u00e5\u0000\u0000\u03cc\u01cc\u0001\u0000\u0000\u0000"+
-		"\u03cd\u03ce\u0005\u00e6\u0000\u0000\u03ce\u01ce\u0001\u0000\u0000\u0000"+
-		"\u03cf\u03d0\u0005\u00e7\u0000\u0000\u03d0\u01d0\u0001\u0000\u0000\u0000"+
-		"\u03d1\u03d2\u0005\u00e8\u0000\u0000\u03d2\u01d2\u0001\u0000\u0000\u0000"+
-		"\u03d3\u03d4\u0005\u00e9\u0000\u0000\u03d4\u01d4\u0001\u0000\u0000\u0000"+
-		"\u03d5\u03d6\u0005\u00ea\u0000\u0000\u03d6\u01d6\u0001\u0000\u0000\u0000"+
-		"\u03d7\u03d8\u0005\u00eb\u0000\u0000\u03d8\u01d8\u0001\u0000\u0000\u0000"+
-		"\u03d9\u03da\u0005\u00ec\u0000\u0000\u03da\u01da\u0001\u0000\u0000\u0000"+
-		"\u03db\u03dc\u0005\u00ed\u0000\u0000\u03dc\u01dc\u0001\u0000\u0000\u0000"+
-		"\u03dd\u03de\u0005\u00ee\u0000\u0000\u03de\u01de\u0001\u0000\u0000\u0000"+
-		"\u03df\u03e0\u0005\u00ef\u0000\u0000\u03e0\u01e0\u0001\u0000\u0000\u0000"+
-		"\u03e1\u03e2\u0005\u00f0\u0000\u0000\u03e2\u01e2\u0001\u0000\u0000\u0000"+
-		"\u03e3\u03e4\u0005\u00f1\u0000\u0000\u03e4\u01e4\u0001\u0000\u0000\u0000"+
-		"\u03e5\u03e6\u0005\u00f2\u0000\u0000\u03e6\u01e6\u0001\u0000\u0000\u0000"+
-		"\u03e7\u03e8\u0005\u00f3\u0000\u0000\u03e8\u01e8\u0001\u0000\u0000\u0000"+
-		"\u03e9\u03ea\u0005\u00f4\u0000\u0000\u03ea\u01ea\u0001\u0000\u0000\u0000"+
-		"\u03eb\u03ec\u0005\u00f5\u0000\u0000\u03ec\u01ec\u0001\u0000\u0000\u0000"+
-		"\u03ed\u03ee\u0005\u00f6\u0000\u0000\u03ee\u01ee\u0001\u0000\u0000\u0000"+
-		"\u03ef\u03f0\u0005\u00f7\u0000\u0000\u03f0\u01f0\u0001\u0000\u0000\u0000"+
-		"\u03f1\u03f2\u0005\u00f8\u0000\u0000\u03f2\u01f2\u0001\u0000\u0000\u0000"+
-		"\u03f3\u03f4\u0005\u00f9\u0000\u0000\u03f4\u01f4\u0001\u0000\u0000\u0000"+
-		"\u03f5\u03f6\u0005\u00fa\u0000\u0000\u03f6\u01f6\u0001\u0000\u0000\u0000"+
-		"\u03f7\u03f8\u0005\u00fb\u0000\u0000\u03f8\u01f8\u0001\u0000\u0000\u0000"+
-		"\u03f9\u03fa\u0005\u00fc\u0000\u0000\u03fa\u01fa\u0001\u0000\u0000\u0000"+
-		"\u03fb\u03fc\u0005\u00fd\u0000\u0000\u03fc\u01fc\u0001\u0000\u0000\u0000"+
-		"\u03fd\u03fe\u0005\u00fe\u0000\u0000\u03fe\u01fe\u0001\u0000\u0000\u0000"+
-		"\u03ff\u0400\u0005\u00ff\u0000\u0000\u0400\u0200\u0001\u0000\u0000\u0000"+
-		"\u0001\u0000\u0000";
+		"\u0004\u0000\u000ez\u0006\uffff\uffff\u0006\uffff\uffff\u0006\uffff\uffff"+
+		"\u0006\uffff\uffff\u0006\uffff\uffff\u0002\u0000\u0007\u0000\u0002\u0001"+
+		"\u0007\u0001\u0002\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004"+
+		"\u0007\u0004\u0002\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002\u0007"+
+		"\u0007\u0007\u0002\b\u0007\b\u0002\t\u0007\t\u0002\n\u0007\n\u0002\u000b"+
+		"\u0007\u000b\u0002\f\u0007\f\u0002\r\u0007\r\u0002\u000e\u0007\u000e\u0002"+
+		"\u000f\u0007\u000f\u0002\u0010\u0007\u0010\u0002\u0011\u0007\u0011\u0002"+
+		"\u0012\u0007\u0012\u0002\u0013\u0007\u0013\u0001\u0000\u0001\u0000\u0001"+
+		"\u0001\u0001\u0001\u0001\u0002\u0001\u0002\u0001\u0003\u0001\u0003\u0001"+
+		"\u0004\u0001\u0004\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001"+
+		"\u0006\u0004\u0006=\b\u0006\u000b\u0006\f\u0006>\u0001\u0007\u0001\u0007"+
+		"\u0001\u0007\u0001\u0007\u0001\b\u0004\bF\b\b\u000b\b\f\bG\u0001\b\u0001"+
+		"\b\u0001\t\u0001\t\u0001\t\u0001\t\u0001\n\u0001\n\u0001\n\u0001\n\u0001"+
+		"\u000b\u0001\u000b\u0001\f\u0001\f\u0001\r\u0001\r\u0001\u000e\u0001\u000e"+
+		"\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000f\u0004\u000f`\b\u000f"+
+		"\u000b\u000f\f\u000fa\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010"+
+		"\u0001\u0010\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0012"+
+		"\u0001\u0012\u0005\u0012o\b\u0012\n\u0012\f\u0012r\t\u0012\u0001\u0013"+
+		"\u0004\u0013u\b\u0013\u000b\u0013\f\u0013v\u0001\u0013\u0001\u0013\u0000"+
+		"\u0000\u0014\u0005\u0001\u0007\u0002\t\u0003\u000b\u0004\r\u0005\u000f"+
+		"\u0006\u0011\u0007\u0013\b\u0015\u0000\u0017\u0000\u0019\u0000\u001b\t"+
+		"\u001d\n\u001f\u000b!\u0000#\f%\u0000\'\r)\u000e+\u0000\u0005\u0000\u0001"+
+		"\u0002\u0003\u0004\u0007\u0001\u0000AZ\u0001\u0000az\u0001\u000009\u0001"+
+		"\u0000!~\u0003\u0000\u00bb\u00bb\u00bf\u00bf\u00ef\u00ef\u0004\u0000\u0000"+
+		"\u00ba\u00bc\u00be\u00c0\u00ee\u00f0\u00ff\u0001\u0000\u0000\u00ffz\u0000"+
+		"\u0005\u0001\u0000\u0000\u0000\u0000\u0007\u0001\u0000\u0000\u0000\u0000"+
+		"\t\u0001\u0000\u0000\u0000\u0000\u000b\u0001\u0000\u0000\u0000\u0000\r"+
+		"\u0001\u0000\u0000\u0000\u0000\u000f\u0001\u0000\u0000\u0000\u0000\u0011"+
+		"\u0001\u0000\u0000\u0000\u0000\u0013\u0001\u0000\u0000\u0000\u0001\u0015"+
+		"\u0001\u0000\u0000\u0000\u0001\u0017\u0001\u0000\u0000\u0000\u0001\u0019"+
+		"\u0001\u0000\u0000\u0000\u0001\u001b\u0001\u0000\u0000\u0000\u0001\u001d"+
+		"\u0001\u0000\u0000\u0000\u0001\u001f\u0001\u0000\u0000\u0000\u0001!\u0001"+
+		"\u0000\u0000\u0000\u0002#\u0001\u0000\u0000\u0000\u0002%\u0001\u0000\u0000"+
+		"\u0000\u0003\'\u0001\u0000\u0000\u0000\u0003)\u0001\u0000\u0000\u0000"+
+		"\u0004+\u0001\u0000\u0000\u0000\u0005-\u0001\u0000\u0000\u0000\u0007/"+
+		"\u0001\u0000\u0000\u0000\t1\u0001\u0000\u0000\u0000\u000b3\u0001\u0000"+
+		"\u0000\u0000\r5\u0001\u0000\u0000\u0000\u000f7\u0001\u0000\u0000\u0000"+
+		"\u0011<\u0001\u0000\u0000\u0000\u0013@\u0001\u0000\u0000\u0000\u0015E"+
+		"\u0001\u0000\u0000\u0000\u0017K\u0001\u0000\u0000\u0000\u0019O\u0001\u0000"+
+		"\u0000\u0000\u001bS\u0001\u0000\u0000\u0000\u001dU\u0001\u0000\u0000\u0000"+
+		"\u001fW\u0001\u0000\u0000\u0000!Y\u0001\u0000\u0000\u0000#_\u0001\u0000"+
+		"\u0000\u0000%c\u0001\u0000\u0000\u0000\'h\u0001\u0000\u0000\u0000)l\u0001"+
+		"\u0000\u0000\u0000+t\u0001\u0000\u0000\u0000-.\u0005<\u0000\u0000.\u0006"+
+		"\u0001\u0000\u0000\u0000/0\u0005>\u0000\u00000\b\u0001\u0000\u0000\u0000"+
+		"12\u0005 \u0000\u00002\n\u0001\u0000\u0000\u000034\u0005-\u0000\u0000"+
+		"4\f\u0001\u0000\u0000\u000056\u0005T\u0000\u00006\u000e\u0001\u0000\u0000"+
+		"\u000078\u0007\u0000\u0000\u000089\u0007\u0001\u0000\u00009:\u0007\u0001"+
+		"\u0000\u0000:\u0010\u0001\u0000\u0000\u0000;=\u0007\u0002\u0000\u0000"+
+		"<;\u0001\u0000\u0000\u0000=>\u0001\u0000\u0000\u0000><\u0001\u0000\u0000"+
+		"\u0000>?\u0001\u0000\u0000\u0000?\u0012\u0001\u0000\u0000\u0000@A\u0005"+
+		":\u0000\u0000AB\u0001\u0000\u0000\u0000BC\u0006\u0007\u0000\u0000C\u0014"+
+		"\u0001\u0000\u0000\u0000DF\u0007\u0002\u0000\u0000ED\u0001\u0000\u0000"+
+		"\u0000FG\u0001\u0000\u0000\u0000GE\u0001\u0000\u0000\u0000GH\u0001\u0000"+
+		"\u0000\u0000HI\u0001\u0000\u0000\u0000IJ\u0006\b\u0001\u0000J\u0016\u0001"+
+		"\u0000\u0000\u0000KL\u0005:\u0000\u0000LM\u0001\u0000\u0000\u0000MN\u0006"+
+		"\t\u0002\u0000N\u0018\u0001\u0000\u0000\u0000OP\u0005-\u0000\u0000PQ\u0001"+
+		"\u0000\u0000\u0000QR\u0006\n\u0003\u0000R\u001a\u0001\u0000\u0000\u0000"+
+		"ST\u0005.\u0000\u0000T\u001c\u0001\u0000\u0000\u0000UV\u0005+\u0000\u0000"+
+		"V\u001e\u0001\u0000\u0000\u0000WX\u0005Z\u0000\u0000X \u0001\u0000\u0000"+
+		"\u0000YZ\u0005 \u0000\u0000Z[\u0001\u0000\u0000\u0000[\\\u0006\u000e\u0004"+
+		"\u0000\\]\u0006\u000e\u0005\u0000]\"\u0001\u0000\u0000\u0000^`\u0007\u0003"+
+		"\u0000\u0000_^\u0001\u0000\u0000\u0000`a\u0001\u0000\u0000\u0000a_\u0001"+
+		"\u0000\u0000\u0000ab\u0001\u0000\u0000\u0000b$\u0001\u0000\u0000\u0000"+
+		"cd\u0005 \u0000\u0000de\u0001\u0000\u0000\u0000ef\u0006\u0010\u0004\u0000"+
+		"fg\u0006\u0010\u0006\u0000g&\u0001\u0000\u0000\u0000hi\u0007\u0004\u0000"+
+		"\u0000ij\u0001\u0000\u0000\u0000jk\u0006\u0011\u0007\u0000k(\u0001\u0000"+
+		"\u0000\u0000lp\u0007\u0005\u0000\u0000mo\u0007\u0006\u0000\u0000nm\u0001"+
+		"\u0000\u0000\u0000or\u0001\u0000\u0000\u0000pn\u0001\u0000\u0000\u0000"+
+		"pq\u0001\u0000\u0000\u0000q*\u0001\u0000\u0000\u0000rp\u0001\u0000\u0000"+
+		"\u0000su\u0007\u0006\u0000\u0000ts\u0001\u0000\u0000\u0000uv\u0001\u0000"+
+		"\u0000\u0000vt\u0001\u0000\u0000\u0000vw\u0001\u0000\u0000\u0000wx\u0001"+
+		"\u0000\u0000\u0000xy\u0006\u0013\b\u0000y,\u0001\u0000\u0000\u0000\n\u0000"+
+		"\u0001\u0002\u0003\u0004>Gapv\t\u0002\u0001\u0000\u0007\u0007\u0000\u0007"+
+		"\b\u0000\u0007\u0004\u0000\u0007\u0003\u0000\u0002\u0002\u0000\u0002\u0003"+
+		"\u0000\u0002\u0004\u0000\u0007\u000e\u0000";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
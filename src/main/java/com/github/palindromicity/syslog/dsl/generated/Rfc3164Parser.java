@@ -1,4 +1,4 @@
-// Generated from com/github/palindromicity/syslog/dsl/generated/Rfc3164.g4 by ANTLR 4.13.2
+// Generated from com/github/palindromicity/syslog/dsl/generated/Rfc3164Parser.g4 by ANTLR 4.13.2
 package com.github.palindromicity.syslog.dsl.generated;
 
 //CHECKSTYLE:OFF
@@ -36,46 +36,8 @@ public class Rfc3164Parser extends Parser {
 	protected static final PredictionContextCache _sharedContextCache =
 		new PredictionContextCache();
 	public static final int
-		TAB=1, LF=2, CR=3, SPACE=4, EXCLAMATION=5, QUOTE=6, POUND=7, DOLLAR=8, 
-		PERCENT=9, AMPERSAND=10, APOSTROPHE=11, LEFT_PAREN=12, RIGHT_PAREN=13, 
-		ASTERISK=14, PLUS=15, COMMA=16, DASH=17, PERIOD=18, SLASH=19, ZERO=20, 
-		ONE=21, TWO=22, THREE=23, FOUR=24, FIVE=25, SIX=26, SEVEN=27, EIGHT=28, 
-		NINE=29, COLON=30, SEMICOLON=31, LESS_THAN=32, EQUALS=33, GREATER_THAN=34, 
-		QUESTION=35, AT=36, CAP_A=37, CAP_B=38, CAP_C=39, CAP_D=40, CAP_E=41, 
-		CAP_F=42, CAP_G=43, CAP_H=44, CAP_I=45, CAP_J=46, CAP_K=47, CAP_L=48, 
-		CAP_M=49, CAP_N=50, CAP_O=51, CAP_P=52, CAP_Q=53, CAP_R=54, CAP_S=55, 
-		CAP_T=56, CAP_U=57, CAP_V=58, CAP_W=59, CAP_X=60, CAP_Y=61, CAP_Z=62, 
-		LEFT_BRACE=63, BACKSLASH=64, RIGHT_BRACE=65, CARAT=66, UNDERSCORE=67, 
-		ACCENT=68, A=69, B=70, C=71, D=72, E=73, F=74, G=75, H=76, I=77, J=78, 
-		K=79, L=80, M=81, N=82, O=83, P=84, Q=85, R=86, S=87, T=88, U=89, V=90, 
-		W=91, X=92, Y=93, Z=94, LEFT_CURLY_BRACE=95, PIPE=96, RIGHT_CURLY_BRACE=97, 
-		TILDE=98, U_0000=99, U_0001=100, U_0002=101, U_0003=102, U_0004=103, U_0005=104, 
-		U_0006=105, U_0007=106, U_0008=107, U_000B=108, U_000C=109, U_000E=110, 
-		U_000F=111, U_0010=112, U_0011=113, U_0012=114, U_0013=115, U_0014=116, 
-		U_0015=117, U_0016=118, U_0017=119, U_0018=120, U_0019=121, U_001A=122, 
-		U_001B=123, U_001C=124, U_001D=125, U_001E=126, U_001F=127, U_007F=128, 
-		U_0080=129, U_0081=130, U_0082=131, U_0083=132, U_0084=133, U_0085=134, 
-		U_0086=135, U_0087=136, U_0088=137, U_0089=138, U_008A=139, U_008B=140, 
-		U_008C=141, U_008D=142, U_008E=143, U_008F=144, U_0090=145, U_0091=146, 
-		U_0092=147, U_0093=148, U_0094=149, U_0095=150, U_0096=151, U_0097=152, 
-		U_0098=153, U_0099=154, U_009A=155, U_009B=156, U_009C=157, U_009D=158, 
-		U_009E=159, U_009F=160, U_00A0=161, U_00A1=162, U_00A2=163, U_00A3=164, 
-		U_00A4=165, U_00A5=166, U_00A6=167, U_00A7=168, U_00A8=169, U_00A9=170, 
-		U_00AA=171, U_00AB=172, U_00AC=173, U_00AD=174, U_00AE=175, U_00AF=176, 
-		U_00B0=177, U_00B1=178, U_00B2=179, U_00B3=180, U_00B4=181, U_00B5=182, 
-		U_00B6=183, U_00B7=184, U_00B8=185, U_00B9=186, U_00BA=187, U_00BB=188, 
-		U_00BC=189, U_00BD=190, U_00BE=191, U_00BF=192, U_00C0=193, U_00C1=194, 
-		U_00C2=195, U_00C3=196, U_00C4=197, U_00C5=198, U_00C6=199, U_00C7=200, 
-		U_00C8=201, U_00C9=202, U_00CA=203, U_00CB=204, U_00CC=205, U_00CD=206, 
-		U_00CE=207, U_00CF=208, U_00D0=209, U_00D1=210, U_00D2=211, U_00D3=212, 
-		U_00D4=213, U_00D5=214, U_00D6=215, U_00D7=216, U_00D8=217, U_00D9=218, 
-		U_00DA=219, U_00DB=220, U_00DC=221, U_00DD=222, U_00DE=223, U_00DF=224, 
-		U_00E0=225, U_00E1=226, U_00E2=227, U_00E3=228, U_00E4=229, U_00E5=230, 
-		U_00E6=231, U_00E7=232, U_00E8=233, U_00E9=234, U_00EA=235, U_00EB=236, 
-		U_00EC=237, U_00ED=238, U_00EE=239, U_00EF=240, U_00F0=241, U_00F1=242, 
-		U_00F2=243, U_00F3=244, U_00F4=245, U_00F5=246, U_00F6=247, U_00F7=248, 
-		U_00F8=249, U_00F9=250, U_00FA=251, U_00FB=252, U_00FC=253, U_00FD=254, 
-		U_00FE=255, U_00FF=256;
+		LESS_THAN=1, GREATER_THAN=2, SPACE=3, DASH=4, CAP_T=5, MONTH=6, DIGITS=7, 
+		COLON=8, PERIOD=9, PLUS=10, CAP_Z=11, HOST_NAME=12, BOM=13, OCTETS=14;
 	public static final int
 		RULE_syslog_msg = 0, RULE_header = 1, RULE_pri = 2, RULE_prival = 3, RULE_hostname = 4, 
 		RULE_timestamp = 5, RULE_date_month_short = 6, RULE_date_day_short = 7, 
@@ -83,99 +45,29 @@ public class Rfc3164Parser extends Parser {
 		RULE_full_time = 12, RULE_partial_time = 13, RULE_time_hour = 14, RULE_time_minute = 15, 
 		RULE_time_second = 16, RULE_time_secfrac = 17, RULE_time_offset = 18, 
 		RULE_time_numoffset = 19, RULE_msg = 20, RULE_msg_any = 21, RULE_msg_utf8 = 22, 
-		RULE_bom = 23, RULE_utf_8_string = 24, RULE_octet = 25, RULE_sp = 26, 
-		RULE_printusascii = 27, RULE_printusasciinospecials = 28, RULE_nonzero_digit = 29, 
-		RULE_digit = 30, RULE_capital = 31, RULE_lower = 32;
+		RULE_bom = 23, RULE_utf_8_string = 24, RULE_sp = 25;
 	private static String[] makeRuleNames() {
 		return new String[] {
 			"syslog_msg", "header", "pri", "prival", "hostname", "timestamp", "date_month_short", 
 			"date_day_short", "full_date", "date_fullyear", "date_month", "date_mday", 
 			"full_time", "partial_time", "time_hour", "time_minute", "time_second", 
 			"time_secfrac", "time_offset", "time_numoffset", "msg", "msg_any", "msg_utf8", 
-			"bom", "utf_8_string", "octet", "sp", "printusascii", "printusasciinospecials", 
-			"nonzero_digit", "digit", "capital", "lower"
+			"bom", "utf_8_string", "sp"
 		};
 	}
 	public static final String[] ruleNames = makeRuleNames();
 
 	private static String[] makeLiteralNames() {
 		return new String[] {
-			null, "'\\u0009'", "'\\u000A'", "'\\u000D'", "' '", "'!'", "'\"'", "'#'", 
-			"'$'", "'%'", "'&'", "'''", "'('", "')'", "'*'", "'+'", "','", "'-'", 
-			"'.'", "'/'", "'0'", "'1'", "'2'", "'3'", "'4'", "'5'", "'6'", "'7'", 
-			"'8'", "'9'", "':'", "';'", "'<'", "'='", "'>'", "'?'", "'@'", "'A'", 
-			"'B'", "'C'", "'D'", "'E'", "'F'", "'G'", "'H'", "'I'", "'J'", "'K'", 
-			"'L'", "'M'", "'N'", "'O'", "'P'", "'Q'", "'R'", "'S'", "'T'", "'U'", 
-			"'V'", "'W'", "'X'", "'Y'", "'Z'", "'['", "'\\'", "']'", "'^'", "'_'", 
-			"'`'", "'a'", "'b'", "'c'", "'d'", "'e'", "'f'", "'g'", "'h'", "'i'", 
-			"'j'", "'k'", "'l'", "'m'", "'n'", "'o'", "'p'", "'q'", "'r'", "'s'", 
-			"'t'", "'u'", "'v'", "'w'", "'x'", "'y'", "'z'", "'{'", "'|'", "'}'", 
-			"'~'", "'\\u0000'", "'\\u0001'", "'\\u0002'", "'\\u0003'", "'\\u0004'", 
-			"'\\u0005'", "'\\u0006'", "'\\u0007'", "'\\u0008'", "'\\u000B'", "'\\u000C'", 
-			"'\\u000E'", "'\\u000F'", "'\\u0010'", "'\\u0011'", "'\\u0012'", "'\\u0013'", 
-			"'\\u0014'", "'\\u0015'", "'\\u0016'", "'\\u0017'", "'\\u0018'", "'\\u0019'", 
-			"'\\u001A'", "'\\u001B'", "'\\u001C'", "'\\u001D'", "'\\u001E'", "'\\u001F'", 
-			"'\\u007F'", "'\\u0080'", "'\\u0081'", "'\\u0082'", "'\\u0083'", "'\\u0084'", 
-			"'\\u0085'", "'\\u0086'", "'\\u0087'", "'\\u0088'", "'\\u0089'", "'\\u008A'", 
-			"'\\u008B'", "'\\u008C'", "'\\u008D'", "'\\u008E'", "'\\u008F'", "'\\u0090'", 
-			"'\\u0091'", "'\\u0092'", "'\\u0093'", "'\\u0094'", "'\\u0095'", "'\\u0096'", 
-			"'\\u0097'", "'\\u0098'", "'\\u0099'", "'\\u009A'", "'\\u009B'", "'\\u009C'", 
-			"'\\u009D'", "'\\u009E'", "'\\u009F'", "'\\u00A0'", "'\\u00A1'", "'\\u00A2'", 
-			"'\\u00A3'", "'\\u00A4'", "'\\u00A5'", "'\\u00A6'", "'\\u00A7'", "'\\u00A8'", 
-			"'\\u00A9'", "'\\u00AA'", "'\\u00AB'", "'\\u00AC'", "'\\u00AD'", "'\\u00AE'", 
-			"'\\u00AF'", "'\\u00B0'", "'\\u00B1'", "'\\u00B2'", "'\\u00B3'", "'\\u00B4'", 
-			"'\\u00B5'", "'\\u00B6'", "'\\u00B7'", "'\\u00B8'", "'\\u00B9'", "'\\u00BA'", 
-			"'\\u00BB'", "'\\u00BC'", "'\\u00BD'", "'\\u00BE'", "'\\u00BF'", "'\\u00C0'", 
-			"'\\u00C1'", "'\\u00C2'", "'\\u00C3'", "'\\u00C4'", "'\\u00C5'", "'\\u00C6'", 
-			"'\\u00C7'", "'\\u00C8'", "'\\u00C9'", "'\\u00CA'", "'\\u00CB'", "'\\u00CC'", 
-			"'\\u00CD'", "'\\u00CE'", "'\\u00CF'", "'\\u00D0'", "'\\u00D1'", "'\\u00D2'", 
-			"'\\u00D3'", "'\\u00D4'", "'\\u00D5'", "'\\u00D6'", "'\\u00D7'", "'\\u00D8'", 
-			"'\\u00D9'", "'\\u00DA'", "'\\u00DB'", "'\\u00DC'", "'\\u00DD'", "'\\u00DE'", 
-			"'\\u00DF'", "'\\u00E0'", "'\\u00E1'", "'\\u00E2'", "'\\u00E3'", "'\\u00E4'", 
-			"'\\u00E5'", "'\\u00E6'", "'\\u00E7'", "'\\u00E8'", "'\\u00E9'", "'\\u00EA'", 
-			"'\\u00EB'", "'\\u00EC'", "'\\u00ED'", "'\\u00EE'", "'\\u00EF'", "'\\u00F0'", 
-			"'\\u00F1'", "'\\u00F2'", "'\\u00F3'", "'\\u00F4'", "'\\u00F5'", "'\\u00F6'", 
-			"'\\u00F7'", "'\\u00F8'", "'\\u00F9'", "'\\u00FA'", "'\\u00FB'", "'\\u00FC'", 
-			"'\\u00FD'", "'\\u00FE'", "'\\u00FF'"
+			null, "'<'", "'>'", "' '", null, "'T'", null, null, null, "'.'", "'+'", 
+			"'Z'"
 		};
 	}
 	private static final String[] _LITERAL_NAMES = makeLiteralNames();
 	private static String[] makeSymbolicNames() {
 		return new String[] {
-			null, "TAB", "LF", "CR", "SPACE", "EXCLAMATION", "QUOTE", "POUND", "DOLLAR", 
-			"PERCENT", "AMPERSAND", "APOSTROPHE", "LEFT_PAREN", "RIGHT_PAREN", "ASTERISK", 
-			"PLUS", "COMMA", "DASH", "PERIOD", "SLASH", "ZERO", "ONE", "TWO", "THREE", 
-			"FOUR", "FIVE", "SIX", "SEVEN", "EIGHT", "NINE", "COLON", "SEMICOLON", 
-			"LESS_THAN", "EQUALS", "GREATER_THAN", "QUESTION", "AT", "CAP_A", "CAP_B", 
-			"CAP_C", "CAP_D", "CAP_E", "CAP_F", "CAP_G", "CAP_H", "CAP_I", "CAP_J", 
-			"CAP_K", "CAP_L", "CAP_M", "CAP_N", "CAP_O", "CAP_P", "CAP_Q", "CAP_R", 
-			"CAP_S", "CAP_T", "CAP_U", "CAP_V", "CAP_W", "CAP_X", "CAP_Y", "CAP_Z", 
-			"LEFT_BRACE", "BACKSLASH", "RIGHT_BRACE", "CARAT", "UNDERSCORE", "ACCENT", 
-			"A", "B", "C", "D", "E", "F", "G", "H", "I", "J", "K", "L", "M", "N", 
-			"O", "P", "Q", "R", "S", "T", "U", "V", "W", "X", "Y", "Z", "LEFT_CURLY_BRACE", 
-			"PIPE", "RIGHT_CURLY_BRACE", "TILDE", "U_0000", "U_0001", "U_0002", "U_0003", 
-			"U_0004", "U_0005", "U_0006", "U_0007", "U_0008", "U_000B", "U_000C", 
-			"U_000E", "U_000F", "U_0010", "U_0011", "U_0012", "U_0013", "U_0014", 
-			"U_0015", "U_0016", "U_0017", "U_0018", "U_0019", "U_001A", "U_001B", 
-			"U_001C", "U_001D", "U_001E", "U_001F", "U_007F", "U_0080", "U_0081", 
-			"U_0082", "U_0083", "U_0084", "U_0085", "U_0086", "U_0087", "U_0088", 
-			"U_0089", "U_008A", "U_008B", "U_008C", "U_008D", "U_008E", "U_008F", 
-			"U_0090", "U_0091", "U_0092", "U_0093", "U_0094", "U_0095", "U_0096", 
-			"U_0097", "U_0098", "U_0099", "U_009A", "U_009B", "U_009C", "U_009D", 
-			"U_009E", "U_009F", "U_00A0", "U_00A1", "U_00A2", "U_00A3", "U_00A4", 
-			"U_00A5", "U_00A6", "U_00A7", "U_00A8", "U_00A9", "U_00AA", "U_00AB", 
-			"U_00AC", "U_00AD", "U_00AE", "U_00AF", "U_00B0", "U_00B1", "U_00B2", 
-			"U_00B3", "U_00B4", "U_00B5", "U_00B6", "U_00B7", "U_00B8", "U_00B9", 
-			"U_00BA", "U_00BB", "U_00BC", "U_00BD", "U_00BE", "U_00BF", "U_00C0", 
-			"U_00C1", "U_00C2", "U_00C3", "U_00C4", "U_00C5", "U_00C6", "U_00C7", 
-			"U_00C8", "U_00C9", "U_00CA", "U_00CB", "U_00CC", "U_00CD", "U_00CE", 
-			"U_00CF", "U_00D0", "U_00D1", "U_00D2", "U_00D3", "U_00D4", "U_00D5", 
-			"U_00D6", "U_00D7", "U_00D8", "U_00D9", "U_00DA", "U_00DB", "U_00DC", 
-			"U_00DD", "U_00DE", "U_00DF", "U_00E0", "U_00E1", "U_00E2", "U_00E3", 
-			"U_00E4", "U_00E5", "U_00E6", "U_00E7", "U_00E8", "U_00E9", "U_00EA", 
-			"U_00EB", "U_00EC", "U_00ED", "U_00EE", "U_00EF", "U_00F0", "U_00F1", 
-			"U_00F2", "U_00F3", "U_00F4", "U_00F5", "U_00F6", "U_00F7", "U_00F8", 
-			"U_00F9", "U_00FA", "U_00FB", "U_00FC", "U_00FD", "U_00FE", "U_00FF"
+			null, "LESS_THAN", "GREATER_THAN", "SPACE", "DASH", "CAP_T", "MONTH", 
+			"DIGITS", "COLON", "PERIOD", "PLUS", "CAP_Z", "HOST_NAME", "BOM", "OCTETS"
 		};
 	}
 	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
@@ -213,7 +105,7 @@ public class Rfc3164Parser extends Parser {
 	}
 
 	@Override
-	public String getGrammarFileName() { return "Rfc3164.g4"; }
+	public String getGrammarFileName() { return "Rfc3164Parser.g4"; }
 
 	@Override
 	public String[] getRuleNames() { return ruleNames; }
@@ -224,6 +116,15 @@ public class Rfc3164Parser extends Parser {
 	@Override
 	public ATN getATN() { return _ATN; }
 
+
+	  /**
+	   * Validates the number of characters in a token, such as a run of {@code DIGITS}.
+	   */
+	  private static boolean hasLength(Token token, int min, int max) {
+	    int length = token.getStopIndex() - token.getStartIndex() + 1;
+	    return length >= min && length <= max;
+	  }
+
 	public Rfc3164Parser(TokenStream input) {
 		super(input);
 		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
@@ -255,15 +156,15 @@ public class Rfc3164Parser extends Parser {
 		public SyslogMsgContext(Syslog_msgContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).enterSyslogMsg(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).enterSyslogMsg(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).exitSyslogMsg(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).exitSyslogMsg(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof Rfc3164Visitor ) return ((Rfc3164Visitor<? extends T>)visitor).visitSyslogMsg(this);
+			if ( visitor instanceof Rfc3164ParserVisitor ) return ((Rfc3164ParserVisitor<? extends T>)visitor).visitSyslogMsg(this);
 			else return visitor.visitChildren(this);
 		}
 	}
@@ -275,16 +176,16 @@ public class Rfc3164Parser extends Parser {
 			_localctx = new SyslogMsgContext(_localctx);
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(66);
+			setState(52);
 			header();
-			setState(67);
+			setState(53);
 			sp();
-			setState(69);
+			setState(55);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,0,_ctx) ) {
 			case 1:
 				{
-				setState(68);
+				setState(54);
 				msg();
 				}
 				break;
@@ -334,15 +235,15 @@ public class Rfc3164Parser extends Parser {
 		public SyslogHeaderContext(HeaderContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).enterSyslogHeader(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).enterSyslogHeader(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).exitSyslogHeader(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).exitSyslogHeader(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof Rfc3164Visitor ) return ((Rfc3164Visitor<? extends T>)visitor).visitSyslogHeader(this);
+			if ( visitor instanceof Rfc3164ParserVisitor ) return ((Rfc3164ParserVisitor<? extends T>)visitor).visitSyslogHeader(this);
 			else return visitor.visitChildren(this);
 		}
 	}
@@ -355,31 +256,31 @@ public class Rfc3164Parser extends Parser {
 			_localctx = new SyslogHeaderContext(_localctx);
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(72);
+			setState(58);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==LESS_THAN) {
 				{
-				setState(71);
+				setState(57);
 				pri();
 				}
 			}
 
-			setState(75);
+			setState(61);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==SPACE) {
 				{
-				setState(74);
+				setState(60);
 				sp();
 				}
 			}
 
-			setState(77);
+			setState(63);
 			timestamp();
-			setState(78);
+			setState(64);
 			sp();
-			setState(79);
+			setState(65);
 			hostname();
 			}
 		}
@@ -416,15 +317,15 @@ public class Rfc3164Parser extends Parser {
 		public HeaderPriorityContext(PriContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).enterHeaderPriority(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).enterHeaderPriority(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).exitHeaderPriority(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).exitHeaderPriority(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof Rfc3164Visitor ) return ((Rfc3164Visitor<? extends T>)visitor).visitHeaderPriority(this);
+			if ( visitor instanceof Rfc3164ParserVisitor ) return ((Rfc3164ParserVisitor<? extends T>)visitor).visitHeaderPriority(this);
 			else return visitor.visitChildren(this);
 		}
 	}
@@ -436,11 +337,11 @@ public class Rfc3164Parser extends Parser {
 			_localctx = new HeaderPriorityContext(_localctx);
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(81);
+			setState(67);
 			match(LESS_THAN);
-			setState(82);
+			setState(68);
 			prival();
-			setState(83);
+			setState(69);
 			match(GREATER_THAN);
 			}
 		}
@@ -469,24 +370,20 @@ public class Rfc3164Parser extends Parser {
 	}
 	@SuppressWarnings("CheckReturnValue")
 	public static class HeaderPriorityValueContext extends PrivalContext {
-		public List<DigitContext> digit() {
-			return getRuleContexts(DigitContext.class);
-		}
-		public DigitContext digit(int i) {
-			return getRuleContext(DigitContext.class,i);
-		}
+		public Token d;
+		public TerminalNode DIGITS() { return getToken(Rfc3164Parser.DIGITS, 0); }
 		public HeaderPriorityValueContext(PrivalContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).enterHeaderPriorityValue(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).enterHeaderPriorityValue(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).exitHeaderPriorityValue(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).exitHeaderPriorityValue(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof Rfc3164Visitor ) return ((Rfc3164Visitor<? extends T>)visitor).visitHeaderPriorityValue(this);
+			if ( visitor instanceof Rfc3164ParserVisitor ) return ((Rfc3164ParserVisitor<? extends T>)visitor).visitHeaderPriorityValue(this);
 			else return visitor.visitChildren(this);
 		}
 	}
@@ -494,41 +391,14 @@ public class Rfc3164Parser extends Parser {
 	public final PrivalContext prival() throws RecognitionException {
 		PrivalContext _localctx = new PrivalContext(_ctx, getState());
 		enterRule(_localctx, 6, RULE_prival);
-		int _la;
 		try {
 			_localctx = new HeaderPriorityValueContext(_localctx);
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(85);
-			digit();
-			setState(92);
-			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,4,_ctx) ) {
-			case 1:
-				{
-				setState(87);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 1072693248L) != 0)) {
-					{
-					setState(86);
-					digit();
-					}
-				}
-
-				}
-				break;
-			case 2:
-				{
-				{
-				setState(89);
-				digit();
-				setState(90);
-				digit();
-				}
-				}
-				break;
-			}
+			setState(71);
+			((HeaderPriorityValueContext)_localctx).d = match(DIGITS);
+			setState(72);
+			if (!(hasLength(((HeaderPriorityValueContext)_localctx).d, 1, 3))) throw new FailedPredicateException(this, "hasLength($d, 1, 3)");
 			}
 		}
 		catch (RecognitionException re) {
@@ -556,24 +426,19 @@ public class Rfc3164Parser extends Parser {
 	}
 	@SuppressWarnings("CheckReturnValue")
 	public static class HeaderHostNameContext extends HostnameContext {
-		public List<PrintusasciiContext> printusascii() {
-			return getRuleContexts(PrintusasciiContext.class);
-		}
-		public PrintusasciiContext printusascii(int i) {
-			return getRuleContext(PrintusasciiContext.class,i);
-		}
+		public TerminalNode HOST_NAME() { return getToken(Rfc3164Parser.HOST_NAME, 0); }
 		public HeaderHostNameContext(HostnameContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).enterHeaderHostName(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).enterHeaderHostName(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).exitHeaderHostName(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).exitHeaderHostName(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof Rfc3164Visitor ) return ((Rfc3164Visitor<? extends T>)visitor).visitHeaderHostName(this);
+			if ( visitor instanceof Rfc3164ParserVisitor ) return ((Rfc3164ParserVisitor<? extends T>)visitor).visitHeaderHostName(this);
 			else return visitor.visitChildren(this);
 		}
 	}
@@ -586,20 +451,16 @@ public class Rfc3164Parser extends Parser {
 			_localctx = new HeaderHostNameContext(_localctx);
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(97);
+			setState(75);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & -32L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 34359738367L) != 0)) {
-				{
+			if (_la==HOST_NAME) {
 				{
-				setState(94);
-				printusascii();
-				}
+				setState(74);
+				match(HOST_NAME);
 				}
-				setState(99);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
 			}
+
 			}
 		}
 		catch (RecognitionException re) {
@@ -642,15 +503,15 @@ public class Rfc3164Parser extends Parser {
 		public HeaderTimeStamp3164Context(TimestampContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).enterHeaderTimeStamp3164(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).enterHeaderTimeStamp3164(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).exitHeaderTimeStamp3164(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).exitHeaderTimeStamp3164(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof Rfc3164Visitor ) return ((Rfc3164Visitor<? extends T>)visitor).visitHeaderTimeStamp3164(this);
+			if ( visitor instanceof Rfc3164ParserVisitor ) return ((Rfc3164ParserVisitor<? extends T>)visitor).visitHeaderTimeStamp3164(this);
 			else return visitor.visitChildren(this);
 		}
 	}
@@ -666,15 +527,15 @@ public class Rfc3164Parser extends Parser {
 		public HeaderTimeStampContext(TimestampContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).enterHeaderTimeStamp(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).enterHeaderTimeStamp(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).exitHeaderTimeStamp(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).exitHeaderTimeStamp(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof Rfc3164Visitor ) return ((Rfc3164Visitor<? extends T>)visitor).visitHeaderTimeStamp(this);
+			if ( visitor instanceof Rfc3164ParserVisitor ) return ((Rfc3164ParserVisitor<? extends T>)visitor).visitHeaderTimeStamp(this);
 			else return visitor.visitChildren(this);
 		}
 	}
@@ -683,68 +544,34 @@ public class Rfc3164Parser extends Parser {
 		TimestampContext _localctx = new TimestampContext(_ctx, getState());
 		enterRule(_localctx, 10, RULE_timestamp);
 		try {
-			setState(109);
+			setState(86);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
-			case ZERO:
-			case ONE:
-			case TWO:
-			case THREE:
-			case FOUR:
-			case FIVE:
-			case SIX:
-			case SEVEN:
-			case EIGHT:
-			case NINE:
+			case DIGITS:
 				_localctx = new HeaderTimeStampContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
 				{
-				setState(100);
+				setState(77);
 				full_date();
-				setState(101);
+				setState(78);
 				match(CAP_T);
-				setState(102);
+				setState(79);
 				full_time();
 				}
 				}
 				break;
-			case CAP_A:
-			case CAP_B:
-			case CAP_C:
-			case CAP_D:
-			case CAP_E:
-			case CAP_F:
-			case CAP_G:
-			case CAP_H:
-			case CAP_I:
-			case CAP_J:
-			case CAP_K:
-			case CAP_L:
-			case CAP_M:
-			case CAP_N:
-			case CAP_O:
-			case CAP_P:
-			case CAP_Q:
-			case CAP_R:
-			case CAP_S:
-			case CAP_T:
-			case CAP_U:
-			case CAP_V:
-			case CAP_W:
-			case CAP_X:
-			case CAP_Y:
-			case CAP_Z:
+			case MONTH:
 				_localctx = new HeaderTimeStamp3164Context(_localctx);
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(104);
+				setState(81);
 				date_month_short();
-				setState(105);
+				setState(82);
 				date_day_short();
-				setState(106);
+				setState(83);
 				sp();
-				setState(107);
+				setState(84);
 				partial_time();
 				}
 				break;
@@ -765,30 +592,22 @@ public class Rfc3164Parser extends Parser {
 
 	@SuppressWarnings("CheckReturnValue")
 	public static class Date_month_shortContext extends ParserRuleContext {
-		public CapitalContext capital() {
-			return getRuleContext(CapitalContext.class,0);
-		}
-		public List<LowerContext> lower() {
-			return getRuleContexts(LowerContext.class);
-		}
-		public LowerContext lower(int i) {
-			return getRuleContext(LowerContext.class,i);
-		}
+		public TerminalNode MONTH() { return getToken(Rfc3164Parser.MONTH, 0); }
 		public Date_month_shortContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
 		@Override public int getRuleIndex() { return RULE_date_month_short; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).enterDate_month_short(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).enterDate_month_short(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).exitDate_month_short(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).exitDate_month_short(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof Rfc3164Visitor ) return ((Rfc3164Visitor<? extends T>)visitor).visitDate_month_short(this);
+			if ( visitor instanceof Rfc3164ParserVisitor ) return ((Rfc3164ParserVisitor<? extends T>)visitor).visitDate_month_short(this);
 			else return visitor.visitChildren(this);
 		}
 	}
@@ -799,12 +618,8 @@ public class Rfc3164Parser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(111);
-			capital();
-			setState(112);
-			lower();
-			setState(113);
-			lower();
+			setState(88);
+			match(MONTH);
 			}
 		}
 		catch (RecognitionException re) {
@@ -820,33 +635,29 @@ public class Rfc3164Parser extends Parser {
 
 	@SuppressWarnings("CheckReturnValue")
 	public static class Date_day_shortContext extends ParserRuleContext {
+		public Token d;
 		public List<SpContext> sp() {
 			return getRuleContexts(SpContext.class);
 		}
 		public SpContext sp(int i) {
 			return getRuleContext(SpContext.class,i);
 		}
-		public List<DigitContext> digit() {
-			return getRuleContexts(DigitContext.class);
-		}
-		public DigitContext digit(int i) {
-			return getRuleContext(DigitContext.class,i);
-		}
+		public TerminalNode DIGITS() { return getToken(Rfc3164Parser.DIGITS, 0); }
 		public Date_day_shortContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
 		@Override public int getRuleIndex() { return RULE_date_day_short; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).enterDate_day_short(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).enterDate_day_short(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).exitDate_day_short(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).exitDate_day_short(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof Rfc3164Visitor ) return ((Rfc3164Visitor<? extends T>)visitor).visitDate_day_short(this);
+			if ( visitor instanceof Rfc3164ParserVisitor ) return ((Rfc3164ParserVisitor<? extends T>)visitor).visitDate_day_short(this);
 			else return visitor.visitChildren(this);
 		}
 	}
@@ -858,34 +669,24 @@ public class Rfc3164Parser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(115);
+			setState(90);
 			sp();
 			{
-			setState(117);
+			setState(92);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==SPACE) {
 				{
-				setState(116);
+				setState(91);
 				sp();
 				}
 			}
 
 			}
-			setState(119);
-			digit();
-			{
-			setState(121);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 1072693248L) != 0)) {
-				{
-				setState(120);
-				digit();
-				}
-			}
-
-			}
+			setState(94);
+			((Date_day_shortContext)_localctx).d = match(DIGITS);
+			setState(95);
+			if (!(hasLength(((Date_day_shortContext)_localctx).d, 1, 2))) throw new FailedPredicateException(this, "hasLength($d, 1, 2)");
 			}
 		}
 		catch (RecognitionException re) {
@@ -920,15 +721,15 @@ public class Rfc3164Parser extends Parser {
 		@Override public int getRuleIndex() { return RULE_full_date; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).enterFull_date(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).enterFull_date(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).exitFull_date(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).exitFull_date(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof Rfc3164Visitor ) return ((Rfc3164Visitor<? extends T>)visitor).visitFull_date(this);
+			if ( visitor instanceof Rfc3164ParserVisitor ) return ((Rfc3164ParserVisitor<? extends T>)visitor).visitFull_date(this);
 			else return visitor.visitChildren(this);
 		}
 	}
@@ -939,15 +740,15 @@ public class Rfc3164Parser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(123);
+			setState(97);
 			date_fullyear();
-			setState(124);
+			setState(98);
 			match(DASH);
-			setState(125);
+			setState(99);
 			date_month();
-			setState(126);
+			setState(100);
 			match(DASH);
-			setState(127);
+			setState(101);
 			date_mday();
 			}
 		}
@@ -964,27 +765,23 @@ public class Rfc3164Parser extends Parser {
 
 	@SuppressWarnings("CheckReturnValue")
 	public static class Date_fullyearContext extends ParserRuleContext {
-		public List<DigitContext> digit() {
-			return getRuleContexts(DigitContext.class);
-		}
-		public DigitContext digit(int i) {
-			return getRuleContext(DigitContext.class,i);
-		}
+		public Token d;
+		public TerminalNode DIGITS() { return getToken(Rfc3164Parser.DIGITS, 0); }
 		public Date_fullyearContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
 		@Override public int getRuleIndex() { return RULE_date_fullyear; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).enterDate_fullyear(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).enterDate_fullyear(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).exitDate_fullyear(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).exitDate_fullyear(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof Rfc3164Visitor ) return ((Rfc3164Visitor<? extends T>)visitor).visitDate_fullyear(this);
+			if ( visitor instanceof Rfc3164ParserVisitor ) return ((Rfc3164ParserVisitor<? extends T>)visitor).visitDate_fullyear(this);
 			else return visitor.visitChildren(this);
 		}
 	}
@@ -995,14 +792,10 @@ public class Rfc3164Parser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(129);
-			digit();
-			setState(130);
-			digit();
-			setState(131);
-			digit();
-			setState(132);
-			digit();
+			setState(103);
+			((Date_fullyearContext)_localctx).d = match(DIGITS);
+			setState(104);
+			if (!(hasLength(((Date_fullyearContext)_localctx).d, 4, 4))) throw new FailedPredicateException(this, "hasLength($d, 4, 4)");
 			}
 		}
 		catch (RecognitionException re) {
@@ -1018,27 +811,23 @@ public class Rfc3164Parser extends Parser {
 
 	@SuppressWarnings("CheckReturnValue")
 	public static class Date_monthContext extends ParserRuleContext {
-		public List<DigitContext> digit() {
-			return getRuleContexts(DigitContext.class);
-		}
-		public DigitContext digit(int i) {
-			return getRuleContext(DigitContext.class,i);
-		}
+		public Token d;
+		public TerminalNode DIGITS() { return getToken(Rfc3164Parser.DIGITS, 0); }
 		public Date_monthContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
 		@Override public int getRuleIndex() { return RULE_date_month; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).enterDate_month(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).enterDate_month(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).exitDate_month(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).exitDate_month(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof Rfc3164Visitor ) return ((Rfc3164Visitor<? extends T>)visitor).visitDate_month(this);
+			if ( visitor instanceof Rfc3164ParserVisitor ) return ((Rfc3164ParserVisitor<? extends T>)visitor).visitDate_month(this);
 			else return visitor.visitChildren(this);
 		}
 	}
@@ -1049,10 +838,10 @@ public class Rfc3164Parser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(134);
-			digit();
-			setState(135);
-			digit();
+			setState(106);
+			((Date_monthContext)_localctx).d = match(DIGITS);
+			setState(107);
+			if (!(hasLength(((Date_monthContext)_localctx).d, 2, 2))) throw new FailedPredicateException(this, "hasLength($d, 2, 2)");
 			}
 		}
 		catch (RecognitionException re) {
@@ -1068,27 +857,23 @@ public class Rfc3164Parser extends Parser {
 
 	@SuppressWarnings("CheckReturnValue")
 	public static class Date_mdayContext extends ParserRuleContext {
-		public List<DigitContext> digit() {
-			return getRuleContexts(DigitContext.class);
-		}
-		public DigitContext digit(int i) {
-			return getRuleContext(DigitContext.class,i);
-		}
+		public Token d;
+		public TerminalNode DIGITS() { return getToken(Rfc3164Parser.DIGITS, 0); }
 		public Date_mdayContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
 		@Override public int getRuleIndex() { return RULE_date_mday; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).enterDate_mday(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).enterDate_mday(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).exitDate_mday(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).exitDate_mday(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof Rfc3164Visitor ) return ((Rfc3164Visitor<? extends T>)visitor).visitDate_mday(this);
+			if ( visitor instanceof Rfc3164ParserVisitor ) return ((Rfc3164ParserVisitor<? extends T>)visitor).visitDate_mday(this);
 			else return visitor.visitChildren(this);
 		}
 	}
@@ -1099,10 +884,10 @@ public class Rfc3164Parser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(137);
-			digit();
-			setState(138);
-			digit();
+			setState(109);
+			((Date_mdayContext)_localctx).d = match(DIGITS);
+			setState(110);
+			if (!(hasLength(((Date_mdayContext)_localctx).d, 2, 2))) throw new FailedPredicateException(this, "hasLength($d, 2, 2)");
 			}
 		}
 		catch (RecognitionException re) {
@@ -1130,15 +915,15 @@ public class Rfc3164Parser extends Parser {
 		@Override public int getRuleIndex() { return RULE_full_time; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).enterFull_time(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).enterFull_time(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).exitFull_time(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).exitFull_time(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof Rfc3164Visitor ) return ((Rfc3164Visitor<? extends T>)visitor).visitFull_time(this);
+			if ( visitor instanceof Rfc3164ParserVisitor ) return ((Rfc3164ParserVisitor<? extends T>)visitor).visitFull_time(this);
 			else return visitor.visitChildren(this);
 		}
 	}
@@ -1149,9 +934,9 @@ public class Rfc3164Parser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(140);
+			setState(112);
 			partial_time();
-			setState(141);
+			setState(113);
 			time_offset();
 			}
 		}
@@ -1190,15 +975,15 @@ public class Rfc3164Parser extends Parser {
 		@Override public int getRuleIndex() { return RULE_partial_time; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).enterPartial_time(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).enterPartial_time(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).exitPartial_time(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).exitPartial_time(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof Rfc3164Visitor ) return ((Rfc3164Visitor<? extends T>)visitor).visitPartial_time(this);
+			if ( visitor instanceof Rfc3164ParserVisitor ) return ((Rfc3164ParserVisitor<? extends T>)visitor).visitPartial_time(this);
 			else return visitor.visitChildren(this);
 		}
 	}
@@ -1210,22 +995,22 @@ public class Rfc3164Parser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(143);
+			setState(115);
 			time_hour();
-			setState(144);
+			setState(116);
 			match(COLON);
-			setState(145);
+			setState(117);
 			time_minute();
-			setState(146);
+			setState(118);
 			match(COLON);
-			setState(147);
+			setState(119);
 			time_second();
-			setState(149);
+			setState(121);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==PERIOD) {
 				{
-				setState(148);
+				setState(120);
 				time_secfrac();
 				}
 			}
@@ -1245,27 +1030,23 @@ public class Rfc3164Parser extends Parser {
 
 	@SuppressWarnings("CheckReturnValue")
 	public static class Time_hourContext extends ParserRuleContext {
-		public List<DigitContext> digit() {
-			return getRuleContexts(DigitContext.class);
-		}
-		public DigitContext digit(int i) {
-			return getRuleContext(DigitContext.class,i);
-		}
+		public Token d;
+		public TerminalNode DIGITS() { return getToken(Rfc3164Parser.DIGITS, 0); }
 		public Time_hourContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
 		@Override public int getRuleIndex() { return RULE_time_hour; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).enterTime_hour(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).enterTime_hour(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).exitTime_hour(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).exitTime_hour(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof Rfc3164Visitor ) return ((Rfc3164Visitor<? extends T>)visitor).visitTime_hour(this);
+			if ( visitor instanceof Rfc3164ParserVisitor ) return ((Rfc3164ParserVisitor<? extends T>)visitor).visitTime_hour(this);
 			else return visitor.visitChildren(this);
 		}
 	}
@@ -1276,10 +1057,10 @@ public class Rfc3164Parser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(151);
-			digit();
-			setState(152);
-			digit();
+			setState(123);
+			((Time_hourContext)_localctx).d = match(DIGITS);
+			setState(124);
+			if (!(hasLength(((Time_hourContext)_localctx).d, 2, 2))) throw new FailedPredicateException(this, "hasLength($d, 2, 2)");
 			}
 		}
 		catch (RecognitionException re) {
@@ -1295,27 +1076,23 @@ public class Rfc3164Parser extends Parser {
 
 	@SuppressWarnings("CheckReturnValue")
 	public static class Time_minuteContext extends ParserRuleContext {
-		public List<DigitContext> digit() {
-			return getRuleContexts(DigitContext.class);
-		}
-		public DigitContext digit(int i) {
-			return getRuleContext(DigitContext.class,i);
-		}
+		public Token d;
+		public TerminalNode DIGITS() { return getToken(Rfc3164Parser.DIGITS, 0); }
 		public Time_minuteContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
 		@Override public int getRuleIndex() { return RULE_time_minute; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).enterTime_minute(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).enterTime_minute(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).exitTime_minute(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).exitTime_minute(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof Rfc3164Visitor ) return ((Rfc3164Visitor<? extends T>)visitor).visitTime_minute(this);
+			if ( visitor instanceof Rfc3164ParserVisitor ) return ((Rfc3164ParserVisitor<? extends T>)visitor).visitTime_minute(this);
 			else return visitor.visitChildren(this);
 		}
 	}
@@ -1326,10 +1103,10 @@ public class Rfc3164Parser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(154);
-			digit();
-			setState(155);
-			digit();
+			setState(126);
+			((Time_minuteContext)_localctx).d = match(DIGITS);
+			setState(127);
+			if (!(hasLength(((Time_minuteContext)_localctx).d, 2, 2))) throw new FailedPredicateException(this, "hasLength($d, 2, 2)");
 			}
 		}
 		catch (RecognitionException re) {
@@ -1345,27 +1122,23 @@ public class Rfc3164Parser extends Parser {
 
 	@SuppressWarnings("CheckReturnValue")
 	public static class Time_secondContext extends ParserRuleContext {
-		public List<DigitContext> digit() {
-			return getRuleContexts(DigitContext.class);
-		}
-		public DigitContext digit(int i) {
-			return getRuleContext(DigitContext.class,i);
-		}
+		public Token d;
+		public TerminalNode DIGITS() { return getToken(Rfc3164Parser.DIGITS, 0); }
 		public Time_secondContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
 		@Override public int getRuleIndex() { return RULE_time_second; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).enterTime_second(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).enterTime_second(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).exitTime_second(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).exitTime_second(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof Rfc3164Visitor ) return ((Rfc3164Visitor<? extends T>)visitor).visitTime_second(this);
+			if ( visitor instanceof Rfc3164ParserVisitor ) return ((Rfc3164ParserVisitor<? extends T>)visitor).visitTime_second(this);
 			else return visitor.visitChildren(this);
 		}
 	}
@@ -1376,10 +1149,10 @@ public class Rfc3164Parser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(157);
-			digit();
-			setState(158);
-			digit();
+			setState(129);
+			((Time_secondContext)_localctx).d = match(DIGITS);
+			setState(130);
+			if (!(hasLength(((Time_secondContext)_localctx).d, 2, 2))) throw new FailedPredicateException(this, "hasLength($d, 2, 2)");
 			}
 		}
 		catch (RecognitionException re) {
@@ -1395,28 +1168,24 @@ public class Rfc3164Parser extends Parser {
 
 	@SuppressWarnings("CheckReturnValue")
 	public static class Time_secfracContext extends ParserRuleContext {
+		public Token d;
 		public TerminalNode PERIOD() { return getToken(Rfc3164Parser.PERIOD, 0); }
-		public List<DigitContext> digit() {
-			return getRuleContexts(DigitContext.class);
-		}
-		public DigitContext digit(int i) {
-			return getRuleContext(DigitContext.class,i);
-		}
+		public TerminalNode DIGITS() { return getToken(Rfc3164Parser.DIGITS, 0); }
 		public Time_secfracContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
 		@Override public int getRuleIndex() { return RULE_time_secfrac; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).enterTime_secfrac(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).enterTime_secfrac(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).exitTime_secfrac(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).exitTime_secfrac(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof Rfc3164Visitor ) return ((Rfc3164Visitor<? extends T>)visitor).visitTime_secfrac(this);
+			if ( visitor instanceof Rfc3164ParserVisitor ) return ((Rfc3164ParserVisitor<? extends T>)visitor).visitTime_secfrac(this);
 			else return visitor.visitChildren(this);
 		}
 	}
@@ -1424,84 +1193,15 @@ public class Rfc3164Parser extends Parser {
 	public final Time_secfracContext time_secfrac() throws RecognitionException {
 		Time_secfracContext _localctx = new Time_secfracContext(_ctx, getState());
 		enterRule(_localctx, 34, RULE_time_secfrac);
-		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(160);
+			setState(132);
 			match(PERIOD);
-			setState(161);
-			digit();
-			setState(183);
-			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,11,_ctx) ) {
-			case 1:
-				{
-				setState(163);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 1072693248L) != 0)) {
-					{
-					setState(162);
-					digit();
-					}
-				}
-
-				}
-				break;
-			case 2:
-				{
-				{
-				setState(165);
-				digit();
-				setState(166);
-				digit();
-				}
-				}
-				break;
-			case 3:
-				{
-				{
-				setState(168);
-				digit();
-				setState(169);
-				digit();
-				setState(170);
-				digit();
-				}
-				}
-				break;
-			case 4:
-				{
-				{
-				setState(172);
-				digit();
-				setState(173);
-				digit();
-				setState(174);
-				digit();
-				setState(175);
-				digit();
-				}
-				}
-				break;
-			case 5:
-				{
-				{
-				setState(177);
-				digit();
-				setState(178);
-				digit();
-				setState(179);
-				digit();
-				setState(180);
-				digit();
-				setState(181);
-				digit();
-				}
-				}
-				break;
-			}
+			setState(133);
+			((Time_secfracContext)_localctx).d = match(DIGITS);
+			setState(134);
+			if (!(hasLength(((Time_secfracContext)_localctx).d, 1, 6))) throw new FailedPredicateException(this, "hasLength($d, 1, 6)");
 			}
 		}
 		catch (RecognitionException re) {
@@ -1527,15 +1227,15 @@ public class Rfc3164Parser extends Parser {
 		@Override public int getRuleIndex() { return RULE_time_offset; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).enterTime_offset(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).enterTime_offset(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).exitTime_offset(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).exitTime_offset(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof Rfc3164Visitor ) return ((Rfc3164Visitor<? extends T>)visitor).visitTime_offset(this);
+			if ( visitor instanceof Rfc3164ParserVisitor ) return ((Rfc3164ParserVisitor<? extends T>)visitor).visitTime_offset(this);
 			else return visitor.visitChildren(this);
 		}
 	}
@@ -1544,21 +1244,21 @@ public class Rfc3164Parser extends Parser {
 		Time_offsetContext _localctx = new Time_offsetContext(_ctx, getState());
 		enterRule(_localctx, 36, RULE_time_offset);
 		try {
-			setState(187);
+			setState(138);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case CAP_Z:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(185);
+				setState(136);
 				match(CAP_Z);
 				}
 				break;
-			case PLUS:
 			case DASH:
+			case PLUS:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(186);
+				setState(137);
 				time_numoffset();
 				}
 				break;
@@ -1594,15 +1294,15 @@ public class Rfc3164Parser extends Parser {
 		@Override public int getRuleIndex() { return RULE_time_numoffset; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).enterTime_numoffset(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).enterTime_numoffset(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).exitTime_numoffset(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).exitTime_numoffset(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof Rfc3164Visitor ) return ((Rfc3164Visitor<? extends T>)visitor).visitTime_numoffset(this);
+			if ( visitor instanceof Rfc3164ParserVisitor ) return ((Rfc3164ParserVisitor<? extends T>)visitor).visitTime_numoffset(this);
 			else return visitor.visitChildren(this);
 		}
 	}
@@ -1614,9 +1314,9 @@ public class Rfc3164Parser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(189);
+			setState(140);
 			_la = _input.LA(1);
-			if ( !(_la==PLUS || _la==DASH) ) {
+			if ( !(_la==DASH || _la==PLUS) ) {
 			_errHandler.recoverInline(this);
 			}
 			else {
@@ -1624,11 +1324,11 @@ public class Rfc3164Parser extends Parser {
 				_errHandler.reportMatch(this);
 				consume();
 			}
-			setState(190);
+			setState(141);
 			time_hour();
-			setState(191);
+			setState(142);
 			match(COLON);
-			setState(192);
+			setState(143);
 			time_minute();
 			}
 		}
@@ -1663,15 +1363,15 @@ public class Rfc3164Parser extends Parser {
 		public MsgUTF8Context(MsgContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).enterMsgUTF8(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).enterMsgUTF8(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).exitMsgUTF8(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).exitMsgUTF8(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof Rfc3164Visitor ) return ((Rfc3164Visitor<? extends T>)visitor).visitMsgUTF8(this);
+			if ( visitor instanceof Rfc3164ParserVisitor ) return ((Rfc3164ParserVisitor<? extends T>)visitor).visitMsgUTF8(this);
 			else return visitor.visitChildren(this);
 		}
 	}
@@ -1683,15 +1383,15 @@ public class Rfc3164Parser extends Parser {
 		public MsgAnyContext(MsgContext ctx) { copyFrom(ctx); }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).enterMsgAny(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).enterMsgAny(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).exitMsgAny(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).exitMsgAny(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof Rfc3164Visitor ) return ((Rfc3164Visitor<? extends T>)visitor).visitMsgAny(this);
+			if ( visitor instanceof Rfc3164ParserVisitor ) return ((Rfc3164ParserVisitor<? extends T>)visitor).visitMsgAny(this);
 			else return visitor.visitChildren(this);
 		}
 	}
@@ -1700,25 +1400,28 @@ public class Rfc3164Parser extends Parser {
 		MsgContext _localctx = new MsgContext(_ctx, getState());
 		enterRule(_localctx, 40, RULE_msg);
 		try {
-			setState(196);
+			setState(147);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,13,_ctx) ) {
-			case 1:
+			switch (_input.LA(1)) {
+			case EOF:
+			case OCTETS:
 				_localctx = new MsgAnyContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(194);
+				setState(145);
 				msg_any();
 				}
 				break;
-			case 2:
+			case BOM:
 				_localctx = new MsgUTF8Context(_localctx);
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(195);
+				setState(146);
 				msg_utf8();
 				}
 				break;
+			default:
+				throw new NoViableAltException(this);
 			}
 		}
 		catch (RecognitionException re) {
@@ -1734,27 +1437,22 @@ public class Rfc3164Parser extends Parser {
 
 	@SuppressWarnings("CheckReturnValue")
 	public static class Msg_anyContext extends ParserRuleContext {
-		public List<OctetContext> octet() {
-			return getRuleContexts(OctetContext.class);
-		}
-		public OctetContext octet(int i) {
-			return getRuleContext(OctetContext.class,i);
-		}
+		public TerminalNode OCTETS() { return getToken(Rfc3164Parser.OCTETS, 0); }
 		public Msg_anyContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
 		@Override public int getRuleIndex() { return RULE_msg_any; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).enterMsg_any(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).enterMsg_any(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).exitMsg_any(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).exitMsg_any(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof Rfc3164Visitor ) return ((Rfc3164Visitor<? extends T>)visitor).visitMsg_any(this);
+			if ( visitor instanceof Rfc3164ParserVisitor ) return ((Rfc3164ParserVisitor<? extends T>)visitor).visitMsg_any(this);
 			else return visitor.visitChildren(this);
 		}
 	}
@@ -1766,20 +1464,16 @@ public class Rfc3164Parser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(201);
+			setState(150);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (((((_la - 1)) & ~0x3f) == 0 && ((1L << (_la - 1)) & -1L) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & -1L) != 0) || ((((_la - 129)) & ~0x3f) == 0 && ((1L << (_la - 129)) & -1L) != 0) || ((((_la - 193)) & ~0x3f) == 0 && ((1L << (_la - 193)) & -1L) != 0)) {
+			if (_la==OCTETS) {
 				{
-				{
-				setState(198);
-				octet();
-				}
+				setState(149);
+				match(OCTETS);
 				}
-				setState(203);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
 			}
+
 			}
 		}
 		catch (RecognitionException re) {
@@ -1807,15 +1501,15 @@ public class Rfc3164Parser extends Parser {
 		@Override public int getRuleIndex() { return RULE_msg_utf8; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).enterMsg_utf8(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).enterMsg_utf8(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).exitMsg_utf8(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).exitMsg_utf8(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof Rfc3164Visitor ) return ((Rfc3164Visitor<? extends T>)visitor).visitMsg_utf8(this);
+			if ( visitor instanceof Rfc3164ParserVisitor ) return ((Rfc3164ParserVisitor<? extends T>)visitor).visitMsg_utf8(this);
 			else return visitor.visitChildren(this);
 		}
 	}
@@ -1826,9 +1520,9 @@ public class Rfc3164Parser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(204);
+			setState(152);
 			bom();
-			setState(205);
+			setState(153);
 			utf_8_string();
 			}
 		}
@@ -1845,24 +1539,22 @@ public class Rfc3164Parser extends Parser {
 
 	@SuppressWarnings("CheckReturnValue")
 	public static class BomContext extends ParserRuleContext {
-		public TerminalNode U_00EF() { return getToken(Rfc3164Parser.U_00EF, 0); }
-		public TerminalNode U_00BB() { return getToken(Rfc3164Parser.U_00BB, 0); }
-		public TerminalNode U_00BF() { return getToken(Rfc3164Parser.U_00BF, 0); }
+		public TerminalNode BOM() { return getToken(Rfc3164Parser.BOM, 0); }
 		public BomContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
 		@Override public int getRuleIndex() { return RULE_bom; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).enterBom(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).enterBom(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).exitBom(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).exitBom(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof Rfc3164Visitor ) return ((Rfc3164Visitor<? extends T>)visitor).visitBom(this);
+			if ( visitor instanceof Rfc3164ParserVisitor ) return ((Rfc3164ParserVisitor<? extends T>)visitor).visitBom(this);
 			else return visitor.visitChildren(this);
 		}
 	}
@@ -1870,20 +1562,11 @@ public class Rfc3164Parser extends Parser {
 	public final BomContext bom() throws RecognitionException {
 		BomContext _localctx = new BomContext(_ctx, getState());
 		enterRule(_localctx, 46, RULE_bom);
-		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(207);
-			_la = _input.LA(1);
-			if ( !(((((_la - 188)) & ~0x3f) == 0 && ((1L << (_la - 188)) & 4503599627370513L) != 0)) ) {
-			_errHandler.recoverInline(this);
-			}
-			else {
-				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-				_errHandler.reportMatch(this);
-				consume();
-			}
+			setState(155);
+			match(BOM);
 			}
 		}
 		catch (RecognitionException re) {
@@ -1899,27 +1582,22 @@ public class Rfc3164Parser extends Parser {
 
 	@SuppressWarnings("CheckReturnValue")
 	public static class Utf_8_stringContext extends ParserRuleContext {
-		public List<OctetContext> octet() {
-			return getRuleContexts(OctetContext.class);
-		}
-		public OctetContext octet(int i) {
-			return getRuleContext(OctetContext.class,i);
-		}
+		public TerminalNode OCTETS() { return getToken(Rfc3164Parser.OCTETS, 0); }
 		public Utf_8_stringContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
 		@Override public int getRuleIndex() { return RULE_utf_8_string; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).enterUtf_8_string(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).enterUtf_8_string(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).exitUtf_8_string(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).exitUtf_8_string(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof Rfc3164Visitor ) return ((Rfc3164Visitor<? extends T>)visitor).visitUtf_8_string(this);
+			if ( visitor instanceof Rfc3164ParserVisitor ) return ((Rfc3164ParserVisitor<? extends T>)visitor).visitUtf_8_string(this);
 			else return visitor.visitChildren(this);
 		}
 	}
@@ -1931,327 +1609,16 @@ public class Rfc3164Parser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(212);
+			setState(158);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (((((_la - 1)) & ~0x3f) == 0 && ((1L << (_la - 1)) & -1L) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & -1L) != 0) || ((((_la - 129)) & ~0x3f) == 0 && ((1L << (_la - 129)) & -1L) != 0) || ((((_la - 193)) & ~0x3f) == 0 && ((1L << (_la - 193)) & -1L) != 0)) {
+			if (_la==OCTETS) {
 				{
-				{
-				setState(209);
-				octet();
-				}
+				setState(157);
+				match(OCTETS);
 				}
-				setState(214);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
 			}
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	@SuppressWarnings("CheckReturnValue")
-	public static class OctetContext extends ParserRuleContext {
-		public TerminalNode U_0000() { return getToken(Rfc3164Parser.U_0000, 0); }
-		public TerminalNode U_0001() { return getToken(Rfc3164Parser.U_0001, 0); }
-		public TerminalNode U_0002() { return getToken(Rfc3164Parser.U_0002, 0); }
-		public TerminalNode U_0003() { return getToken(Rfc3164Parser.U_0003, 0); }
-		public TerminalNode U_0004() { return getToken(Rfc3164Parser.U_0004, 0); }
-		public TerminalNode U_0005() { return getToken(Rfc3164Parser.U_0005, 0); }
-		public TerminalNode U_0006() { return getToken(Rfc3164Parser.U_0006, 0); }
-		public TerminalNode U_0007() { return getToken(Rfc3164Parser.U_0007, 0); }
-		public TerminalNode U_0008() { return getToken(Rfc3164Parser.U_0008, 0); }
-		public TerminalNode TAB() { return getToken(Rfc3164Parser.TAB, 0); }
-		public TerminalNode LF() { return getToken(Rfc3164Parser.LF, 0); }
-		public TerminalNode U_000B() { return getToken(Rfc3164Parser.U_000B, 0); }
-		public TerminalNode U_000C() { return getToken(Rfc3164Parser.U_000C, 0); }
-		public TerminalNode CR() { return getToken(Rfc3164Parser.CR, 0); }
-		public TerminalNode U_000E() { return getToken(Rfc3164Parser.U_000E, 0); }
-		public TerminalNode U_000F() { return getToken(Rfc3164Parser.U_000F, 0); }
-		public TerminalNode U_0010() { return getToken(Rfc3164Parser.U_0010, 0); }
-		public TerminalNode U_0011() { return getToken(Rfc3164Parser.U_0011, 0); }
-		public TerminalNode U_0012() { return getToken(Rfc3164Parser.U_0012, 0); }
-		public TerminalNode U_0013() { return getToken(Rfc3164Parser.U_0013, 0); }
-		public TerminalNode U_0014() { return getToken(Rfc3164Parser.U_0014, 0); }
-		public TerminalNode U_0015() { return getToken(Rfc3164Parser.U_0015, 0); }
-		public TerminalNode U_0016() { return getToken(Rfc3164Parser.U_0016, 0); }
-		public TerminalNode U_0017() { return getToken(Rfc3164Parser.U_0017, 0); }
-		public TerminalNode U_0018() { return getToken(Rfc3164Parser.U_0018, 0); }
-		public TerminalNode U_0019() { return getToken(Rfc3164Parser.U_0019, 0); }
-		public TerminalNode U_001A() { return getToken(Rfc3164Parser.U_001A, 0); }
-		public TerminalNode U_001B() { return getToken(Rfc3164Parser.U_001B, 0); }
-		public TerminalNode U_001C() { return getToken(Rfc3164Parser.U_001C, 0); }
-		public TerminalNode U_001D() { return getToken(Rfc3164Parser.U_001D, 0); }
-		public TerminalNode U_001E() { return getToken(Rfc3164Parser.U_001E, 0); }
-		public TerminalNode U_001F() { return getToken(Rfc3164Parser.U_001F, 0); }
-		public TerminalNode SPACE() { return getToken(Rfc3164Parser.SPACE, 0); }
-		public TerminalNode EXCLAMATION() { return getToken(Rfc3164Parser.EXCLAMATION, 0); }
-		public TerminalNode QUOTE() { return getToken(Rfc3164Parser.QUOTE, 0); }
-		public TerminalNode POUND() { return getToken(Rfc3164Parser.POUND, 0); }
-		public TerminalNode DOLLAR() { return getToken(Rfc3164Parser.DOLLAR, 0); }
-		public TerminalNode PERCENT() { return getToken(Rfc3164Parser.PERCENT, 0); }
-		public TerminalNode AMPERSAND() { return getToken(Rfc3164Parser.AMPERSAND, 0); }
-		public TerminalNode APOSTROPHE() { return getToken(Rfc3164Parser.APOSTROPHE, 0); }
-		public TerminalNode LEFT_PAREN() { return getToken(Rfc3164Parser.LEFT_PAREN, 0); }
-		public TerminalNode RIGHT_PAREN() { return getToken(Rfc3164Parser.RIGHT_PAREN, 0); }
-		public TerminalNode ASTERISK() { return getToken(Rfc3164Parser.ASTERISK, 0); }
-		public TerminalNode PLUS() { return getToken(Rfc3164Parser.PLUS, 0); }
-		public TerminalNode COMMA() { return getToken(Rfc3164Parser.COMMA, 0); }
-		public TerminalNode DASH() { return getToken(Rfc3164Parser.DASH, 0); }
-		public TerminalNode PERIOD() { return getToken(Rfc3164Parser.PERIOD, 0); }
-		public TerminalNode SLASH() { return getToken(Rfc3164Parser.SLASH, 0); }
-		public TerminalNode ZERO() { return getToken(Rfc3164Parser.ZERO, 0); }
-		public TerminalNode ONE() { return getToken(Rfc3164Parser.ONE, 0); }
-		public TerminalNode TWO() { return getToken(Rfc3164Parser.TWO, 0); }
-		public TerminalNode THREE() { return getToken(Rfc3164Parser.THREE, 0); }
-		public TerminalNode FOUR() { return getToken(Rfc3164Parser.FOUR, 0); }
-		public TerminalNode FIVE() { return getToken(Rfc3164Parser.FIVE, 0); }
-		public TerminalNode SIX() { return getToken(Rfc3164Parser.SIX, 0); }
-		public TerminalNode SEVEN() { return getToken(Rfc3164Parser.SEVEN, 0); }
-		public TerminalNode EIGHT() { return getToken(Rfc3164Parser.EIGHT, 0); }
-		public TerminalNode NINE() { return getToken(Rfc3164Parser.NINE, 0); }
-		public TerminalNode COLON() { return getToken(Rfc3164Parser.COLON, 0); }
-		public TerminalNode SEMICOLON() { return getToken(Rfc3164Parser.SEMICOLON, 0); }
-		public TerminalNode LESS_THAN() { return getToken(Rfc3164Parser.LESS_THAN, 0); }
-		public TerminalNode EQUALS() { return getToken(Rfc3164Parser.EQUALS, 0); }
-		public TerminalNode GREATER_THAN() { return getToken(Rfc3164Parser.GREATER_THAN, 0); }
-		public TerminalNode QUESTION() { return getToken(Rfc3164Parser.QUESTION, 0); }
-		public TerminalNode AT() { return getToken(Rfc3164Parser.AT, 0); }
-		public TerminalNode CAP_A() { return getToken(Rfc3164Parser.CAP_A, 0); }
-		public TerminalNode CAP_B() { return getToken(Rfc3164Parser.CAP_B, 0); }
-		public TerminalNode CAP_C() { return getToken(Rfc3164Parser.CAP_C, 0); }
-		public TerminalNode CAP_D() { return getToken(Rfc3164Parser.CAP_D, 0); }
-		public TerminalNode CAP_E() { return getToken(Rfc3164Parser.CAP_E, 0); }
-		public TerminalNode CAP_F() { return getToken(Rfc3164Parser.CAP_F, 0); }
-		public TerminalNode CAP_G() { return getToken(Rfc3164Parser.CAP_G, 0); }
-		public TerminalNode CAP_H() { return getToken(Rfc3164Parser.CAP_H, 0); }
-		public TerminalNode CAP_I() { return getToken(Rfc3164Parser.CAP_I, 0); }
-		public TerminalNode CAP_J() { return getToken(Rfc3164Parser.CAP_J, 0); }
-		public TerminalNode CAP_K() { return getToken(Rfc3164Parser.CAP_K, 0); }
-		public TerminalNode CAP_L() { return getToken(Rfc3164Parser.CAP_L, 0); }
-		public TerminalNode CAP_M() { return getToken(Rfc3164Parser.CAP_M, 0); }
-		public TerminalNode CAP_N() { return getToken(Rfc3164Parser.CAP_N, 0); }
-		public TerminalNode CAP_O() { return getToken(Rfc3164Parser.CAP_O, 0); }
-		public TerminalNode CAP_P() { return getToken(Rfc3164Parser.CAP_P, 0); }
-		public TerminalNode CAP_Q() { return getToken(Rfc3164Parser.CAP_Q, 0); }
-		public TerminalNode CAP_R() { return getToken(Rfc3164Parser.CAP_R, 0); }
-		public TerminalNode CAP_S() { return getToken(Rfc3164Parser.CAP_S, 0); }
-		public TerminalNode CAP_T() { return getToken(Rfc3164Parser.CAP_T, 0); }
-		public TerminalNode CAP_U() { return getToken(Rfc3164Parser.CAP_U, 0); }
-		public TerminalNode CAP_V() { return getToken(Rfc3164Parser.CAP_V, 0); }
-		public TerminalNode CAP_W() { return getToken(Rfc3164Parser.CAP_W, 0); }
-		public TerminalNode CAP_X() { return getToken(Rfc3164Parser.CAP_X, 0); }
-		public TerminalNode CAP_Y() { return getToken(Rfc3164Parser.CAP_Y, 0); }
-		public TerminalNode CAP_Z() { return getToken(Rfc3164Parser.CAP_Z, 0); }
-		public TerminalNode LEFT_BRACE() { return getToken(Rfc3164Parser.LEFT_BRACE, 0); }
-		public TerminalNode BACKSLASH() { return getToken(Rfc3164Parser.BACKSLASH, 0); }
-		public TerminalNode RIGHT_BRACE() { return getToken(Rfc3164Parser.RIGHT_BRACE, 0); }
-		public TerminalNode CARAT() { return getToken(Rfc3164Parser.CARAT, 0); }
-		public TerminalNode UNDERSCORE() { return getToken(Rfc3164Parser.UNDERSCORE, 0); }
-		public TerminalNode ACCENT() { return getToken(Rfc3164Parser.ACCENT, 0); }
-		public TerminalNode A() { return getToken(Rfc3164Parser.A, 0); }
-		public TerminalNode B() { return getToken(Rfc3164Parser.B, 0); }
-		public TerminalNode C() { return getToken(Rfc3164Parser.C, 0); }
-		public TerminalNode D() { return getToken(Rfc3164Parser.D, 0); }
-		public TerminalNode E() { return getToken(Rfc3164Parser.E, 0); }
-		public TerminalNode F() { return getToken(Rfc3164Parser.F, 0); }
-		public TerminalNode G() { return getToken(Rfc3164Parser.G, 0); }
-		public TerminalNode H() { return getToken(Rfc3164Parser.H, 0); }
-		public TerminalNode I() { return getToken(Rfc3164Parser.I, 0); }
-		public TerminalNode J() { return getToken(Rfc3164Parser.J, 0); }
-		public TerminalNode K() { return getToken(Rfc3164Parser.K, 0); }
-		public TerminalNode L() { return getToken(Rfc3164Parser.L, 0); }
-		public TerminalNode M() { return getToken(Rfc3164Parser.M, 0); }
-		public TerminalNode N() { return getToken(Rfc3164Parser.N, 0); }
-		public TerminalNode O() { return getToken(Rfc3164Parser.O, 0); }
-		public TerminalNode P() { return getToken(Rfc3164Parser.P, 0); }
-		public TerminalNode Q() { return getToken(Rfc3164Parser.Q, 0); }
-		public TerminalNode R() { return getToken(Rfc3164Parser.R, 0); }
-		public TerminalNode S() { return getToken(Rfc3164Parser.S, 0); }
-		public TerminalNode T() { return getToken(Rfc3164Parser.T, 0); }
-		public TerminalNode U() { return getToken(Rfc3164Parser.U, 0); }
-		public TerminalNode V() { return getToken(Rfc3164Parser.V, 0); }
-		public TerminalNode W() { return getToken(Rfc3164Parser.W, 0); }
-		public TerminalNode X() { return getToken(Rfc3164Parser.X, 0); }
-		public TerminalNode Y() { return getToken(Rfc3164Parser.Y, 0); }
-		public TerminalNode Z() { return getToken(Rfc3164Parser.Z, 0); }
-		public TerminalNode LEFT_CURLY_BRACE() { return getToken(Rfc3164Parser.LEFT_CURLY_BRACE, 0); }
-		public TerminalNode PIPE() { return getToken(Rfc3164Parser.PIPE, 0); }
-		public TerminalNode RIGHT_CURLY_BRACE() { return getToken(Rfc3164Parser.RIGHT_CURLY_BRACE, 0); }
-		public TerminalNode TILDE() { return getToken(Rfc3164Parser.TILDE, 0); }
-		public TerminalNode U_007F() { return getToken(Rfc3164Parser.U_007F, 0); }
-		public TerminalNode U_0080() { return getToken(Rfc3164Parser.U_0080, 0); }
-		public TerminalNode U_0081() { return getToken(Rfc3164Parser.U_0081, 0); }
-		public TerminalNode U_0082() { return getToken(Rfc3164Parser.U_0082, 0); }
-		public TerminalNode U_0083() { return getToken(Rfc3164Parser.U_0083, 0); }
-		public TerminalNode U_0084() { return getToken(Rfc3164Parser.U_0084, 0); }
-		public TerminalNode U_0085() { return getToken(Rfc3164Parser.U_0085, 0); }
-		public TerminalNode U_0086() { return getToken(Rfc3164Parser.U_0086, 0); }
-		public TerminalNode U_0087() { return getToken(Rfc3164Parser.U_0087, 0); }
-		public TerminalNode U_0088() { return getToken(Rfc3164Parser.U_0088, 0); }
-		public TerminalNode U_0089() { return getToken(Rfc3164Parser.U_0089, 0); }
-		public TerminalNode U_008A() { return getToken(Rfc3164Parser.U_008A, 0); }
-		public TerminalNode U_008B() { return getToken(Rfc3164Parser.U_008B, 0); }
-		public TerminalNode U_008C() { return getToken(Rfc3164Parser.U_008C, 0); }
-		public TerminalNode U_008D() { return getToken(Rfc3164Parser.U_008D, 0); }
-		public TerminalNode U_008E() { return getToken(Rfc3164Parser.U_008E, 0); }
-		public TerminalNode U_008F() { return getToken(Rfc3164Parser.U_008F, 0); }
-		public TerminalNode U_0090() { return getToken(Rfc3164Parser.U_0090, 0); }
-		public TerminalNode U_0091() { return getToken(Rfc3164Parser.U_0091, 0); }
-		public TerminalNode U_0092() { return getToken(Rfc3164Parser.U_0092, 0); }
-		public TerminalNode U_0093() { return getToken(Rfc3164Parser.U_0093, 0); }
-		public TerminalNode U_0094() { return getToken(Rfc3164Parser.U_0094, 0); }
-		public TerminalNode U_0095() { return getToken(Rfc3164Parser.U_0095, 0); }
-		public TerminalNode U_0096() { return getToken(Rfc3164Parser.U_0096, 0); }
-		public TerminalNode U_0097() { return getToken(Rfc3164Parser.U_0097, 0); }
-		public TerminalNode U_0098() { return getToken(Rfc3164Parser.U_0098, 0); }
-		public TerminalNode U_0099() { return getToken(Rfc3164Parser.U_0099, 0); }
-		public TerminalNode U_009A() { return getToken(Rfc3164Parser.U_009A, 0); }
-		public TerminalNode U_009B() { return getToken(Rfc3164Parser.U_009B, 0); }
-		public TerminalNode U_009C() { return getToken(Rfc3164Parser.U_009C, 0); }
-		public TerminalNode U_009D() { return getToken(Rfc3164Parser.U_009D, 0); }
-		public TerminalNode U_009E() { return getToken(Rfc3164Parser.U_009E, 0); }
-		public TerminalNode U_009F() { return getToken(Rfc3164Parser.U_009F, 0); }
-		public TerminalNode U_00A0() { return getToken(Rfc3164Parser.U_00A0, 0); }
-		public TerminalNode U_00A1() { return getToken(Rfc3164Parser.U_00A1, 0); }
-		public TerminalNode U_00A2() { return getToken(Rfc3164Parser.U_00A2, 0); }
-		public TerminalNode U_00A3() { return getToken(Rfc3164Parser.U_00A3, 0); }
-		public TerminalNode U_00A4() { return getToken(Rfc3164Parser.U_00A4, 0); }
-		public TerminalNode U_00A5() { return getToken(Rfc3164Parser.U_00A5, 0); }
-		public TerminalNode U_00A6() { return getToken(Rfc3164Parser.U_00A6, 0); }
-		public TerminalNode U_00A7() { return getToken(Rfc3164Parser.U_00A7, 0); }
-		public TerminalNode U_00A8() { return getToken(Rfc3164Parser.U_00A8, 0); }
-		public TerminalNode U_00A9() { return getToken(Rfc3164Parser.U_00A9, 0); }
-		public TerminalNode U_00AA() { return getToken(Rfc3164Parser.U_00AA, 0); }
-		public TerminalNode U_00AB() { return getToken(Rfc3164Parser.U_00AB, 0); }
-		public TerminalNode U_00AC() { return getToken(Rfc3164Parser.U_00AC, 0); }
-		public TerminalNode U_00AD() { return getToken(Rfc3164Parser.U_00AD, 0); }
-		public TerminalNode U_00AE() { return getToken(Rfc3164Parser.U_00AE, 0); }
-		public TerminalNode U_00AF() { return getToken(Rfc3164Parser.U_00AF, 0); }
-		public TerminalNode U_00B0() { return getToken(Rfc3164Parser.U_00B0, 0); }
-		public TerminalNode U_00B1() { return getToken(Rfc3164Parser.U_00B1, 0); }
-		public TerminalNode U_00B2() { return getToken(Rfc3164Parser.U_00B2, 0); }
-		public TerminalNode U_00B3() { return getToken(Rfc3164Parser.U_00B3, 0); }
-		public TerminalNode U_00B4() { return getToken(Rfc3164Parser.U_00B4, 0); }
-		public TerminalNode U_00B5() { return getToken(Rfc3164Parser.U_00B5, 0); }
-		public TerminalNode U_00B6() { return getToken(Rfc3164Parser.U_00B6, 0); }
-		public TerminalNode U_00B7() { return getToken(Rfc3164Parser.U_00B7, 0); }
-		public TerminalNode U_00B8() { return getToken(Rfc3164Parser.U_00B8, 0); }
-		public TerminalNode U_00B9() { return getToken(Rfc3164Parser.U_00B9, 0); }
-		public TerminalNode U_00BA() { return getToken(Rfc3164Parser.U_00BA, 0); }
-		public TerminalNode U_00BB() { return getToken(Rfc3164Parser.U_00BB, 0); }
-		public TerminalNode U_00BC() { return getToken(Rfc3164Parser.U_00BC, 0); }
-		public TerminalNode U_00BD() { return getToken(Rfc3164Parser.U_00BD, 0); }
-		public TerminalNode U_00BE() { return getToken(Rfc3164Parser.U_00BE, 0); }
-		public TerminalNode U_00BF() { return getToken(Rfc3164Parser.U_00BF, 0); }
-		public TerminalNode U_00C0() { return getToken(Rfc3164Parser.U_00C0, 0); }
-		public TerminalNode U_00C1() { return getToken(Rfc3164Parser.U_00C1, 0); }
-		public TerminalNode U_00C2() { return getToken(Rfc3164Parser.U_00C2, 0); }
-		public TerminalNode U_00C3() { return getToken(Rfc3164Parser.U_00C3, 0); }
-		public TerminalNode U_00C4() { return getToken(Rfc3164Parser.U_00C4, 0); }
-		public TerminalNode U_00C5() { return getToken(Rfc3164Parser.U_00C5, 0); }
-		public TerminalNode U_00C6() { return getToken(Rfc3164Parser.U_00C6, 0); }
-		public TerminalNode U_00C7() { return getToken(Rfc3164Parser.U_00C7, 0); }
-		public TerminalNode U_00C8() { return getToken(Rfc3164Parser.U_00C8, 0); }
-		public TerminalNode U_00C9() { return getToken(Rfc3164Parser.U_00C9, 0); }
-		public TerminalNode U_00CA() { return getToken(Rfc3164Parser.U_00CA, 0); }
-		public TerminalNode U_00CB() { return getToken(Rfc3164Parser.U_00CB, 0); }
-		public TerminalNode U_00CC() { return getToken(Rfc3164Parser.U_00CC, 0); }
-		public TerminalNode U_00CD() { return getToken(Rfc3164Parser.U_00CD, 0); }
-		public TerminalNode U_00CE() { return getToken(Rfc3164Parser.U_00CE, 0); }
-		public TerminalNode U_00CF() { return getToken(Rfc3164Parser.U_00CF, 0); }
-		public TerminalNode U_00D0() { return getToken(Rfc3164Parser.U_00D0, 0); }
-		public TerminalNode U_00D1() { return getToken(Rfc3164Parser.U_00D1, 0); }
-		public TerminalNode U_00D2() { return getToken(Rfc3164Parser.U_00D2, 0); }
-		public TerminalNode U_00D3() { return getToken(Rfc3164Parser.U_00D3, 0); }
-		public TerminalNode U_00D4() { return getToken(Rfc3164Parser.U_00D4, 0); }
-		public TerminalNode U_00D5() { return getToken(Rfc3164Parser.U_00D5, 0); }
-		public TerminalNode U_00D6() { return getToken(Rfc3164Parser.U_00D6, 0); }
-		public TerminalNode U_00D7() { return getToken(Rfc3164Parser.U_00D7, 0); }
-		public TerminalNode U_00D8() { return getToken(Rfc3164Parser.U_00D8, 0); }
-		public TerminalNode U_00D9() { return getToken(Rfc3164Parser.U_00D9, 0); }
-		public TerminalNode U_00DA() { return getToken(Rfc3164Parser.U_00DA, 0); }
-		public TerminalNode U_00DB() { return getToken(Rfc3164Parser.U_00DB, 0); }
-		public TerminalNode U_00DC() { return getToken(Rfc3164Parser.U_00DC, 0); }
-		public TerminalNode U_00DD() { return getToken(Rfc3164Parser.U_00DD, 0); }
-		public TerminalNode U_00DE() { return getToken(Rfc3164Parser.U_00DE, 0); }
-		public TerminalNode U_00DF() { return getToken(Rfc3164Parser.U_00DF, 0); }
-		public TerminalNode U_00E0() { return getToken(Rfc3164Parser.U_00E0, 0); }
-		public TerminalNode U_00E1() { return getToken(Rfc3164Parser.U_00E1, 0); }
-		public TerminalNode U_00E2() { return getToken(Rfc3164Parser.U_00E2, 0); }
-		public TerminalNode U_00E3() { return getToken(Rfc3164Parser.U_00E3, 0); }
-		public TerminalNode U_00E4() { return getToken(Rfc3164Parser.U_00E4, 0); }
-		public TerminalNode U_00E5() { return getToken(Rfc3164Parser.U_00E5, 0); }
-		public TerminalNode U_00E6() { return getToken(Rfc3164Parser.U_00E6, 0); }
-		public TerminalNode U_00E7() { return getToken(Rfc3164Parser.U_00E7, 0); }
-		public TerminalNode U_00E8() { return getToken(Rfc3164Parser.U_00E8, 0); }
-		public TerminalNode U_00E9() { return getToken(Rfc3164Parser.U_00E9, 0); }
-		public TerminalNode U_00EA() { return getToken(Rfc3164Parser.U_00EA, 0); }
-		public TerminalNode U_00EB() { return getToken(Rfc3164Parser.U_00EB, 0); }
-		public TerminalNode U_00EC() { return getToken(Rfc3164Parser.U_00EC, 0); }
-		public TerminalNode U_00ED() { return getToken(Rfc3164Parser.U_00ED, 0); }
-		public TerminalNode U_00EE() { return getToken(Rfc3164Parser.U_00EE, 0); }
-		public TerminalNode U_00EF() { return getToken(Rfc3164Parser.U_00EF, 0); }
-		public TerminalNode U_00F0() { return getToken(Rfc3164Parser.U_00F0, 0); }
-		public TerminalNode U_00F1() { return getToken(Rfc3164Parser.U_00F1, 0); }
-		public TerminalNode U_00F2() { return getToken(Rfc3164Parser.U_00F2, 0); }
-		public TerminalNode U_00F3() { return getToken(Rfc3164Parser.U_00F3, 0); }
-		public TerminalNode U_00F4() { return getToken(Rfc3164Parser.U_00F4, 0); }
-		public TerminalNode U_00F5() { return getToken(Rfc3164Parser.U_00F5, 0); }
-		public TerminalNode U_00F6() { return getToken(Rfc3164Parser.U_00F6, 0); }
-		public TerminalNode U_00F7() { return getToken(Rfc3164Parser.U_00F7, 0); }
-		public TerminalNode U_00F8() { return getToken(Rfc3164Parser.U_00F8, 0); }
-		public TerminalNode U_00F9() { return getToken(Rfc3164Parser.U_00F9, 0); }
-		public TerminalNode U_00FA() { return getToken(Rfc3164Parser.U_00FA, 0); }
-		public TerminalNode U_00FB() { return getToken(Rfc3164Parser.U_00FB, 0); }
-		public TerminalNode U_00FC() { return getToken(Rfc3164Parser.U_00FC, 0); }
-		public TerminalNode U_00FD() { return getToken(Rfc3164Parser.U_00FD, 0); }
-		public TerminalNode U_00FE() { return getToken(Rfc3164Parser.U_00FE, 0); }
-		public TerminalNode U_00FF() { return getToken(Rfc3164Parser.U_00FF, 0); }
-		public OctetContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_octet; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).enterOctet(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).exitOctet(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof Rfc3164Visitor ) return ((Rfc3164Visitor<? extends T>)visitor).visitOctet(this);
-			else return visitor.visitChildren(this);
-		}
-	}
 
-	public final OctetContext octet() throws RecognitionException {
-		OctetContext _localctx = new OctetContext(_ctx, getState());
-		enterRule(_localctx, 50, RULE_octet);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(215);
-			_la = _input.LA(1);
-			if ( !(((((_la - 1)) & ~0x3f) == 0 && ((1L << (_la - 1)) & -1L) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & -1L) != 0) || ((((_la - 129)) & ~0x3f) == 0 && ((1L << (_la - 129)) & -1L) != 0) || ((((_la - 193)) & ~0x3f) == 0 && ((1L << (_la - 193)) & -1L) != 0)) ) {
-			_errHandler.recoverInline(this);
-			}
-			else {
-				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-				_errHandler.reportMatch(this);
-				consume();
-			}
 			}
 		}
 		catch (RecognitionException re) {
@@ -2274,26 +1641,26 @@ public class Rfc3164Parser extends Parser {
 		@Override public int getRuleIndex() { return RULE_sp; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).enterSp(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).enterSp(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).exitSp(this);
+			if ( listener instanceof Rfc3164ParserListener ) ((Rfc3164ParserListener)listener).exitSp(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof Rfc3164Visitor ) return ((Rfc3164Visitor<? extends T>)visitor).visitSp(this);
+			if ( visitor instanceof Rfc3164ParserVisitor ) return ((Rfc3164ParserVisitor<? extends T>)visitor).visitSp(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
 	public final SpContext sp() throws RecognitionException {
 		SpContext _localctx = new SpContext(_ctx, getState());
-		enterRule(_localctx, 52, RULE_sp);
+		enterRule(_localctx, 50, RULE_sp);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(217);
+			setState(160);
 			match(SPACE);
 			}
 		}
@@ -2308,606 +1675,95 @@ public class Rfc3164Parser extends Parser {
 		return _localctx;
 	}
 
-	@SuppressWarnings("CheckReturnValue")
-	public static class PrintusasciiContext extends ParserRuleContext {
-		public TerminalNode EXCLAMATION() { return getToken(Rfc3164Parser.EXCLAMATION, 0); }
-		public TerminalNode QUOTE() { return getToken(Rfc3164Parser.QUOTE, 0); }
-		public TerminalNode POUND() { return getToken(Rfc3164Parser.POUND, 0); }
-		public TerminalNode DOLLAR() { return getToken(Rfc3164Parser.DOLLAR, 0); }
-		public TerminalNode PERCENT() { return getToken(Rfc3164Parser.PERCENT, 0); }
-		public TerminalNode AMPERSAND() { return getToken(Rfc3164Parser.AMPERSAND, 0); }
-		public TerminalNode APOSTROPHE() { return getToken(Rfc3164Parser.APOSTROPHE, 0); }
-		public TerminalNode LEFT_PAREN() { return getToken(Rfc3164Parser.LEFT_PAREN, 0); }
-		public TerminalNode RIGHT_PAREN() { return getToken(Rfc3164Parser.RIGHT_PAREN, 0); }
-		public TerminalNode ASTERISK() { return getToken(Rfc3164Parser.ASTERISK, 0); }
-		public TerminalNode PLUS() { return getToken(Rfc3164Parser.PLUS, 0); }
-		public TerminalNode COMMA() { return getToken(Rfc3164Parser.COMMA, 0); }
-		public TerminalNode DASH() { return getToken(Rfc3164Parser.DASH, 0); }
-		public TerminalNode PERIOD() { return getToken(Rfc3164Parser.PERIOD, 0); }
-		public TerminalNode SLASH() { return getToken(Rfc3164Parser.SLASH, 0); }
-		public TerminalNode ZERO() { return getToken(Rfc3164Parser.ZERO, 0); }
-		public TerminalNode ONE() { return getToken(Rfc3164Parser.ONE, 0); }
-		public TerminalNode TWO() { return getToken(Rfc3164Parser.TWO, 0); }
-		public TerminalNode THREE() { return getToken(Rfc3164Parser.THREE, 0); }
-		public TerminalNode FOUR() { return getToken(Rfc3164Parser.FOUR, 0); }
-		public TerminalNode FIVE() { return getToken(Rfc3164Parser.FIVE, 0); }
-		public TerminalNode SIX() { return getToken(Rfc3164Parser.SIX, 0); }
-		public TerminalNode SEVEN() { return getToken(Rfc3164Parser.SEVEN, 0); }
-		public TerminalNode EIGHT() { return getToken(Rfc3164Parser.EIGHT, 0); }
-		public TerminalNode NINE() { return getToken(Rfc3164Parser.NINE, 0); }
-		public TerminalNode COLON() { return getToken(Rfc3164Parser.COLON, 0); }
-		public TerminalNode SEMICOLON() { return getToken(Rfc3164Parser.SEMICOLON, 0); }
-		public TerminalNode LESS_THAN() { return getToken(Rfc3164Parser.LESS_THAN, 0); }
-		public TerminalNode EQUALS() { return getToken(Rfc3164Parser.EQUALS, 0); }
-		public TerminalNode GREATER_THAN() { return getToken(Rfc3164Parser.GREATER_THAN, 0); }
-		public TerminalNode QUESTION() { return getToken(Rfc3164Parser.QUESTION, 0); }
-		public TerminalNode AT() { return getToken(Rfc3164Parser.AT, 0); }
-		public TerminalNode CAP_A() { return getToken(Rfc3164Parser.CAP_A, 0); }
-		public TerminalNode CAP_B() { return getToken(Rfc3164Parser.CAP_B, 0); }
-		public TerminalNode CAP_C() { return getToken(Rfc3164Parser.CAP_C, 0); }
-		public TerminalNode CAP_D() { return getToken(Rfc3164Parser.CAP_D, 0); }
-		public TerminalNode CAP_E() { return getToken(Rfc3164Parser.CAP_E, 0); }
-		public TerminalNode CAP_F() { return getToken(Rfc3164Parser.CAP_F, 0); }
-		public TerminalNode CAP_G() { return getToken(Rfc3164Parser.CAP_G, 0); }
-		public TerminalNode CAP_H() { return getToken(Rfc3164Parser.CAP_H, 0); }
-		public TerminalNode CAP_I() { return getToken(Rfc3164Parser.CAP_I, 0); }
-		public TerminalNode CAP_J() { return getToken(Rfc3164Parser.CAP_J, 0); }
-		public TerminalNode CAP_K() { return getToken(Rfc3164Parser.CAP_K, 0); }
-		public TerminalNode CAP_L() { return getToken(Rfc3164Parser.CAP_L, 0); }
-		public TerminalNode CAP_M() { return getToken(Rfc3164Parser.CAP_M, 0); }
-		public TerminalNode CAP_N() { return getToken(Rfc3164Parser.CAP_N, 0); }
-		public TerminalNode CAP_O() { return getToken(Rfc3164Parser.CAP_O, 0); }
-		public TerminalNode CAP_P() { return getToken(Rfc3164Parser.CAP_P, 0); }
-		public TerminalNode CAP_Q() { return getToken(Rfc3164Parser.CAP_Q, 0); }
-		public TerminalNode CAP_R() { return getToken(Rfc3164Parser.CAP_R, 0); }
-		public TerminalNode CAP_S() { return getToken(Rfc3164Parser.CAP_S, 0); }
-		public TerminalNode CAP_T() { return getToken(Rfc3164Parser.CAP_T, 0); }
-		public TerminalNode CAP_U() { return getToken(Rfc3164Parser.CAP_U, 0); }
-		public TerminalNode CAP_V() { return getToken(Rfc3164Parser.CAP_V, 0); }
-		public TerminalNode CAP_W() { return getToken(Rfc3164Parser.CAP_W, 0); }
-		public TerminalNode CAP_X() { return getToken(Rfc3164Parser.CAP_X, 0); }
-		public TerminalNode CAP_Y() { return getToken(Rfc3164Parser.CAP_Y, 0); }
-		public TerminalNode CAP_Z() { return getToken(Rfc3164Parser.CAP_Z, 0); }
-		public TerminalNode LEFT_BRACE() { return getToken(Rfc3164Parser.LEFT_BRACE, 0); }
-		public TerminalNode BACKSLASH() { return getToken(Rfc3164Parser.BACKSLASH, 0); }
-		public TerminalNode RIGHT_BRACE() { return getToken(Rfc3164Parser.RIGHT_BRACE, 0); }
-		public TerminalNode CARAT() { return getToken(Rfc3164Parser.CARAT, 0); }
-		public TerminalNode UNDERSCORE() { return getToken(Rfc3164Parser.UNDERSCORE, 0); }
-		public TerminalNode ACCENT() { return getToken(Rfc3164Parser.ACCENT, 0); }
-		public TerminalNode A() { return getToken(Rfc3164Parser.A, 0); }
-		public TerminalNode B() { return getToken(Rfc3164Parser.B, 0); }
-		public TerminalNode C() { return getToken(Rfc3164Parser.C, 0); }
-		public TerminalNode D() { return getToken(Rfc3164Parser.D, 0); }
-		public TerminalNode E() { return getToken(Rfc3164Parser.E, 0); }
-		public TerminalNode F() { return getToken(Rfc3164Parser.F, 0); }
-		public TerminalNode G() { return getToken(Rfc3164Parser.G, 0); }
-		public TerminalNode H() { return getToken(Rfc3164Parser.H, 0); }
-		public TerminalNode I() { return getToken(Rfc3164Parser.I, 0); }
-		public TerminalNode J() { return getToken(Rfc3164Parser.J, 0); }
-		public TerminalNode K() { return getToken(Rfc3164Parser.K, 0); }
-		public TerminalNode L() { return getToken(Rfc3164Parser.L, 0); }
-		public TerminalNode M() { return getToken(Rfc3164Parser.M, 0); }
-		public TerminalNode N() { return getToken(Rfc3164Parser.N, 0); }
-		public TerminalNode O() { return getToken(Rfc3164Parser.O, 0); }
-		public TerminalNode P() { return getToken(Rfc3164Parser.P, 0); }
-		public TerminalNode Q() { return getToken(Rfc3164Parser.Q, 0); }
-		public TerminalNode R() { return getToken(Rfc3164Parser.R, 0); }
-		public TerminalNode S() { return getToken(Rfc3164Parser.S, 0); }
-		public TerminalNode T() { return getToken(Rfc3164Parser.T, 0); }
-		public TerminalNode U() { return getToken(Rfc3164Parser.U, 0); }
-		public TerminalNode V() { return getToken(Rfc3164Parser.V, 0); }
-		public TerminalNode W() { return getToken(Rfc3164Parser.W, 0); }
-		public TerminalNode X() { return getToken(Rfc3164Parser.X, 0); }
-		public TerminalNode Y() { return getToken(Rfc3164Parser.Y, 0); }
-		public TerminalNode Z() { return getToken(Rfc3164Parser.Z, 0); }
-		public TerminalNode LEFT_CURLY_BRACE() { return getToken(Rfc3164Parser.LEFT_CURLY_BRACE, 0); }
-		public TerminalNode PIPE() { return getToken(Rfc3164Parser.PIPE, 0); }
-		public TerminalNode RIGHT_CURLY_BRACE() { return getToken(Rfc3164Parser.RIGHT_CURLY_BRACE, 0); }
-		public TerminalNode TILDE() { return getToken(Rfc3164Parser.TILDE, 0); }
-		public PrintusasciiContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_printusascii; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).enterPrintusascii(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).exitPrintusascii(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof Rfc3164Visitor ) return ((Rfc3164Visitor<? extends T>)visitor).visitPrintusascii(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final PrintusasciiContext printusascii() throws RecognitionException {
-		PrintusasciiContext _localctx = new PrintusasciiContext(_ctx, getState());
-		enterRule(_localctx, 54, RULE_printusascii);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(219);
-			_la = _input.LA(1);
-			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & -32L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 34359738367L) != 0)) ) {
-			_errHandler.recoverInline(this);
-			}
-			else {
-				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-				_errHandler.reportMatch(this);
-				consume();
-			}
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	@SuppressWarnings("CheckReturnValue")
-	public static class PrintusasciinospecialsContext extends ParserRuleContext {
-		public TerminalNode EXCLAMATION() { return getToken(Rfc3164Parser.EXCLAMATION, 0); }
-		public TerminalNode POUND() { return getToken(Rfc3164Parser.POUND, 0); }
-		public TerminalNode DOLLAR() { return getToken(Rfc3164Parser.DOLLAR, 0); }
-		public TerminalNode PERCENT() { return getToken(Rfc3164Parser.PERCENT, 0); }
-		public TerminalNode AMPERSAND() { return getToken(Rfc3164Parser.AMPERSAND, 0); }
-		public TerminalNode APOSTROPHE() { return getToken(Rfc3164Parser.APOSTROPHE, 0); }
-		public TerminalNode LEFT_PAREN() { return getToken(Rfc3164Parser.LEFT_PAREN, 0); }
-		public TerminalNode RIGHT_PAREN() { return getToken(Rfc3164Parser.RIGHT_PAREN, 0); }
-		public TerminalNode ASTERISK() { return getToken(Rfc3164Parser.ASTERISK, 0); }
-		public TerminalNode PLUS() { return getToken(Rfc3164Parser.PLUS, 0); }
-		public TerminalNode COMMA() { return getToken(Rfc3164Parser.COMMA, 0); }
-		public TerminalNode DASH() { return getToken(Rfc3164Parser.DASH, 0); }
-		public TerminalNode PERIOD() { return getToken(Rfc3164Parser.PERIOD, 0); }
-		public TerminalNode SLASH() { return getToken(Rfc3164Parser.SLASH, 0); }
-		public TerminalNode ZERO() { return getToken(Rfc3164Parser.ZERO, 0); }
-		public TerminalNode ONE() { return getToken(Rfc3164Parser.ONE, 0); }
-		public TerminalNode TWO() { return getToken(Rfc3164Parser.TWO, 0); }
-		public TerminalNode THREE() { return getToken(Rfc3164Parser.THREE, 0); }
-		public TerminalNode FOUR() { return getToken(Rfc3164Parser.FOUR, 0); }
-		public TerminalNode FIVE() { return getToken(Rfc3164Parser.FIVE, 0); }
-		public TerminalNode SIX() { return getToken(Rfc3164Parser.SIX, 0); }
-		public TerminalNode SEVEN() { return getToken(Rfc3164Parser.SEVEN, 0); }
-		public TerminalNode EIGHT() { return getToken(Rfc3164Parser.EIGHT, 0); }
-		public TerminalNode NINE() { return getToken(Rfc3164Parser.NINE, 0); }
-		public TerminalNode COLON() { return getToken(Rfc3164Parser.COLON, 0); }
-		public TerminalNode SEMICOLON() { return getToken(Rfc3164Parser.SEMICOLON, 0); }
-		public TerminalNode LESS_THAN() { return getToken(Rfc3164Parser.LESS_THAN, 0); }
-		public TerminalNode GREATER_THAN() { return getToken(Rfc3164Parser.GREATER_THAN, 0); }
-		public TerminalNode QUESTION() { return getToken(Rfc3164Parser.QUESTION, 0); }
-		public TerminalNode AT() { return getToken(Rfc3164Parser.AT, 0); }
-		public TerminalNode CAP_A() { return getToken(Rfc3164Parser.CAP_A, 0); }
-		public TerminalNode CAP_B() { return getToken(Rfc3164Parser.CAP_B, 0); }
-		public TerminalNode CAP_C() { return getToken(Rfc3164Parser.CAP_C, 0); }
-		public TerminalNode CAP_D() { return getToken(Rfc3164Parser.CAP_D, 0); }
-		public TerminalNode CAP_E() { return getToken(Rfc3164Parser.CAP_E, 0); }
-		public TerminalNode CAP_F() { return getToken(Rfc3164Parser.CAP_F, 0); }
-		public TerminalNode CAP_G() { return getToken(Rfc3164Parser.CAP_G, 0); }
-		public TerminalNode CAP_H() { return getToken(Rfc3164Parser.CAP_H, 0); }
-		public TerminalNode CAP_I() { return getToken(Rfc3164Parser.CAP_I, 0); }
-		public TerminalNode CAP_J() { return getToken(Rfc3164Parser.CAP_J, 0); }
-		public TerminalNode CAP_K() { return getToken(Rfc3164Parser.CAP_K, 0); }
-		public TerminalNode CAP_L() { return getToken(Rfc3164Parser.CAP_L, 0); }
-		public TerminalNode CAP_M() { return getToken(Rfc3164Parser.CAP_M, 0); }
-		public TerminalNode CAP_N() { return getToken(Rfc3164Parser.CAP_N, 0); }
-		public TerminalNode CAP_O() { return getToken(Rfc3164Parser.CAP_O, 0); }
-		public TerminalNode CAP_P() { return getToken(Rfc3164Parser.CAP_P, 0); }
-		public TerminalNode CAP_Q() { return getToken(Rfc3164Parser.CAP_Q, 0); }
-		public TerminalNode CAP_R() { return getToken(Rfc3164Parser.CAP_R, 0); }
-		public TerminalNode CAP_S() { return getToken(Rfc3164Parser.CAP_S, 0); }
-		public TerminalNode CAP_T() { return getToken(Rfc3164Parser.CAP_T, 0); }
-		public TerminalNode CAP_U() { return getToken(Rfc3164Parser.CAP_U, 0); }
-		public TerminalNode CAP_V() { return getToken(Rfc3164Parser.CAP_V, 0); }
-		public TerminalNode CAP_W() { return getToken(Rfc3164Parser.CAP_W, 0); }
-		public TerminalNode CAP_X() { return getToken(Rfc3164Parser.CAP_X, 0); }
-		public TerminalNode CAP_Y() { return getToken(Rfc3164Parser.CAP_Y, 0); }
-		public TerminalNode CAP_Z() { return getToken(Rfc3164Parser.CAP_Z, 0); }
-		public TerminalNode LEFT_BRACE() { return getToken(Rfc3164Parser.LEFT_BRACE, 0); }
-		public TerminalNode BACKSLASH() { return getToken(Rfc3164Parser.BACKSLASH, 0); }
-		public TerminalNode CARAT() { return getToken(Rfc3164Parser.CARAT, 0); }
-		public TerminalNode UNDERSCORE() { return getToken(Rfc3164Parser.UNDERSCORE, 0); }
-		public TerminalNode ACCENT() { return getToken(Rfc3164Parser.ACCENT, 0); }
-		public TerminalNode A() { return getToken(Rfc3164Parser.A, 0); }
-		public TerminalNode B() { return getToken(Rfc3164Parser.B, 0); }
-		public TerminalNode C() { return getToken(Rfc3164Parser.C, 0); }
-		public TerminalNode D() { return getToken(Rfc3164Parser.D, 0); }
-		public TerminalNode E() { return getToken(Rfc3164Parser.E, 0); }
-		public TerminalNode F() { return getToken(Rfc3164Parser.F, 0); }
-		public TerminalNode G() { return getToken(Rfc3164Parser.G, 0); }
-		public TerminalNode H() { return getToken(Rfc3164Parser.H, 0); }
-		public TerminalNode I() { return getToken(Rfc3164Parser.I, 0); }
-		public TerminalNode J() { return getToken(Rfc3164Parser.J, 0); }
-		public TerminalNode K() { return getToken(Rfc3164Parser.K, 0); }
-		public TerminalNode L() { return getToken(Rfc3164Parser.L, 0); }
-		public TerminalNode M() { return getToken(Rfc3164Parser.M, 0); }
-		public TerminalNode N() { return getToken(Rfc3164Parser.N, 0); }
-		public TerminalNode O() { return getToken(Rfc3164Parser.O, 0); }
-		public TerminalNode P() { return getToken(Rfc3164Parser.P, 0); }
-		public TerminalNode Q() { return getToken(Rfc3164Parser.Q, 0); }
-		public TerminalNode R() { return getToken(Rfc3164Parser.R, 0); }
-		public TerminalNode S() { return getToken(Rfc3164Parser.S, 0); }
-		public TerminalNode T() { return getToken(Rfc3164Parser.T, 0); }
-		public TerminalNode U() { return getToken(Rfc3164Parser.U, 0); }
-		public TerminalNode V() { return getToken(Rfc3164Parser.V, 0); }
-		public TerminalNode W() { return getToken(Rfc3164Parser.W, 0); }
-		public TerminalNode X() { return getToken(Rfc3164Parser.X, 0); }
-		public TerminalNode Y() { return getToken(Rfc3164Parser.Y, 0); }
-		public TerminalNode Z() { return getToken(Rfc3164Parser.Z, 0); }
-		public TerminalNode LEFT_CURLY_BRACE() { return getToken(Rfc3164Parser.LEFT_CURLY_BRACE, 0); }
-		public TerminalNode PIPE() { return getToken(Rfc3164Parser.PIPE, 0); }
-		public TerminalNode RIGHT_CURLY_BRACE() { return getToken(Rfc3164Parser.RIGHT_CURLY_BRACE, 0); }
-		public TerminalNode TILDE() { return getToken(Rfc3164Parser.TILDE, 0); }
-		public PrintusasciinospecialsContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_printusasciinospecials; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).enterPrintusasciinospecials(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).exitPrintusasciinospecials(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof Rfc3164Visitor ) return ((Rfc3164Visitor<? extends T>)visitor).visitPrintusasciinospecials(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final PrintusasciinospecialsContext printusasciinospecials() throws RecognitionException {
-		PrintusasciinospecialsContext _localctx = new PrintusasciinospecialsContext(_ctx, getState());
-		enterRule(_localctx, 56, RULE_printusasciinospecials);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(221);
-			_la = _input.LA(1);
-			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & -8589934688L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 34359738365L) != 0)) ) {
-			_errHandler.recoverInline(this);
-			}
-			else {
-				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-				_errHandler.reportMatch(this);
-				consume();
-			}
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	@SuppressWarnings("CheckReturnValue")
-	public static class Nonzero_digitContext extends ParserRuleContext {
-		public TerminalNode ONE() { return getToken(Rfc3164Parser.ONE, 0); }
-		public TerminalNode TWO() { return getToken(Rfc3164Parser.TWO, 0); }
-		public TerminalNode THREE() { return getToken(Rfc3164Parser.THREE, 0); }
-		public TerminalNode FOUR() { return getToken(Rfc3164Parser.FOUR, 0); }
-		public TerminalNode FIVE() { return getToken(Rfc3164Parser.FIVE, 0); }
-		public TerminalNode SIX() { return getToken(Rfc3164Parser.SIX, 0); }
-		public TerminalNode SEVEN() { return getToken(Rfc3164Parser.SEVEN, 0); }
-		public TerminalNode EIGHT() { return getToken(Rfc3164Parser.EIGHT, 0); }
-		public TerminalNode NINE() { return getToken(Rfc3164Parser.NINE, 0); }
-		public Nonzero_digitContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_nonzero_digit; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).enterNonzero_digit(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).exitNonzero_digit(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof Rfc3164Visitor ) return ((Rfc3164Visitor<? extends T>)visitor).visitNonzero_digit(this);
-			else return visitor.visitChildren(this);
+	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
+		switch (ruleIndex) {
+		case 3:
+			return prival_sempred((PrivalContext)_localctx, predIndex);
+		case 7:
+			return date_day_short_sempred((Date_day_shortContext)_localctx, predIndex);
+		case 9:
+			return date_fullyear_sempred((Date_fullyearContext)_localctx, predIndex);
+		case 10:
+			return date_month_sempred((Date_monthContext)_localctx, predIndex);
+		case 11:
+			return date_mday_sempred((Date_mdayContext)_localctx, predIndex);
+		case 14:
+			return time_hour_sempred((Time_hourContext)_localctx, predIndex);
+		case 15:
+			return time_minute_sempred((Time_minuteContext)_localctx, predIndex);
+		case 16:
+			return time_second_sempred((Time_secondContext)_localctx, predIndex);
+		case 17:
+			return time_secfrac_sempred((Time_secfracContext)_localctx, predIndex);
 		}
+		return true;
 	}
-
-	public final Nonzero_digitContext nonzero_digit() throws RecognitionException {
-		Nonzero_digitContext _localctx = new Nonzero_digitContext(_ctx, getState());
-		enterRule(_localctx, 58, RULE_nonzero_digit);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(223);
-			_la = _input.LA(1);
-			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & 1071644672L) != 0)) ) {
-			_errHandler.recoverInline(this);
-			}
-			else {
-				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-				_errHandler.reportMatch(this);
-				consume();
-			}
-			}
+	private boolean prival_sempred(PrivalContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 0:
+			return hasLength(((HeaderPriorityValueContext)_localctx).d, 1, 3);
 		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
+		return true;
 	}
-
-	@SuppressWarnings("CheckReturnValue")
-	public static class DigitContext extends ParserRuleContext {
-		public DigitContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_digit; }
-	 
-		public DigitContext() { }
-		public void copyFrom(DigitContext ctx) {
-			super.copyFrom(ctx);
+	private boolean date_day_short_sempred(Date_day_shortContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 1:
+			return hasLength(((Date_day_shortContext)_localctx).d, 1, 2);
 		}
+		return true;
 	}
-	@SuppressWarnings("CheckReturnValue")
-	public static class ZeroDigitContext extends DigitContext {
-		public TerminalNode ZERO() { return getToken(Rfc3164Parser.ZERO, 0); }
-		public ZeroDigitContext(DigitContext ctx) { copyFrom(ctx); }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).enterZeroDigit(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).exitZeroDigit(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof Rfc3164Visitor ) return ((Rfc3164Visitor<? extends T>)visitor).visitZeroDigit(this);
-			else return visitor.visitChildren(this);
+	private boolean date_fullyear_sempred(Date_fullyearContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 2:
+			return hasLength(((Date_fullyearContext)_localctx).d, 4, 4);
 		}
+		return true;
 	}
-	@SuppressWarnings("CheckReturnValue")
-	public static class NonZeroDigitContext extends DigitContext {
-		public Nonzero_digitContext nonzero_digit() {
-			return getRuleContext(Nonzero_digitContext.class,0);
-		}
-		public NonZeroDigitContext(DigitContext ctx) { copyFrom(ctx); }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).enterNonZeroDigit(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).exitNonZeroDigit(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof Rfc3164Visitor ) return ((Rfc3164Visitor<? extends T>)visitor).visitNonZeroDigit(this);
-			else return visitor.visitChildren(this);
+	private boolean date_month_sempred(Date_monthContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 3:
+			return hasLength(((Date_monthContext)_localctx).d, 2, 2);
 		}
+		return true;
 	}
-
-	public final DigitContext digit() throws RecognitionException {
-		DigitContext _localctx = new DigitContext(_ctx, getState());
-		enterRule(_localctx, 60, RULE_digit);
-		try {
-			setState(227);
-			_errHandler.sync(this);
-			switch (_input.LA(1)) {
-			case ZERO:
-				_localctx = new ZeroDigitContext(_localctx);
-				enterOuterAlt(_localctx, 1);
-				{
-				setState(225);
-				match(ZERO);
-				}
-				break;
-			case ONE:
-			case TWO:
-			case THREE:
-			case FOUR:
-			case FIVE:
-			case SIX:
-			case SEVEN:
-			case EIGHT:
-			case NINE:
-				_localctx = new NonZeroDigitContext(_localctx);
-				enterOuterAlt(_localctx, 2);
-				{
-				setState(226);
-				nonzero_digit();
-				}
-				break;
-			default:
-				throw new NoViableAltException(this);
-			}
+	private boolean date_mday_sempred(Date_mdayContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 4:
+			return hasLength(((Date_mdayContext)_localctx).d, 2, 2);
 		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
+		return true;
 	}
-
-	@SuppressWarnings("CheckReturnValue")
-	public static class CapitalContext extends ParserRuleContext {
-		public TerminalNode CAP_A() { return getToken(Rfc3164Parser.CAP_A, 0); }
-		public TerminalNode CAP_B() { return getToken(Rfc3164Parser.CAP_B, 0); }
-		public TerminalNode CAP_C() { return getToken(Rfc3164Parser.CAP_C, 0); }
-		public TerminalNode CAP_D() { return getToken(Rfc3164Parser.CAP_D, 0); }
-		public TerminalNode CAP_E() { return getToken(Rfc3164Parser.CAP_E, 0); }
-		public TerminalNode CAP_F() { return getToken(Rfc3164Parser.CAP_F, 0); }
-		public TerminalNode CAP_G() { return getToken(Rfc3164Parser.CAP_G, 0); }
-		public TerminalNode CAP_H() { return getToken(Rfc3164Parser.CAP_H, 0); }
-		public TerminalNode CAP_I() { return getToken(Rfc3164Parser.CAP_I, 0); }
-		public TerminalNode CAP_J() { return getToken(Rfc3164Parser.CAP_J, 0); }
-		public TerminalNode CAP_K() { return getToken(Rfc3164Parser.CAP_K, 0); }
-		public TerminalNode CAP_L() { return getToken(Rfc3164Parser.CAP_L, 0); }
-		public TerminalNode CAP_M() { return getToken(Rfc3164Parser.CAP_M, 0); }
-		public TerminalNode CAP_N() { return getToken(Rfc3164Parser.CAP_N, 0); }
-		public TerminalNode CAP_O() { return getToken(Rfc3164Parser.CAP_O, 0); }
-		public TerminalNode CAP_P() { return getToken(Rfc3164Parser.CAP_P, 0); }
-		public TerminalNode CAP_Q() { return getToken(Rfc3164Parser.CAP_Q, 0); }
-		public TerminalNode CAP_R() { return getToken(Rfc3164Parser.CAP_R, 0); }
-		public TerminalNode CAP_S() { return getToken(Rfc3164Parser.CAP_S, 0); }
-		public TerminalNode CAP_T() { return getToken(Rfc3164Parser.CAP_T, 0); }
-		public TerminalNode CAP_U() { return getToken(Rfc3164Parser.CAP_U, 0); }
-		public TerminalNode CAP_V() { return getToken(Rfc3164Parser.CAP_V, 0); }
-		public TerminalNode CAP_W() { return getToken(Rfc3164Parser.CAP_W, 0); }
-		public TerminalNode CAP_X() { return getToken(Rfc3164Parser.CAP_X, 0); }
-		public TerminalNode CAP_Y() { return getToken(Rfc3164Parser.CAP_Y, 0); }
-		public TerminalNode CAP_Z() { return getToken(Rfc3164Parser.CAP_Z, 0); }
-		public CapitalContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_capital; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).enterCapital(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).exitCapital(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof Rfc3164Visitor ) return ((Rfc3164Visitor<? extends T>)visitor).visitCapital(this);
-			else return visitor.visitChildren(this);
+	private boolean time_hour_sempred(Time_hourContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 5:
+			return hasLength(((Time_hourContext)_localctx).d, 2, 2);
 		}
+		return true;
 	}
-
-	public final CapitalContext capital() throws RecognitionException {
-		CapitalContext _localctx = new CapitalContext(_ctx, getState());
-		enterRule(_localctx, 62, RULE_capital);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(229);
-			_la = _input.LA(1);
-			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & 9223371899415822336L) != 0)) ) {
-			_errHandler.recoverInline(this);
-			}
-			else {
-				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-				_errHandler.reportMatch(this);
-				consume();
-			}
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
+	private boolean time_minute_sempred(Time_minuteContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 6:
+			return hasLength(((Time_minuteContext)_localctx).d, 2, 2);
 		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
+		return true;
 	}
-
-	@SuppressWarnings("CheckReturnValue")
-	public static class LowerContext extends ParserRuleContext {
-		public TerminalNode A() { return getToken(Rfc3164Parser.A, 0); }
-		public TerminalNode B() { return getToken(Rfc3164Parser.B, 0); }
-		public TerminalNode C() { return getToken(Rfc3164Parser.C, 0); }
-		public TerminalNode D() { return getToken(Rfc3164Parser.D, 0); }
-		public TerminalNode E() { return getToken(Rfc3164Parser.E, 0); }
-		public TerminalNode F() { return getToken(Rfc3164Parser.F, 0); }
-		public TerminalNode G() { return getToken(Rfc3164Parser.G, 0); }
-		public TerminalNode H() { return getToken(Rfc3164Parser.H, 0); }
-		public TerminalNode I() { return getToken(Rfc3164Parser.I, 0); }
-		public TerminalNode J() { return getToken(Rfc3164Parser.J, 0); }
-		public TerminalNode K() { return getToken(Rfc3164Parser.K, 0); }
-		public TerminalNode L() { return getToken(Rfc3164Parser.L, 0); }
-		public TerminalNode M() { return getToken(Rfc3164Parser.M, 0); }
-		public TerminalNode N() { return getToken(Rfc3164Parser.N, 0); }
-		public TerminalNode O() { return getToken(Rfc3164Parser.O, 0); }
-		public TerminalNode P() { return getToken(Rfc3164Parser.P, 0); }
-		public TerminalNode Q() { return getToken(Rfc3164Parser.Q, 0); }
-		public TerminalNode R() { return getToken(Rfc3164Parser.R, 0); }
-		public TerminalNode S() { return getToken(Rfc3164Parser.S, 0); }
-		public TerminalNode T() { return getToken(Rfc3164Parser.T, 0); }
-		public TerminalNode U() { return getToken(Rfc3164Parser.U, 0); }
-		public TerminalNode V() { return getToken(Rfc3164Parser.V, 0); }
-		public TerminalNode W() { return getToken(Rfc3164Parser.W, 0); }
-		public TerminalNode X() { return getToken(Rfc3164Parser.X, 0); }
-		public TerminalNode Y() { return getToken(Rfc3164Parser.Y, 0); }
-		public TerminalNode Z() { return getToken(Rfc3164Parser.Z, 0); }
-		public LowerContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_lower; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).enterLower(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof Rfc3164Listener ) ((Rfc3164Listener)listener).exitLower(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof Rfc3164Visitor ) return ((Rfc3164Visitor<? extends T>)visitor).visitLower(this);
-			else return visitor.visitChildren(this);
+	private boolean time_second_sempred(Time_secondContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 7:
+			return hasLength(((Time_secondContext)_localctx).d, 2, 2);
 		}
+		return true;
 	}
-
-	public final LowerContext lower() throws RecognitionException {
-		LowerContext _localctx = new LowerContext(_ctx, getState());
-		enterRule(_localctx, 64, RULE_lower);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(231);
-			_la = _input.LA(1);
-			if ( !(((((_la - 69)) & ~0x3f) == 0 && ((1L << (_la - 69)) & 67108863L) != 0)) ) {
-			_errHandler.recoverInline(this);
-			}
-			else {
-				if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-				_errHandler.reportMatch(this);
-				consume();
-			}
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
+	private boolean time_secfrac_sempred(Time_secfracContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 8:
+			return hasLength(((Time_secfracContext)_localctx).d, 1, 6);
 		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
+		return true;
 	}
 
 	public static final String _serializedATN =
-		"\u0004\u0001\u0100\u00ea\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001"+
+		"\u0004\u0001\u000e\u00a3\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001"+
 		"\u0002\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004\u0007\u0004"+
 		"\u0002\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002\u0007\u0007\u0007"+
 		"\u0002\b\u0007\b\u0002\t\u0007\t\u0002\n\u0007\n\u0002\u000b\u0007\u000b"+
@@ -2915,133 +1771,86 @@ public class Rfc3164Parser extends Parser {
 		"\u000f\u0002\u0010\u0007\u0010\u0002\u0011\u0007\u0011\u0002\u0012\u0007"+
 		"\u0012\u0002\u0013\u0007\u0013\u0002\u0014\u0007\u0014\u0002\u0015\u0007"+
 		"\u0015\u0002\u0016\u0007\u0016\u0002\u0017\u0007\u0017\u0002\u0018\u0007"+
-		"\u0018\u0002\u0019\u0007\u0019\u0002\u001a\u0007\u001a\u0002\u001b\u0007"+
-		"\u001b\u0002\u001c\u0007\u001c\u0002\u001d\u0007\u001d\u0002\u001e\u0007"+
-		"\u001e\u0002\u001f\u0007\u001f\u0002 \u0007 \u0001\u0000\u0001\u0000\u0001"+
-		"\u0000\u0003\u0000F\b\u0000\u0001\u0001\u0003\u0001I\b\u0001\u0001\u0001"+
-		"\u0003\u0001L\b\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001"+
-		"\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0003\u0001\u0003"+
-		"\u0003\u0003X\b\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0003\u0003"+
-		"]\b\u0003\u0001\u0004\u0005\u0004`\b\u0004\n\u0004\f\u0004c\t\u0004\u0001"+
-		"\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001"+
-		"\u0005\u0001\u0005\u0001\u0005\u0003\u0005n\b\u0005\u0001\u0006\u0001"+
-		"\u0006\u0001\u0006\u0001\u0006\u0001\u0007\u0001\u0007\u0003\u0007v\b"+
-		"\u0007\u0001\u0007\u0001\u0007\u0003\u0007z\b\u0007\u0001\b\u0001\b\u0001"+
-		"\b\u0001\b\u0001\b\u0001\b\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001"+
-		"\n\u0001\n\u0001\n\u0001\u000b\u0001\u000b\u0001\u000b\u0001\f\u0001\f"+
-		"\u0001\f\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0003\r\u0096"+
-		"\b\r\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000f\u0001\u000f\u0001"+
-		"\u000f\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0011\u0001\u0011\u0001"+
-		"\u0011\u0003\u0011\u00a4\b\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001"+
-		"\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001"+
-		"\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001"+
-		"\u0011\u0001\u0011\u0001\u0011\u0003\u0011\u00b8\b\u0011\u0001\u0012\u0001"+
-		"\u0012\u0003\u0012\u00bc\b\u0012\u0001\u0013\u0001\u0013\u0001\u0013\u0001"+
-		"\u0013\u0001\u0013\u0001\u0014\u0001\u0014\u0003\u0014\u00c5\b\u0014\u0001"+
-		"\u0015\u0005\u0015\u00c8\b\u0015\n\u0015\f\u0015\u00cb\t\u0015\u0001\u0016"+
-		"\u0001\u0016\u0001\u0016\u0001\u0017\u0001\u0017\u0001\u0018\u0005\u0018"+
-		"\u00d3\b\u0018\n\u0018\f\u0018\u00d6\t\u0018\u0001\u0019\u0001\u0019\u0001"+
-		"\u001a\u0001\u001a\u0001\u001b\u0001\u001b\u0001\u001c\u0001\u001c\u0001"+
-		"\u001d\u0001\u001d\u0001\u001e\u0001\u001e\u0003\u001e\u00e4\b\u001e\u0001"+
-		"\u001f\u0001\u001f\u0001 \u0001 \u0001 \u0000\u0000!\u0000\u0002\u0004"+
-		"\u0006\b\n\f\u000e\u0010\u0012\u0014\u0016\u0018\u001a\u001c\u001e \""+
-		"$&(*,.02468:<>@\u0000\b\u0002\u0000\u000f\u000f\u0011\u0011\u0003\u0000"+
-		"\u00bc\u00bc\u00c0\u00c0\u00f0\u00f0\u0001\u0000\u0001\u0100\u0001\u0000"+
-		"\u0005b\u0004\u0000\u0005\u0005\u0007 \"@Bb\u0001\u0000\u0015\u001d\u0001"+
-		"\u0000%>\u0001\u0000E^\u00dc\u0000B\u0001\u0000\u0000\u0000\u0002H\u0001"+
-		"\u0000\u0000\u0000\u0004Q\u0001\u0000\u0000\u0000\u0006U\u0001\u0000\u0000"+
-		"\u0000\ba\u0001\u0000\u0000\u0000\nm\u0001\u0000\u0000\u0000\fo\u0001"+
-		"\u0000\u0000\u0000\u000es\u0001\u0000\u0000\u0000\u0010{\u0001\u0000\u0000"+
-		"\u0000\u0012\u0081\u0001\u0000\u0000\u0000\u0014\u0086\u0001\u0000\u0000"+
-		"\u0000\u0016\u0089\u0001\u0000\u0000\u0000\u0018\u008c\u0001\u0000\u0000"+
-		"\u0000\u001a\u008f\u0001\u0000\u0000\u0000\u001c\u0097\u0001\u0000\u0000"+
-		"\u0000\u001e\u009a\u0001\u0000\u0000\u0000 \u009d\u0001\u0000\u0000\u0000"+
-		"\"\u00a0\u0001\u0000\u0000\u0000$\u00bb\u0001\u0000\u0000\u0000&\u00bd"+
-		"\u0001\u0000\u0000\u0000(\u00c4\u0001\u0000\u0000\u0000*\u00c9\u0001\u0000"+
-		"\u0000\u0000,\u00cc\u0001\u0000\u0000\u0000.\u00cf\u0001\u0000\u0000\u0000"+
-		"0\u00d4\u0001\u0000\u0000\u00002\u00d7\u0001\u0000\u0000\u00004\u00d9"+
-		"\u0001\u0000\u0000\u00006\u00db\u0001\u0000\u0000\u00008\u00dd\u0001\u0000"+
-		"\u0000\u0000:\u00df\u0001\u0000\u0000\u0000<\u00e3\u0001\u0000\u0000\u0000"+
-		">\u00e5\u0001\u0000\u0000\u0000@\u00e7\u0001\u0000\u0000\u0000BC\u0003"+
-		"\u0002\u0001\u0000CE\u00034\u001a\u0000DF\u0003(\u0014\u0000ED\u0001\u0000"+
-		"\u0000\u0000EF\u0001\u0000\u0000\u0000F\u0001\u0001\u0000\u0000\u0000"+
-		"GI\u0003\u0004\u0002\u0000HG\u0001\u0000\u0000\u0000HI\u0001\u0000\u0000"+
-		"\u0000IK\u0001\u0000\u0000\u0000JL\u00034\u001a\u0000KJ\u0001\u0000\u0000"+
-		"\u0000KL\u0001\u0000\u0000\u0000LM\u0001\u0000\u0000\u0000MN\u0003\n\u0005"+
-		"\u0000NO\u00034\u001a\u0000OP\u0003\b\u0004\u0000P\u0003\u0001\u0000\u0000"+
-		"\u0000QR\u0005 \u0000\u0000RS\u0003\u0006\u0003\u0000ST\u0005\"\u0000"+
-		"\u0000T\u0005\u0001\u0000\u0000\u0000U\\\u0003<\u001e\u0000VX\u0003<\u001e"+
-		"\u0000WV\u0001\u0000\u0000\u0000WX\u0001\u0000\u0000\u0000X]\u0001\u0000"+
-		"\u0000\u0000YZ\u0003<\u001e\u0000Z[\u0003<\u001e\u0000[]\u0001\u0000\u0000"+
-		"\u0000\\W\u0001\u0000\u0000\u0000\\Y\u0001\u0000\u0000\u0000]\u0007\u0001"+
-		"\u0000\u0000\u0000^`\u00036\u001b\u0000_^\u0001\u0000\u0000\u0000`c\u0001"+
-		"\u0000\u0000\u0000a_\u0001\u0000\u0000\u0000ab\u0001\u0000\u0000\u0000"+
-		"b\t\u0001\u0000\u0000\u0000ca\u0001\u0000\u0000\u0000de\u0003\u0010\b"+
-		"\u0000ef\u00058\u0000\u0000fg\u0003\u0018\f\u0000gn\u0001\u0000\u0000"+
-		"\u0000hi\u0003\f\u0006\u0000ij\u0003\u000e\u0007\u0000jk\u00034\u001a"+
-		"\u0000kl\u0003\u001a\r\u0000ln\u0001\u0000\u0000\u0000md\u0001\u0000\u0000"+
-		"\u0000mh\u0001\u0000\u0000\u0000n\u000b\u0001\u0000\u0000\u0000op\u0003"+
-		">\u001f\u0000pq\u0003@ \u0000qr\u0003@ \u0000r\r\u0001\u0000\u0000\u0000"+
-		"su\u00034\u001a\u0000tv\u00034\u001a\u0000ut\u0001\u0000\u0000\u0000u"+
-		"v\u0001\u0000\u0000\u0000vw\u0001\u0000\u0000\u0000wy\u0003<\u001e\u0000"+
-		"xz\u0003<\u001e\u0000yx\u0001\u0000\u0000\u0000yz\u0001\u0000\u0000\u0000"+
-		"z\u000f\u0001\u0000\u0000\u0000{|\u0003\u0012\t\u0000|}\u0005\u0011\u0000"+
-		"\u0000}~\u0003\u0014\n\u0000~\u007f\u0005\u0011\u0000\u0000\u007f\u0080"+
-		"\u0003\u0016\u000b\u0000\u0080\u0011\u0001\u0000\u0000\u0000\u0081\u0082"+
-		"\u0003<\u001e\u0000\u0082\u0083\u0003<\u001e\u0000\u0083\u0084\u0003<"+
-		"\u001e\u0000\u0084\u0085\u0003<\u001e\u0000\u0085\u0013\u0001\u0000\u0000"+
-		"\u0000\u0086\u0087\u0003<\u001e\u0000\u0087\u0088\u0003<\u001e\u0000\u0088"+
-		"\u0015\u0001\u0000\u0000\u0000\u0089\u008a\u0003<\u001e\u0000\u008a\u008b"+
-		"\u0003<\u001e\u0000\u008b\u0017\u0001\u0000\u0000\u0000\u008c\u008d\u0003"+
-		"\u001a\r\u0000\u008d\u008e\u0003$\u0012\u0000\u008e\u0019\u0001\u0000"+
-		"\u0000\u0000\u008f\u0090\u0003\u001c\u000e\u0000\u0090\u0091\u0005\u001e"+
-		"\u0000\u0000\u0091\u0092\u0003\u001e\u000f\u0000\u0092\u0093\u0005\u001e"+
-		"\u0000\u0000\u0093\u0095\u0003 \u0010\u0000\u0094\u0096\u0003\"\u0011"+
-		"\u0000\u0095\u0094\u0001\u0000\u0000\u0000\u0095\u0096\u0001\u0000\u0000"+
-		"\u0000\u0096\u001b\u0001\u0000\u0000\u0000\u0097\u0098\u0003<\u001e\u0000"+
-		"\u0098\u0099\u0003<\u001e\u0000\u0099\u001d\u0001\u0000\u0000\u0000\u009a"+
-		"\u009b\u0003<\u001e\u0000\u009b\u009c\u0003<\u001e\u0000\u009c\u001f\u0001"+
-		"\u0000\u0000\u0000\u009d\u009e\u0003<\u001e\u0000\u009e\u009f\u0003<\u001e"+
-		"\u0000\u009f!\u0001\u0000\u0000\u0000\u00a0\u00a1\u0005\u0012\u0000\u0000"+
-		"\u00a1\u00b7\u0003<\u001e\u0000\u00a2\u00a4\u0003<\u001e\u0000\u00a3\u00a2"+
-		"\u0001\u0000\u0000\u0000\u00a3\u00a4\u0001\u0000\u0000\u0000\u00a4\u00b8"+
-		"\u0001\u0000\u0000\u0000\u00a5\u00a6\u0003<\u001e\u0000\u00a6\u00a7\u0003"+
-		"<\u001e\u0000\u00a7\u00b8\u0001\u0000\u0000\u0000\u00a8\u00a9\u0003<\u001e"+
-		"\u0000\u00a9\u00aa\u0003<\u001e\u0000\u00aa\u00ab\u0003<\u001e\u0000\u00ab"+
-		"\u00b8\u0001\u0000\u0000\u0000\u00ac\u00ad\u0003<\u001e\u0000\u00ad\u00ae"+
-		"\u0003<\u001e\u0000\u00ae\u00af\u0003<\u001e\u0000\u00af\u00b0\u0003<"+
-		"\u001e\u0000\u00b0\u00b8\u0001\u0000\u0000\u0000\u00b1\u00b2\u0003<\u001e"+
-		"\u0000\u00b2\u00b3\u0003<\u001e\u0000\u00b3\u00b4\u0003<\u001e\u0000\u00b4"+
-		"\u00b5\u0003<\u001e\u0000\u00b5\u00b6\u0003<\u001e\u0000\u00b6\u00b8\u0001"+
-		"\u0000\u0000\u0000\u00b7\u00a3\u0001\u0000\u0000\u0000\u00b7\u00a5\u0001"+
-		"\u0000\u0000\u0000\u00b7\u00a8\u0001\u0000\u0000\u0000\u00b7\u00ac\u0001"+
-		"\u0000\u0000\u0000\u00b7\u00b1\u0001\u0000\u0000\u0000\u00b8#\u0001\u0000"+
-		"\u0000\u0000\u00b9\u00bc\u0005>\u0000\u0000\u00ba\u00bc\u0003&\u0013\u0000"+
-		"\u00bb\u00b9\u0001\u0000\u0000\u0000\u00bb\u00ba\u0001\u0000\u0000\u0000"+
-		"\u00bc%\u0001\u0000\u0000\u0000\u00bd\u00be\u0007\u0000\u0000\u0000\u00be"+
-		"\u00bf\u0003\u001c\u000e\u0000\u00bf\u00c0\u0005\u001e\u0000\u0000\u00c0"+
-		"\u00c1\u0003\u001e\u000f\u0000\u00c1\'\u0001\u0000\u0000\u0000\u00c2\u00c5"+
-		"\u0003*\u0015\u0000\u00c3\u00c5\u0003,\u0016\u0000\u00c4\u00c2\u0001\u0000"+
-		"\u0000\u0000\u00c4\u00c3\u0001\u0000\u0000\u0000\u00c5)\u0001\u0000\u0000"+
-		"\u0000\u00c6\u00c8\u00032\u0019\u0000\u00c7\u00c6\u0001\u0000\u0000\u0000"+
-		"\u00c8\u00cb\u0001\u0000\u0000\u0000\u00c9\u00c7\u0001\u0000\u0000\u0000"+
-		"\u00c9\u00ca\u0001\u0000\u0000\u0000\u00ca+\u0001\u0000\u0000\u0000\u00cb"+
-		"\u00c9\u0001\u0000\u0000\u0000\u00cc\u00cd\u0003.\u0017\u0000\u00cd\u00ce"+
-		"\u00030\u0018\u0000\u00ce-\u0001\u0000\u0000\u0000\u00cf\u00d0\u0007\u0001"+
-		"\u0000\u0000\u00d0/\u0001\u0000\u0000\u0000\u00d1\u00d3\u00032\u0019\u0000"+
-		"\u00d2\u00d1\u0001\u0000\u0000\u0000\u00d3\u00d6\u0001\u0000\u0000\u0000"+
-		"\u00d4\u00d2\u0001\u0000\u0000\u0000\u00d4\u00d5\u0001\u0000\u0000\u0000"+
-		"\u00d51\u0001\u0000\u0000\u0000\u00d6\u00d4\u0001\u0000\u0000\u0000\u00d7"+
-		"\u00d8\u0007\u0002\u0000\u0000\u00d83\u0001\u0000\u0000\u0000\u00d9\u00da"+
-		"\u0005\u0004\u0000\u0000\u00da5\u0001\u0000\u0000\u0000\u00db\u00dc\u0007"+
-		"\u0003\u0000\u0000\u00dc7\u0001\u0000\u0000\u0000\u00dd\u00de\u0007\u0004"+
-		"\u0000\u0000\u00de9\u0001\u0000\u0000\u0000\u00df\u00e0\u0007\u0005\u0000"+
-		"\u0000\u00e0;\u0001\u0000\u0000\u0000\u00e1\u00e4\u0005\u0014\u0000\u0000"+
-		"\u00e2\u00e4\u0003:\u001d\u0000\u00e3\u00e1\u0001\u0000\u0000\u0000\u00e3"+
-		"\u00e2\u0001\u0000\u0000\u0000\u00e4=\u0001\u0000\u0000\u0000\u00e5\u00e6"+
-		"\u0007\u0006\u0000\u0000\u00e6?\u0001\u0000\u0000\u0000\u00e7\u00e8\u0007"+
-		"\u0007\u0000\u0000\u00e8A\u0001\u0000\u0000\u0000\u0011EHKW\\amuy\u0095"+
-		"\u00a3\u00b7\u00bb\u00c4\u00c9\u00d4\u00e3";
+		"\u0018\u0002\u0019\u0007\u0019\u0001\u0000\u0001\u0000\u0001\u0000\u0003"+
+		"\u00008\b\u0000\u0001\u0001\u0003\u0001;\b\u0001\u0001\u0001\u0003\u0001"+
+		">\b\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0002"+
+		"\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0003\u0001\u0003\u0001\u0003"+
+		"\u0001\u0004\u0003\u0004L\b\u0004\u0001\u0005\u0001\u0005\u0001\u0005"+
+		"\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005"+
+		"\u0003\u0005W\b\u0005\u0001\u0006\u0001\u0006\u0001\u0007\u0001\u0007"+
+		"\u0003\u0007]\b\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\b\u0001"+
+		"\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\t\u0001\t\u0001\t\u0001\n\u0001"+
+		"\n\u0001\n\u0001\u000b\u0001\u000b\u0001\u000b\u0001\f\u0001\f\u0001\f"+
+		"\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0003\rz\b\r\u0001\u000e"+
+		"\u0001\u000e\u0001\u000e\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u0010"+
+		"\u0001\u0010\u0001\u0010\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011"+
+		"\u0001\u0012\u0001\u0012\u0003\u0012\u008b\b\u0012\u0001\u0013\u0001\u0013"+
+		"\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0014\u0001\u0014\u0003\u0014"+
+		"\u0094\b\u0014\u0001\u0015\u0003\u0015\u0097\b\u0015\u0001\u0016\u0001"+
+		"\u0016\u0001\u0016\u0001\u0017\u0001\u0017\u0001\u0018\u0003\u0018\u009f"+
+		"\b\u0018\u0001\u0019\u0001\u0019\u0001\u0019\u0000\u0000\u001a\u0000\u0002"+
+		"\u0004\u0006\b\n\f\u000e\u0010\u0012\u0014\u0016\u0018\u001a\u001c\u001e"+
+		" \"$&(*,.02\u0000\u0001\u0002\u0000\u0004\u0004\n\n\u0093\u00004\u0001"+
+		"\u0000\u0000\u0000\u0002:\u0001\u0000\u0000\u0000\u0004C\u0001\u0000\u0000"+
+		"\u0000\u0006G\u0001\u0000\u0000\u0000\bK\u0001\u0000\u0000\u0000\nV\u0001"+
+		"\u0000\u0000\u0000\fX\u0001\u0000\u0000\u0000\u000eZ\u0001\u0000\u0000"+
+		"\u0000\u0010a\u0001\u0000\u0000\u0000\u0012g\u0001\u0000\u0000\u0000\u0014"+
+		"j\u0001\u0000\u0000\u0000\u0016m\u0001\u0000\u0000\u0000\u0018p\u0001"+
+		"\u0000\u0000\u0000\u001as\u0001\u0000\u0000\u0000\u001c{\u0001\u0000\u0000"+
+		"\u0000\u001e~\u0001\u0000\u0000\u0000 \u0081\u0001\u0000\u0000\u0000\""+
+		"\u0084\u0001\u0000\u0000\u0000$\u008a\u0001\u0000\u0000\u0000&\u008c\u0001"+
+		"\u0000\u0000\u0000(\u0093\u0001\u0000\u0000\u0000*\u0096\u0001\u0000\u0000"+
+		"\u0000,\u0098\u0001\u0000\u0000\u0000.\u009b\u0001\u0000\u0000\u00000"+
+		"\u009e\u0001\u0000\u0000\u00002\u00a0\u0001\u0000\u0000\u000045\u0003"+
+		"\u0002\u0001\u000057\u00032\u0019\u000068\u0003(\u0014\u000076\u0001\u0000"+
+		"\u0000\u000078\u0001\u0000\u0000\u00008\u0001\u0001\u0000\u0000\u0000"+
+		"9;\u0003\u0004\u0002\u0000:9\u0001\u0000\u0000\u0000:;\u0001\u0000\u0000"+
+		"\u0000;=\u0001\u0000\u0000\u0000<>\u00032\u0019\u0000=<\u0001\u0000\u0000"+
+		"\u0000=>\u0001\u0000\u0000\u0000>?\u0001\u0000\u0000\u0000?@\u0003\n\u0005"+
+		"\u0000@A\u00032\u0019\u0000AB\u0003\b\u0004\u0000B\u0003\u0001\u0000\u0000"+
+		"\u0000CD\u0005\u0001\u0000\u0000DE\u0003\u0006\u0003\u0000EF\u0005\u0002"+
+		"\u0000\u0000F\u0005\u0001\u0000\u0000\u0000GH\u0005\u0007\u0000\u0000"+
+		"HI\u0004\u0003\u0000\u0001I\u0007\u0001\u0000\u0000\u0000JL\u0005\f\u0000"+
+		"\u0000KJ\u0001\u0000\u0000\u0000KL\u0001\u0000\u0000\u0000L\t\u0001\u0000"+
+		"\u0000\u0000MN\u0003\u0010\b\u0000NO\u0005\u0005\u0000\u0000OP\u0003\u0018"+
+		"\f\u0000PW\u0001\u0000\u0000\u0000QR\u0003\f\u0006\u0000RS\u0003\u000e"+
+		"\u0007\u0000ST\u00032\u0019\u0000TU\u0003\u001a\r\u0000UW\u0001\u0000"+
+		"\u0000\u0000VM\u0001\u0000\u0000\u0000VQ\u0001\u0000\u0000\u0000W\u000b"+
+		"\u0001\u0000\u0000\u0000XY\u0005\u0006\u0000\u0000Y\r\u0001\u0000\u0000"+
+		"\u0000Z\\\u00032\u0019\u0000[]\u00032\u0019\u0000\\[\u0001\u0000\u0000"+
+		"\u0000\\]\u0001\u0000\u0000\u0000]^\u0001\u0000\u0000\u0000^_\u0005\u0007"+
+		"\u0000\u0000_`\u0004\u0007\u0001\u0001`\u000f\u0001\u0000\u0000\u0000"+
+		"ab\u0003\u0012\t\u0000bc\u0005\u0004\u0000\u0000cd\u0003\u0014\n\u0000"+
+		"de\u0005\u0004\u0000\u0000ef\u0003\u0016\u000b\u0000f\u0011\u0001\u0000"+
+		"\u0000\u0000gh\u0005\u0007\u0000\u0000hi\u0004\t\u0002\u0001i\u0013\u0001"+
+		"\u0000\u0000\u0000jk\u0005\u0007\u0000\u0000kl\u0004\n\u0003\u0001l\u0015"+
+		"\u0001\u0000\u0000\u0000mn\u0005\u0007\u0000\u0000no\u0004\u000b\u0004"+
+		"\u0001o\u0017\u0001\u0000\u0000\u0000pq\u0003\u001a\r\u0000qr\u0003$\u0012"+
+		"\u0000r\u0019\u0001\u0000\u0000\u0000st\u0003\u001c\u000e\u0000tu\u0005"+
+		"\b\u0000\u0000uv\u0003\u001e\u000f\u0000vw\u0005\b\u0000\u0000wy\u0003"+
+		" \u0010\u0000xz\u0003\"\u0011\u0000yx\u0001\u0000\u0000\u0000yz\u0001"+
+		"\u0000\u0000\u0000z\u001b\u0001\u0000\u0000\u0000{|\u0005\u0007\u0000"+
+		"\u0000|}\u0004\u000e\u0005\u0001}\u001d\u0001\u0000\u0000\u0000~\u007f"+
+		"\u0005\u0007\u0000\u0000\u007f\u0080\u0004\u000f\u0006\u0001\u0080\u001f"+
+		"\u0001\u0000\u0000\u0000\u0081\u0082\u0005\u0007\u0000\u0000\u0082\u0083"+
+		"\u0004\u0010\u0007\u0001\u0083!\u0001\u0000\u0000\u0000\u0084\u0085\u0005"+
+		"\t\u0000\u0000\u0085\u0086\u0005\u0007\u0000\u0000\u0086\u0087\u0004\u0011"+
+		"\b\u0001\u0087#\u0001\u0000\u0000\u0000\u0088\u008b\u0005\u000b\u0000"+
+		"\u0000\u0089\u008b\u0003&\u0013\u0000\u008a\u0088\u0001\u0000\u0000\u0000"+
+		"\u008a\u0089\u0001\u0000\u0000\u0000\u008b%\u0001\u0000\u0000\u0000\u008c"+
+		"\u008d\u0007\u0000\u0000\u0000\u008d\u008e\u0003\u001c\u000e\u0000\u008e"+
+		"\u008f\u0005\b\u0000\u0000\u008f\u0090\u0003\u001e\u000f\u0000\u0090\'"+
+		"\u0001\u0000\u0000\u0000\u0091\u0094\u0003*\u0015\u0000\u0092\u0094\u0003"+
+		",\u0016\u0000\u0093\u0091\u0001\u0000\u0000\u0000\u0093\u0092\u0001\u0000"+
+		"\u0000\u0000\u0094)\u0001\u0000\u0000\u0000\u0095\u0097\u0005\u000e\u0000"+
+		"\u0000\u0096\u0095\u0001\u0000\u0000\u0000\u0096\u0097\u0001\u0000\u0000"+
+		"\u0000\u0097+\u0001\u0000\u0000\u0000\u0098\u0099\u0003.\u0017\u0000\u0099"+
+		"\u009a\u00030\u0018\u0000\u009a-\u0001\u0000\u0000\u0000\u009b\u009c\u0005"+
+		"\r\u0000\u0000\u009c/\u0001\u0000\u0000\u0000\u009d\u009f\u0005\u000e"+
+		"\u0000\u0000\u009e\u009d\u0001\u0000\u0000\u0000\u009e\u009f\u0001\u0000"+
+		"\u0000\u0000\u009f1\u0001\u0000\u0000\u0000\u00a0\u00a1\u0005\u0003\u0000"+
+		"\u0000\u00a13\u0001\u0000\u0000\u0000\u000b7:=KV\\y\u008a\u0093\u0096"+
+		"\u009e";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
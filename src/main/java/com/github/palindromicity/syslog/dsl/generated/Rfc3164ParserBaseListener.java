@@ -1,4 +1,4 @@
-// Generated from com/github/palindromicity/syslog/dsl/generated/Rfc3164.g4 by ANTLR 4.13.2
+// Generated from com/github/palindromicity/syslog/dsl/generated/Rfc3164Parser.g4 by ANTLR 4.13.2
 package com.github.palindromicity.syslog.dsl.generated;
 
 //CHECKSTYLE:OFF
@@ -25,12 +25,12 @@ import org.antlr.v4.runtime.tree.ErrorNode;
 import org.antlr.v4.runtime.tree.TerminalNode;
 
 /**
- * This class provides an empty implementation of {@link Rfc3164Listener},
+ * This class provides an empty implementation of {@link Rfc3164ParserListener},
  * which can be extended to create a listener which only needs to handle a subset
  * of the available methods.
  */
 @SuppressWarnings("CheckReturnValue")
-public class Rfc3164BaseListener implements Rfc3164Listener {
+public class Rfc3164ParserBaseListener implements Rfc3164ParserListener {
 	/**
 	 * {@inheritDoc}
 	 *
@@ -355,18 +355,6 @@ public class Rfc3164BaseListener implements Rfc3164Listener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitUtf_8_string(Rfc3164Parser.Utf_8_stringContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterOctet(Rfc3164Parser.OctetContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitOctet(Rfc3164Parser.OctetContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -379,90 +367,6 @@ public class Rfc3164BaseListener implements Rfc3164Listener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitSp(Rfc3164Parser.SpContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterPrintusascii(Rfc3164Parser.PrintusasciiContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitPrintusascii(Rfc3164Parser.PrintusasciiContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterPrintusasciinospecials(Rfc3164Parser.PrintusasciinospecialsContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitPrintusasciinospecials(Rfc3164Parser.PrintusasciinospecialsContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterNonzero_digit(Rfc3164Parser.Nonzero_digitContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitNonzero_digit(Rfc3164Parser.Nonzero_digitContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterZeroDigit(Rfc3164Parser.ZeroDigitContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitZeroDigit(Rfc3164Parser.ZeroDigitContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterNonZeroDigit(Rfc3164Parser.NonZeroDigitContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitNonZeroDigit(Rfc3164Parser.NonZeroDigitContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterCapital(Rfc3164Parser.CapitalContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitCapital(Rfc3164Parser.CapitalContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void enterLower(Rfc3164Parser.LowerContext ctx) { }
-	/**
-	 * {@inheritDoc}
-	 *
-	 * <p>The default implementation does nothing.</p>
-	 */
-	@Override public void exitLower(Rfc3164Parser.LowerContext ctx) { }
 
 	/**
 	 * {@inheritDoc}
@@ -1,4 +1,4 @@
-// Generated from com/github/palindromicity/syslog/dsl/generated/Rfc3164.g4 by ANTLR 4.13.2
+// Generated from com/github/palindromicity/syslog/dsl/generated/Rfc3164Parser.g4 by ANTLR 4.13.2
 package com.github.palindromicity.syslog.dsl.generated;
 
 //CHECKSTYLE:OFF
@@ -25,7 +25,7 @@ import org.antlr.v4.runtime.tree.ParseTreeListener;
  * This interface defines a complete listener for a parse tree produced by
  * {@link Rfc3164Parser}.
  */
-public interface Rfc3164Listener extends ParseTreeListener {
+public interface Rfc3164ParserListener extends ParseTreeListener {
 	/**
 	 * Enter a parse tree produced by the {@code syslogMsg}
 	 * labeled alternative in {@link Rfc3164Parser#syslog_msg}.
@@ -314,16 +314,6 @@ public interface Rfc3164Listener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitUtf_8_string(Rfc3164Parser.Utf_8_stringContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link Rfc3164Parser#octet}.
-	 * @param ctx the parse tree
-	 */
-	void enterOctet(Rfc3164Parser.OctetContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link Rfc3164Parser#octet}.
-	 * @param ctx the parse tree
-	 */
-	void exitOctet(Rfc3164Parser.OctetContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link Rfc3164Parser#sp}.
 	 * @param ctx the parse tree
@@ -334,78 +324,4 @@ public interface Rfc3164Listener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitSp(Rfc3164Parser.SpContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link Rfc3164Parser#printusascii}.
-	 * @param ctx the parse tree
-	 */
-	void enterPrintusascii(Rfc3164Parser.PrintusasciiContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link Rfc3164Parser#printusascii}.
-	 * @param ctx the parse tree
-	 */
-	void exitPrintusascii(Rfc3164Parser.PrintusasciiContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link Rfc3164Parser#printusasciinospecials}.
-	 * @param ctx the parse tree
-	 */
-	void enterPrintusasciinospecials(Rfc3164Parser.PrintusasciinospecialsContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link Rfc3164Parser#printusasciinospecials}.
-	 * @param ctx the parse tree
-	 */
-	void exitPrintusasciinospecials(Rfc3164Parser.PrintusasciinospecialsContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link Rfc3164Parser#nonzero_digit}.
-	 * @param ctx the parse tree
-	 */
-	void enterNonzero_digit(Rfc3164Parser.Nonzero_digitContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link Rfc3164Parser#nonzero_digit}.
-	 * @param ctx the parse tree
-	 */
-	void exitNonzero_digit(Rfc3164Parser.Nonzero_digitContext ctx);
-	/**
-	 * Enter a parse tree produced by the {@code zeroDigit}
-	 * labeled alternative in {@link Rfc3164Parser#digit}.
-	 * @param ctx the parse tree
-	 */
-	void enterZeroDigit(Rfc3164Parser.ZeroDigitContext ctx);
-	/**
-	 * Exit a parse tree produced by the {@code zeroDigit}
-	 * labeled alternative in {@link Rfc3164Parser#digit}.
-	 * @param ctx the parse tree
-	 */
-	void exitZeroDigit(Rfc3164Parser.ZeroDigitContext ctx);
-	/**
-	 * Enter a parse tree produced by the {@code nonZeroDigit}
-	 * labeled alternative in {@link Rfc3164Parser#digit}.
-	 * @param ctx the parse tree
-	 */
-	void enterNonZeroDigit(Rfc3164Parser.NonZeroDigitContext ctx);
-	/**
-	 * Exit a parse tree produced by the {@code nonZeroDigit}
-	 * labeled alternative in {@link Rfc3164Parser#digit}.
-	 * @param ctx the parse tree
-	 */
-	void exitNonZeroDigit(Rfc3164Parser.NonZeroDigitContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link Rfc3164Parser#capital}.
-	 * @param ctx the parse tree
-	 */
-	void enterCapital(Rfc3164Parser.CapitalContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link Rfc3164Parser#capital}.
-	 * @param ctx the parse tree
-	 */
-	void exitCapital(Rfc3164Parser.CapitalContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link Rfc3164Parser#lower}.
-	 * @param ctx the parse tree
-	 */
-	void enterLower(Rfc3164Parser.LowerContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link Rfc3164Parser#lower}.
-	 * @param ctx the parse tree
-	 */
-	void exitLower(Rfc3164Parser.LowerContext ctx);
 }
\ No newline at end of file
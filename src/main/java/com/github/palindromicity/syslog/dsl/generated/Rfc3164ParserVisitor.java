@@ -1,4 +1,4 @@
-// Generated from com/github/palindromicity/syslog/dsl/generated/Rfc3164.g4 by ANTLR 4.13.2
+// Generated from com/github/palindromicity/syslog/dsl/generated/Rfc3164Parser.g4 by ANTLR 4.13.2
 package com.github.palindromicity.syslog.dsl.generated;
 
 //CHECKSTYLE:OFF
@@ -28,7 +28,7 @@ import org.antlr.v4.runtime.tree.ParseTreeVisitor;
  * @param <T> The return type of the visit operation. Use {@link Void} for
  * operations with no return type.
  */
-public interface Rfc3164Visitor<T> extends ParseTreeVisitor<T> {
+public interface Rfc3164ParserVisitor<T> extends ParseTreeVisitor<T> {
 	/**
 	 * Visit a parse tree produced by the {@code syslogMsg}
 	 * labeled alternative in {@link Rfc3164Parser#syslog_msg}.
@@ -200,60 +200,10 @@ public interface Rfc3164Visitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitUtf_8_string(Rfc3164Parser.Utf_8_stringContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link Rfc3164Parser#octet}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitOctet(Rfc3164Parser.OctetContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link Rfc3164Parser#sp}.
 	 * @param ctx the parse tree
 	 * @return the visitor result
 	 */
 	T visitSp(Rfc3164Parser.SpContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link Rfc3164Parser#printusascii}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitPrintusascii(Rfc3164Parser.PrintusasciiContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link Rfc3164Parser#printusasciinospecials}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitPrintusasciinospecials(Rfc3164Parser.PrintusasciinospecialsContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link Rfc3164Parser#nonzero_digit}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitNonzero_digit(Rfc3164Parser.Nonzero_digitContext ctx);
-	/**
-	 * Visit a parse tree produced by the {@code zeroDigit}
-	 * labeled alternative in {@link Rfc3164Parser#digit}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitZeroDigit(Rfc3164Parser.ZeroDigitContext ctx);
-	/**
-	 * Visit a parse tree produced by the {@code nonZeroDigit}
-	 * labeled alternative in {@link Rfc3164Parser#digit}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitNonZeroDigit(Rfc3164Parser.NonZeroDigitContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link Rfc3164Parser#capital}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitCapital(Rfc3164Parser.CapitalContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link Rfc3164Parser#lower}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitLower(Rfc3164Parser.LowerContext ctx);
 }
\ No newline at end of file
@@ -31,4 +31,48 @@ public class Validate {
     }
   }
 
+  /**
+   * Validate that a {@code CharSequence} is not {@code Null}, empty or only whitespace.
+   *
+   * @param chars The CharSequence to validate
+   * @param name the name to use in the thrown exception
+   * @throws IllegalArgumentException if chars is null, empty or only whitespace
+   */
+  public static void notBlank(CharSequence chars, String name) {
+    if (chars == null || isBlank(chars)) {
+      throw new IllegalArgumentException(String.format("%s cannot be null", name));
+    }
+  }
+
+  /**
+   * Whether a {@code CharSequence} is empty or only whitespace.
+   *
+   * @param chars The CharSequence to check
+   * @return true if chars is empty or only whitespace
+   */
+  public static boolean isBlank(CharSequence chars) {
+    for (int i = 0; i < chars.length(); i++) {
+      if (chars.charAt(i) > ' ') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Validate that {@code offset} and {@code length} describe a range within an array.
+   *
+   * @param arrayLength the length of the array
+   * @param offset the offset of the range
+   * @param length the length of the range
+   * @param name the name to use in the thrown exception
+   * @throws IllegalArgumentException if the range is not within the array
+   */
+  public static void validRange(int arrayLength, int offset, int length, String name) {
+    if (offset < 0 || length < 0 || offset > arrayLength - length) {
+      throw new IllegalArgumentException(String.format("%s offset %d and length %d are out of bounds for length %d",
+          name, offset, length, arrayLength));
+    }
+  }
+
 }
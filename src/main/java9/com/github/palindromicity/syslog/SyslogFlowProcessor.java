@@ -0,0 +1,377 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import com.github.palindromicity.syslog.util.Validate;
+
+/**
+ * A {@link Flow.Processor} that parses lines of syslog with a {@link SyslogParser}.
+ * <p>
+ * Lines are only requested from the upstream {@link Flow.Publisher} when the downstream
+ * {@link Flow.Subscriber} has demand for them, so a slow subscriber slows the publisher down rather than
+ * lines being buffered.  Lines are requested in batches of up to {@code batchSize}, and more are requested
+ * once half of a batch has been received.  Each line is parsed on the thread that delivers it, and the
+ * processor holds no lines of its own.
+ * </p>
+ * <p>
+ * A line that cannot be parsed is passed to the error consumer, as with
+ * {@link SyslogParser#parseLines(java.io.Reader, java.util.function.Consumer, BiConsumer)}, and does not
+ * use any of the downstream demand.  Errors of the upstream publisher are passed downstream.
+ * </p>
+ * <p>
+ * A processor has at most one subscriber.  Signals to the subscriber are never concurrent: an invalid
+ * request made while a line is being delivered fails the subscriber once the delivery returns.
+ * </p>
+ * <p>
+ * This class needs Java 9 or later, and is in the jar of the {@code flow} classifier rather than the main jar.
+ * </p>
+ *
+ * @param <T> the type of the parsed lines
+ */
+public final class SyslogFlowProcessor<T> implements Flow.Processor<CharSequence, T> {
+
+  /**
+   * The default number of lines requested from the upstream publisher at once.
+   */
+  public static final int DEFAULT_BATCH_SIZE = 256;
+
+  private final Function<CharSequence, ParseResult<T>> lineParser;
+  private final BiConsumer<String, Throwable> errorConsumer;
+  private final int batchSize;
+
+  // guarded by this
+  private Flow.Subscription upstream;
+  private boolean subscriberClaimed;
+  private Flow.Subscriber<? super T> downstream;
+  private long demand;
+  private long outstanding;
+  private boolean cancelled;
+  private boolean done;
+  private Throwable error;
+  private boolean emitting;
+  private Throwable pendingError;
+
+  /**
+   * Create a new {@code SyslogFlowProcessor}.
+   *
+   * @param lineParser parses a line
+   * @param errorConsumer the {@code Consumer} for lines and their errors
+   * @param batchSize the number of lines requested from the upstream publisher at once
+   */
+  SyslogFlowProcessor(Function<CharSequence, ParseResult<T>> lineParser, BiConsumer<String, Throwable> errorConsumer,
+      int batchSize) {
+    Validate.notNull(errorConsumer, "errorConsumer");
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("batchSize must be at least 1");
+    }
+    this.lineParser = lineParser;
+    this.errorConsumer = errorConsumer;
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Creates a {@code SyslogFlowProcessor} that parses lines to {@code Map}, as
+   * {@link SyslogParser#tryParseLine(String)}.
+   *
+   * @param parser the {@link SyslogParser}
+   * @param errorConsumer the {@code Consumer} for lines and their errors
+   * @return {@code SyslogFlowProcessor}
+   * @throws IllegalArgumentException if parser or errorConsumer are null
+   */
+  public static SyslogFlowProcessor<Map<String, Object>> forMaps(SyslogParser parser,
+      BiConsumer<String, Throwable> errorConsumer) {
+    return forMaps(parser, errorConsumer, DEFAULT_BATCH_SIZE);
+  }
+
+  /**
+   * Creates a {@code SyslogFlowProcessor} that parses lines to {@code Map}, as
+   * {@link SyslogParser#tryParseLine(String)}.
+   *
+   * @param parser the {@link SyslogParser}
+   * @param errorConsumer the {@code Consumer} for lines and their errors
+   * @param batchSize the number of lines requested from the upstream publisher at once
+   * @return {@code SyslogFlowProcessor}
+   * @throws IllegalArgumentException if parser or errorConsumer are null, or batchSize is less than 1
+   */
+  public static SyslogFlowProcessor<Map<String, Object>> forMaps(SyslogParser parser,
+      BiConsumer<String, Throwable> errorConsumer, int batchSize) {
+    Validate.notNull(parser, "parser");
+    return new SyslogFlowProcessor<>((line) -> parser.tryParseLine(line.toString()), errorConsumer, batchSize);
+  }
+
+  /**
+   * Creates a {@code SyslogFlowProcessor} that parses lines to {@link SyslogMessage}, as
+   * {@link SyslogParser#tryParse(CharSequence)}.
+   *
+   * @param parser the {@link SyslogParser}
+   * @param errorConsumer the {@code Consumer} for lines and their errors
+   * @return {@code SyslogFlowProcessor}
+   * @throws IllegalArgumentException if parser or errorConsumer are null
+   */
+  public static SyslogFlowProcessor<SyslogMessage> forMessages(SyslogParser parser,
+      BiConsumer<String, Throwable> errorConsumer) {
+    return forMessages(parser, errorConsumer, DEFAULT_BATCH_SIZE);
+  }
+
+  /**
+   * Creates a {@code SyslogFlowProcessor} that parses lines to {@link SyslogMessage}, as
+   * {@link SyslogParser#tryParse(CharSequence)}.
+   *
+   * @param parser the {@link SyslogParser}
+   * @param errorConsumer the {@code Consumer} for lines and their errors
+   * @param batchSize the number of lines requested from the upstream publisher at once
+   * @return {@code SyslogFlowProcessor}
+   * @throws IllegalArgumentException if parser or errorConsumer are null, or batchSize is less than 1
+   */
+  public static SyslogFlowProcessor<SyslogMessage> forMessages(SyslogParser parser,
+      BiConsumer<String, Throwable> errorConsumer, int batchSize) {
+    Validate.notNull(parser, "parser");
+    return new SyslogFlowProcessor<>(parser::tryParse, errorConsumer, batchSize);
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super T> subscriber) {
+    Objects.requireNonNull(subscriber, "subscriber");
+    boolean rejected;
+    synchronized (this) {
+      rejected = subscriberClaimed;
+      subscriberClaimed = true;
+    }
+    if (rejected) {
+      subscriber.onSubscribe(new RejectedSubscription());
+      subscriber.onError(new IllegalStateException("SyslogFlowProcessor already has a subscriber"));
+      return;
+    }
+    subscriber.onSubscribe(new DownstreamSubscription(subscriber));
+    boolean terminated;
+    Throwable terminalError;
+    synchronized (this) {
+      downstream = subscriber;
+      terminated = done && !cancelled;
+      terminalError = error;
+    }
+    if (terminated) {
+      signalTerminal(subscriber, terminalError);
+    } else {
+      requestUpstream();
+    }
+  }
+
+  @Override
+  public void onSubscribe(Flow.Subscription subscription) {
+    Objects.requireNonNull(subscription, "subscription");
+    boolean rejected;
+    synchronized (this) {
+      rejected = upstream != null || cancelled;
+      if (upstream == null) {
+        upstream = subscription;
+      }
+    }
+    if (rejected) {
+      subscription.cancel();
+    } else {
+      requestUpstream();
+    }
+  }
+
+  @Override
+  public void onNext(CharSequence line) {
+    Objects.requireNonNull(line, "line");
+    Flow.Subscriber<? super T> subscriber;
+    synchronized (this) {
+      if (cancelled || done) {
+        return;
+      }
+      outstanding--;
+      // reserve the demand for the line, and give it back if the line is not parsed
+      if (demand != Long.MAX_VALUE) {
+        demand--;
+      }
+      subscriber = downstream;
+      emitting = true;
+    }
+    try {
+      emit(subscriber, line);
+    } finally {
+      Throwable throwable;
+      synchronized (this) {
+        emitting = false;
+        throwable = pendingError;
+        pendingError = null;
+      }
+      if (throwable != null) {
+        subscriber.onError(throwable);
+      }
+    }
+    requestUpstream();
+  }
+
+  private void emit(Flow.Subscriber<? super T> subscriber, CharSequence line) {
+    ParseResult<T> result;
+    try {
+      result = lineParser.apply(line);
+    } catch (Throwable throwable) {
+      result = null;
+      failed(line, throwable);
+    }
+    if (result != null) {
+      if (result.isSuccess()) {
+        subscriber.onNext(result.getValue());
+      } else {
+        failed(line, result.toException());
+      }
+    }
+  }
+
+  @Override
+  public void onError(Throwable throwable) {
+    Objects.requireNonNull(throwable, "throwable");
+    terminate(throwable);
+  }
+
+  @Override
+  public void onComplete() {
+    terminate(null);
+  }
+
+  private void failed(CharSequence line, Throwable throwable) {
+    synchronized (this) {
+      if (demand != Long.MAX_VALUE) {
+        demand++;
+      }
+    }
+    errorConsumer.accept(line.toString(), throwable);
+  }
+
+  /**
+   * Requests lines from the upstream publisher, so that lines requested and not yet received never exceed
+   * the downstream demand.  Nothing is requested while more than half of a batch is outstanding.
+   */
+  private void requestUpstream() {
+    Flow.Subscription subscription;
+    long count;
+    synchronized (this) {
+      if (upstream == null || downstream == null || cancelled || done || outstanding > batchSize / 2) {
+        return;
+      }
+      count = Math.min(demand, batchSize) - outstanding;
+      if (count <= 0) {
+        return;
+      }
+      outstanding += count;
+      subscription = upstream;
+    }
+    subscription.request(count);
+  }
+
+  private void terminate(Throwable throwable) {
+    Flow.Subscriber<? super T> subscriber;
+    synchronized (this) {
+      if (done) {
+        return;
+      }
+      done = true;
+      error = throwable;
+      subscriber = cancelled ? null : downstream;
+    }
+    if (subscriber != null) {
+      signalTerminal(subscriber, throwable);
+    }
+  }
+
+  private static void signalTerminal(Flow.Subscriber<?> subscriber, Throwable throwable) {
+    if (throwable == null) {
+      subscriber.onComplete();
+    } else {
+      subscriber.onError(throwable);
+    }
+  }
+
+  private void cancelUpstream() {
+    Flow.Subscription subscription;
+    synchronized (this) {
+      cancelled = true;
+      subscription = upstream;
+    }
+    if (subscription != null) {
+      subscription.cancel();
+    }
+  }
+
+  /**
+   * The {@link Flow.Subscription} of the downstream subscriber.
+   */
+  private final class DownstreamSubscription implements Flow.Subscription {
+
+    private final Flow.Subscriber<? super T> subscriber;
+
+    DownstreamSubscription(Flow.Subscriber<? super T> subscriber) {
+      this.subscriber = subscriber;
+    }
+
+    @Override
+    public void request(long count) {
+      if (count <= 0) {
+        IllegalArgumentException invalid = new IllegalArgumentException("request must be positive, was " + count);
+        boolean signal;
+        synchronized (SyslogFlowProcessor.this) {
+          signal = !done && !cancelled;
+          done = true;
+          if (signal && emitting) {
+            // delivered by the thread in onNext once the subscriber returns
+            pendingError = invalid;
+            signal = false;
+          }
+        }
+        cancelUpstream();
+        if (signal) {
+          subscriber.onError(invalid);
+        }
+        return;
+      }
+      synchronized (SyslogFlowProcessor.this) {
+        demand = demand + count < 0 ? Long.MAX_VALUE : demand + count;
+      }
+      requestUpstream();
+    }
+
+    @Override
+    public void cancel() {
+      cancelUpstream();
+    }
+  }
+
+  /**
+   * The {@link Flow.Subscription} given to a subscriber that is rejected.
+   */
+  private static final class RejectedSubscription implements Flow.Subscription {
+
+    @Override
+    public void request(long count) {
+    }
+
+    @Override
+    public void cancel() {
+    }
+  }
+}
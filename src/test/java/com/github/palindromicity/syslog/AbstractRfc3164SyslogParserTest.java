@@ -20,15 +20,28 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileReader;
 import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import org.apache.commons.io.IOUtils;
 
 public abstract class AbstractRfc3164SyslogParserTest {
 
+  protected static final List<String> SAMPLE_FILES = Arrays.asList(
+      "src/test/resources/logs/3164/many_ise.txt",
+      "src/test/resources/logs/3164/many_ise_deviations.txt",
+      "src/test/resources/logs/3164/many_with_errors.txt",
+      "src/test/resources/logs/3164/single_ise.txt",
+      "src/test/resources/logs/3164/single_ise_deviation.txt",
+      "src/test/resources/logs/3164/single_ise_old_date.txt",
+      "src/test/resources/logs/3164/two_ise_mix_date.txt");
+
   protected static List<Map<String, Object>> handleFile(String fileName, SyslogParser parser) throws Exception {
     try (Reader reader = new BufferedReader(new FileReader(new File(fileName)))) {
       return parser.parseLines(reader);
@@ -59,6 +72,19 @@ public abstract class AbstractRfc3164SyslogParserTest {
     parser.parseLine(line, consumer);
   }
 
+  protected static List<String> readLines(String fileName) throws Exception {
+    try (BufferedReader reader = new BufferedReader(new FileReader(new File(fileName)))) {
+      return reader.lines().collect(Collectors.toList());
+    }
+  }
+
+  protected static List<String> sorted(Iterable<Object> values) {
+    List<String> sorted = new ArrayList<>();
+    values.forEach((value) -> sorted.add(value.toString()));
+    Collections.sort(sorted);
+    return sorted;
+  }
+
   protected static String readFileToString(String fileName) throws Exception {
     try (Reader reader = new BufferedReader(new FileReader(new File(fileName)))) {
       return IOUtils.toString(reader);
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import com.github.palindromicity.syslog.dsl.ParseException;
+import com.github.palindromicity.syslog.dsl.SyslogFieldKeys;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AntlrLineParserTest extends AbstractRfc3164SyslogParserTest {
+
+  private static final List<String> MALFORMED_LINES = Arrays.asList(
+      "<181>Aug   6 17:26:31 host msg",
+      "<181>Aug 123 17:26:31 host msg",
+      "<181>2018-9-14T00:54:09Z host msg",
+      "<181>Aug  6 17:26:31 host Ā",
+      "<181Aug  6 17:26:31 host msg",
+      "localhost some body of the message");
+
+  @Test
+  public void testTwoStageMatchesLlForFiles() throws Exception {
+    for (String fileName : SAMPLE_FILES) {
+      assertSameResults(readLines(fileName));
+    }
+  }
+
+  @Test
+  public void testMalformedLinesThrowParseException() throws Exception {
+    for (boolean twoStage : new boolean[] {true, false}) {
+      AntlrLineParser parser = new AntlrLineParser(twoStage, false);
+      for (String line : MALFORMED_LINES) {
+        try {
+          parse(parser, line);
+          Assert.fail(line);
+        } catch (ParseException e) {
+          // expected
+        }
+      }
+      // the parser is still usable after an error
+      Assert.assertNotNull(parse(parser, readFileToString("src/test/resources/logs/3164/single_ise.txt")));
+    }
+  }
+
+  @Test
+  public void testMessageIsTrimmedSlice() throws Exception {
+    AntlrLineParser parser = new AntlrLineParser(true, false);
+    Assert.assertEquals("msg  body", parse(parser, "<181>Aug  6 17:26:31 host \t msg  body \r\n")
+        .get(SyslogFieldKeys.MESSAGE.getField()));
+    Assert.assertEquals("", parse(parser, "<181>Aug  6 17:26:31 host ").get(SyslogFieldKeys.MESSAGE.getField()));
+    Assert.assertEquals("", parse(parser, "<181>Aug  6 17:26:31 host  \t ").get(SyslogFieldKeys.MESSAGE.getField()));
+    Assert.assertEquals("ïmsg", parse(parser, "<181>Aug  6 17:26:31 host ïmsg ")
+        .get(SyslogFieldKeys.MESSAGE.getField()));
+  }
+
+  private static void assertSameResults(List<String> lines) {
+    AntlrLineParser twoStage = new AntlrLineParser(true, false);
+    AntlrLineParser llOnly = new AntlrLineParser(false, false);
+    for (String line : lines) {
+      Assert.assertEquals(line, parseOrError(twoStage, line), parseOrError(llOnly, line));
+    }
+  }
+
+  private static Map<String, Object> parse(AntlrLineParser parser, String line) {
+    MutableSyslogMessage target = new MutableSyslogMessage();
+    target.reset(line);
+    ParseResult<?> failure = parser.parse(line, target);
+    if (failure != null) {
+      throw failure.toException();
+    }
+    return target.toMap(new KeySchema(new DefaultKeyProvider(), EnumSet.allOf(SyslogFieldKeys.class)), false, false);
+  }
+
+  private static Object parseOrError(AntlrLineParser parser, String line) {
+    try {
+      return parse(parser, line);
+    } catch (Exception e) {
+      return e.getClass();
+    }
+  }
+}
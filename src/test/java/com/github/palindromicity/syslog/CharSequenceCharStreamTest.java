@@ -0,0 +1,54 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.misc.Interval;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CharSequenceCharStreamTest {
+
+  @Test
+  public void testLookAheadAndConsume() {
+    CharSequenceCharStream stream = new CharSequenceCharStream(new StringBuilder("ab"));
+    Assert.assertEquals('a', stream.LA(1));
+    Assert.assertEquals('b', stream.LA(2));
+    Assert.assertEquals(IntStream.EOF, stream.LA(-1));
+    stream.consume();
+    Assert.assertEquals(1, stream.index());
+    Assert.assertEquals('a', stream.LA(-1));
+    stream.consume();
+    Assert.assertEquals(IntStream.EOF, stream.LA(1));
+    stream.seek(0);
+    Assert.assertEquals('a', stream.LA(1));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testConsumeEof() {
+    new CharSequenceCharStream("").consume();
+  }
+
+  @Test
+  public void testText() {
+    CharSequenceCharStream stream = new CharSequenceCharStream("<181>host");
+    Assert.assertEquals(9, stream.size());
+    Assert.assertEquals("181", stream.getText(Interval.of(1, 3)));
+    Assert.assertEquals("", stream.getText(Interval.of(9, 8)));
+    Assert.assertEquals("host", stream.subSequence(5, 9).toString());
+  }
+}
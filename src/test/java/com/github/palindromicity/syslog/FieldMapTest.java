@@ -0,0 +1,180 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import java.lang.ref.WeakReference;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import com.github.palindromicity.syslog.dsl.SyslogFieldKeys;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FieldMapTest extends AbstractRfc3164SyslogParserTest {
+
+  private static final String LINE = "<181>Aug  6 17:26:31 host msg";
+
+  @Test
+  public void testMapContract() {
+    Map<String, Object> map = new SyslogParserBuilder().build().parseLine(LINE);
+    Map<String, Object> expected = new HashMap<>();
+    expected.put(SyslogFieldKeys.HEADER_PRI.getField(), "181");
+    expected.put(SyslogFieldKeys.HEADER_PRI_SEVERITY.getField(), "5");
+    expected.put(SyslogFieldKeys.HEADER_PRI_FACILITY.getField(), "22");
+    expected.put(SyslogFieldKeys.HEADER_TIMESTAMP.getField(), "Aug  6 17:26:31");
+    expected.put(SyslogFieldKeys.HEADER_HOSTNAME.getField(), "host");
+    expected.put(SyslogFieldKeys.MESSAGE.getField(), "msg");
+    Assert.assertEquals(expected, map);
+    Assert.assertEquals(map, expected);
+    Assert.assertEquals(expected.hashCode(), map.hashCode());
+    Assert.assertEquals(6, map.size());
+    Assert.assertEquals(expected.keySet(), map.keySet());
+    // keys that are equal but not the same instance
+    Assert.assertEquals("host", map.get(new String(SyslogFieldKeys.HEADER_HOSTNAME.getField())));
+    Assert.assertTrue(map.containsKey(new String(SyslogFieldKeys.MESSAGE.getField())));
+    Assert.assertTrue(map.containsValue("22"));
+    Assert.assertNull(map.get("missing"));
+    Assert.assertNull(map.get(null));
+    Assert.assertFalse(map.containsKey(null));
+  }
+
+  @Test
+  public void testMissingPriority() {
+    Map<String, Object> map = new SyslogParserBuilder()
+        .withDeviations(EnumSet.of(AllowableDeviations.PRIORITY)).build().parseLine("Aug  6 17:26:31 host msg");
+    Assert.assertEquals(3, map.size());
+    Assert.assertFalse(map.containsKey(SyslogFieldKeys.HEADER_PRI.getField()));
+    Iterator<String> keys = map.keySet().iterator();
+    // in the order of the SyslogFieldKeys
+    Assert.assertEquals(SyslogFieldKeys.MESSAGE.getField(), keys.next());
+    Assert.assertEquals(SyslogFieldKeys.HEADER_HOSTNAME.getField(), keys.next());
+    Assert.assertEquals(SyslogFieldKeys.HEADER_TIMESTAMP.getField(), keys.next());
+    Assert.assertFalse(keys.hasNext());
+  }
+
+  @Test
+  public void testSharedKeyKeepsLastField() {
+    KeyProvider keyProvider = new DefaultKeyProvider() {
+      @Override
+      public String getHeaderHostName() {
+        return "shared";
+      }
+
+      @Override
+      public String getHeaderPriority() {
+        return "shared";
+      }
+    };
+    Map<String, Object> map = new SyslogParserBuilder().withKeyProvider(keyProvider).build().parseLine(LINE);
+    Assert.assertEquals(5, map.size());
+    Assert.assertEquals("host", map.get("shared"));
+  }
+
+  @Test
+  public void testUnmodifiable() {
+    Map<String, Object> map = new SyslogParserBuilder().build().parseLine(LINE);
+    String key = SyslogFieldKeys.MESSAGE.getField();
+    assertUnsupported(() -> map.put("key", "value"));
+    assertUnsupported(() -> map.remove(key));
+    assertUnsupported(map::clear);
+    assertUnsupported(() -> map.entrySet().iterator().next().setValue("value"));
+    assertUnsupported(() -> {
+      Iterator<String> keys = map.keySet().iterator();
+      keys.next();
+      keys.remove();
+    });
+    Assert.assertEquals(6, map.size());
+  }
+
+  @Test
+  public void testLazyMatchesEager() throws Exception {
+    for (ParserEngine engine : ParserEngine.values()) {
+      SyslogParser eager = new SyslogParserBuilder().withEngine(engine)
+          .withDeviations(EnumSet.of(AllowableDeviations.PRIORITY)).build();
+      SyslogParser lazy = new SyslogParserBuilder().withEngine(engine)
+          .withDeviations(EnumSet.of(AllowableDeviations.PRIORITY)).withLazyMaps(true).build();
+      for (String fileName : SAMPLE_FILES) {
+        for (String line : readLines(fileName)) {
+          Assert.assertEquals(line, parse(eager, line), parse(lazy, line));
+        }
+      }
+      Assert.assertEquals("01", lazy.parseLine("<01>Aug  6 17:26:31 host msg")
+          .get(SyslogFieldKeys.HEADER_PRI.getField()));
+    }
+  }
+
+  @Test
+  public void testLazyCreatesValueOnce() {
+    Map<String, Object> map = new SyslogParserBuilder().withLazyMaps(true).build().parseLine(LINE);
+    String key = SyslogFieldKeys.MESSAGE.getField();
+    Assert.assertEquals(6, map.size());
+    Assert.assertTrue(map.containsKey(key));
+    Object message = map.get(key);
+    Assert.assertEquals("msg", message);
+    Assert.assertSame(message, map.get(key));
+    Assert.assertSame(message, map.values().stream().filter("msg"::equals).findFirst().get());
+  }
+
+  @Test
+  public void testLazyFields() {
+    Map<String, Object> map = new SyslogParserBuilder().withLazyMaps(true)
+        .withFields(EnumSet.of(SyslogFieldKeys.HEADER_HOSTNAME)).build().parseLine(LINE);
+    Assert.assertEquals(1, map.size());
+    Assert.assertEquals("host", map.get(SyslogFieldKeys.HEADER_HOSTNAME.getField()));
+    Assert.assertNull(map.get(SyslogFieldKeys.MESSAGE.getField()));
+  }
+
+  @Test
+  public void testEagerDoesNotKeepLine() {
+    KeySchema schema = new KeySchema(new DefaultKeyProvider(), EnumSet.allOf(SyslogFieldKeys.class));
+    StringBuilder line = new StringBuilder(LINE);
+    FieldMap eager = new FieldMap(schema, line, false);
+    FieldMap lazy = new FieldMap(schema, line, true);
+    eager.setText(SyslogFieldKeys.HEADER_HOSTNAME, line, 21, 25);
+    lazy.setText(SyslogFieldKeys.HEADER_HOSTNAME, line, 21, 25);
+    line.replace(21, 25, "HOST");
+    Assert.assertEquals("host", eager.get(SyslogFieldKeys.HEADER_HOSTNAME.getField()));
+    Assert.assertEquals("HOST", lazy.get(SyslogFieldKeys.HEADER_HOSTNAME.getField()));
+    WeakReference<CharSequence> reference = new WeakReference<>(line);
+    line = null;
+    lazy = null;
+    for (int i = 0; i < 10 && reference.get() != null; i++) {
+      System.gc();
+    }
+    Assert.assertNull(reference.get());
+    Assert.assertEquals("host", eager.get(SyslogFieldKeys.HEADER_HOSTNAME.getField()));
+  }
+
+  private static Object parse(SyslogParser parser, String line) {
+    try {
+      return parser.parseLine(line);
+    } catch (Exception e) {
+      return e.getClass();
+    }
+  }
+
+  private static void assertUnsupported(Runnable runnable) {
+    try {
+      runnable.run();
+      Assert.fail();
+    } catch (UnsupportedOperationException e) {
+      // expected
+    }
+  }
+}
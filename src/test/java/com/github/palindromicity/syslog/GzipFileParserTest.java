@@ -0,0 +1,263 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import com.github.palindromicity.syslog.dsl.ParseException;
+import com.github.palindromicity.syslog.dsl.SyslogFieldKeys;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class GzipFileParserTest extends AbstractRfc3164SyslogParserTest {
+
+  private static final String LINE = "<181>Aug  6 17:26:31 host msg";
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void testParseFileMatchesParseLines() throws Exception {
+    for (SyslogParser parser : Arrays.asList(new SyslogParserBuilder().withParallelism(4).build(),
+        new SyslogParserBuilder().withLazyMaps(true).build())) {
+      for (String fileName : SAMPLE_FILES) {
+        List<Object> expected = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(fileName), StandardCharsets.ISO_8859_1)) {
+          parser.parseLines(reader, (map) -> expected.add(new ArrayList<>(map.values())),
+              (line, throwable) -> expected.add(line));
+        }
+        Path path = folder.newFile().toPath();
+        try (GZIPOutputStream out = new GZIPOutputStream(Files.newOutputStream(path))) {
+          out.write(Files.readAllBytes(Paths.get(fileName)));
+        }
+        ConcurrentLinkedQueue<Object> actual = new ConcurrentLinkedQueue<>();
+        parser.parseFile(path, (map) -> actual.add(new ArrayList<>(map.values())),
+            (line, throwable) -> actual.add(line));
+        Assert.assertEquals(fileName, sorted(expected), sorted(actual));
+      }
+    }
+  }
+
+  @Test
+  public void testMembersCutAnywhere() throws Exception {
+    List<Object> expected = new ArrayList<>(readLines("src/test/resources/logs/3164/many_ise.txt"));
+    byte[] content = Files.readAllBytes(Paths.get("src/test/resources/logs/3164/many_ise.txt"));
+    ByteArrayOutputStream file = new ByteArrayOutputStream();
+    Random random = new Random(3164);
+    for (int start = 0; start < content.length; ) {
+      int end = Math.min(content.length, start + 1 + random.nextInt(300));
+      file.write(member(Arrays.copyOfRange(content, start, end), Deflater.DEFAULT_COMPRESSION, 0));
+      start = end;
+    }
+    Path path = write(file.toByteArray());
+    for (int parallelism : new int[] {1, 3}) {
+      for (int bufferSize : new int[] {16, 100, 4096}) {
+        Assert.assertEquals(sorted(expected), sorted(parse(path, parallelism, bufferSize)));
+      }
+    }
+  }
+
+  @Test
+  public void testLineEndingsAcrossMembers() throws Exception {
+    String content = "one\r\ntwo\rthree\n\nfour\r\n\rfive";
+    List<Object> expected = new ArrayList<>();
+    new BufferedReader(new StringReader(content)).lines().forEach(expected::add);
+    byte[] bytes = content.getBytes(StandardCharsets.ISO_8859_1);
+    for (int cut = 1; cut < bytes.length; cut++) {
+      ByteArrayOutputStream file = new ByteArrayOutputStream();
+      file.write(member(Arrays.copyOfRange(bytes, 0, cut), Deflater.DEFAULT_COMPRESSION, 0));
+      file.write(member(Arrays.copyOfRange(bytes, cut, bytes.length), Deflater.DEFAULT_COMPRESSION, 0));
+      Path path = write(file.toByteArray());
+      // both headers are in the first buffer, so the members are inflated in parallel
+      Assert.assertEquals(sorted(expected), sorted(parse(path, 2, 64)));
+      Assert.assertEquals(sorted(expected), sorted(parse(path, 1, 16)));
+    }
+  }
+
+  @Test
+  public void testHeaderFields() throws Exception {
+    // FHCRC, FEXTRA, FNAME and FCOMMENT
+    Path path = write(concat(member((LINE + "1\n").getBytes(StandardCharsets.ISO_8859_1), Deflater.BEST_SPEED, 0x1e),
+        member((LINE + "2\n").getBytes(StandardCharsets.ISO_8859_1), Deflater.BEST_SPEED, 0x1e)));
+    Assert.assertEquals(Arrays.asList(LINE + "1", LINE + "2"), sorted(parse(path, 2, 1024)));
+  }
+
+  @Test
+  public void testHeaderInsideData() throws Exception {
+    // stored blocks keep the header bytes, followed by a byte that is not a valid deflate block
+    String lookAlike = new String(new char[] {0x1f, 0x8b, 8, 0, 0, 0, 0, 0, 0, 3, 7});
+    byte[] data = (LINE + lookAlike + "\n" + LINE + "\n").getBytes(StandardCharsets.ISO_8859_1);
+    Path path = write(concat(member(data, Deflater.NO_COMPRESSION, 0), member(data, Deflater.NO_COMPRESSION, 0)));
+    List<String> lines = sorted(parse(path, 2, 1024));
+    Assert.assertEquals(Arrays.asList(LINE, LINE, LINE + lookAlike, LINE + lookAlike), lines);
+  }
+
+  @Test
+  public void testMemberInsideDataIsNotParsed() throws Exception {
+    // a whole member kept by stored blocks inflates and checks, but is not chained from the start of the file
+    StringBuilder inner = new StringBuilder();
+    for (int i = 0; i < 10; i++) {
+      inner.append(LINE).append(i).append('\n');
+    }
+    ByteArrayOutputStream data = new ByteArrayOutputStream();
+    data.write((LINE + "\n").getBytes(StandardCharsets.ISO_8859_1));
+    data.write(member(inner.toString().getBytes(StandardCharsets.ISO_8859_1), Deflater.BEST_SPEED, 0));
+    data.write((LINE + "\n").getBytes(StandardCharsets.ISO_8859_1));
+    String content = new String(data.toByteArray(), StandardCharsets.ISO_8859_1) + LINE + "\n";
+    List<Object> expected = new ArrayList<>();
+    new BufferedReader(new StringReader(content)).lines().forEach(expected::add);
+    Path path = write(concat(member(data.toByteArray(), Deflater.NO_COMPRESSION, 0),
+        member((LINE + "\n").getBytes(StandardCharsets.ISO_8859_1), Deflater.BEST_SPEED, 0)));
+    for (int parallelism : new int[] {1, 2, 3}) {
+      Assert.assertEquals(sorted(expected), sorted(parse(path, parallelism, 64)));
+    }
+  }
+
+  @Test
+  public void testDataAfterLastMemberIsIgnored() throws Exception {
+    Path path = write(concat(member((LINE + "\n").getBytes(StandardCharsets.ISO_8859_1), Deflater.BEST_SPEED, 0),
+        member((LINE + "\n").getBytes(StandardCharsets.ISO_8859_1), Deflater.BEST_SPEED, 0), new byte[100]));
+    Assert.assertEquals(Arrays.asList(LINE, LINE), sorted(parse(path, 2, 1024)));
+  }
+
+  @Test
+  public void testCorruptMember() throws Exception {
+    byte[] first = member((LINE + "\n").getBytes(StandardCharsets.ISO_8859_1), Deflater.BEST_SPEED, 0);
+    byte[] second = member((LINE + "\n").getBytes(StandardCharsets.ISO_8859_1), Deflater.BEST_SPEED, 0);
+    // the CRC-32 of the second member
+    second[second.length - 8]++;
+    Path path = write(concat(first, second));
+    for (int parallelism : new int[] {1, 2}) {
+      try {
+        parse(path, parallelism, 1024);
+        Assert.fail();
+      } catch (IOException e) {
+        // expected
+      }
+    }
+  }
+
+  @Test
+  public void testFirstErrorIsThrown() throws Exception {
+    Path path = folder.newFile("errors.log.gz").toPath();
+    try (GZIPOutputStream out = new GZIPOutputStream(Files.newOutputStream(path))) {
+      out.write((LINE + "\n<181Aug  6 17:26:31 host msg\n" + LINE + "\n").getBytes(StandardCharsets.ISO_8859_1));
+    }
+    SyslogParser parser = new SyslogParserBuilder().build();
+    try {
+      parser.parseFile(path, (map) -> { });
+      Assert.fail();
+    } catch (ParseException e) {
+      // expected
+    }
+    List<String> errors = Collections.synchronizedList(new ArrayList<>());
+    List<Map<String, Object>> messages = Collections.synchronizedList(new ArrayList<>());
+    parser.parseFile(path, messages::add, (line, throwable) -> errors.add(line));
+    Assert.assertEquals(Collections.singletonList("<181Aug  6 17:26:31 host msg"), errors);
+    Assert.assertEquals(2, messages.size());
+    Assert.assertEquals("msg", messages.get(0).get(SyslogFieldKeys.MESSAGE.getField()));
+  }
+
+  @Test
+  public void testIsGzip() throws Exception {
+    Assert.assertTrue(GzipFileParser.isGzip(write(member(new byte[0], Deflater.BEST_SPEED, 0))));
+    Assert.assertFalse(GzipFileParser.isGzip(Paths.get("src/test/resources/logs/3164/many_ise.txt")));
+    Assert.assertFalse(GzipFileParser.isGzip(write(new byte[] {0x1f})));
+  }
+
+  private List<Object> parse(Path path, int parallelism, int bufferSize) throws IOException {
+    ConcurrentLinkedQueue<Object> lines = new ConcurrentLinkedQueue<>();
+    new GzipFileParser(null, parallelism, bufferSize).parse(path, CharSequence::toString, lines::add, null);
+    return new ArrayList<>(lines);
+  }
+
+  private Path write(byte[] bytes) throws IOException {
+    Path path = folder.newFile().toPath();
+    Files.write(path, bytes);
+    return path;
+  }
+
+  /**
+   * Compresses data to a gzip member, with the optional header fields of the flags.
+   */
+  private static byte[] member(byte[] data, int level, int flags) {
+    ByteArrayOutputStream member = new ByteArrayOutputStream();
+    member.write(0x1f);
+    member.write(0x8b);
+    member.write(8);
+    member.write(flags);
+    member.write(new byte[] {0, 0, 0, 0, 0, 3}, 0, 6);
+    if ((flags & 0x04) != 0) {
+      member.write(new byte[] {4, 0, 'A', 'B', 0, 0}, 0, 6);
+    }
+    if ((flags & 0x08) != 0) {
+      member.write(new byte[] {'n', 'a', 'm', 'e', 0}, 0, 5);
+    }
+    if ((flags & 0x10) != 0) {
+      member.write(new byte[] {'c', 0}, 0, 2);
+    }
+    if ((flags & 0x02) != 0) {
+      member.write(new byte[] {0, 0}, 0, 2);
+    }
+    Deflater deflater = new Deflater(level, true);
+    deflater.setInput(data);
+    deflater.finish();
+    byte[] buffer = new byte[1024];
+    while (!deflater.finished()) {
+      member.write(buffer, 0, deflater.deflate(buffer));
+    }
+    deflater.end();
+    CRC32 crc = new CRC32();
+    crc.update(data);
+    writeInt(member, (int) crc.getValue());
+    writeInt(member, data.length);
+    return member.toByteArray();
+  }
+
+  private static void writeInt(ByteArrayOutputStream out, int value) {
+    for (int i = 0; i < 4; i++) {
+      out.write(value >>> (8 * i));
+    }
+  }
+
+  private static byte[] concat(byte[]... parts) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (byte[] part : parts) {
+      out.write(part, 0, part.length);
+    }
+    return out.toByteArray();
+  }
+}
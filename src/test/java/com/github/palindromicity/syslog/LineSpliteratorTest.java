@@ -0,0 +1,129 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.StringReader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class LineSpliteratorTest {
+
+  private static final String[] CONTENTS = {
+      "",
+      "one",
+      "one\n",
+      "one\ntwo",
+      "one\r\ntwo\r\n",
+      "one\rtwo\r",
+      "one\n\ntwo\n\n",
+      "\n\r\n\r",
+      "a line that is much longer than the buffer\nshort\r\nanother line that is longer than the buffer",
+      "ïÿ\u0080\n"};
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void testLinesMatchBufferedReader() throws Exception {
+    for (String content : CONTENTS) {
+      Path path = write(content);
+      List<String> expected = new BufferedReader(new StringReader(content)).lines().collect(Collectors.toList());
+      for (int bufferSize : new int[] {1, 4, LineSpliterator.BUFFER_SIZE}) {
+        Assert.assertEquals(content, expected, lines(path, bufferSize, Long.MAX_VALUE));
+        // split into ranges of a few bytes
+        Assert.assertEquals(content, expected, lines(path, bufferSize, 1));
+      }
+    }
+  }
+
+  @Test
+  public void testSplitsOnLineBoundaries() throws Exception {
+    Path path = Paths.get("src/test/resources/logs/3164/many_ise.txt");
+    List<String> expected = Files.readAllLines(path, StandardCharsets.ISO_8859_1);
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      List<Spliterator<String>> ranges = new ArrayList<>();
+      split(new LineSpliterator(channel, 0, channel.size(), 1024, 4096), ranges);
+      Assert.assertTrue(ranges.size() > 16);
+      List<String> actual = new ArrayList<>();
+      for (Spliterator<String> range : ranges) {
+        range.forEachRemaining(actual::add);
+      }
+      Assert.assertEquals(expected, actual);
+    }
+  }
+
+  @Test
+  public void testParallelStreamMatchesParseLines() throws Exception {
+    SyslogParser parser = new SyslogParserBuilder().build();
+    File file = new File("src/test/resources/logs/3164/many_ise.txt");
+    List<Map<String, Object>> expected;
+    try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.ISO_8859_1)) {
+      expected = parser.parseLines(reader);
+    }
+    try (Stream<Map<String, Object>> stream = parser.stream(file.toPath())) {
+      Assert.assertEquals(expected, stream.parallel().collect(Collectors.toList()));
+    }
+    try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.ISO_8859_1)) {
+      Assert.assertEquals(expected, parser.stream(reader).collect(Collectors.toList()));
+    }
+  }
+
+  private Path write(String content) throws Exception {
+    Path path = folder.newFile().toPath();
+    Files.write(path, content.getBytes(StandardCharsets.ISO_8859_1));
+    return path;
+  }
+
+  private static List<String> lines(Path path, int bufferSize, long minSplitSize) throws Exception {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      List<Spliterator<String>> ranges = new ArrayList<>();
+      split(new LineSpliterator(channel, 0, channel.size(), bufferSize, minSplitSize), ranges);
+      List<String> lines = new ArrayList<>();
+      for (Spliterator<String> range : ranges) {
+        range.forEachRemaining(lines::add);
+      }
+      return lines;
+    }
+  }
+
+  private static void split(Spliterator<String> spliterator, List<Spliterator<String>> ranges) {
+    Spliterator<String> prefix = spliterator.trySplit();
+    if (prefix != null) {
+      split(prefix, ranges);
+      split(spliterator, ranges);
+    } else {
+      ranges.add(spliterator);
+    }
+  }
+}
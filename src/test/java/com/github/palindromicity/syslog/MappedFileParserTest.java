@@ -0,0 +1,137 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import com.github.palindromicity.syslog.dsl.ParseException;
+import com.github.palindromicity.syslog.dsl.SyslogFieldKeys;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class MappedFileParserTest extends AbstractRfc3164SyslogParserTest {
+
+  private static final String LINE = "<181>Aug  6 17:26:31 host msg";
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void testParseFileMatchesParseLines() throws Exception {
+    SyslogParser parser = new SyslogParserBuilder().withParallelism(4).build();
+    for (String fileName : SAMPLE_FILES) {
+      List<Object> expected = new ArrayList<>();
+      try (BufferedReader reader = Files.newBufferedReader(Paths.get(fileName), StandardCharsets.ISO_8859_1)) {
+        parser.parseLines(reader, expected::add, (line, throwable) -> expected.add(line));
+      }
+      ConcurrentLinkedQueue<Object> actual = new ConcurrentLinkedQueue<>();
+      parser.parseFile(Paths.get(fileName), actual::add, (line, throwable) -> actual.add(line));
+      Assert.assertEquals(fileName, sorted(expected), sorted(actual));
+    }
+  }
+
+  @Test
+  public void testSmallSegments() throws Exception {
+    Path path = Paths.get("src/test/resources/logs/3164/many_ise.txt");
+    SyslogParser parser = new SyslogParserBuilder().build();
+    List<Object> expected = new ArrayList<>(readLines(path.toString()));
+    for (long segmentSize : new long[] {1, 100, 4096}) {
+      ConcurrentLinkedQueue<Object> actual = new ConcurrentLinkedQueue<>();
+      new MappedFileParser(null, 3, segmentSize).parse(path, CharSequence::toString, actual::add, null);
+      Assert.assertEquals(sorted(expected), sorted(actual));
+    }
+  }
+
+  @Test
+  public void testLineEndings() throws Exception {
+    String content = "one\r\ntwo\rthree\n\nfour\r\n\rfive";
+    List<Object> expected = new ArrayList<>();
+    new BufferedReader(new StringReader(content)).lines().forEach(expected::add);
+    Path path = folder.newFile().toPath();
+    Files.write(path, content.getBytes(StandardCharsets.ISO_8859_1));
+    for (long segmentSize : new long[] {1, 2, 3, 1024}) {
+      ConcurrentLinkedQueue<Object> actual = new ConcurrentLinkedQueue<>();
+      new MappedFileParser(null, 2, segmentSize).parse(path, CharSequence::toString, actual::add, null);
+      Assert.assertEquals(sorted(expected), sorted(actual));
+    }
+  }
+
+  @Test
+  public void testFirstErrorIsThrown() throws Exception {
+    Path path = folder.newFile().toPath();
+    Files.write(path, (LINE + "\n<181Aug  6 17:26:31 host msg\n" + LINE + "\n").getBytes(StandardCharsets.ISO_8859_1));
+    SyslogParser parser = new SyslogParserBuilder().build();
+    try {
+      parser.parseFile(path, (map) -> { });
+      Assert.fail();
+    } catch (ParseException e) {
+      // expected
+    }
+    List<String> errors = Collections.synchronizedList(new ArrayList<>());
+    parser.parseFile(path, (map) -> { }, (line, throwable) -> errors.add(line));
+    Assert.assertEquals(Collections.singletonList("<181Aug  6 17:26:31 host msg"), errors);
+  }
+
+  @Test
+  public void testLazyMapsDoNotReadTheMappedFile() throws Exception {
+    Path path = folder.newFile().toPath();
+    Files.write(path, (LINE + "\n").getBytes(StandardCharsets.ISO_8859_1));
+    SyslogParser parser = new SyslogParserBuilder().withLazyMaps(true).build();
+    List<Map<String, Object>> maps = new ArrayList<>();
+    parser.parseFile(path, maps::add);
+    // the same length, so the pages of a mapping that was kept would now hold the new host
+    Files.write(path, LINE.replace("host", "HOST").concat("\n").getBytes(StandardCharsets.ISO_8859_1));
+    Assert.assertEquals(1, maps.size());
+    Assert.assertEquals("host", maps.get(0).get(SyslogFieldKeys.HEADER_HOSTNAME.getField()));
+  }
+
+  @Test
+  public void testParallelismOfOneParsesOnCallingThread() throws Exception {
+    Path path = folder.newFile().toPath();
+    Files.write(path, (LINE + "\n" + LINE + "\n").getBytes(StandardCharsets.ISO_8859_1));
+    SyslogParser parser = new SyslogParserBuilder().withParallelism(1).withExecutor((task) -> {
+      throw new AssertionError();
+    }).build();
+    Thread caller = Thread.currentThread();
+    List<Thread> threads = new ArrayList<>();
+    parser.parseFile(path, (map) -> threads.add(Thread.currentThread()));
+    Assert.assertEquals(2, threads.size());
+    for (Thread thread : threads) {
+      Assert.assertSame(caller, thread);
+    }
+  }
+
+  @Test
+  public void testEmptyFile() throws Exception {
+    Path path = folder.newFile().toPath();
+    new MappedFileParser(null, 2, 1024).parse(path, (line) -> {
+      throw new AssertionError();
+    }, (map) -> { }, null);
+  }
+}
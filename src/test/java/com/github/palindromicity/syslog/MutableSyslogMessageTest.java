@@ -0,0 +1,106 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+public class MutableSyslogMessageTest extends AbstractRfc3164SyslogParserTest {
+
+  private static final String LINE = "<181>Aug  6 17:26:31 stage-pdp01  CISE_Profiler 0000024855 1 0 ";
+
+  @Test
+  public void testParseInto() {
+    SyslogParser parser = new SyslogParserBuilder().withEngine(ParserEngine.SCANNER).build();
+    MutableSyslogMessage target = new MutableSyslogMessage();
+    parser.parseInto(LINE, target);
+    Assert.assertSame(LINE, target.getSource());
+    Assert.assertEquals(181, target.getPriority());
+    Assert.assertEquals(22, target.getFacility());
+    Assert.assertEquals(5, target.getSeverity());
+    Assert.assertEquals("Aug  6 17:26:31", target.getTimeStampText().toString());
+    Assert.assertEquals(5, target.getTimeStampStart());
+    Assert.assertEquals(20, target.getTimeStampEnd());
+    Assert.assertEquals("stage-pdp01", target.getHostName().toString());
+    Assert.assertEquals("CISE_Profiler 0000024855 1 0", target.getMessage().toString());
+    Assert.assertEquals(parser.parse(LINE), target.toSyslogMessage());
+  }
+
+  @Test
+  public void testParseIntoReused() throws Exception {
+    for (ParserEngine engine : ParserEngine.values()) {
+      SyslogParser parser = new SyslogParserBuilder().withEngine(engine).build();
+      MutableSyslogMessage target = new MutableSyslogMessage();
+      for (String line : readLines("src/test/resources/logs/3164/many_ise.txt")) {
+        parser.parseInto(line, target);
+        Assert.assertEquals(parser.parse(line), target.toSyslogMessage());
+        byte[] bytes = line.getBytes(StandardCharsets.ISO_8859_1);
+        parser.parseInto(bytes, 0, bytes.length, target);
+        Assert.assertEquals(parser.parse(line), target.toSyslogMessage());
+      }
+    }
+  }
+
+  @Test
+  public void testParseIntoDoesNotAllocate() throws Exception {
+    java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+    com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+    Assume.assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+    threadBean.setThreadAllocatedMemoryEnabled(true);
+
+    SyslogParser parser = new SyslogParserBuilder().withEngine(ParserEngine.SCANNER).build();
+    MutableSyslogMessage target = new MutableSyslogMessage();
+    List<String> lines = readLines("src/test/resources/logs/3164/many_ise.txt");
+    byte[][] packets = new byte[lines.size()][];
+    for (int i = 0; i < packets.length; i++) {
+      packets[i] = lines.get(i).getBytes(StandardCharsets.ISO_8859_1);
+    }
+    long threadId = Thread.currentThread().getId();
+
+    long checksum = 0;
+    for (int round = 0; round < 200; round++) {
+      checksum += parseAll(parser, lines, packets, target);
+    }
+    long before = threadBean.getThreadAllocatedBytes(threadId);
+    for (int round = 0; round < 100; round++) {
+      checksum += parseAll(parser, lines, packets, target);
+    }
+    long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+    Assert.assertTrue(checksum > 0);
+    // 61,600 lines parsed; allow for the measurement itself
+    Assert.assertTrue("allocated " + allocated + " bytes", allocated < 4096);
+  }
+
+  private static long parseAll(SyslogParser parser, List<String> lines, byte[][] packets,
+      MutableSyslogMessage target) {
+    long checksum = 0;
+    for (int i = 0; i < packets.length; i++) {
+      parser.parseInto(lines.get(i), target);
+      checksum += target.getSeverity() + target.getMessageEnd();
+      parser.parseInto(packets[i], 0, packets[i].length, target);
+      checksum += target.getFacility() + target.getHostNameEnd() + (target.getTimeStamp() & 1);
+    }
+    return checksum;
+  }
+}
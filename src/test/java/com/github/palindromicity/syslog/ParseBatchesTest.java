@@ -0,0 +1,185 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import java.io.IOException;
+import java.io.PipedReader;
+import java.io.PipedWriter;
+import java.io.StringReader;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import com.github.palindromicity.syslog.dsl.ParseException;
+import com.github.palindromicity.syslog.dsl.SyslogFieldKeys;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ParseBatchesTest {
+
+  private static final String LINE = "<181>Aug  6 17:26:31 host msg";
+
+  private final List<Integer> sizes = new ArrayList<>();
+  private final List<Object> messages = new ArrayList<>();
+  private final Set<List<?>> batchLists = Collections.newSetFromMap(new IdentityHashMap<>());
+  private final List<String> errors = new ArrayList<>();
+  private final Consumer<List<Map<String, Object>>> batchConsumer = (batch) -> {
+    sizes.add(batch.size());
+    batchLists.add(batch);
+    for (Map<String, Object> message : batch) {
+      messages.add(message.get(SyslogFieldKeys.MESSAGE.getField()));
+    }
+  };
+
+  @Test
+  public void testBatchesByCount() {
+    SyslogParser parser = new SyslogParserBuilder().withMaxBatchSize(4).build();
+    parser.parseBatches(new StringReader(lines(10)), batchConsumer);
+    Assert.assertEquals(Arrays.asList(4, 4, 2), sizes);
+    Assert.assertEquals(expectedMessages(10), messages);
+    // the backing storage is reused
+    Assert.assertEquals(1, batchLists.size());
+  }
+
+  @Test
+  public void testBatchesByChars() {
+    // each line is 30 characters, so the third line of a batch passes 61
+    SyslogParser parser = new SyslogParserBuilder().withMaxBatchChars(61).build();
+    parser.parseBatches(new StringReader(lines(7)), batchConsumer);
+    Assert.assertEquals(Arrays.asList(3, 3, 1), sizes);
+  }
+
+  @Test
+  public void testBatchesByDelay() throws Exception {
+    SyslogParser parser = new SyslogParserBuilder().withMaxBatchDelay(Duration.ofMillis(20)).build();
+    PipedWriter writer = new PipedWriter();
+    PipedReader reader = new PipedReader(writer);
+    CountDownLatch passedOn = new CountDownLatch(1);
+    List<Integer> delayedSizes = Collections.synchronizedList(new ArrayList<>());
+    Consumer<List<Map<String, Object>>> delayedConsumer = (batch) -> {
+      delayedSizes.add(batch.size());
+      passedOn.countDown();
+    };
+    CompletableFuture<Void> parsing = CompletableFuture.runAsync(() -> parser.parseBatches(reader, delayedConsumer));
+    writer.write(LINE + "0\n" + LINE + "1\n");
+    writer.flush();
+    // the reader is still open, so only the delay passes the batch on
+    Assert.assertTrue(passedOn.await(10, TimeUnit.SECONDS));
+    writer.write(LINE + "2\n");
+    writer.close();
+    parsing.get(10, TimeUnit.SECONDS);
+    Assert.assertEquals(Arrays.asList(2, 1), delayedSizes);
+  }
+
+  @Test
+  public void testParseErrorAfterEarlierLines() {
+    SyslogParser parser = new SyslogParserBuilder().withMaxBatchSize(100).build();
+    try {
+      parser.parseBatches(new StringReader(lines(3) + "<1811>Aug  6 17:26:31 host msg\n" + lines(3)),
+          batchConsumer);
+      Assert.fail("expected ParseException");
+    } catch (ParseException e) {
+      Assert.assertEquals(Collections.singletonList(3), sizes);
+    }
+  }
+
+  @Test
+  public void testErrorConsumer() {
+    SyslogParser parser = new SyslogParserBuilder().withMaxBatchSize(2).build();
+    parser.parseBatches(new StringReader(LINE + "0\n<1811>Aug  6 17:26:31 host msg\n\n" + LINE + "1\n"),
+        batchConsumer, (line, throwable) -> errors.add(line));
+    Assert.assertEquals(Collections.singletonList(2), sizes);
+    Assert.assertEquals(Arrays.asList("<1811>Aug  6 17:26:31 host msg", ""), errors);
+  }
+
+  @Test
+  public void testBatchConsumerExceptionIsThrown() {
+    for (SyslogParser parser : Arrays.asList(new SyslogParserBuilder().withMaxBatchSize(2).build(),
+        new SyslogParserBuilder().withMaxBatchSize(2).withParallelism(2).build())) {
+      Consumer<List<Map<String, Object>>> failing = (batch) -> {
+        throw new IllegalStateException("sink");
+      };
+      try {
+        parser.parseBatches(new StringReader(lines(5)), failing, (line, throwable) -> errors.add(line));
+        Assert.fail("expected IllegalStateException");
+      } catch (IllegalStateException e) {
+        Assert.assertEquals("sink", e.getMessage());
+      }
+      Assert.assertTrue(errors.isEmpty());
+    }
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testBatchIsUnmodifiable() {
+    new SyslogParserBuilder().build().parseBatches(new StringReader(lines(1)), (batch) -> batch.clear());
+  }
+
+  @Test
+  public void testParallelBatches() {
+    SyslogParser parser = new SyslogParserBuilder().withMaxBatchSize(100).withParallelism(4).build();
+    parser.parseBatches(new StringReader(lines(5000)), batchConsumer, (line, throwable) -> errors.add(line));
+    Assert.assertEquals(50, sizes.size());
+    Assert.assertEquals(expectedMessages(5000), messages);
+    Assert.assertTrue(errors.isEmpty());
+  }
+
+  @Test
+  public void testEmptyReader() throws IOException {
+    new SyslogParserBuilder().build().parseBatches(new StringReader(""), batchConsumer);
+    Assert.assertTrue(sizes.isEmpty());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMaxBatchSizeMustBePositive() {
+    new SyslogParserBuilder().withMaxBatchSize(0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMaxBatchCharsMustBePositive() {
+    new SyslogParserBuilder().withMaxBatchChars(0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMaxBatchDelayMustNotBeNegative() {
+    new SyslogParserBuilder().withMaxBatchDelay(Duration.ofMillis(-1));
+  }
+
+  private static String lines(int count) {
+    StringBuilder lines = new StringBuilder();
+    for (int i = 0; i < count; i++) {
+      lines.append(LINE).append(i % 10).append('\n');
+    }
+    return lines.toString();
+  }
+
+  private static List<Object> expectedMessages(int count) {
+    List<Object> expected = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      expected.add("msg" + (i % 10));
+    }
+    return expected;
+  }
+}
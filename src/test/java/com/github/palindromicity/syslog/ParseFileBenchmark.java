@@ -0,0 +1,150 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.EnumSet;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compares {@link SyslogParser#parseFile(Path, java.util.function.Consumer)} with
+ * {@link SyslogParser#parseLines(Reader, java.util.function.Consumer, java.util.function.BiConsumer)} over a
+ * {@code FileReader}, on the sample files repeated to a given size.  The same lines are also compressed to a
+ * gzip file of one member and to one of a member per megabyte, and {@code parseFile} of each is compared with
+ * {@code parseLines} over a {@code GZIPInputStream}.
+ * <p>
+ * Run with {@code mvn test-compile} and then
+ * {@code java -cp target/classes:target/test-classes:<antlr4-runtime jar>
+ * com.github.palindromicity.syslog.ParseFileBenchmark 512 5}, where the arguments are the size of the file in
+ * megabytes, which may be more than 2048, and the number of runs.
+ * </p>
+ */
+public final class ParseFileBenchmark {
+
+  private static final String[] CORPORA = {
+      "src/test/resources/logs/3164/many_ise.txt",
+      "src/test/resources/logs/3164/many_ise_deviations.txt"};
+
+  private ParseFileBenchmark() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    long megabytes = args.length > 0 ? Long.parseLong(args[0]) : 256;
+    int runs = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+    Path path = Files.createTempFile("syslog-benchmark", ".txt");
+    Path gzip = Files.createTempFile("syslog-benchmark", ".txt.gz");
+    Path members = Files.createTempFile("syslog-benchmark-members", ".txt.gz");
+    try {
+      write(path, megabytes * 1024 * 1024);
+      compress(path, gzip, Long.MAX_VALUE);
+      compress(path, members, 1024 * 1024);
+      final long size = Files.size(path);
+      SyslogParser parser = new SyslogParserBuilder().withEngine(ParserEngine.SCANNER)
+          .withDeviations(EnumSet.of(AllowableDeviations.PRIORITY)).build();
+      System.out.printf("%d MB, %d processors%n", Files.size(path) / (1024 * 1024),
+          Runtime.getRuntime().availableProcessors());
+      for (int run = 0; run < runs; run++) {
+        report("parseLines(FileReader)", size, () -> {
+          LongAdder count = new LongAdder();
+          try (Reader reader = new BufferedReader(new FileReader(path.toFile()))) {
+            parser.parseLines(reader, (map) -> count.increment(), (line, throwable) -> count.increment());
+          }
+          return count.sum();
+        });
+        report("parseFile", size, () -> parseFile(parser, path));
+        report("parseLines(GZIP)", size, () -> {
+          LongAdder count = new LongAdder();
+          try (Reader reader = new InputStreamReader(new GZIPInputStream(Files.newInputStream(gzip), 1024 * 1024),
+              StandardCharsets.ISO_8859_1)) {
+            parser.parseLines(reader, (map) -> count.increment(), (line, throwable) -> count.increment());
+          }
+          return count.sum();
+        });
+        report("parseFile(gzip)", size, () -> parseFile(parser, gzip));
+        report("parseFile(gzip members)", size, () -> parseFile(parser, members));
+      }
+    } finally {
+      Files.delete(path);
+      Files.delete(gzip);
+      Files.delete(members);
+    }
+  }
+
+  private static long parseFile(SyslogParser parser, Path path) throws Exception {
+    LongAdder count = new LongAdder();
+    parser.parseFile(path, (map) -> count.increment(), (line, throwable) -> count.increment());
+    return count.sum();
+  }
+
+  /**
+   * Compresses a file to gzip, starting a new member after each member size of input.
+   */
+  private static void compress(Path path, Path target, long memberSize) throws Exception {
+    try (InputStream in = Files.newInputStream(path); OutputStream out = Files.newOutputStream(target)) {
+      byte[] buffer = new byte[64 * 1024];
+      GZIPOutputStream member = new GZIPOutputStream(out, buffer.length);
+      long written = 0;
+      for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+        if (written >= memberSize) {
+          member.finish();
+          member = new GZIPOutputStream(out, buffer.length);
+          written = 0;
+        }
+        member.write(buffer, 0, read);
+        written += read;
+      }
+      member.finish();
+    }
+  }
+
+  private static void write(Path path, long size) throws Exception {
+    byte[][] corpora = new byte[CORPORA.length][];
+    for (int i = 0; i < CORPORA.length; i++) {
+      corpora[i] = Files.readAllBytes(Paths.get(CORPORA[i]));
+    }
+    try (OutputStream out = Files.newOutputStream(path)) {
+      long written = 0;
+      for (int i = 0; written < size; i = (i + 1) % corpora.length) {
+        out.write(corpora[i]);
+        written += corpora[i].length;
+      }
+    }
+  }
+
+  private static void report(String name, long size, Run run) throws Exception {
+    long start = System.nanoTime();
+    long lines = run.run();
+    double seconds = (System.nanoTime() - start) / 1e9;
+    System.out.printf("%-24s %10d lines %8.3f s %12.0f lines/s %8.1f MB/s%n", name, lines, seconds,
+        lines / seconds, size / seconds / (1024 * 1024));
+  }
+
+  private interface Run {
+    long run() throws Exception;
+  }
+}
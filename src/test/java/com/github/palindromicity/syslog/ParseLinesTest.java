@@ -0,0 +1,242 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import com.github.palindromicity.syslog.dsl.ParseException;
+import com.github.palindromicity.syslog.dsl.SyslogFieldKeys;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ParseLinesTest extends AbstractRfc3164SyslogParserTest {
+
+  private static final int LINE_COUNT = 1_000_000;
+
+  @Test
+  public void testParseLinesStreams() {
+    SyslogParser parser = new SyslogParserBuilder().withEngine(ParserEngine.SCANNER).build();
+    SyntheticReader reader = new SyntheticReader(LINE_COUNT);
+    AtomicLong messages = new AtomicLong();
+    AtomicLong errors = new AtomicLong();
+    parser.parseLines(reader, (map) -> {
+      if (messages.incrementAndGet() == 1) {
+        // the first line is consumed long before the reader is exhausted
+        Assert.assertTrue(reader.linesRead() < LINE_COUNT / 10);
+      }
+    }, (line, throwable) -> errors.incrementAndGet());
+    Assert.assertEquals(LINE_COUNT - LINE_COUNT / 100, messages.get());
+    Assert.assertEquals(LINE_COUNT / 100, errors.get());
+  }
+
+  @Test
+  public void testParallelChunksInFlightAreBounded() {
+    int parallelism = 2;
+    ExecutorService pool = Executors.newFixedThreadPool(parallelism);
+    try {
+      // chunks are submitted and consumed on the calling thread, so the counts need no synchronization
+      long[] submitted = {0};
+      long[] consumed = {0};
+      long[] maxInFlight = {0};
+      Executor counting = (task) -> {
+        submitted[0]++;
+        long inFlight = submitted[0] - consumed[0] / ParallelLineParser.CHUNK_SIZE;
+        maxInFlight[0] = Math.max(maxInFlight[0], inFlight);
+        pool.execute(task);
+      };
+      SyslogParser parallel = new SyslogParserBuilder().withEngine(ParserEngine.SCANNER)
+          .withParallelism(parallelism).withExecutor(counting).build();
+      parallel.parseLines(new SyntheticReader(LINE_COUNT), (map) -> consumed[0]++,
+          (line, throwable) -> consumed[0]++);
+      Assert.assertEquals(LINE_COUNT, consumed[0]);
+      Assert.assertEquals((LINE_COUNT + ParallelLineParser.CHUNK_SIZE - 1) / ParallelLineParser.CHUNK_SIZE,
+          submitted[0]);
+      Assert.assertEquals(2 * parallelism, maxInFlight[0]);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void testParallelOrderedMatchesSequential() throws Exception {
+    SyslogParser sequential = new SyslogParserBuilder().build();
+    SyslogParser parallel = new SyslogParserBuilder().withParallelism(4).build();
+    String lines = readFileToString("src/test/resources/logs/3164/many_ise.txt");
+    List<Map<String, Object>> expected = sequential.parseLines(new StringReader(lines));
+    Assert.assertEquals(expected, parallel.parseLines(new StringReader(lines)));
+    List<Map<String, Object>> consumed = new ArrayList<>();
+    parallel.parseLines(new StringReader(lines), consumed::add);
+    Assert.assertEquals(expected, consumed);
+  }
+
+  @Test
+  public void testParallelUnorderedHasSameResults() {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      SyslogParser sequential = new SyslogParserBuilder().withEngine(ParserEngine.SCANNER).build();
+      SyslogParser parallel = new SyslogParserBuilder().withEngine(ParserEngine.SCANNER).withExecutor(executor)
+          .withOrderedResults(false).build();
+      Set<Object> expected = new HashSet<>();
+      Set<Object> expectedErrors = new HashSet<>();
+      sequential.parseLines(new SyntheticReader(20_000), expected::add, (line, throwable) -> expectedErrors.add(line));
+      Set<Object> actual = new HashSet<>();
+      Set<Object> actualErrors = new HashSet<>();
+      Thread caller = Thread.currentThread();
+      Consumer<Map<String, Object>> messageConsumer = (map) -> {
+        Assert.assertSame(caller, Thread.currentThread());
+        actual.add(map);
+      };
+      BiConsumer<String, Throwable> errorConsumer = (line, throwable) -> {
+        Assert.assertSame(caller, Thread.currentThread());
+        actualErrors.add(line);
+      };
+      parallel.parseLines(new SyntheticReader(20_000), messageConsumer, errorConsumer);
+      Assert.assertEquals(expected, actual);
+      Assert.assertEquals(expectedErrors, actualErrors);
+      Assert.assertEquals(200, actualErrors.size());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testParallelOrderedThrowsAtFirstError() {
+    SyslogParser parallel = new SyslogParserBuilder().withEngine(ParserEngine.SCANNER).withParallelism(4).build();
+    List<Map<String, Object>> consumed = new ArrayList<>();
+    try {
+      parallel.parseLines(new SyntheticReader(20_000), consumed::add);
+      Assert.fail();
+    } catch (ParseException e) {
+      // the 100th line is the first malformed line
+      Assert.assertEquals(99, consumed.size());
+    }
+  }
+
+  @Test
+  public void testParallelErrorsMatchSequentialErrors() {
+    String lines = "<181>Aug  6 17:26:31 host msg\n<181Aug  6 17:26:31 host msg\n \n";
+    for (ParserEngine engine : ParserEngine.values()) {
+      List<String> sequential = new ArrayList<>();
+      new SyslogParserBuilder().withEngine(engine).build().parseLines(new StringReader(lines), (map) -> { },
+          (line, throwable) -> sequential.add(throwable.getClass().getName() + " " + throwable.getMessage()));
+      List<String> parallel = new ArrayList<>();
+      SyslogParser parser = new SyslogParserBuilder().withEngine(engine).withParallelism(2).build();
+      parser.parseLines(new StringReader(lines), (map) -> { },
+          (line, throwable) -> parallel.add(throwable.getClass().getName() + " " + throwable.getMessage()));
+      Assert.assertEquals(2, sequential.size());
+      Assert.assertEquals(sequential, parallel);
+    }
+  }
+
+  @Test
+  public void testParallelConsumerErrorsGoToErrorConsumer() {
+    SyslogParser parallel = new SyslogParserBuilder().withParallelism(2).build();
+    List<String> errors = new ArrayList<>();
+    parallel.parseLines(new StringReader("<181>Aug  6 17:26:31 host msg\n<181>Aug  6 17:26:31 host fail"), (map) -> {
+      if ("fail".equals(map.get(SyslogFieldKeys.MESSAGE.getField()))) {
+        throw new IllegalStateException();
+      }
+    }, (line, throwable) -> errors.add(line));
+    Assert.assertEquals(Collections.singletonList("<181>Aug  6 17:26:31 host fail"), errors);
+  }
+
+  @Test
+  public void testParallelStreamsWithBoundedMemory() {
+    SyslogParser parallel = new SyslogParserBuilder().withEngine(ParserEngine.SCANNER).withParallelism(2).build();
+    SyntheticReader reader = new SyntheticReader(LINE_COUNT);
+    AtomicLong messages = new AtomicLong();
+    parallel.parseLines(reader, (map) -> {
+      if (messages.incrementAndGet() == 1) {
+        Assert.assertTrue(reader.linesRead() <= 4 * ParallelLineParser.CHUNK_SIZE);
+      }
+    }, (line, throwable) -> { });
+    Assert.assertEquals(LINE_COUNT - LINE_COUNT / 100, messages.get());
+  }
+
+  @Test
+  public void testParallelismOfOneIgnoresExecutor() {
+    SyslogParser parser = new SyslogParserBuilder().withParallelism(1).withExecutor((task) -> {
+      throw new AssertionError();
+    }).build();
+    Thread caller = Thread.currentThread();
+    AtomicLong messages = new AtomicLong();
+    parser.parseLines(new SyntheticReader(1_000), (map) -> {
+      Assert.assertSame(caller, Thread.currentThread());
+      messages.incrementAndGet();
+    }, (line, throwable) -> { });
+    Assert.assertEquals(990, messages.get());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testParallelismMustBePositive() {
+    new SyslogParserBuilder().withParallelism(0);
+  }
+
+  /**
+   * A {@code Reader} of generated lines, one in a hundred of which is malformed, that never holds more
+   * than one line.
+   */
+  static final class SyntheticReader extends Reader {
+
+    private final int lineCount;
+    private int lines;
+    private String line = "";
+    private int pos;
+
+    SyntheticReader(int lineCount) {
+      this.lineCount = lineCount;
+    }
+
+    int linesRead() {
+      return lines;
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) {
+      if (pos == line.length()) {
+        if (lines == lineCount) {
+          return -1;
+        }
+        line = lines % 100 == 99 ? "<181Aug  6 17:26:31 host malformed " + lines + "\n"
+            : "<181>Aug  6 17:26:31 host-" + lines % 1000 + " message number " + lines + "\n";
+        lines++;
+        pos = 0;
+      }
+      int count = Math.min(len, line.length() - pos);
+      line.getChars(pos, pos + count, cbuf, off);
+      pos += count;
+      return count;
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+}
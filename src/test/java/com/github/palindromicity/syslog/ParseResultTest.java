@@ -0,0 +1,117 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import com.github.palindromicity.syslog.dsl.ParseException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ParseResultTest {
+
+  private static final String LINE = "<181>Aug  6 17:26:31 host msg";
+
+  @Test
+  public void testSuccess() {
+    for (ParserEngine engine : ParserEngine.values()) {
+      SyslogParser parser = new SyslogParserBuilder().withEngine(engine).build();
+      ParseResult<Map<String, Object>> result = parser.tryParseLine(LINE);
+      Assert.assertTrue(result.isSuccess());
+      Assert.assertNull(result.getErrorCode());
+      Assert.assertEquals(-1, result.getErrorOffset());
+      Assert.assertEquals(parser.parseLine(LINE), result.getValue());
+      Assert.assertEquals(parser.parse(LINE), parser.tryParse(LINE).getOrThrow());
+      byte[] bytes = LINE.getBytes();
+      Assert.assertEquals(parser.parse(LINE), parser.tryParse(bytes, 0, bytes.length).getValue());
+      Assert.assertEquals(parser.parseLine(LINE), parser.tryParseLine(bytes, 0, bytes.length).getValue());
+    }
+  }
+
+  @Test
+  public void testFailures() {
+    for (ParserEngine engine : ParserEngine.values()) {
+      SyslogParser parser = new SyslogParserBuilder().withEngine(engine).build();
+      assertFailure(parser.tryParseLine("<181>Aug   6 17:26:31 host msg"), ParseErrorCode.SYNTAX_ERROR, 10);
+      assertFailure(parser.tryParseLine("<181Aug  6 17:26:31 host msg"), ParseErrorCode.SYNTAX_ERROR, 4);
+      assertFailure(parser.tryParseLine("<181>Aug  6 17:26:31 host Ā"), ParseErrorCode.SYNTAX_ERROR, 26);
+      assertFailure(parser.tryParse("Aug  6 17:26:31 host msg"), ParseErrorCode.PRIORITY_MISSING, 0);
+      assertFailure(parser.tryParse("<999>Aug  6 17:26:31 host msg"), ParseErrorCode.PRIORITY_OUT_OF_RANGE, 1);
+    }
+    SyslogParser parser = new SyslogParserBuilder().withEpochTimeStamps(true).build();
+    assertFailure(parser.tryParseLine("<181>Feb 30 17:26:31 host msg"), ParseErrorCode.INVALID_TIMESTAMP, 5);
+  }
+
+  @Test
+  public void testExceptionsAreStackless() {
+    SyslogParser parser = new SyslogParserBuilder().build();
+    for (String line : new String[] {"<181Aug  6 17:26:31 host msg", "Aug  6 17:26:31 host msg"}) {
+      try {
+        parser.parseLine(line);
+        Assert.fail(line);
+      } catch (ParseException e) {
+        Assert.assertEquals(0, e.getStackTrace().length);
+      }
+    }
+  }
+
+  @Test
+  public void testParseLinesReportsFailures() {
+    SyslogParser parser = new SyslogParserBuilder().build();
+    List<Map<String, Object>> messages = new ArrayList<>();
+    List<Throwable> errors = new ArrayList<>();
+    parser.parseLines(new StringReader(LINE + "\n<181Aug  6 17:26:31 host msg\n \n" + LINE), messages::add,
+        (line, throwable) -> errors.add(throwable));
+    Assert.assertEquals(2, messages.size());
+    Assert.assertEquals(2, errors.size());
+    Assert.assertTrue(errors.get(0) instanceof ParseException);
+    Assert.assertEquals("Syntax error @ 1:4 mismatched input", errors.get(0).getMessage());
+    Assert.assertNull(errors.get(0).getCause());
+    Assert.assertTrue(errors.get(1) instanceof IllegalArgumentException);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testSuccessHasNoException() {
+    ParseResult.success(LINE).toException();
+  }
+
+  @Test
+  public void testDeviations() {
+    SyslogParser parser = new SyslogParserBuilder().withDeviations(EnumSet.of(AllowableDeviations.PRIORITY)).build();
+    Assert.assertTrue(parser.tryParse("Aug  6 17:26:31 host msg").isSuccess());
+  }
+
+  private static void assertFailure(ParseResult<?> result, ParseErrorCode errorCode, int errorOffset) {
+    Assert.assertFalse(result.isSuccess());
+    Assert.assertNull(result.getValue());
+    Assert.assertEquals(errorCode, result.getErrorCode());
+    Assert.assertEquals(errorOffset, result.getErrorOffset());
+    Assert.assertNotNull(result.getReason());
+    try {
+      result.getOrThrow();
+      Assert.fail();
+    } catch (ParseException e) {
+      Assert.assertEquals(errorCode == ParseErrorCode.SYNTAX_ERROR
+          ? "Syntax error @ 1:" + errorOffset + " " + result.getReason() : result.getReason() + " @ " + errorOffset,
+          e.getMessage());
+    }
+  }
+}
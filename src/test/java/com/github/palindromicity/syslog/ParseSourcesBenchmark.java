@@ -0,0 +1,132 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import java.io.Reader;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Compares {@link SyslogParser#parseSources(Collection, java.util.function.Consumer,
+ * java.util.function.BiConsumer)} on its default threads, virtual threads on Java 21 and later, with platform
+ * threads, for many sources that each send a line now and then.
+ * <p>
+ * The versioned classes are only loaded from the multi-release jar, so run with
+ * {@code mvn package -DskipTests} and then
+ * {@code java -cp target/simple-syslog-3164-<version>.jar:target/test-classes:<antlr4-runtime jar>
+ * com.github.palindromicity.syslog.ParseSourcesBenchmark 10000 20 50 3}, where the arguments are the number of
+ * sources, the number of lines from each source, the milliseconds between lines and the number of runs.
+ * </p>
+ */
+public final class ParseSourcesBenchmark {
+
+  private static final String LINE = "<181>Aug  6 17:26:31 host some low rate message\n";
+
+  private static int baseThreadCount;
+
+  private ParseSourcesBenchmark() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    int sources = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+    int lines = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+    long intervalMillis = args.length > 2 ? Long.parseLong(args[2]) : 50;
+    int runs = args.length > 3 ? Integer.parseInt(args[3]) : 3;
+    baseThreadCount = ManagementFactory.getThreadMXBean().getThreadCount();
+    Rfc3164SyslogParser parser = (Rfc3164SyslogParser) new SyslogParserBuilder()
+        .withEngine(ParserEngine.SCANNER).build();
+    System.out.printf("%d sources, %d lines each, %d ms apart, %d processors, sources on virtual threads %b%n",
+        sources, lines, intervalMillis, Runtime.getRuntime().availableProcessors(),
+        ParserThreads.sourcesOnVirtualThreads());
+    for (int run = 0; run < runs; run++) {
+      report("platform threads", parser, sources, lines, intervalMillis,
+          () -> ParserThreads.newPlatformThreadPerTaskExecutor("benchmark-source"));
+      report("parseSources", parser, sources, lines, intervalMillis,
+          () -> ParserThreads.newThreadPerTaskExecutor("benchmark-source"));
+    }
+  }
+
+  private static void report(String name, Rfc3164SyslogParser parser, int sources, int lines, long intervalMillis,
+      Supplier<ExecutorService> executor) throws InterruptedException {
+    List<Reader> readers = new ArrayList<>(sources);
+    for (int i = 0; i < sources; i++) {
+      readers.add(new LowRateReader(lines, intervalMillis));
+    }
+    ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    // let the threads of the previous run exit
+    for (int wait = 0; wait < 100 && threads.getThreadCount() > baseThreadCount; wait++) {
+      Thread.sleep(100);
+    }
+    threads.resetPeakThreadCount();
+    LongAdder count = new LongAdder();
+    long start = System.nanoTime();
+    parser.parseSources(readers, (map) -> count.increment(), (line, throwable) -> count.increment(),
+        executor.get());
+    double seconds = (System.nanoTime() - start) / 1e9;
+    // the ideal time is the time for one source to send all of its lines
+    double ideal = lines * intervalMillis / 1e3;
+    System.out.printf("%-18s %10d lines %8.3f s (%5.2fx ideal) %12.0f lines/s %8d peak platform threads%n", name,
+        count.sum(), seconds, seconds / ideal, count.sum() / seconds, threads.getPeakThreadCount());
+  }
+
+  /**
+   * A source that blocks for an interval before each line, as a quiet connection does.
+   */
+  private static final class LowRateReader extends Reader {
+
+    private final long intervalMillis;
+    private int remaining;
+    private int offset = LINE.length();
+
+    LowRateReader(int lines, long intervalMillis) {
+      this.remaining = lines;
+      this.intervalMillis = intervalMillis;
+    }
+
+    @Override
+    public int read(char[] buf, int off, int len) {
+      if (offset == LINE.length()) {
+        if (remaining == 0) {
+          return -1;
+        }
+        remaining--;
+        offset = 0;
+        try {
+          TimeUnit.MILLISECONDS.sleep(intervalMillis);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return -1;
+        }
+      }
+      int count = Math.min(len, LINE.length() - offset);
+      LINE.getChars(offset, offset + count, buf, off);
+      offset += count;
+      return count;
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import com.github.palindromicity.syslog.dsl.SyslogFieldKeys;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ParseSourcesTest {
+
+  private final SyslogParser parser = new SyslogParserBuilder().build();
+  private final ConcurrentLinkedQueue<Map<String, Object>> messages = new ConcurrentLinkedQueue<>();
+  private final ConcurrentLinkedQueue<String> errors = new ConcurrentLinkedQueue<>();
+  private final BiConsumer<String, Throwable> errorConsumer = (line, throwable) -> errors.add(String.valueOf(line));
+
+  @Test
+  public void testParsesEverySource() {
+    List<Reader> readers = new ArrayList<>();
+    for (int source = 0; source < 100; source++) {
+      StringBuilder lines = new StringBuilder();
+      for (int i = 0; i < 10; i++) {
+        lines.append("<181>Aug  6 17:26:31 host").append(source).append(" msg").append(i).append('\n');
+      }
+      lines.append("<1811>Aug  6 17:26:31 host msg\n");
+      readers.add(new StringReader(lines.toString()));
+    }
+    parser.parseSources(readers, messages::add, errorConsumer);
+    Assert.assertEquals(1000, messages.size());
+    Assert.assertEquals(100, errors.size());
+    Assert.assertEquals(100, messages.stream()
+        .map((map) -> map.get(SyslogFieldKeys.HEADER_HOSTNAME.getField())).distinct().count());
+  }
+
+  @Test
+  public void testSourcesAreReadAtOnce() {
+    // each source waits until every source has started, so this only returns if they are read at once
+    int sourceCount = 50;
+    CountDownLatch started = new CountDownLatch(sourceCount);
+    List<Reader> readers = new ArrayList<>();
+    for (int i = 0; i < sourceCount; i++) {
+      readers.add(new WaitingReader(started, "<181>Aug  6 17:26:31 host msg\n"));
+    }
+    parser.parseSources(readers, messages::add, errorConsumer);
+    Assert.assertEquals(sourceCount, messages.size());
+    Assert.assertTrue(errors.isEmpty());
+  }
+
+  @Test
+  public void testLineEndings() {
+    String line = "<181>Aug  6 17:26:31 host msg";
+    parser.parseSources(Collections.singletonList(new StringReader(line + "\r\n" + line + "\r" + line + "\n\n"
+        + line)), messages::add, errorConsumer);
+    Assert.assertEquals(4, messages.size());
+    Assert.assertEquals(Collections.singletonList(""), new ArrayList<>(errors));
+  }
+
+  @Test
+  public void testPlatformThreads() {
+    List<Reader> readers = Arrays.asList(new StringReader("<181>Aug  6 17:26:31 host msg\n"),
+        new StringReader("<181>Aug  6 17:26:31 host msg\n<181>Aug  6 17:26:31 host msg"));
+    ((Rfc3164SyslogParser) parser).parseSources(readers, messages::add, errorConsumer,
+        ParserThreads.newPlatformThreadPerTaskExecutor("test-source"));
+    Assert.assertEquals(3, messages.size());
+  }
+
+  @Test
+  public void testFailedSource() {
+    Reader failing = new Reader() {
+      @Override
+      public int read(char[] buf, int off, int len) throws IOException {
+        throw new IOException("connection reset");
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+    parser.parseSources(Arrays.asList(failing, new StringReader("<181>Aug  6 17:26:31 host msg")),
+        messages::add, errorConsumer);
+    Assert.assertEquals(1, messages.size());
+    Assert.assertEquals(Collections.singletonList("null"), new ArrayList<>(errors));
+  }
+
+  @Test
+  public void testNoSources() {
+    parser.parseSources(Collections.emptyList(), messages::add, errorConsumer);
+    Assert.assertTrue(messages.isEmpty());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullReaders() {
+    parser.parseSources(null, messages::add, errorConsumer);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullReader() {
+    parser.parseSources(Arrays.asList(new StringReader(""), null), messages::add, errorConsumer);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullErrorConsumer() {
+    parser.parseSources(Collections.emptyList(), messages::add, null);
+  }
+
+  @Test
+  public void testErrorConsumerException() {
+    try {
+      parser.parseSources(Collections.singletonList(new StringReader("bad\n")), messages::add,
+          (line, throwable) -> {
+            throw new IllegalStateException("error consumer");
+          });
+      Assert.fail();
+    } catch (IllegalStateException e) {
+      Assert.assertEquals("error consumer", e.getMessage());
+    }
+  }
+
+  /**
+   * Returns its line once every source has started reading.
+   */
+  private static final class WaitingReader extends Reader {
+
+    private final CountDownLatch started;
+    private final StringReader line;
+    private boolean waited;
+
+    WaitingReader(CountDownLatch started, String line) {
+      this.started = started;
+      this.line = new StringReader(line);
+    }
+
+    @Override
+    public int read(char[] buf, int off, int len) throws IOException {
+      if (!waited) {
+        waited = true;
+        started.countDown();
+        try {
+          if (!started.await(10, TimeUnit.SECONDS)) {
+            throw new IOException("sources were not read at once");
+          }
+        } catch (InterruptedException e) {
+          throw new IOException(e);
+        }
+      }
+      return line.read(buf, off, len);
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Runs against the multi-release jar, which loads the {@link ParserThreads} for the running Java version.
+ */
+public class ParserThreadsIntegrationTest {
+
+  @Test
+  public void testSourcesOnVirtualThreadsOnJava21() throws Exception {
+    boolean java21 = !System.getProperty("java.specification.version").startsWith("1.")
+        && Integer.parseInt(System.getProperty("java.specification.version")) >= 21;
+    boolean fromJar = ParserThreads.class.getProtectionDomain().getCodeSource().getLocation().getPath()
+        .endsWith(".jar");
+    Assert.assertTrue(fromJar);
+    Assert.assertEquals(java21, ParserThreads.sourcesOnVirtualThreads());
+
+    ExecutorService executor = ParserThreads.newThreadPerTaskExecutor("test");
+    try {
+      Future<String> name = executor.submit(() -> Thread.currentThread().toString());
+      Assert.assertEquals(java21, name.get().startsWith("VirtualThread"));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testParallelExecutorIsBoundedOnEveryVersion() throws Exception {
+    ExecutorService executor = ParserThreads.newParallelExecutor(3);
+    try {
+      Assert.assertTrue(executor instanceof ForkJoinPool);
+      Assert.assertEquals(3, ((ForkJoinPool) executor).getParallelism());
+      Future<String> name = executor.submit(() -> Thread.currentThread().toString());
+      Assert.assertFalse(name.get().startsWith("VirtualThread"));
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
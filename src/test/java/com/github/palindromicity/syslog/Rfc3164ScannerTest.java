@@ -0,0 +1,140 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import com.github.palindromicity.syslog.dsl.ParseException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class Rfc3164ScannerTest extends AbstractRfc3164SyslogParserTest {
+
+  private static final List<String> LINES = Arrays.asList(
+      "<181>Aug  6 17:26:31 host ",
+      "<181>Aug  6 17:26:31 host \n",
+      "<181>Aug  6 17:26:31  msg here",
+      "<01>Aug  6 17:26:31 host msg",
+      "<181>Aug 16 17:26:31.123456 host msg",
+      "<181>Aug 16 17:26:31.1234567 host msg",
+      "<181>Aug 16 17:26:31. host msg",
+      "<181> Aug 16 17:26:31 host msg",
+      "<181>  Aug 16 17:26:31 host msg",
+      "<181>Aug 6 17:26:31 host msg",
+      "<181>Aug   6 17:26:31 host msg",
+      "<181>Aug 123 17:26:31 host msg",
+      "<181>aug 12 17:26:31 host msg",
+      "<181>2018-09-14T00:54:09.1Z host ïmsg",
+      "<181>2018-09-14T00:54:09-07:00 host ï",
+      "<181>2018-09-14T00:54:09-07:00 host",
+      "<181>2018-09-14T00:54:09 host msg",
+      "<181>2018-09-14 00:54:09Z host msg",
+      "<181>2018-9-14T00:54:09Z host msg",
+      "<181>Aug  6 17:26:31 host Ā",
+      "<181>Aug  6 17:26:31 host\tmsg",
+      "<181>Aug  6 17:26:31 hést msg",
+      "<181>Aug  6 17:26:31 host msg\u0000",
+      "<181>Aug  6 17:26:31 host \t msg \r\n",
+      "<1811>Aug  6 17:26:31 host msg",
+      "<191>Aug  6 17:26:31 host msg",
+      "<192>Aug  6 17:26:31 host msg",
+      "<999>Aug  6 17:26:31 host msg",
+      "<>Aug  6 17:26:31 host msg",
+      "<181Aug  6 17:26:31 host msg",
+      "Aug  6 17:26:31 host msg",
+      "localhost some body of the message");
+
+  @Test
+  public void testScannerMatchesAntlrForFiles() throws Exception {
+    for (String fileName : SAMPLE_FILES) {
+      assertSameResults(readLines(fileName));
+    }
+  }
+
+  @Test
+  public void testScannerMatchesAntlrForLines() throws Exception {
+    assertSameResults(LINES);
+  }
+
+  @Test
+  public void testScannerMatchesAntlrHeaderOnly() throws Exception {
+    SyslogParser antlr = new SyslogParserBuilder().withHeaderOnly(true).build();
+    SyslogParser scanner = new SyslogParserBuilder().withHeaderOnly(true)
+        .withEngine(ParserEngine.SCANNER).build();
+    for (String fileName : SAMPLE_FILES) {
+      for (String line : readLines(fileName)) {
+        Assert.assertEquals(line, parseTyped(antlr, line), parseTyped(scanner, line));
+      }
+    }
+    for (String line : LINES) {
+      Assert.assertEquals(line, parseTyped(antlr, line), parseTyped(scanner, line));
+    }
+  }
+
+  @Test
+  public void testScannerAcceptsSamples() throws Exception {
+    Assert.assertTrue(scan(readFileToString("src/test/resources/logs/3164/single_ise.txt")));
+    Assert.assertTrue(scan(readFileToString("src/test/resources/logs/3164/single_ise_old_date.txt")));
+    Assert.assertTrue(scan(readFileToString("src/test/resources/logs/3164/single_ise_deviation.txt")));
+    Assert.assertFalse(scan("localhost some body of the message"));
+  }
+
+  @Test(expected = ParseException.class)
+  public void testScannerPriorityMissing() throws Exception {
+    SyslogParser parser = new SyslogParserBuilder().withEngine(ParserEngine.SCANNER).build();
+    parser.parseLine(readFileToString("src/test/resources/logs/3164/single_ise_deviation.txt"));
+  }
+
+  private static boolean scan(String line) {
+    MutableSyslogMessage target = new MutableSyslogMessage();
+    target.reset(line);
+    return new Rfc3164Scanner(false).scan(line, target);
+  }
+
+  private static void assertSameResults(List<String> lines) {
+    for (EnumSet<AllowableDeviations> deviations : Arrays.asList(EnumSet.of(AllowableDeviations.NONE),
+        EnumSet.of(AllowableDeviations.PRIORITY))) {
+      SyslogParser antlr = new SyslogParserBuilder().withDeviations(deviations).build();
+      SyslogParser scanner = new SyslogParserBuilder().withDeviations(deviations)
+          .withEngine(ParserEngine.SCANNER).build();
+      for (String line : lines) {
+        Assert.assertEquals(line, parse(antlr, line), parse(scanner, line));
+        Assert.assertEquals(line, parseTyped(antlr, line), parseTyped(scanner, line));
+      }
+    }
+  }
+
+  private static Object parse(SyslogParser parser, String line) {
+    try {
+      Map<String, Object> map = parser.parseLine(line);
+      return map;
+    } catch (Exception e) {
+      return e.getClass();
+    }
+  }
+
+  private static Object parseTyped(SyslogParser parser, String line) {
+    try {
+      return parser.parse(line);
+    } catch (Exception e) {
+      return e.getClass();
+    }
+  }
+}
@@ -16,10 +16,15 @@
 
 package com.github.palindromicity.syslog;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import com.github.palindromicity.syslog.dsl.ParseException;
 import com.github.palindromicity.syslog.dsl.SyslogFieldKeys;
@@ -104,6 +109,29 @@ public class Rfc3164SyslogParserTest extends AbstractRfc3164SyslogParserTest {
     Assert.assertEquals(1, errorCount.get());
   }
 
+  @Test
+  public void testParseLineScanner() throws Exception {
+    SyslogParser parser = new SyslogParserBuilder().withEngine(ParserEngine.SCANNER).build();
+    Map<String, Object> map = handleLine(readFileToString("src/test/resources/logs/3164/single_ise.txt"), parser);
+    Assert.assertEquals(expectedMessageOne, map.get(SyslogFieldKeys.MESSAGE.getField()));
+    Assert.assertEquals(expectedHostNameOne, map.get(SyslogFieldKeys.HEADER_HOSTNAME.getField()));
+    Assert.assertEquals(expectedPriOne, map.get(SyslogFieldKeys.HEADER_PRI.getField()));
+    Assert.assertEquals(expectedSeverityOne, map.get(SyslogFieldKeys.HEADER_PRI_SEVERITY.getField()));
+    Assert.assertEquals(expectedFacilityOne, map.get(SyslogFieldKeys.HEADER_PRI_FACILITY.getField()));
+    Assert.assertEquals(expectedTimestampOne, map.get(SyslogFieldKeys.HEADER_TIMESTAMP.getField()));
+  }
+
+  @Test
+  public void testParseLinesConsumerAndErrorConsumerScanner() throws Exception {
+    final AtomicInteger mapCount = new AtomicInteger();
+    final AtomicInteger errorCount = new AtomicInteger();
+    SyslogParser parser = new SyslogParserBuilder().withEngine(ParserEngine.SCANNER).build();
+    handleFile("src/test/resources/logs/3164/many_with_errors.txt", parser, (map) -> mapCount.incrementAndGet(),
+        (line,throwable) -> errorCount.incrementAndGet());
+    Assert.assertEquals(3, mapCount.get());
+    Assert.assertEquals(1, errorCount.get());
+  }
+
   @Test
   public void testParseLines() throws Exception {
     SyslogParser parser = new SyslogParserBuilder().build();
@@ -111,6 +139,48 @@ public class Rfc3164SyslogParserTest extends AbstractRfc3164SyslogParserTest {
     Assert.assertEquals(308, mapList.size());
   }
 
+  @Test
+  public void testParseLinesPooled() throws Exception {
+    SyslogParser parser = new SyslogParserBuilder().withPooledParsers(true).build();
+    List<Map<String, Object>> mapList = handleFile("src/test/resources/logs/3164/many_ise.txt", parser);
+    Assert.assertEquals(308, mapList.size());
+    Assert.assertEquals(handleFile("src/test/resources/logs/3164/many_ise.txt", new SyslogParserBuilder().build()),
+        mapList);
+  }
+
+  @Test
+  public void testParseLinesConsumerAndErrorConsumerPooled() throws Exception {
+    final AtomicInteger mapCount = new AtomicInteger();
+    final AtomicInteger errorCount = new AtomicInteger();
+    SyslogParser parser = new SyslogParserBuilder().withPooledParsers(true).build();
+    handleFile("src/test/resources/logs/3164/many_with_errors.txt", parser, (map) -> mapCount.incrementAndGet(),
+        (line,throwable) -> errorCount.incrementAndGet());
+    Assert.assertEquals(3, mapCount.get());
+    Assert.assertEquals(1, errorCount.get());
+  }
+
+  @Test
+  public void testParseLinePooledThreads() throws Exception {
+    final SyslogParser parser = new SyslogParserBuilder().withPooledParsers(true).build();
+    final String line = readFileToString("src/test/resources/logs/3164/single_ise.txt");
+    final AtomicInteger mapCount = new AtomicInteger();
+    Thread[] threads = new Thread[4];
+    for (int i = 0; i < threads.length; i++) {
+      threads[i] = new Thread(() -> {
+        for (int j = 0; j < 50; j++) {
+          if (expectedMessageOne.equals(parser.parseLine(line).get(SyslogFieldKeys.MESSAGE.getField()))) {
+            mapCount.incrementAndGet();
+          }
+        }
+      });
+      threads[i].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    Assert.assertEquals(200, mapCount.get());
+  }
+
   @Test
   public void testParseLinesMixDates() throws Exception {
     SyslogParser parser = new SyslogParserBuilder().build();
@@ -154,6 +224,12 @@ public class Rfc3164SyslogParserTest extends AbstractRfc3164SyslogParserTest {
     Map<String, Object> map = handleLine("localhost some body of the message", parser);
   }
 
+  @Test(expected = ParseException.class)
+  public void testInvalidLineScanner() throws Exception {
+    SyslogParser parser = new SyslogParserBuilder().withEngine(ParserEngine.SCANNER).build();
+    handleLine("localhost some body of the message", parser);
+  }
+
   @Test(expected = ParseException.class)
   @SuppressWarnings("unchecked")
   public void testInvalidLineConsumer() throws Exception {
@@ -162,4 +238,228 @@ public class Rfc3164SyslogParserTest extends AbstractRfc3164SyslogParserTest {
       Assert.fail();
     });
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testParseBytesMatchesString() throws Exception {
+    for (ParserEngine engine : ParserEngine.values()) {
+      SyslogParser parser = new SyslogParserBuilder().withEngine(engine).build();
+      for (String fileName : SAMPLE_FILES) {
+        for (String line : readLines(fileName)) {
+          byte[] bytes = ("xx" + line + "yy").getBytes(StandardCharsets.ISO_8859_1);
+          String expected = new String(bytes, 2, bytes.length - 4, StandardCharsets.ISO_8859_1);
+          Assert.assertEquals(line, parse(() -> parser.parseLine(expected)),
+              parse(() -> parser.parseLine(bytes, 2, bytes.length - 4)));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testParseByteBuffer() throws Exception {
+    SyslogParser parser = new SyslogParserBuilder().build();
+    byte[] bytes = readFileToString("src/test/resources/logs/3164/single_ise.txt")
+        .getBytes(StandardCharsets.ISO_8859_1);
+
+    ByteBuffer heap = ByteBuffer.allocate(bytes.length + 4);
+    heap.position(2);
+    heap.put(bytes);
+    heap.position(2);
+    heap.limit(bytes.length + 2);
+    Map<String, Object> map = parser.parseLine(heap.slice());
+    Assert.assertEquals(expectedMessageOne, map.get(SyslogFieldKeys.MESSAGE.getField()));
+    Assert.assertEquals(2, heap.position());
+
+    ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+    direct.put(bytes);
+    direct.flip();
+    map = parser.parseLine(direct);
+    Assert.assertEquals(expectedMessageOne, map.get(SyslogFieldKeys.MESSAGE.getField()));
+    Assert.assertEquals(0, direct.position());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testParseBytesOutOfBounds() throws Exception {
+    new SyslogParserBuilder().build().parseLine(new byte[10], 4, 7);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testParseBytesBlank() throws Exception {
+    new SyslogParserBuilder().build().parseLine(new byte[] {' ', ' '}, 0, 2);
+  }
+
+  @Test
+  public void testParseTyped() throws Exception {
+    SyslogParser parser = new SyslogParserBuilder().build();
+    SyslogMessage message = parser.parse(readFileToString("src/test/resources/logs/3164/single_ise.txt"));
+    Assert.assertEquals(181, message.getPriority());
+    Assert.assertEquals(22, message.getFacility());
+    Assert.assertEquals(5, message.getSeverity());
+    Assert.assertEquals(1536886449000L, message.getTimeStamp());
+    Assert.assertEquals(expectedTimestampOne, message.getTimeStampText());
+    Assert.assertEquals(expectedHostNameOne, message.getHostName());
+    Assert.assertEquals(expectedMessageOne, message.getMessage().toString());
+  }
+
+  @Test
+  public void testParseTypedMatchesMap() throws Exception {
+    for (ParserEngine engine : ParserEngine.values()) {
+      SyslogParser parser = new SyslogParserBuilder().withEngine(engine)
+          .withDeviations(EnumSet.of(AllowableDeviations.PRIORITY)).build();
+      for (String fileName : SAMPLE_FILES) {
+        for (String line : readLines(fileName)) {
+          Map<String, Object> map;
+          try {
+            map = parser.parseLine(line);
+          } catch (ParseException e) {
+            continue;
+          }
+          SyslogMessage message = parser.parse(line);
+          Assert.assertEquals(map.get(SyslogFieldKeys.HEADER_PRI.getField()) == null ? -1
+              : Integer.parseInt((String) map.get(SyslogFieldKeys.HEADER_PRI.getField())), message.getPriority());
+          Assert.assertEquals(map.get(SyslogFieldKeys.HEADER_TIMESTAMP.getField()), message.getTimeStampText());
+          Assert.assertEquals(map.get(SyslogFieldKeys.HEADER_HOSTNAME.getField()), message.getHostName());
+          Assert.assertEquals(map.get(SyslogFieldKeys.MESSAGE.getField()), message.getMessage());
+          Assert.assertEquals(message, parser.parse(line.getBytes(StandardCharsets.ISO_8859_1), 0, line.length()));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testParseTypedNoPriority() throws Exception {
+    SyslogParser parser = new SyslogParserBuilder().withDeviations(EnumSet.of(AllowableDeviations.PRIORITY)).build();
+    SyslogMessage message = parser.parse(readFileToString("src/test/resources/logs/3164/single_ise_deviation.txt"));
+    Assert.assertFalse(message.hasPriority());
+    Assert.assertEquals(SyslogMessage.NO_PRIORITY, message.getFacility());
+    Assert.assertEquals(SyslogMessage.NO_PRIORITY, message.getSeverity());
+  }
+
+  @Test(expected = ParseException.class)
+  public void testParseTypedInvalidLine() throws Exception {
+    new SyslogParserBuilder().build().parse("localhost some body of the message");
+  }
+
+  @Test
+  public void testWithFields() throws Exception {
+    String line = readFileToString("src/test/resources/logs/3164/single_ise.txt");
+    for (ParserEngine engine : ParserEngine.values()) {
+      SyslogParser parser = new SyslogParserBuilder().withEngine(engine)
+          .withFields(EnumSet.of(SyslogFieldKeys.HEADER_HOSTNAME, SyslogFieldKeys.HEADER_PRI_SEVERITY,
+              SyslogFieldKeys.HEADER_TIMESTAMP)).build();
+      Map<String, Object> map = parser.parseLine(line);
+      Assert.assertEquals(3, map.size());
+      Assert.assertEquals(expectedHostNameOne, map.get(SyslogFieldKeys.HEADER_HOSTNAME.getField()));
+      Assert.assertEquals(expectedSeverityOne, map.get(SyslogFieldKeys.HEADER_PRI_SEVERITY.getField()));
+      Assert.assertEquals(expectedTimestampOne, map.get(SyslogFieldKeys.HEADER_TIMESTAMP.getField()));
+
+      SyslogMessage message = parser.parse(line);
+      Assert.assertEquals(expectedHostNameOne, message.getHostName());
+      Assert.assertEquals(5, message.getSeverity());
+      Assert.assertEquals(1536886449000L, message.getTimeStamp());
+      Assert.assertNull(message.getMessage());
+    }
+  }
+
+  @Test
+  public void testWithFieldsStillValidates() throws Exception {
+    SyslogParser parser = new SyslogParserBuilder().withFields(EnumSet.of(SyslogFieldKeys.HEADER_HOSTNAME)).build();
+    Assert.assertEquals(Collections.emptyMap(), new SyslogParserBuilder()
+        .withFields(EnumSet.noneOf(SyslogFieldKeys.class)).build()
+        .parseLine(readFileToString("src/test/resources/logs/3164/single_ise.txt")));
+    try {
+      parser.parseLine(readFileToString("src/test/resources/logs/3164/single_ise_deviation.txt"));
+      Assert.fail();
+    } catch (ParseException e) {
+      // expected
+    }
+    SyslogMessage message = new SyslogParserBuilder().withFields(EnumSet.of(SyslogFieldKeys.MESSAGE)).build()
+        .parse(readFileToString("src/test/resources/logs/3164/single_ise.txt"));
+    Assert.assertEquals(SyslogMessage.NO_PRIORITY, message.getPriority());
+    Assert.assertEquals(SyslogMessage.NO_TIMESTAMP, message.getTimeStamp());
+    Assert.assertNull(message.getHostName());
+    Assert.assertEquals(expectedMessageOne, message.getMessage());
+  }
+
+  @Test
+  public void testHeaderOnly() throws Exception {
+    String line = readFileToString("src/test/resources/logs/3164/single_ise.txt");
+    for (ParserEngine engine : ParserEngine.values()) {
+      SyslogParser parser = new SyslogParserBuilder().withEngine(engine).withHeaderOnly(true).build();
+      Map<String, Object> map = parser.parseLine(line);
+      Assert.assertEquals(5, map.size());
+      Assert.assertNull(map.get(SyslogFieldKeys.MESSAGE.getField()));
+      Assert.assertEquals(expectedHostNameOne, map.get(SyslogFieldKeys.HEADER_HOSTNAME.getField()));
+
+      SyslogMessage message = parser.parse(line);
+      Assert.assertEquals(181, message.getPriority());
+      Assert.assertEquals(expectedHostNameOne, message.getHostName());
+      Assert.assertNull(message.getMessage());
+      Assert.assertEquals(expectedMessageOne, line.substring(message.getBodyStart()).trim());
+    }
+  }
+
+  @Test
+  public void testHeaderOnlySkipsBody() throws Exception {
+    // characters above 0xFF fail the MSG, but are never reached
+    String line = "<181>Aug  6 17:26:31 host Ā body";
+    for (ParserEngine engine : ParserEngine.values()) {
+      try {
+        new SyslogParserBuilder().withEngine(engine).build().parse(line);
+        Assert.fail();
+      } catch (ParseException e) {
+        // expected
+      }
+      SyslogMessage message = new SyslogParserBuilder().withEngine(engine).withHeaderOnly(true).build().parse(line);
+      Assert.assertEquals("host", message.getHostName());
+      Assert.assertEquals(26, message.getBodyStart());
+    }
+  }
+
+  @Test
+  public void testEpochTimeStamps() throws Exception {
+    SyslogParser parser = new SyslogParserBuilder().withEpochTimeStamps(true)
+        .withTimeStampZone(ZoneOffset.ofHours(10)).withYearInference(YearInference.NEAREST).build();
+    Map<String, Object> map = parser.parseLine(readFileToString("src/test/resources/logs/3164/single_ise.txt"));
+    Assert.assertEquals(1536886449000L, map.get(SyslogFieldKeys.HEADER_TIMESTAMP.getField()));
+
+    SyslogMessage message = parser.parse(readFileToString("src/test/resources/logs/3164/single_ise_old_date.txt"));
+    Map<String, Object> oldDate = parser.parseLine(
+        readFileToString("src/test/resources/logs/3164/single_ise_old_date.txt"));
+    Assert.assertEquals(message.getTimeStamp(), oldDate.get(SyslogFieldKeys.HEADER_TIMESTAMP.getField()));
+    // Aug  6 17:26:31 at +10:00 is 07:26:31 UTC
+    Assert.assertEquals(26_791_000L, Math.floorMod(message.getTimeStamp(), 86_400_000L));
+    Assert.assertTrue(Math.abs(message.getTimeStamp() - System.currentTimeMillis()) < 190L * 86_400_000L);
+  }
+
+  @Test(expected = ParseException.class)
+  public void testEpochTimeStampsInvalidDate() throws Exception {
+    new SyslogParserBuilder().withEpochTimeStamps(true).build().parseLine("<181>Feb 30 17:26:31 host msg");
+  }
+
+  @Test
+  public void testPriorityOutOfRange() throws Exception {
+    for (ParserEngine engine : ParserEngine.values()) {
+      SyslogParser parser = new SyslogParserBuilder().withEngine(engine).build();
+      Assert.assertEquals("191", parser.parseLine("<191>Aug  6 17:26:31 host msg")
+          .get(SyslogFieldKeys.HEADER_PRI.getField()));
+      Assert.assertEquals("01", parser.parseLine("<01>Aug  6 17:26:31 host msg")
+          .get(SyslogFieldKeys.HEADER_PRI.getField()));
+      for (String line : new String[] {"<192>Aug  6 17:26:31 host msg", "<999>Aug  6 17:26:31 host msg"}) {
+        try {
+          parser.parseLine(line);
+          Assert.fail(line);
+        } catch (ParseException e) {
+          // expected
+        }
+      }
+    }
+  }
+
+  private static Object parse(Supplier<Map<String, Object>> supplier) {
+    try {
+      return supplier.get();
+    } catch (Exception e) {
+      return e.getClass();
+    }
+  }
+}
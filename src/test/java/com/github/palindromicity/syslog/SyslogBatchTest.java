@@ -0,0 +1,166 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+
+import com.github.palindromicity.syslog.dsl.SyslogFieldKeys;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SyslogBatchTest extends AbstractRfc3164SyslogParserTest {
+
+  private static final List<String> LINES = Arrays.asList(
+      "<181>Aug  6 17:26:31 host msg one ",
+      "<1811>Aug  6 17:26:31 host msg",
+      "<14>2018-09-14T00:54:09Z other msg two",
+      "   ",
+      "<192>Aug  6 17:26:31 host msg",
+      "Aug  6 17:26:31 host msg",
+      "<165>Aug  6 17:26:31 host ",
+      "<0>Feb 30 17:26:31 host msg");
+
+  @Test
+  public void testBatchMatchesParse() throws Exception {
+    for (ParserEngine engine : ParserEngine.values()) {
+      SyslogParser parser = new SyslogParserBuilder().withEngine(engine).build();
+      for (String fileName : SAMPLE_FILES) {
+        assertMatchesParse(parser, readLines(fileName));
+      }
+      assertMatchesParse(parser, LINES);
+    }
+  }
+
+  @Test
+  public void testErrorCodes() {
+    SyslogBatch batch = new SyslogParserBuilder().build().parseBatch(LINES);
+    Assert.assertEquals(LINES.size(), batch.size());
+    Assert.assertEquals(4, batch.getErrorCount());
+    Assert.assertNull(batch.getErrorCode(0));
+    Assert.assertEquals(ParseErrorCode.SYNTAX_ERROR, batch.getErrorCode(1));
+    Assert.assertEquals(ParseErrorCode.BLANK_LINE, batch.getErrorCode(3));
+    Assert.assertEquals(ParseErrorCode.PRIORITY_OUT_OF_RANGE, batch.getErrorCode(4));
+    Assert.assertEquals(ParseErrorCode.PRIORITY_MISSING, batch.getErrorCode(5));
+    Assert.assertFalse(batch.isError(7));
+    Assert.assertEquals(SyslogMessage.NO_TIMESTAMP, batch.getTimeStamps()[7]);
+
+    Assert.assertEquals(SyslogMessage.NO_PRIORITY, batch.getPriorities()[1]);
+    Assert.assertEquals(SyslogMessage.NO_TIMESTAMP, batch.getTimeStamps()[1]);
+    Assert.assertEquals(-1, batch.getHostNameCodes()[1]);
+    Assert.assertNull(batch.getHostName(1));
+    Assert.assertEquals("", batch.getMessage(1));
+  }
+
+  @Test
+  public void testColumns() {
+    SyslogBatch batch = new SyslogParserBuilder().build().parseBatch(LINES);
+    Assert.assertEquals(181, batch.getPriorities()[0]);
+    Assert.assertEquals(22, batch.getFacilities()[0]);
+    Assert.assertEquals(5, batch.getSeverities()[0]);
+    Assert.assertEquals(1536886449000L, batch.getTimeStamps()[2]);
+
+    Assert.assertArrayEquals(new String[] {"host", "other"}, batch.getHostNameDictionary());
+    Assert.assertEquals(0, batch.getHostNameCodes()[0]);
+    Assert.assertEquals(1, batch.getHostNameCodes()[2]);
+    Assert.assertEquals(0, batch.getHostNameCodes()[6]);
+    Assert.assertEquals(0, batch.getHostNameCodes()[7]);
+
+    String chars = new String(batch.getMessageChars(), 0, batch.getMessageCharsLength());
+    Assert.assertEquals("msg onemsg twomsg", chars);
+    Assert.assertEquals(7, batch.getMessageOffsets()[2]);
+    Assert.assertEquals(7, batch.getMessageLengths()[2]);
+    Assert.assertEquals(0, batch.getMessageLengths()[6]);
+    Assert.assertEquals("msg two", batch.getMessage(2));
+  }
+
+  @Test
+  public void testFields() {
+    SyslogBatch batch = new SyslogParserBuilder()
+        .withFields(EnumSet.of(SyslogFieldKeys.HEADER_HOSTNAME)).build().parseBatch(LINES);
+    Assert.assertEquals(SyslogMessage.NO_PRIORITY, batch.getPriorities()[0]);
+    Assert.assertEquals(SyslogMessage.NO_TIMESTAMP, batch.getTimeStamps()[2]);
+    Assert.assertEquals("other", batch.getHostName(2));
+    Assert.assertEquals(0, batch.getMessageCharsLength());
+
+    batch = new SyslogParserBuilder().withHeaderOnly(true).build().parseBatch(LINES);
+    Assert.assertEquals("host", batch.getHostName(0));
+    Assert.assertEquals(0, batch.getMessageCharsLength());
+  }
+
+  @Test
+  public void testManyHostNames() {
+    List<String> lines = new ArrayList<>();
+    for (int i = 0; i < 10000; i++) {
+      lines.add("<181>Aug  6 17:26:31 host" + (i % 1000) + " msg" + i);
+    }
+    SyslogBatch batch = new SyslogParserBuilder().build().parseBatch(lines);
+    Assert.assertEquals(1000, batch.getHostNameDictionary().length);
+    for (int i = 0; i < lines.size(); i++) {
+      Assert.assertEquals(i % 1000, batch.getHostNameCodes()[i]);
+      Assert.assertEquals("host" + (i % 1000), batch.getHostName(i));
+      Assert.assertEquals("msg" + i, batch.getMessage(i));
+    }
+  }
+
+  @Test
+  public void testEmptyBatch() {
+    SyslogBatch batch = new SyslogParserBuilder().build().parseBatch(Collections.emptyList());
+    Assert.assertEquals(0, batch.size());
+    Assert.assertEquals(0, batch.getHostNameDictionary().length);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullLines() {
+    new SyslogParserBuilder().build().parseBatch(null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullLine() {
+    new SyslogParserBuilder().build().parseBatch(Arrays.asList("<181>Aug  6 17:26:31 host msg", null));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testRowOutOfBounds() {
+    new SyslogParserBuilder().build().parseBatch(LINES).getMessage(LINES.size());
+  }
+
+  private static void assertMatchesParse(SyslogParser parser, List<String> lines) {
+    SyslogBatch batch = parser.parseBatch(lines);
+    Assert.assertEquals(lines.size(), batch.size());
+    for (int row = 0; row < lines.size(); row++) {
+      String line = lines.get(row);
+      SyslogMessage message;
+      try {
+        message = parser.parse(line);
+      } catch (RuntimeException e) {
+        Assert.assertTrue(line, batch.isError(row));
+        continue;
+      }
+      Assert.assertFalse(line, batch.isError(row));
+      Assert.assertEquals(line, message.getPriority(), batch.getPriorities()[row]);
+      Assert.assertEquals(line, message.getFacility(), batch.getFacilities()[row]);
+      Assert.assertEquals(line, message.getSeverity(), batch.getSeverities()[row]);
+      Assert.assertEquals(line, message.getTimeStamp(), batch.getTimeStamps()[row]);
+      Assert.assertEquals(line, message.getHostName(), batch.getHostName(row));
+      Assert.assertEquals(line, message.getMessage(), batch.getMessage(row));
+    }
+  }
+}
@@ -20,6 +20,7 @@ import static org.junit.Assert.assertTrue;
 
 import java.util.EnumSet;
 
+import com.github.palindromicity.syslog.dsl.SyslogFieldKeys;
 import org.junit.Test;
 
 public class SyslogParserBuilderTest {
@@ -35,4 +36,22 @@ public class SyslogParserBuilderTest {
     SyslogParser parser = new SyslogParserBuilder().build();
     assertTrue(parser.getClass() == Rfc3164SyslogParser.class);
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testWithEngine() {
+    SyslogParser parser = new SyslogParserBuilder().withEngine(ParserEngine.SCANNER).build();
+    assertTrue(parser.getClass() == Rfc3164SyslogParser.class);
+  }
+
+  @Test
+  public void testWithTwoStageParsing() {
+    SyslogParser parser = new SyslogParserBuilder().withTwoStageParsing(false).build();
+    assertTrue(parser.getClass() == Rfc3164SyslogParser.class);
+  }
+
+  @Test
+  public void testWithFields() {
+    SyslogParser parser = new SyslogParserBuilder().withFields(EnumSet.of(SyslogFieldKeys.HEADER_HOSTNAME)).build();
+    assertTrue(parser.getClass() == Rfc3164SyslogParser.class);
+  }
+}
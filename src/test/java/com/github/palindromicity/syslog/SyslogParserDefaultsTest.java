@@ -0,0 +1,194 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import com.github.palindromicity.syslog.dsl.ParseException;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the default methods of {@link SyslogParser} with an implementation of only its abstract methods.
+ */
+public class SyslogParserDefaultsTest {
+
+  private static final String LINE = "<181>Aug  6 17:26:31 host msg";
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private final SyslogParser parser = new AbstractMethodsSyslogParser();
+
+  @Test
+  public void testParseBytes() {
+    byte[] bytes = ("x" + LINE).getBytes(StandardCharsets.ISO_8859_1);
+    Assert.assertEquals(parser.parse(LINE), parser.parse(bytes, 1, bytes.length - 1));
+  }
+
+  @Test(expected = ParseException.class)
+  public void testParseBytesThrows() {
+    byte[] bytes = "bad".getBytes(StandardCharsets.ISO_8859_1);
+    parser.parse(bytes, 0, bytes.length);
+  }
+
+  @Test
+  public void testParseIntoBytes() {
+    byte[] bytes = ("x" + LINE).getBytes(StandardCharsets.ISO_8859_1);
+    MutableSyslogMessage target = new MutableSyslogMessage();
+    parser.parseInto(bytes, 1, bytes.length - 1, target);
+    Assert.assertEquals(parser.parse(LINE), target.toSyslogMessage());
+  }
+
+  @Test
+  public void testTryParseLine() {
+    Assert.assertEquals(parser.parseLine(LINE), parser.tryParseLine(LINE).getValue());
+    byte[] bytes = ("x" + LINE).getBytes(StandardCharsets.ISO_8859_1);
+    Assert.assertEquals(parser.parseLine(LINE), parser.tryParseLine(bytes, 1, bytes.length - 1).getValue());
+    ParseResult<Map<String, Object>> failure = parser.tryParseLine("bad");
+    Assert.assertFalse(failure.isSuccess());
+    Assert.assertEquals(ParseErrorCode.SYNTAX_ERROR, failure.getErrorCode());
+    Assert.assertEquals(0, failure.getErrorOffset());
+  }
+
+  @Test
+  public void testTryParse() {
+    Assert.assertEquals(parser.parse(LINE), parser.tryParse(LINE).getValue());
+    byte[] bytes = ("x" + LINE).getBytes(StandardCharsets.ISO_8859_1);
+    Assert.assertEquals(parser.parse(LINE), parser.tryParse(bytes, 1, bytes.length - 1).getValue());
+    ParseResult<SyslogMessage> failure = parser.tryParse("bad");
+    Assert.assertFalse(failure.isSuccess());
+    Assert.assertEquals(ParseErrorCode.SYNTAX_ERROR, failure.getErrorCode());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testTryParseLineBlank() {
+    parser.tryParseLine(" ");
+  }
+
+  @Test
+  public void testParseFile() throws Exception {
+    Path path = folder.newFile().toPath();
+    Files.write(path, (LINE + "\nbad\n" + LINE + "\n").getBytes(StandardCharsets.ISO_8859_1));
+    List<Map<String, Object>> messages = new ArrayList<>();
+    List<String> errors = new ArrayList<>();
+    parser.parseFile(path, messages::add, (line, throwable) -> errors.add(line));
+    Assert.assertEquals(Arrays.asList(parser.parseLine(LINE), parser.parseLine(LINE)), messages);
+    Assert.assertEquals(Collections.singletonList("bad"), errors);
+  }
+
+  @Test(expected = ParseException.class)
+  public void testParseFileThrows() throws Exception {
+    Path path = folder.newFile().toPath();
+    Files.write(path, (LINE + "\nbad\n").getBytes(StandardCharsets.ISO_8859_1));
+    parser.parseFile(path, (message) -> { });
+  }
+
+  @Test
+  public void testParseBatch() {
+    SyslogBatch batch = parser.parseBatch(Arrays.asList(LINE, "bad", " ", LINE));
+    SyslogBatch expected = new SyslogParserBuilder().build().parseBatch(Arrays.asList(LINE, "bad", " ", LINE));
+    Assert.assertEquals(4, batch.size());
+    Assert.assertEquals(2, batch.getErrorCount());
+    Assert.assertEquals(ParseErrorCode.SYNTAX_ERROR, batch.getErrorCode(1));
+    Assert.assertEquals(ParseErrorCode.BLANK_LINE, batch.getErrorCode(2));
+    for (int row : new int[] {0, 3}) {
+      Assert.assertEquals(expected.getPriorities()[row], batch.getPriorities()[row]);
+      Assert.assertEquals(expected.getTimeStamps()[row], batch.getTimeStamps()[row]);
+      Assert.assertEquals(expected.getHostName(row), batch.getHostName(row));
+      Assert.assertEquals(expected.getMessage(row), batch.getMessage(row));
+    }
+  }
+
+  @Test
+  public void testParseSources() {
+    List<Map<String, Object>> messages = Collections.synchronizedList(new ArrayList<>());
+    List<String> errors = Collections.synchronizedList(new ArrayList<>());
+    parser.parseSources(Arrays.asList(new StringReader(LINE + "\n" + LINE), new StringReader("bad")),
+        messages::add, (line, throwable) -> errors.add(line));
+    Assert.assertEquals(Arrays.asList(parser.parseLine(LINE), parser.parseLine(LINE)), messages);
+    Assert.assertEquals(Collections.singletonList("bad"), errors);
+  }
+
+  /**
+   * A {@link SyslogParser} of only the abstract methods, each passed to a built parser.
+   */
+  private static final class AbstractMethodsSyslogParser implements SyslogParser {
+
+    private final SyslogParser parser = new SyslogParserBuilder().build();
+
+    @Override
+    public Map<String, Object> parseLine(String line) {
+      return parser.parseLine(line);
+    }
+
+    @Override
+    public SyslogMessage parse(CharSequence line) {
+      return parser.parse(line);
+    }
+
+    @Override
+    public void parseInto(CharSequence line, MutableSyslogMessage target) {
+      parser.parseInto(line, target);
+    }
+
+    @Override
+    public void parseLine(String line, Consumer<Map<String, Object>> consumer) {
+      parser.parseLine(line, consumer);
+    }
+
+    @Override
+    public List<Map<String, Object>> parseLines(Reader reader) {
+      return parser.parseLines(reader);
+    }
+
+    @Override
+    public void parseLines(Reader reader, Consumer<Map<String, Object>> consumer) {
+      parser.parseLines(reader, consumer);
+    }
+
+    @Override
+    public void parseLines(Reader reader, Consumer<Map<String, Object>> messageConsumer,
+        BiConsumer<String, Throwable> errorConsumer) {
+      parser.parseLines(reader, messageConsumer, errorConsumer);
+    }
+
+    @Override
+    public void parseBatches(Reader reader, Consumer<List<Map<String, Object>>> batchConsumer) {
+      parser.parseBatches(reader, batchConsumer);
+    }
+
+    @Override
+    public void parseBatches(Reader reader, Consumer<List<Map<String, Object>>> batchConsumer,
+        BiConsumer<String, Throwable> errorConsumer) {
+      parser.parseBatches(reader, batchConsumer, errorConsumer);
+    }
+  }
+}
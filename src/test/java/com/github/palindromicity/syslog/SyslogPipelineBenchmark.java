@@ -0,0 +1,206 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import java.io.BufferedReader;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import com.github.palindromicity.syslog.dsl.SyslogFieldKeys;
+
+/**
+ * Measures the throughput and latency of {@link SyslogPipeline} against a pipeline of
+ * {@link LinkedBlockingQueue}s with the same stages.
+ * <p>
+ * Run with {@code mvn test-compile} and then
+ * {@code java -cp target/classes:target/test-classes:<antlr4-runtime jar>
+ * com.github.palindromicity.syslog.SyslogPipelineBenchmark 2000000 4 20000}, where the arguments are the number
+ * of lines for throughput, the number of parse workers and the lines per second of the paced source for
+ * latency.
+ * </p>
+ */
+public final class SyslogPipelineBenchmark {
+
+  private static final String END = new String("end");
+
+  private SyslogPipelineBenchmark() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    int lines = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+    int workers = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+    int linesPerSecond = args.length > 2 ? Integer.parseInt(args[2]) : 20_000;
+    SyslogParser parser = new SyslogParserBuilder().withEngine(ParserEngine.SCANNER).build();
+    System.out.printf("%d lines, %d workers, %d processors%n", lines, workers,
+        Runtime.getRuntime().availableProcessors());
+    for (int run = 0; run < 3; run++) {
+      throughput("LinkedBlockingQueue", lines, () -> {
+        queuePipeline(parser, workers, new ParseLinesTest.SyntheticReader(lines), new long[1]);
+      });
+      for (WaitStrategy waitStrategy : WaitStrategy.values()) {
+        SyslogPipeline pipeline = new SyslogPipelineBuilder(parser).withWorkers(workers)
+            .withWaitStrategy(waitStrategy).withOrderedResults(false).build();
+        throughput("SyslogPipeline " + waitStrategy, lines, () -> {
+          pipeline.run(new ParseLinesTest.SyntheticReader(lines), (map) -> { }, (line, throwable) -> { });
+        });
+      }
+    }
+    int pacedLines = linesPerSecond * 5;
+    latency("LinkedBlockingQueue", (latencies) -> {
+      queuePipeline(parser, workers, new PacedReader(pacedLines, linesPerSecond), latencies);
+    }, pacedLines);
+    for (WaitStrategy waitStrategy : WaitStrategy.values()) {
+      SyslogPipeline pipeline = new SyslogPipelineBuilder(parser).withWorkers(workers)
+          .withWaitStrategy(waitStrategy).build();
+      latency("SyslogPipeline " + waitStrategy, (latencies) -> {
+        int[] count = new int[1];
+        pipeline.run(new PacedReader(pacedLines, linesPerSecond), (map) -> {
+          latencies[count[0]++] = latency(map);
+        });
+      }, pacedLines);
+    }
+  }
+
+  private static void throughput(String name, int lines, Run run) throws Exception {
+    long start = System.nanoTime();
+    run.run();
+    double seconds = (System.nanoTime() - start) / 1e9;
+    System.out.printf("%-28s %8.3f s %12.0f lines/s%n", name, seconds, lines / seconds);
+  }
+
+  private static void latency(String name, LatencyRun run, int lines) throws Exception {
+    long[] latencies = new long[lines];
+    run.run(latencies);
+    Arrays.sort(latencies);
+    System.out.printf("%-28s latency p50 %8.1f us  p99 %8.1f us  p99.9 %8.1f us%n", name,
+        latencies[lines / 2] / 1e3, latencies[lines * 99 / 100] / 1e3, latencies[lines * 999 / 1000] / 1e3);
+  }
+
+  private static long latency(Map<String, Object> map) {
+    String message = (String) map.get(SyslogFieldKeys.MESSAGE.getField());
+    return System.nanoTime() - Long.parseLong(message);
+  }
+
+  /**
+   * The reader, workers and sink of {@link SyslogPipeline}, joined by {@link LinkedBlockingQueue}s.  The
+   * latencies are recorded if the lines are from a {@link PacedReader}.
+   */
+  private static void queuePipeline(SyslogParser parser, int workers, Reader reader, long[] latencies)
+      throws Exception {
+    BlockingQueue<String> lines = new LinkedBlockingQueue<>(4096);
+    BlockingQueue<Object> results = new LinkedBlockingQueue<>(4096);
+    ExecutorService threads = ParserThreads.newPlatformThreadPerTaskExecutor("benchmark");
+    try {
+      for (int i = 0; i < workers; i++) {
+        threads.execute(() -> {
+          try {
+            for (String line = lines.take(); line != END; line = lines.take()) {
+              ParseResult<Map<String, Object>> result = parser.tryParseLine(line);
+              results.put(result.isSuccess() ? result.getValue() : line);
+            }
+            results.put(END);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        });
+      }
+      Thread sink = new Thread(() -> {
+        try {
+          int count = 0;
+          for (int ended = 0; ended < workers; ) {
+            Object result = results.take();
+            if (result == END) {
+              ended++;
+            } else if (result instanceof Map && latencies.length > 1) {
+              @SuppressWarnings("unchecked")
+              Map<String, Object> map = (Map<String, Object>) result;
+              latencies[count++] = latency(map);
+            }
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+      sink.start();
+      BufferedReader lineReader = new BufferedReader(reader);
+      for (String line = lineReader.readLine(); line != null; line = lineReader.readLine()) {
+        lines.put(line);
+      }
+      for (int i = 0; i < workers; i++) {
+        lines.put(END);
+      }
+      sink.join();
+    } finally {
+      threads.shutdown();
+    }
+  }
+
+  private interface Run {
+    void run() throws Exception;
+  }
+
+  private interface LatencyRun {
+    void run(long[] latencies) throws Exception;
+  }
+
+  /**
+   * Sends lines at a fixed rate, with the time each line was sent as its message.
+   */
+  private static final class PacedReader extends Reader {
+
+    private final long intervalNanos;
+    private int remaining;
+    private long nextSend = System.nanoTime();
+    private String line = "";
+    private int pos;
+
+    PacedReader(int lines, int linesPerSecond) {
+      this.remaining = lines;
+      this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / linesPerSecond;
+    }
+
+    @Override
+    public int read(char[] buf, int off, int len) {
+      if (pos == line.length()) {
+        if (remaining == 0) {
+          return -1;
+        }
+        while (System.nanoTime() < nextSend) {
+          LockSupport.parkNanos(nextSend - System.nanoTime());
+        }
+        nextSend += intervalNanos;
+        remaining--;
+        line = "<181>Aug  6 17:26:31 host " + System.nanoTime() + "\n";
+        pos = 0;
+      }
+      int count = Math.min(len, line.length() - pos);
+      line.getChars(pos, pos + count, buf, off);
+      pos += count;
+      return count;
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import com.github.palindromicity.syslog.dsl.ParseException;
+import com.github.palindromicity.syslog.dsl.SyslogFieldKeys;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SyslogPipelineTest extends AbstractRfc3164SyslogParserTest {
+
+  private static final String MESSAGE = SyslogFieldKeys.MESSAGE.getField();
+
+  private final SyslogParser parser = new SyslogParserBuilder().withEngine(ParserEngine.SCANNER).build();
+
+  @Test
+  public void testOrderedMatchesParseLines() throws Exception {
+    for (String fileName : SAMPLE_FILES) {
+      String text = readFileToString(fileName);
+      List<Object> expected = new ArrayList<>();
+      parser.parseLines(new StringReader(text), expected::add, (line, throwable) -> expected.add(line));
+      for (WaitStrategy waitStrategy : WaitStrategy.values()) {
+        SyslogPipeline pipeline = new SyslogPipelineBuilder(parser).withBufferSize(8).withBatchSize(2)
+            .withWorkers(2).withWaitStrategy(waitStrategy).build();
+        List<Object> actual = new ArrayList<>();
+        pipeline.run(new StringReader(text), actual::add, (line, throwable) -> actual.add(line));
+        Assert.assertEquals(fileName + " " + waitStrategy, expected, actual);
+      }
+    }
+  }
+
+  @Test(timeout = 60000)
+  public void testOrderedThroughput() throws Exception {
+    SyslogPipeline pipeline = new SyslogPipelineBuilder(parser).withBufferSize(256).withBatchSize(16)
+        .withWorkers(3).build();
+    List<String> messages = new ArrayList<>();
+    List<String> errors = new ArrayList<>();
+    pipeline.run(new ParseLinesTest.SyntheticReader(200_000), (map) -> messages.add((String) map.get(MESSAGE)),
+        (line, throwable) -> errors.add(line));
+    Assert.assertEquals(198_000, messages.size());
+    Assert.assertEquals(2_000, errors.size());
+    int index = 0;
+    for (int line = 0; line < 200_000; line++) {
+      if (line % 100 != 99) {
+        Assert.assertEquals("message number " + line, messages.get(index++));
+      }
+    }
+  }
+
+  @Test(timeout = 60000)
+  public void testUnorderedThroughput() throws Exception {
+    for (WaitStrategy waitStrategy : new WaitStrategy[] {WaitStrategy.YIELDING, WaitStrategy.SLEEPING}) {
+      SyslogPipeline pipeline = new SyslogPipelineBuilder(parser).withBufferSize(256).withBatchSize(16)
+          .withWorkers(3).withOrderedResults(false).withWaitStrategy(waitStrategy).build();
+      List<String> messages = new ArrayList<>();
+      int[] errors = new int[1];
+      pipeline.run(new ParseLinesTest.SyntheticReader(200_000), (map) -> messages.add((String) map.get(MESSAGE)),
+          (line, throwable) -> errors[0]++);
+      Assert.assertEquals(198_000, messages.size());
+      Assert.assertEquals(2_000, errors[0]);
+      Collections.sort(messages);
+      for (int i = 1; i < messages.size(); i++) {
+        Assert.assertNotEquals(messages.get(i - 1), messages.get(i));
+      }
+    }
+  }
+
+  @Test(timeout = 30000)
+  public void testLatencyWithQuietSource() throws Exception {
+    // the source only sends a line once the previous one has been consumed, so a pipeline that waited
+    // to fill a batch would never finish
+    Semaphore consumed = new Semaphore(1);
+    Reader quiet = new HandshakeReader(100, consumed);
+    SyslogPipeline pipeline = new SyslogPipelineBuilder(parser).withBatchSize(64).withWorkers(2).build();
+    List<Long> latencies = new ArrayList<>();
+    pipeline.run(quiet, (map) -> {
+      latencies.add(System.nanoTime() - Long.parseLong(((String) map.get(MESSAGE)).trim()));
+      consumed.release();
+    });
+    Assert.assertEquals(100, latencies.size());
+    Collections.sort(latencies);
+    // the median line is consumed well within a second of being sent
+    Assert.assertTrue(latencies.get(50) < TimeUnit.SECONDS.toNanos(1));
+  }
+
+  @Test
+  public void testFirstErrorThrown() throws Exception {
+    SyslogPipeline pipeline = new SyslogPipelineBuilder(parser).withBufferSize(16).withWorkers(2).build();
+    List<Map<String, Object>> messages = new ArrayList<>();
+    try {
+      pipeline.run(new ParseLinesTest.SyntheticReader(1000), messages::add);
+      Assert.fail();
+    } catch (ParseException e) {
+      Assert.assertEquals(99, messages.size());
+    }
+    // the pipeline can be run again
+    messages.clear();
+    pipeline.run(new StringReader("<181>Aug  6 17:26:31 host msg\n<181>Aug  6 17:26:31 host msg"), messages::add);
+    Assert.assertEquals(2, messages.size());
+  }
+
+  @Test
+  public void testMessageConsumerException() throws Exception {
+    SyslogPipeline pipeline = new SyslogPipelineBuilder(parser).build();
+    List<Throwable> errors = new ArrayList<>();
+    pipeline.run(new StringReader("<181>Aug  6 17:26:31 host msg"), (map) -> {
+      throw new IllegalStateException("consumer");
+    }, (line, throwable) -> errors.add(throwable));
+    Assert.assertEquals(1, errors.size());
+    Assert.assertTrue(errors.get(0) instanceof IllegalStateException);
+  }
+
+  @Test(expected = IOException.class)
+  public void testReaderFailure() throws Exception {
+    Reader failing = new Reader() {
+      @Override
+      public int read(char[] buf, int off, int len) throws IOException {
+        throw new IOException("connection reset");
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+    new SyslogPipelineBuilder(parser).build().run(failing, (map) -> { }, (line, throwable) -> { });
+  }
+
+  @Test
+  public void testEmptyReader() throws Exception {
+    List<Map<String, Object>> messages = new ArrayList<>();
+    new SyslogPipelineBuilder(parser).build().run(new StringReader(""), messages::add);
+    Assert.assertTrue(messages.isEmpty());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testBufferSizeNotPowerOfTwo() {
+    new SyslogPipelineBuilder(parser).withBufferSize(1000);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNoWorkers() {
+    new SyslogPipelineBuilder(parser).withWorkers(0);
+  }
+
+  @Test
+  public void testBatchLargerThanBuffer() throws Exception {
+    List<Map<String, Object>> messages = new ArrayList<>();
+    new SyslogPipelineBuilder(parser).withBufferSize(2).withBatchSize(32).build()
+        .run(new ParseLinesTest.SyntheticReader(99), messages::add);
+    Assert.assertEquals(99, messages.size());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullParser() {
+    new SyslogPipelineBuilder(null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullErrorConsumer() throws Exception {
+    new SyslogPipelineBuilder(parser).build().run(new StringReader(""), (map) -> { }, null);
+  }
+
+  /**
+   * Sends a line, with the time it was sent as its message, each time a permit is released.
+   */
+  private static final class HandshakeReader extends Reader {
+
+    private final Semaphore consumed;
+    private int remaining;
+    private String line = "";
+    private int pos;
+
+    HandshakeReader(int lines, Semaphore consumed) {
+      this.remaining = lines;
+      this.consumed = consumed;
+    }
+
+    @Override
+    public int read(char[] buf, int off, int len) throws IOException {
+      if (pos == line.length()) {
+        if (remaining == 0) {
+          return -1;
+        }
+        try {
+          if (!consumed.tryAcquire(10, TimeUnit.SECONDS)) {
+            throw new IOException("the previous line was not consumed");
+          }
+        } catch (InterruptedException e) {
+          throw new IOException(e);
+        }
+        remaining--;
+        line = "<181>Aug  6 17:26:31 host " + System.nanoTime() + "\n";
+        pos = 0;
+      }
+      int count = Math.min(len, line.length() - pos);
+      line.getChars(pos, pos + count, buf, off);
+      pos += count;
+      return count;
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import com.github.palindromicity.syslog.dsl.ParseException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SyslogPriorityTest {
+
+  @Test
+  public void testTable() {
+    for (int i = 0; i <= SyslogPriority.MAX_PRIORITY; i++) {
+      SyslogPriority priority = SyslogPriority.of(i);
+      Assert.assertSame(priority, SyslogPriority.of(i));
+      Assert.assertEquals(i, priority.getPriority());
+      Assert.assertEquals(i / 8, priority.getFacility());
+      Assert.assertEquals(i % 8, priority.getSeverity());
+      Assert.assertEquals(String.valueOf(i), priority.getPriorityText());
+      Assert.assertEquals(String.valueOf(i / 8), priority.getFacilityText());
+      Assert.assertEquals(String.valueOf(i % 8), priority.getSeverityText());
+    }
+  }
+
+  @Test
+  public void testNames() {
+    Assert.assertEquals("local6", SyslogPriority.of(181).getFacilityName());
+    Assert.assertEquals("notice", SyslogPriority.of(181).getSeverityName());
+    Assert.assertEquals("kern.emerg", SyslogPriority.of(0).toString());
+    Assert.assertEquals("local7.debug", SyslogPriority.of(191).toString());
+  }
+
+  @Test(expected = ParseException.class)
+  public void testOutOfRange() {
+    SyslogPriority.of(192);
+  }
+
+  @Test(expected = ParseException.class)
+  public void testNegative() {
+    SyslogPriority.of(-1);
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TimeStampConverterTest {
+
+  // 2024-07-01T00:00:00Z
+  private static final long NOW = 1719792000000L;
+  // 2024-01-02T00:00:00Z
+  private static final long NEW_YEAR = 1704153600000L;
+
+  private static final TimeStampConverter UTC = converter(ZoneOffset.UTC, YearInference.CURRENT_YEAR, NOW);
+
+  @Test
+  public void testRfc3339() {
+    Assert.assertEquals(1536886449000L, toEpochMillis(UTC, "2018-09-14T00:54:09Z"));
+    Assert.assertEquals(1536886449000L, toEpochMillis(UTC, "2018-09-14T00:54:09+00:00"));
+    Assert.assertEquals(1536911649100L, toEpochMillis(UTC, "2018-09-14T00:54:09.1-07:00"));
+    Assert.assertEquals(1536911649100L, toEpochMillis(UTC, "2018-09-14T00:54:09.100999-07:00"));
+    Assert.assertEquals(-1000L, toEpochMillis(UTC, "1969-12-31T23:59:59Z"));
+  }
+
+  @Test
+  public void testRfc3164() {
+    Assert.assertEquals(1709227591000L,
+        toEpochMillis(converter(ZoneOffset.UTC, YearInference.CURRENT_YEAR, 1709000000000L), "Feb 29 17:26:31"));
+    Assert.assertEquals(1722965191123L, toEpochMillis(UTC, "Aug  6 17:26:31.123"));
+    Assert.assertEquals(1722965191000L, toEpochMillis(UTC, "Aug 6 17:26:31"));
+  }
+
+  @Test
+  public void testRfc3164Zone() {
+    TimeStampConverter newYork = converter(ZoneId.of("America/New_York"), YearInference.CURRENT_YEAR, NOW);
+    // daylight saving and standard time
+    Assert.assertEquals(1722979591000L, toEpochMillis(newYork, "Aug  6 17:26:31"));
+    Assert.assertEquals(1704579991000L, toEpochMillis(newYork, "Jan  6 17:26:31"));
+    // the zone does not apply to RFC 3339
+    Assert.assertEquals(1536886449000L, toEpochMillis(newYork, "2018-09-14T00:54:09Z"));
+  }
+
+  @Test
+  public void testYearInference() {
+    Assert.assertEquals(1735686000000L,
+        toEpochMillis(converter(ZoneOffset.UTC, YearInference.CURRENT_YEAR, NEW_YEAR), "Dec 31 23:00:00"));
+    Assert.assertEquals(1704063600000L,
+        toEpochMillis(converter(ZoneOffset.UTC, YearInference.NEAREST, NEW_YEAR), "Dec 31 23:00:00"));
+    Assert.assertEquals(1722965191000L,
+        toEpochMillis(converter(ZoneOffset.UTC, YearInference.NEAREST, NOW), "Aug  6 17:26:31"));
+  }
+
+  @Test
+  public void testCache() {
+    TimeStampConverter converter = converter(ZoneOffset.UTC, YearInference.CURRENT_YEAR, NOW);
+    Assert.assertEquals(1722965191123L, toEpochMillis(converter, "Aug  6 17:26:31.123"));
+    Assert.assertEquals(1722965191000L, toEpochMillis(converter, "Aug  6 17:26:31"));
+    Assert.assertEquals(1722965191999L, toEpochMillis(converter, "Aug  6 17:26:31.999999"));
+    Assert.assertEquals(1722965192000L, toEpochMillis(converter, "Aug  6 17:26:32"));
+    Assert.assertEquals(1536911649100L, toEpochMillis(converter, "2018-09-14T00:54:09.1-07:00"));
+    Assert.assertEquals(1536886449000L, toEpochMillis(converter, "2018-09-14T00:54:09Z"));
+    Assert.assertEquals(1536911649000L, toEpochMillis(converter, "2018-09-14T00:54:09-07:00"));
+    // offsets into a longer line
+    String line = "<181>Aug  6 17:26:31.5 host msg";
+    Assert.assertEquals(1722965191500L, converter.toEpochMillis(line, 5, 22));
+  }
+
+  @Test
+  public void testInvalidDates() {
+    Assert.assertEquals(SyslogMessage.NO_TIMESTAMP, toEpochMillis(UTC, "2018-02-29T00:54:09Z"));
+    Assert.assertEquals(SyslogMessage.NO_TIMESTAMP, toEpochMillis(UTC, "2018-13-01T00:54:09Z"));
+    Assert.assertEquals(SyslogMessage.NO_TIMESTAMP, toEpochMillis(UTC, "2018-09-14T24:54:09Z"));
+    Assert.assertEquals(SyslogMessage.NO_TIMESTAMP, toEpochMillis(UTC, "Abc  6 17:26:31"));
+    Assert.assertEquals(SyslogMessage.NO_TIMESTAMP, toEpochMillis(UTC, "Aug 32 17:26:31"));
+    Assert.assertEquals(SyslogMessage.NO_TIMESTAMP, toEpochMillis(UTC, ""));
+  }
+
+  @Test
+  public void testLeapSecondIsInvalid() {
+    Assert.assertEquals(SyslogMessage.NO_TIMESTAMP, toEpochMillis(UTC, "2016-12-31T23:59:60Z"));
+    Assert.assertEquals(SyslogMessage.NO_TIMESTAMP, toEpochMillis(UTC, "Dec 31 23:59:60"));
+    Assert.assertEquals(1483228799000L, toEpochMillis(UTC, "2016-12-31T23:59:59Z"));
+  }
+
+  @Test
+  public void testOffsetRange() {
+    Assert.assertEquals(SyslogMessage.NO_TIMESTAMP, toEpochMillis(UTC, "2018-09-14T00:54:09+99:99"));
+    Assert.assertEquals(SyslogMessage.NO_TIMESTAMP, toEpochMillis(UTC, "2018-09-14T00:54:09+19:00"));
+    Assert.assertEquals(SyslogMessage.NO_TIMESTAMP, toEpochMillis(UTC, "2018-09-14T00:54:09-18:01"));
+    Assert.assertEquals(SyslogMessage.NO_TIMESTAMP, toEpochMillis(UTC, "2018-09-14T00:54:09+05:60"));
+    Assert.assertEquals(1536886449000L - 18 * 3_600_000L, toEpochMillis(UTC, "2018-09-14T00:54:09+18:00"));
+    Assert.assertEquals(1536886449000L + 18 * 3_600_000L, toEpochMillis(UTC, "2018-09-14T00:54:09-18:00"));
+    Assert.assertEquals(1536886449000L - 19_800_000L, toEpochMillis(UTC, "2018-09-14T00:54:09+05:30"));
+  }
+
+  @Test
+  public void testYearOf() {
+    Assert.assertEquals(2024, TimeStamps.yearOf(NOW));
+    Assert.assertEquals(1969, TimeStamps.yearOf(-1L));
+    Assert.assertEquals(1970, TimeStamps.yearOf(0L));
+    Assert.assertEquals(2023, TimeStamps.yearOf(1704067199999L));
+    Assert.assertEquals(2024, TimeStamps.yearOf(1704067200000L));
+  }
+
+  private static TimeStampConverter converter(ZoneId zone, YearInference yearInference, long now) {
+    return new TimeStampConverter(zone, yearInference, Clock.fixed(Instant.ofEpochMilli(now), ZoneOffset.UTC));
+  }
+
+  private static long toEpochMillis(TimeStampConverter converter, String timeStamp) {
+    return converter.toEpochMillis(timeStamp, 0, timeStamp.length());
+  }
+}
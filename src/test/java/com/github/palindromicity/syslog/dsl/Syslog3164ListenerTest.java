@@ -24,10 +24,12 @@ import com.github.palindromicity.syslog.DefaultKeyProvider;
 import com.github.palindromicity.syslog.dsl.generated.Rfc3164Lexer;
 import com.github.palindromicity.syslog.dsl.generated.Rfc3164Parser;
 import org.antlr.v4.runtime.ANTLRFileStream;
+import org.antlr.v4.runtime.ANTLRInputStream;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.junit.Assert;
 import org.junit.Test;
 
+@SuppressWarnings("deprecation")
 public class Syslog3164ListenerTest {
 
   private static final String expectedMessageOne = "CISE_RADIUS_Accounting 0018032501 1 0 2018-09-14 10:54:09.095"
@@ -125,6 +127,41 @@ public class Syslog3164ListenerTest {
     Assert.assertEquals(expectedTimestampOne, map.get(SyslogFieldKeys.HEADER_TIMESTAMP.getField()));
   }
 
+  @Test
+  public void testReset() throws Exception {
+    Syslog3164Listener listener = new Syslog3164Listener(new DefaultKeyProvider(),
+        EnumSet.of(AllowableDeviations.PRIORITY));
+    Rfc3164Parser parser = new Rfc3164Parser(new CommonTokenStream(
+        new Rfc3164Lexer(new ANTLRFileStream("src/test/resources/logs/3164/single_ise.txt"))));
+    parser.addParseListener(listener);
+    parser.syslog_msg();
+    Map<String, Object> first = listener.getMsgMap();
+
+    listener.reset();
+    parser.setTokenStream(new CommonTokenStream(
+        new Rfc3164Lexer(new ANTLRFileStream("src/test/resources/logs/3164/single_ise_deviation.txt"))));
+    parser.syslog_msg();
+    Map<String, Object> second = listener.getMsgMap();
+
+    Assert.assertEquals(expectedPriOne, first.get(SyslogFieldKeys.HEADER_PRI.getField()));
+    Assert.assertNull(second.get(SyslogFieldKeys.HEADER_PRI.getField()));
+    Assert.assertEquals(expectedHostNameOne, second.get(SyslogFieldKeys.HEADER_HOSTNAME.getField()));
+  }
+
+  @Test
+  public void testPriorityAboveMaxIsMapped() {
+    Rfc3164Parser parser = new Rfc3164Parser(new CommonTokenStream(
+        new Rfc3164Lexer(new ANTLRInputStream("<999>Aug  6 17:26:31 host msg"))));
+    Syslog3164Listener listener = new Syslog3164Listener(new DefaultKeyProvider(),
+        EnumSet.of(AllowableDeviations.NONE));
+    parser.addParseListener(listener);
+    parser.syslog_msg();
+    Map<String, Object> map = listener.getMsgMap();
+    Assert.assertEquals("999", map.get(SyslogFieldKeys.HEADER_PRI.getField()));
+    Assert.assertEquals("7", map.get(SyslogFieldKeys.HEADER_PRI_SEVERITY.getField()));
+    Assert.assertEquals("124", map.get(SyslogFieldKeys.HEADER_PRI_FACILITY.getField()));
+  }
+
   private static Map<String, Object> handleFile(String fileName) throws Exception {
     return handleFile(fileName, EnumSet.of(AllowableDeviations.NONE));
   }
@@ -0,0 +1,325 @@
+/*
+ * Copyright 2018-2021 simple-syslog-3164 authors
+ * All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.palindromicity.syslog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+import com.github.palindromicity.syslog.dsl.SyslogFieldKeys;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SyslogFlowProcessorTest {
+
+  private static final String GOOD = "<181>Aug  6 17:26:31 host msg";
+  private static final String BAD = "<1811>Aug  6 17:26:31 host msg";
+
+  private final SyslogParser parser = new SyslogParserBuilder().build();
+  private final List<String> errors = Collections.synchronizedList(new ArrayList<>());
+
+  @Test
+  public void testParsesAndSendsErrorsAside() throws Exception {
+    SyslogFlowProcessor<Map<String, Object>> processor = SyslogFlowProcessor.forMaps(parser,
+        (line, throwable) -> errors.add(line));
+    RecordingSubscriber<Map<String, Object>> subscriber = new RecordingSubscriber<>(Long.MAX_VALUE);
+    processor.subscribe(subscriber);
+    try (SubmissionPublisher<CharSequence> publisher = new SubmissionPublisher<>()) {
+      publisher.subscribe(processor);
+      for (int i = 0; i < 1000; i++) {
+        publisher.submit(i % 10 == 0 ? BAD : "<181>Aug  6 17:26:31 host msg" + i);
+      }
+    }
+    Assert.assertTrue(subscriber.completed.await(10, TimeUnit.SECONDS));
+    Assert.assertNull(subscriber.error);
+    Assert.assertEquals(900, subscriber.items.size());
+    Assert.assertEquals("msg1", subscriber.items.get(0).get(SyslogFieldKeys.MESSAGE.getField()));
+    Assert.assertEquals("msg999", subscriber.items.get(899).get(SyslogFieldKeys.MESSAGE.getField()));
+    Assert.assertEquals(100, errors.size());
+    Assert.assertEquals(BAD, errors.get(0));
+  }
+
+  @Test
+  public void testMessages() {
+    SyslogFlowProcessor<SyslogMessage> processor = SyslogFlowProcessor.forMessages(parser,
+        (line, throwable) -> errors.add(line));
+    RecordingSubscriber<SyslogMessage> subscriber = new RecordingSubscriber<>(Long.MAX_VALUE);
+    processor.subscribe(subscriber);
+    new ListPublisher(Arrays.asList(GOOD, " ", BAD, GOOD)).subscribe(processor);
+    Assert.assertEquals(2, subscriber.items.size());
+    Assert.assertEquals(181, subscriber.items.get(0).getPriority());
+    Assert.assertEquals(Arrays.asList(" ", BAD), errors);
+    Assert.assertEquals(0, subscriber.completed.getCount());
+  }
+
+  @Test
+  public void testHonorsDemand() {
+    SyslogFlowProcessor<SyslogMessage> processor = SyslogFlowProcessor.forMessages(parser,
+        (line, throwable) -> errors.add(line));
+    RecordingSubscriber<SyslogMessage> subscriber = new RecordingSubscriber<>(3);
+    processor.subscribe(subscriber);
+    ListPublisher publisher = new ListPublisher(Arrays.asList(GOOD, BAD, BAD, GOOD, BAD, GOOD, GOOD, GOOD));
+    publisher.subscribe(processor);
+
+    // the failed lines do not use the demand
+    Assert.assertEquals(3, subscriber.items.size());
+    Assert.assertEquals(6, publisher.index);
+    Assert.assertEquals(3, errors.size());
+
+    subscriber.subscription.request(1);
+    Assert.assertEquals(4, subscriber.items.size());
+    Assert.assertEquals(7, publisher.index);
+    Assert.assertEquals(1, subscriber.completed.getCount());
+
+    subscriber.subscription.request(10);
+    Assert.assertEquals(5, subscriber.items.size());
+    Assert.assertEquals(0, subscriber.completed.getCount());
+  }
+
+  @Test
+  public void testBatchesUpstreamRequests() {
+    SyslogFlowProcessor<SyslogMessage> processor = SyslogFlowProcessor.forMessages(parser,
+        (line, throwable) -> errors.add(line), 16);
+    RecordingSubscriber<SyslogMessage> subscriber = new RecordingSubscriber<>(Long.MAX_VALUE);
+    processor.subscribe(subscriber);
+    ListPublisher publisher = new ListPublisher(Collections.nCopies(1000, GOOD));
+    publisher.subscribe(processor);
+    Assert.assertEquals(1000, subscriber.items.size());
+    Assert.assertEquals(Long.valueOf(16), publisher.requests.get(0));
+    for (long count : publisher.requests) {
+      Assert.assertTrue(count >= 8 && count <= 16);
+    }
+  }
+
+  @Test
+  public void testNothingRequestedWithoutDemand() {
+    SyslogFlowProcessor<SyslogMessage> processor = SyslogFlowProcessor.forMessages(parser,
+        (line, throwable) -> errors.add(line));
+    ListPublisher publisher = new ListPublisher(Collections.nCopies(10, GOOD));
+    publisher.subscribe(processor);
+    Assert.assertTrue(publisher.requests.isEmpty());
+
+    RecordingSubscriber<SyslogMessage> subscriber = new RecordingSubscriber<>(0);
+    processor.subscribe(subscriber);
+    Assert.assertTrue(publisher.requests.isEmpty());
+    subscriber.subscription.request(2);
+    Assert.assertEquals(Collections.singletonList(2L), publisher.requests);
+  }
+
+  @Test
+  public void testCancel() {
+    SyslogFlowProcessor<SyslogMessage> processor = SyslogFlowProcessor.forMessages(parser,
+        (line, throwable) -> errors.add(line));
+    RecordingSubscriber<SyslogMessage> subscriber = new RecordingSubscriber<>(1);
+    processor.subscribe(subscriber);
+    ListPublisher publisher = new ListPublisher(Collections.nCopies(10, GOOD));
+    publisher.subscribe(processor);
+    subscriber.subscription.cancel();
+    Assert.assertTrue(publisher.cancelled);
+    subscriber.subscription.request(5);
+    Assert.assertEquals(1, subscriber.items.size());
+  }
+
+  @Test
+  public void testUpstreamError() {
+    SyslogFlowProcessor<SyslogMessage> processor = SyslogFlowProcessor.forMessages(parser,
+        (line, throwable) -> errors.add(line));
+    IllegalStateException failure = new IllegalStateException("closed");
+    processor.onSubscribe(new ListPublisher(Collections.emptyList()).new ListSubscription(processor));
+    processor.onError(failure);
+    RecordingSubscriber<SyslogMessage> subscriber = new RecordingSubscriber<>(1);
+    processor.subscribe(subscriber);
+    Assert.assertSame(failure, subscriber.error);
+  }
+
+  @Test
+  public void testInvalidRequest() {
+    SyslogFlowProcessor<SyslogMessage> processor = SyslogFlowProcessor.forMessages(parser,
+        (line, throwable) -> errors.add(line));
+    RecordingSubscriber<SyslogMessage> subscriber = new RecordingSubscriber<>(0);
+    processor.subscribe(subscriber);
+    ListPublisher publisher = new ListPublisher(Collections.nCopies(10, GOOD));
+    publisher.subscribe(processor);
+    subscriber.subscription.request(0);
+    Assert.assertTrue(subscriber.error instanceof IllegalArgumentException);
+    Assert.assertTrue(publisher.cancelled);
+  }
+
+  @Test
+  public void testInvalidRequestDuringOnNext() throws Exception {
+    SyslogFlowProcessor<SyslogMessage> processor = SyslogFlowProcessor.forMessages(parser,
+        (line, throwable) -> errors.add(line));
+    CountDownLatch entered = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    List<Thread> errorThreads = Collections.synchronizedList(new ArrayList<>());
+    RecordingSubscriber<SyslogMessage> subscriber = new RecordingSubscriber<SyslogMessage>(1) {
+      @Override
+      public void onNext(SyslogMessage item) {
+        entered.countDown();
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+
+      @Override
+      public void onError(Throwable throwable) {
+        errorThreads.add(Thread.currentThread());
+        super.onError(throwable);
+      }
+    };
+    processor.subscribe(subscriber);
+    processor.onSubscribe(new Flow.Subscription() {
+      @Override
+      public void request(long count) {
+      }
+
+      @Override
+      public void cancel() {
+      }
+    });
+    Thread emitter = new Thread(() -> processor.onNext(GOOD));
+    emitter.start();
+    Assert.assertTrue(entered.await(10, TimeUnit.SECONDS));
+    subscriber.subscription.request(0);
+    // not signalled while the subscriber is still in onNext
+    Assert.assertNull(subscriber.error);
+    release.countDown();
+    emitter.join(10_000);
+    Assert.assertTrue(subscriber.error instanceof IllegalArgumentException);
+    Assert.assertEquals(Collections.singletonList(emitter), errorThreads);
+  }
+
+  @Test
+  public void testSecondSubscriberRejected() {
+    SyslogFlowProcessor<SyslogMessage> processor = SyslogFlowProcessor.forMessages(parser,
+        (line, throwable) -> errors.add(line));
+    processor.subscribe(new RecordingSubscriber<>(1));
+    RecordingSubscriber<SyslogMessage> second = new RecordingSubscriber<>(1);
+    processor.subscribe(second);
+    Assert.assertTrue(second.error instanceof IllegalStateException);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidBatchSize() {
+    SyslogFlowProcessor.forMessages(parser, (line, throwable) -> errors.add(line), 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullErrorConsumer() {
+    SyslogFlowProcessor.forMaps(parser, null);
+  }
+
+  /**
+   * Publishes a list of lines on the thread that requests them, recording each request.
+   */
+  private static final class ListPublisher implements Flow.Publisher<CharSequence> {
+
+    private final List<String> lines;
+    private final List<Long> requests = new ArrayList<>();
+    private int index;
+    private boolean cancelled;
+
+    ListPublisher(List<String> lines) {
+      this.lines = lines;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super CharSequence> subscriber) {
+      subscriber.onSubscribe(new ListSubscription(subscriber));
+    }
+
+    private final class ListSubscription implements Flow.Subscription {
+
+      private final Flow.Subscriber<? super CharSequence> subscriber;
+      private long pending;
+      private boolean emitting;
+
+      ListSubscription(Flow.Subscriber<? super CharSequence> subscriber) {
+        this.subscriber = subscriber;
+      }
+
+      @Override
+      public void request(long count) {
+        requests.add(count);
+        pending += count;
+        if (emitting) {
+          return;
+        }
+        emitting = true;
+        while (pending > 0 && index < lines.size() && !cancelled) {
+          pending--;
+          subscriber.onNext(lines.get(index++));
+        }
+        if (index == lines.size() && !cancelled) {
+          cancelled = true;
+          subscriber.onComplete();
+        }
+        emitting = false;
+      }
+
+      @Override
+      public void cancel() {
+        cancelled = true;
+      }
+    }
+  }
+
+  private static class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+
+    private final long initialRequest;
+    private final List<T> items = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch completed = new CountDownLatch(1);
+    private volatile Flow.Subscription subscription;
+    private volatile Throwable error;
+
+    RecordingSubscriber(long initialRequest) {
+      this.initialRequest = initialRequest;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      this.subscription = subscription;
+      if (initialRequest > 0) {
+        subscription.request(initialRequest);
+      }
+    }
+
+    @Override
+    public void onNext(T item) {
+      items.add(item);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      error = throwable;
+      completed.countDown();
+    }
+
+    @Override
+    public void onComplete() {
+      completed.countDown();
+    }
+  }
+}